@@ -1,5 +1,7 @@
 package uk.gov.hmcts.ecm.common.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.core.ParameterizedTypeReference;
@@ -48,6 +50,7 @@ import uk.gov.hmcts.et.common.model.ccd.GenericTypeCaseDetails;
 import uk.gov.hmcts.et.common.model.ccd.PaginatedSearchMetadata;
 import uk.gov.hmcts.et.common.model.ccd.SubmitEvent;
 import uk.gov.hmcts.et.common.model.generic.GenericRequest;
+import uk.gov.hmcts.et.common.model.generic.GenericSubmitEvent;
 import uk.gov.hmcts.et.common.model.multiples.MultipleCaseSearchResult;
 import uk.gov.hmcts.et.common.model.multiples.MultipleData;
 import uk.gov.hmcts.et.common.model.multiples.MultipleRequest;
@@ -59,7 +62,8 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.naming.NameNotFoundException;
 
@@ -80,6 +84,8 @@ public class CcdClient {
     private CaseDataBuilder caseDataBuilder;
     private EcmCaseDataBuilder ecmCaseDataBuilder;
     private AuthTokenGenerator authTokenGenerator;
+    private ElasticSearchConsistencyWait consistencyWait = new ElasticSearchConsistencyWait();
+    private int elasticSearchPageSize = DEFAULT_ELASTIC_SEARCH_PAGE_SIZE;
 
     static final String CREATION_EVENT_SUMMARY = "Case created automatically";
     static final String UPDATE_EVENT_SUMMARY = "Case updated by bulk";
@@ -87,7 +93,9 @@ public class CcdClient {
 
     static final String UPDATE_CHANGE_ORG_SUMMARY = "Change of organisation completed";
     private static final String QUERY_LOG_PREFIX = "QUERY: ";
-    private static final int MAX_RETRIES = 7;
+    public static final int DEFAULT_ELASTIC_SEARCH_PAGE_SIZE = 1000;
+    private static final String SEARCH_AFTER_SORT_FIELD = "reference.keyword";
+    private static final ObjectMapper QUERY_MAPPER = new ObjectMapper();
 
     public CcdClient(RestTemplate restTemplate, UserService userService, CaseDataBuilder caseDataBuilder,
                      CcdClientConfig ccdClientConfig, AuthTokenGenerator authTokenGenerator) {
@@ -105,6 +113,24 @@ public class CcdClient {
         this.ecmCaseDataBuilder = ecmCaseDataBuilder;
     }
 
+    /**
+     * Replaces the wait used when polling Elasticsearch for cases that may not have been indexed yet.
+     */
+    public void setConsistencyWait(ElasticSearchConsistencyWait consistencyWait) {
+        this.consistencyWait = consistencyWait;
+    }
+
+    public ElasticSearchConsistencyWait getConsistencyWait() {
+        return consistencyWait;
+    }
+
+    /**
+     * Sets the number of cases requested per page by {@link #searchAfterElasticSearch}.
+     */
+    public void setElasticSearchPageSize(int elasticSearchPageSize) {
+        this.elasticSearchPageSize = elasticSearchPageSize;
+    }
+
     public CCDRequest startCaseCreation(String authToken, CaseDetails caseDetails) throws IOException {
         String uri = ccdClientConfig.buildStartCaseCreationUrl(userService.getUserDetails(authToken).getUid(),
                 caseDetails.getJurisdiction(),
@@ -366,6 +392,43 @@ public class CcdClient {
         return submitEvents;
     }
 
+    /**
+     * Runs an Elasticsearch query a page at a time, using search_after on the case reference, and hands each page to
+     * {@code pageConsumer} before requesting the next one. Unlike a single {@code size(MAX_ES_SIZE)} search this is not
+     * capped at 10,000 hits and never holds more than one page of cases. Any size, from or sort in the query is
+     * replaced.
+     * @param searchResultType type the search response is read into
+     * @param casesOf extracts the cases from a search response
+     * @param pageConsumer receives each non-empty page in case reference order
+     */
+    public <R, E extends GenericSubmitEvent> void searchAfterElasticSearch(String authToken, String caseTypeId,
+                                                                           String query, Class<R> searchResultType,
+                                                                           Function<R, List<E>> casesOf,
+                                                                           Consumer<List<E>> pageConsumer)
+            throws IOException {
+        ObjectNode pagedQuery = (ObjectNode) QUERY_MAPPER.readTree(query);
+        pagedQuery.put("size", elasticSearchPageSize);
+        pagedQuery.remove("from");
+        pagedQuery.putArray("sort").addObject().put(SEARCH_AFTER_SORT_FIELD, "asc");
+
+        int pages = 0;
+        long casesRead = 0;
+        boolean morePages;
+        do {
+            R searchResult = runElasticSearch(authToken, caseTypeId, pagedQuery.toString(), searchResultType);
+            List<E> cases = searchResult != null ? casesOf.apply(searchResult) : null;
+            morePages = !CollectionUtils.isEmpty(cases);
+            if (morePages) {
+                pageConsumer.accept(cases);
+                pages++;
+                casesRead += cases.size();
+                morePages = cases.size() >= elasticSearchPageSize;
+                pagedQuery.putArray("search_after").add(String.valueOf(cases.getLast().getCaseId()));
+            }
+        } while (morePages);
+        log.info("Read {} cases of type {} in {} page(s)", casesRead, caseTypeId, pages);
+    }
+
     public <T> T runElasticSearch(String authToken, String caseTypeId, String query, Class<T> searchResultTypeClass)
             throws IOException {
         var request = new HttpEntity<>(query, buildHeaders(authToken));
@@ -535,26 +598,9 @@ public class CcdClient {
             throws IOException {
         HttpEntity<String> request = new HttpEntity<>(query, buildHeaders(authToken));
         String url = ccdClientConfig.buildRetrieveCasesUrlElasticSearch(caseTypeId);
-        MultipleCaseSearchResult multipleCaseSearchResult;
-        int retries = 1;
-        do {
-            log.info("Retry: " + retries);
-            multipleCaseSearchResult = restTemplate.exchange(url, HttpMethod.POST, request,
-                    MultipleCaseSearchResult.class).getBody();
-            try {
-                if (multipleCaseSearchResult != null) {
-                    log.info("Checking size found: " + multipleCaseSearchResult.getTotal());
-                }
-                TimeUnit.SECONDS.sleep(5);
-                retries++;
-                if (retries == MAX_RETRIES) {
-                    break;
-                }
-            } catch (InterruptedException e) {
-                log.error("Error sleeping the thread");
-                Thread.currentThread().interrupt();
-            }
-        } while (multipleCaseSearchResult == null || multipleCaseSearchResult.getTotal() != 1);
+        MultipleCaseSearchResult multipleCaseSearchResult = consistencyWait.await(
+                () -> restTemplate.exchange(url, HttpMethod.POST, request, MultipleCaseSearchResult.class).getBody(),
+                result -> result.getTotal() == 1);
 
         return multipleCaseSearchResult != null
                 ? new ArrayList<>(multipleCaseSearchResult.getCases())
@@ -567,25 +613,9 @@ public class CcdClient {
             throws IOException {
         HttpEntity<String> request = new HttpEntity<>(query, buildHeaders(authToken));
         String url = ccdClientConfig.buildRetrieveCasesUrlElasticSearch(caseTypeId);
-        CaseSearchResult caseSearchResult;
-        int retries = 1;
-        do {
-            log.info("Retry: " + retries);
-            caseSearchResult = restTemplate.exchange(url, HttpMethod.POST, request, CaseSearchResult.class).getBody();
-            try {
-                if (caseSearchResult != null) {
-                    log.info("Checking size found: " + caseSearchResult.getTotal());
-                }
-                TimeUnit.SECONDS.sleep(5);
-                retries++;
-                if (retries == MAX_RETRIES) {
-                    break;
-                }
-            } catch (InterruptedException e) {
-                log.error("Error sleeping the thread");
-                Thread.currentThread().interrupt();
-            }
-        } while (caseSearchResult == null || caseSearchResult.getTotal() != size);
+        CaseSearchResult caseSearchResult = consistencyWait.await(
+                () -> restTemplate.exchange(url, HttpMethod.POST, request, CaseSearchResult.class).getBody(),
+                result -> result.getTotal() == size);
 
         if (caseSearchResult != null) {
             generateCasesNotFound(caseIds, caseSearchResult);
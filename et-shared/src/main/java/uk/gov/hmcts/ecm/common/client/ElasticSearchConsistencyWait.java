@@ -0,0 +1,122 @@
+package uk.gov.hmcts.ecm.common.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Repeats a CCD Elasticsearch search until its result reflects writes that may not have been indexed yet.
+ * Returns as soon as a search is consistent; only on a miss does it back off, exponentially with jitter, before
+ * searching again. Attempt counts and total wait time are exposed so callers can publish them as metrics.
+ */
+@Slf4j
+public class ElasticSearchConsistencyWait {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 6;
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 1000;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 8000;
+
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final Sleeper sleeper;
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder waitMillis = new LongAdder();
+
+    /**
+     * A single Elasticsearch request.
+     */
+    @FunctionalInterface
+    public interface Search<T> {
+        T execute() throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    public ElasticSearchConsistencyWait() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS);
+    }
+
+    public ElasticSearchConsistencyWait(int maxAttempts, long initialDelayMillis, long maxDelayMillis) {
+        this(maxAttempts, initialDelayMillis, maxDelayMillis, TimeUnit.MILLISECONDS::sleep);
+    }
+
+    ElasticSearchConsistencyWait(int maxAttempts, long initialDelayMillis, long maxDelayMillis, Sleeper sleeper) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Runs the search until {@code consistent} accepts its result or the attempts run out.
+     * @return the consistent result, otherwise the result of the last attempt (which may be null)
+     */
+    public <T> T await(Search<T> search, Predicate<T> consistent) throws IOException {
+        long delay = initialDelayMillis;
+        T result = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            result = search.execute();
+            searches.increment();
+            if (result != null && consistent.test(result)) {
+                return result;
+            }
+            misses.increment();
+            if (attempt == maxAttempts) {
+                break;
+            }
+            long jitteredDelay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+            log.info("Search not yet consistent on attempt {}, retrying in {} ms", attempt, jitteredDelay);
+            try {
+                sleeper.sleep(jitteredDelay);
+            } catch (InterruptedException e) {
+                log.error("Interrupted waiting for Elasticsearch consistency");
+                Thread.currentThread().interrupt();
+                return result;
+            }
+            waitMillis.add(jitteredDelay);
+            delay = Math.min(delay * 2, maxDelayMillis);
+        }
+        exhausted.increment();
+        log.warn("Search still not consistent after {} attempts", maxAttempts);
+        return result;
+    }
+
+    /**
+     * Total searches executed, including retries.
+     */
+    public long getSearchCount() {
+        return searches.sum();
+    }
+
+    /**
+     * Searches whose result was not yet consistent.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Waits that gave up with the result still inconsistent.
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Total time spent backing off between searches.
+     */
+    public long getWaitMillis() {
+        return waitMillis.sum();
+    }
+}
@@ -1,5 +1,10 @@
 package uk.gov.hmcts.ecm.common.helpers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
@@ -27,6 +32,8 @@ import static uk.gov.hmcts.ecm.common.model.helper.Constants.TIME_TO_FIRST_HEARI
 @Slf4j
 public class ESHelper {
 
+    private static final ObjectMapper SEARCH_MAPPER = new ObjectMapper();
+
     private static final String ETHOS_CASE_REFERENCE_KEYWORD = "data.ethosCaseReference.keyword";
     private static final String MULTIPLE_CASE_REFERENCE_KEYWORD = "data.multipleReference.keyword";
     private static final String MULTIPLE_CASE_NAME_KEYWORD = "data.multipleName.keyword";
@@ -51,6 +58,29 @@ public class ESHelper {
             "data.hearingCollection.value.hearingDateCollection.value.Hearing_Edinburgh.value.code.keyword";
     public static final String MEMBER_DAYS_DATE_FIELD_NAME =
         "data.hearingCollection.value.hearingDateCollection.value.listedDate";
+    private static final List<String> REPORT_SOURCE_FIELDS = List.of(
+            "data.ethosCaseReference",
+            "data.managingOffice",
+            "data.receiptDate",
+            "data.caseType",
+            "data.caseSource",
+            "data.positionType",
+            "data.currentPosition",
+            "data.dateToPosition",
+            "data.conciliationTrack",
+            "data.jurCodesCollection",
+            "data.hearingCollection",
+            "data.bfActions",
+            "data.claimServedDate",
+            "data.preAcceptCase",
+            "data.leadClaimant",
+            "data.multipleReference",
+            "data.clerkResponsible",
+            "data.fileLocation",
+            "data.fileLocationAberdeen",
+            "data.fileLocationDundee",
+            "data.fileLocationEdinburgh",
+            "data.fileLocationGlasgow");
 
     private ESHelper() {
         // All access through static methods
@@ -178,9 +208,9 @@ public class ESHelper {
         BoolQueryBuilder boolQueryBuilder = boolQuery()
                 .filter(new TermsQueryBuilder(MANAGING_OFFICE_KEYWORD_FIELD_NAME, managingOffice))
                 .filter(new RangeQueryBuilder(dateFieldName).gte(dateToSearchFrom).lte(dateToSearchTo));
-        return new SearchSourceBuilder()
+        return withSourceFields(new SearchSourceBuilder()
                 .size(MAX_ES_SIZE)
-                .query(boolQueryBuilder).toString();
+                .query(boolQueryBuilder).toString(), REPORT_SOURCE_FIELDS);
     }
 
     public static String getReportRangeDateSearchQuery(String dateToSearchFrom, String dateToSearchTo,
@@ -188,9 +218,28 @@ public class ESHelper {
         String dateFieldName = getDateFieldName(reportType);
         BoolQueryBuilder boolQueryBuilder = boolQuery()
                 .filter(new RangeQueryBuilder(dateFieldName).gte(dateToSearchFrom).lte(dateToSearchTo));
-        return new SearchSourceBuilder()
+        return withSourceFields(new SearchSourceBuilder()
                 .size(MAX_ES_SIZE)
-                .query(boolQueryBuilder).toString();
+                .query(boolQueryBuilder).toString(), REPORT_SOURCE_FIELDS);
+    }
+
+    /**
+     * Sets the _source of a search request to an array of the given case fields, so that only those fields are
+     * returned, replacing any _source the request already has. SearchSourceBuilder can only write _source as an
+     * includes/excludes object, which CCD does not accept.
+     */
+    public static String withSourceFields(String query, List<String> sourceFields) {
+        try {
+            JsonNode search = SEARCH_MAPPER.readTree(query);
+            if (!(search instanceof ObjectNode searchObject)) {
+                throw new IllegalArgumentException("Search request is not a JSON object: " + query);
+            }
+            ArrayNode source = searchObject.putArray("_source");
+            sourceFields.forEach(source::add);
+            return SEARCH_MAPPER.writeValueAsString(searchObject);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Search request is not valid JSON", e);
+        }
     }
 
     private static String getDateFieldName(String reportType) {
@@ -9,6 +9,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.ecm.common.client.ElasticSearchConsistencyWait;
 import uk.gov.hmcts.ecm.compat.common.helpers.ESHelper;
 import uk.gov.hmcts.ecm.common.model.bulk.BulkCaseSearchResult;
 import uk.gov.hmcts.ecm.common.model.bulk.BulkData;
@@ -50,7 +51,6 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static uk.gov.hmcts.ecm.compat.common.model.helper.Constants.ALL_VENUES;
@@ -67,13 +67,13 @@ public class CcdClient {
     private transient CcdClientConfig ccdClientConfig;
     private transient CaseDataBuilder caseDataBuilder;
     private transient AuthTokenGenerator authTokenGenerator;
+    private transient ElasticSearchConsistencyWait consistencyWait = new ElasticSearchConsistencyWait();
 
     private static final String SERVICE_AUTHORIZATION = "ServiceAuthorization";
 
     static final String CREATION_EVENT_SUMMARY = "Case created automatically";
     private static final String UPDATE_EVENT_SUMMARY = "Case updated by bulk";
     static final String UPDATE_BULK_EVENT_SUMMARY = "Bulk case updated by bulk";
-    private static final int MAX_RETRIES = 7;
 
     public CcdClient(RestTemplate restTemplate, UserService userService, CaseDataBuilder caseDataBuilder,
                      CcdClientConfig ccdClientConfig, AuthTokenGenerator authTokenGenerator) {
@@ -84,6 +84,17 @@ public class CcdClient {
         this.caseDataBuilder = caseDataBuilder;
     }
 
+    /**
+     * Replaces the wait used when polling Elasticsearch for cases that may not have been indexed yet.
+     */
+    public void setConsistencyWait(ElasticSearchConsistencyWait consistencyWait) {
+        this.consistencyWait = consistencyWait;
+    }
+
+    public ElasticSearchConsistencyWait getConsistencyWait() {
+        return consistencyWait;
+    }
+
     public CCDRequest startCaseCreation(String authToken, CaseDetails caseDetails) throws IOException {
         HttpEntity<String> request =
                 new HttpEntity<>(buildHeaders(authToken));
@@ -474,26 +485,9 @@ public class CcdClient {
             throws IOException {
         HttpEntity<String> request = new HttpEntity<>(query, buildHeaders(authToken));
         String url = ccdClientConfig.buildRetrieveCasesUrlElasticSearch(caseTypeId);
-        MultipleCaseSearchResult multipleCaseSearchResult;
-        int retries = 1;
-        do {
-            log.info("Retry: " + retries);
-            multipleCaseSearchResult = restTemplate.exchange(url, HttpMethod.POST, request,
-                    MultipleCaseSearchResult.class).getBody();
-            try {
-                if (multipleCaseSearchResult != null) {
-                    log.info("Checking size found: " + multipleCaseSearchResult.getTotal());
-                }
-                TimeUnit.SECONDS.sleep(5);
-                retries++;
-                if (retries == MAX_RETRIES) {
-                    break;
-                }
-            } catch (InterruptedException e) {
-                log.error("Error sleeping the thread");
-                Thread.currentThread().interrupt();
-            }
-        } while (multipleCaseSearchResult == null || multipleCaseSearchResult.getTotal() != 1);
+        MultipleCaseSearchResult multipleCaseSearchResult = consistencyWait.await(
+                () -> restTemplate.exchange(url, HttpMethod.POST, request, MultipleCaseSearchResult.class).getBody(),
+                result -> result.getTotal() == 1);
 
         return multipleCaseSearchResult != null
                 ? new ArrayList<>(multipleCaseSearchResult.getCases())
@@ -506,25 +500,9 @@ public class CcdClient {
             throws IOException {
         HttpEntity<String> request = new HttpEntity<>(query, buildHeaders(authToken));
         String url = ccdClientConfig.buildRetrieveCasesUrlElasticSearch(caseTypeId);
-        CaseSearchResult caseSearchResult;
-        int retries = 1;
-        do {
-            log.info("Retry: " + retries);
-            caseSearchResult = restTemplate.exchange(url, HttpMethod.POST, request, CaseSearchResult.class).getBody();
-            try {
-                if (caseSearchResult != null) {
-                    log.info("Checking size found: " + caseSearchResult.getTotal());
-                }
-                TimeUnit.SECONDS.sleep(5);
-                retries++;
-                if (retries == MAX_RETRIES) {
-                    break;
-                }
-            } catch (InterruptedException e) {
-                log.error("Error sleeping the thread");
-                Thread.currentThread().interrupt();
-            }
-        } while (caseSearchResult == null || caseSearchResult.getTotal() != size);
+        CaseSearchResult caseSearchResult = consistencyWait.await(
+                () -> restTemplate.exchange(url, HttpMethod.POST, request, CaseSearchResult.class).getBody(),
+                result -> result.getTotal() == size);
 
         if (caseSearchResult != null) {
             generateCasesNotFound(caseIds, caseSearchResult);
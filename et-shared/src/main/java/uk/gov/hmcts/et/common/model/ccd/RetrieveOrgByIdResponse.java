@@ -5,12 +5,23 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.jackson.Jacksonized;
+import uk.gov.hmcts.et.common.model.ccd.types.OrganisationAddress;
+
+import java.util.List;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Data
 @Jacksonized
 @Builder
 public class RetrieveOrgByIdResponse {
+    @JsonProperty(value = "name")
+    private String name;
+    @JsonProperty(value = "organisationIdentifier")
+    private String organisationIdentifier;
+    @JsonProperty(value = "status")
+    private String status;
+    @JsonProperty(value = "contactInformation")
+    private List<OrganisationAddress> contactInformation;
     @JsonProperty(value = "superUser")
     private SuperUser superUser;
 
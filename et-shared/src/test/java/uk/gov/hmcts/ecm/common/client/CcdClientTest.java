@@ -1,8 +1,11 @@
 package uk.gov.hmcts.ecm.common.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -68,12 +71,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.naming.NameNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -719,6 +725,23 @@ public class CcdClientTest {
         verifyNoMoreInteractions(restTemplate);
     }
 
+    @Test
+    void retrieveCasesGenericReportElasticSearchOnlyFetchesReportFields() throws IOException {
+        when(ccdClientConfig.buildRetrieveCasesUrlElasticSearch(any())).thenReturn(uri);
+        when(restTemplate.exchange(eq(uri), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(CaseSearchResult.class))).thenReturn(ResponseEntity.ok().body(new CaseSearchResult()));
+        ccdClient.retrieveCasesGenericReportElasticSearch("authToken", caseDetails.getCaseTypeId(),
+                TribunalOffice.valueOfOfficeName(caseDetails.getCaseData().getManagingOffice()), "2019-09-24",
+                "2019-09-24", BROUGHT_FORWARD_REPORT);
+
+        ArgumentCaptor<HttpEntity<String>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).exchange(eq(uri), eq(HttpMethod.POST), request.capture(), eq(CaseSearchResult.class));
+        JsonNode sourceFields = new ObjectMapper().readTree(request.getValue().getBody()).get("_source");
+        assertTrue(sourceFields.isArray());
+        assertTrue(sourceFields.toString().contains("\"data.bfActions\""));
+        assertFalse(sourceFields.toString().contains("\"data.documentCollection\""));
+    }
+
     @Test
     void retrieveBulkCases() throws IOException {
         PaginatedSearchMetadata metadata = new PaginatedSearchMetadata();
@@ -989,6 +1012,39 @@ public class CcdClientTest {
         verifyNoMoreInteractions(restTemplate);
     }
 
+    @Test
+    void searchAfterElasticSearchPagesOnCaseReference() throws IOException {
+        ccdClient.setElasticSearchPageSize(2);
+        var firstPage = new CasesAwaitingJudgmentSearchResult(3L,
+                Arrays.asList(casesAwaitingJudgmentCase(1L), casesAwaitingJudgmentCase(2L)));
+        var secondPage = new CasesAwaitingJudgmentSearchResult(3L, List.of(casesAwaitingJudgmentCase(3L)));
+        when(ccdClientConfig.buildRetrieveCasesUrlElasticSearch(any())).thenReturn(uri);
+        when(restTemplate.exchange(eq(uri), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(CasesAwaitingJudgmentSearchResult.class)))
+                .thenReturn(ResponseEntity.ok(firstPage), ResponseEntity.ok(secondPage));
+
+        List<List<CasesAwaitingJudgmentSubmitEvent>> pages = new ArrayList<>();
+        ccdClient.searchAfterElasticSearch("authToken", caseDetails.getCaseTypeId(),
+                "{\"size\":10000,\"query\": {\"match_all\":{} }}", CasesAwaitingJudgmentSearchResult.class,
+                CasesAwaitingJudgmentSearchResult::getCases, pages::add);
+
+        assertEquals(2, pages.size());
+        assertEquals(3L, pages.get(1).get(0).getCaseId());
+        ArgumentCaptor<HttpEntity<String>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(eq(uri), eq(HttpMethod.POST), requests.capture(),
+                eq(CasesAwaitingJudgmentSearchResult.class));
+        assertEquals("{\"size\":2,\"query\":{\"match_all\":{}},\"sort\":[{\"reference.keyword\":\"asc\"}]}",
+                requests.getAllValues().get(0).getBody());
+        assertEquals("{\"size\":2,\"query\":{\"match_all\":{}},\"sort\":[{\"reference.keyword\":\"asc\"}],"
+                + "\"search_after\":[\"2\"]}", requests.getAllValues().get(1).getBody());
+    }
+
+    private CasesAwaitingJudgmentSubmitEvent casesAwaitingJudgmentCase(long caseId) {
+        var submitEvent = new CasesAwaitingJudgmentSubmitEvent();
+        submitEvent.setCaseId(caseId);
+        return submitEvent;
+    }
+
     @Test
     void testHearingsToJudgmentSearch() throws IOException {
         var elasticSearchQuery = "{\"size\":10000,\"query\": {\"match_all\":{} }}";
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.ecm.common.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElasticSearchConsistencyWaitTest {
+
+    private List<Long> sleeps;
+    private ElasticSearchConsistencyWait consistencyWait;
+
+    @BeforeEach
+    void setUp() {
+        sleeps = new ArrayList<>();
+        consistencyWait = new ElasticSearchConsistencyWait(5, 1000, 4000, sleeps::add);
+    }
+
+    @Test
+    void awaitReturnsImmediatelyWhenConsistent() throws IOException {
+        Integer result = consistencyWait.await(() -> 3, total -> total == 3);
+
+        assertEquals(3, result);
+        assertTrue(sleeps.isEmpty());
+        assertEquals(1, consistencyWait.getSearchCount());
+        assertEquals(0, consistencyWait.getMissCount());
+        assertEquals(0, consistencyWait.getWaitMillis());
+    }
+
+    @Test
+    void awaitBacksOffOnlyUntilConsistent() throws IOException {
+        AtomicInteger indexed = new AtomicInteger();
+
+        Integer result = consistencyWait.await(indexed::incrementAndGet, total -> total == 3);
+
+        assertEquals(3, result);
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(0) >= 500 && sleeps.get(0) <= 1000);
+        assertTrue(sleeps.get(1) >= 1000 && sleeps.get(1) <= 2000);
+        assertEquals(3, consistencyWait.getSearchCount());
+        assertEquals(2, consistencyWait.getMissCount());
+        assertEquals(sleeps.get(0) + sleeps.get(1), consistencyWait.getWaitMillis());
+    }
+
+    @Test
+    void awaitGivesUpAfterMaxAttempts() throws IOException {
+        Integer result = consistencyWait.await(() -> 1, total -> total == 3);
+
+        assertEquals(1, result);
+        assertEquals(4, sleeps.size());
+        assertTrue(sleeps.get(3) >= 2000 && sleeps.get(3) <= 4000);
+        assertEquals(5, consistencyWait.getSearchCount());
+        assertEquals(1, consistencyWait.getExhaustedCount());
+    }
+
+    @Test
+    void awaitTreatsNullResultAsMiss() throws IOException {
+        Integer result = consistencyWait.await(() -> null, total -> true);
+
+        assertNull(result);
+        assertEquals(5, consistencyWait.getMissCount());
+    }
+
+    @Test
+    void awaitStopsWhenInterrupted() throws IOException {
+        ElasticSearchConsistencyWait interrupted = new ElasticSearchConsistencyWait(5, 1000, 4000, millis -> {
+            throw new InterruptedException();
+        });
+
+        Integer result = interrupted.await(() -> 1, total -> total == 3);
+
+        assertEquals(1, result);
+        assertEquals(1, interrupted.getSearchCount());
+        assertTrue(Thread.interrupted());
+    }
+}
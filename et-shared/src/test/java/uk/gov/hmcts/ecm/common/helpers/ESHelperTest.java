@@ -0,0 +1,56 @@
+package uk.gov.hmcts.ecm.common.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.BROUGHT_FORWARD_REPORT;
+
+class ESHelperTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void withSourceFieldsAddsSourceArray() throws IOException {
+        String query = "{\"size\":10,\"query\":{\"match_all\":{\"boost\":1.0}}}";
+
+        JsonNode search = objectMapper.readTree(
+                ESHelper.withSourceFields(query, List.of("data.ethosCaseReference", "data.managingOffice")));
+
+        assertEquals(10, search.get("size").asInt());
+        assertEquals(objectMapper.readTree("{\"match_all\":{\"boost\":1.0}}"), search.get("query"));
+        assertEquals(objectMapper.readTree("[\"data.ethosCaseReference\",\"data.managingOffice\"]"),
+                search.get("_source"));
+    }
+
+    @Test
+    void withSourceFieldsReplacesExistingSource() throws IOException {
+        String query = "{\"query\":{\"match_all\":{}},\"_source\":{\"includes\":[\"data.*\"],\"excludes\":[]}}";
+
+        JsonNode search = objectMapper.readTree(ESHelper.withSourceFields(query, List.of("data.receiptDate")));
+
+        assertEquals(objectMapper.readTree("[\"data.receiptDate\"]"), search.get("_source"));
+    }
+
+    @Test
+    void withSourceFieldsRejectsQueryThatIsNotAnObject() {
+        List<String> sourceFields = List.of("data.receiptDate");
+
+        assertThrows(IllegalArgumentException.class, () -> ESHelper.withSourceFields("[]", sourceFields));
+        assertThrows(IllegalArgumentException.class, () -> ESHelper.withSourceFields("{", sourceFields));
+    }
+
+    @Test
+    void getReportRangeDateSearchQueryOnlyFetchesReportFields() throws IOException {
+        JsonNode search = objectMapper.readTree(ESHelper.getReportRangeDateSearchQuery(
+                "2021-12-13T00:00:00.000", "2021-12-13T23:59:59.999", BROUGHT_FORWARD_REPORT, "Leeds"));
+
+        assertEquals(1, search.get("query").size());
+        assertEquals("data.ethosCaseReference", search.get("_source").get(0).asText());
+    }
+}
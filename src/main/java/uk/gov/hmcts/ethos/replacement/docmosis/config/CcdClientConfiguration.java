@@ -1,6 +1,8 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +11,7 @@ import uk.gov.hmcts.ecm.common.client.CaseDataBuilder;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.client.CcdClientConfig;
 import uk.gov.hmcts.ecm.common.client.EcmCaseDataBuilder;
+import uk.gov.hmcts.ecm.common.client.ElasticSearchConsistencyWait;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.UserIdamService;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 
@@ -18,12 +21,47 @@ public class CcdClientConfiguration {
     @Value("${ccd.data-store-api-url}")
     private String ccdDataStoreApiBaseUrl;
 
+    @Value("${es.partition.reports:" + CcdClient.DEFAULT_ELASTIC_SEARCH_PAGE_SIZE + "}")
+    private int elasticSearchPageSize;
+
     @Bean
     public CcdClient ccdClient(RestTemplate restTemplate, UserIdamService userIdamService,
                                CaseDataBuilder caseDataBuilder, AuthTokenGenerator authTokenGenerator,
-                               EcmCaseDataBuilder ecmCaseDataBuilder) {
-        return new CcdClient(restTemplate, userIdamService, caseDataBuilder,
+                               EcmCaseDataBuilder ecmCaseDataBuilder,
+                               ElasticSearchConsistencyWait elasticSearchConsistencyWait) {
+        CcdClient ccdClient = new CcdClient(restTemplate, userIdamService, caseDataBuilder,
                 new CcdClientConfig(ccdDataStoreApiBaseUrl), authTokenGenerator, ecmCaseDataBuilder);
+        ccdClient.setConsistencyWait(elasticSearchConsistencyWait);
+        ccdClient.setElasticSearchPageSize(elasticSearchPageSize);
+        return ccdClient;
+    }
+
+    @Bean
+    public ElasticSearchConsistencyWait elasticSearchConsistencyWait() {
+        return new ElasticSearchConsistencyWait();
+    }
+
+    @Bean
+    public MeterBinder elasticSearchConsistencyWaitMetrics(ElasticSearchConsistencyWait consistencyWait) {
+        return registry -> {
+            FunctionCounter.builder("ccd.es.consistency.searches", consistencyWait,
+                    ElasticSearchConsistencyWait::getSearchCount)
+                .description("Elasticsearch searches made while waiting for indexing to catch up")
+                .register(registry);
+            FunctionCounter.builder("ccd.es.consistency.misses", consistencyWait,
+                    ElasticSearchConsistencyWait::getMissCount)
+                .description("Elasticsearch searches that did not yet reflect the expected cases")
+                .register(registry);
+            FunctionCounter.builder("ccd.es.consistency.exhausted", consistencyWait,
+                    ElasticSearchConsistencyWait::getExhaustedCount)
+                .description("Waits that ran out of attempts before Elasticsearch was consistent")
+                .register(registry);
+            FunctionCounter.builder("ccd.es.consistency.wait", consistencyWait,
+                    ElasticSearchConsistencyWait::getWaitMillis)
+                .baseUnit("milliseconds")
+                .description("Time spent backing off between Elasticsearch searches")
+                .register(registry);
+        };
     }
 
     @Bean
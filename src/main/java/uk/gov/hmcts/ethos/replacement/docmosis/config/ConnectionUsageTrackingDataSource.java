@@ -0,0 +1,118 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.config;
+
+import lombok.Getter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+
+/**
+ * Records how long callers wait for a pooled database connection and how long they hold it before handing it
+ * back, split between the database queue workers and everything else (callbacks, scheduled tasks). Hikari's own
+ * metrics only describe the pool as a whole, so they cannot show whether queue workers are starving callbacks.
+ *
+ * <p>Queue workers are recognised by the {@link #QUEUE_WORKER_THREAD_PREFIX} their threads are named with.</p>
+ */
+public class ConnectionUsageTrackingDataSource extends DelegatingDataSource {
+
+    public static final String QUEUE_WORKER_THREAD_PREFIX = "queue-worker-";
+
+    @Getter
+    private final ConnectionUsage queueWorkerUsage = new ConnectionUsage();
+    @Getter
+    private final ConnectionUsage otherUsage = new ConnectionUsage();
+
+    public ConnectionUsageTrackingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ConnectionUsage usage = usageForCurrentThread();
+        long start = System.nanoTime();
+        try {
+            return track(super.getConnection(), usage);
+        } finally {
+            usage.recordAcquire(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ConnectionUsage usage = usageForCurrentThread();
+        long start = System.nanoTime();
+        try {
+            return track(super.getConnection(username, password), usage);
+        } finally {
+            usage.recordAcquire(System.nanoTime() - start);
+        }
+    }
+
+    private ConnectionUsage usageForCurrentThread() {
+        return Thread.currentThread().getName().startsWith(QUEUE_WORKER_THREAD_PREFIX)
+            ? queueWorkerUsage
+            : otherUsage;
+    }
+
+    private static Connection track(Connection connection, ConnectionUsage usage) {
+        long acquiredAt = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionUsageTrackingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        usage.recordHeld(System.nanoTime() - acquiredAt);
+                    }
+                    try {
+                        yield method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            });
+    }
+
+    /**
+     * Connection waits and hold times for one kind of caller.
+     */
+    public static class ConnectionUsage {
+        private final LongAdder acquireCount = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAdder heldCount = new LongAdder();
+        private final LongAdder heldNanos = new LongAdder();
+
+        void recordAcquire(long nanos) {
+            acquireCount.increment();
+            acquireNanos.add(nanos);
+        }
+
+        void recordHeld(long nanos) {
+            heldCount.increment();
+            heldNanos.add(nanos);
+        }
+
+        public long getAcquireCount() {
+            return acquireCount.sum();
+        }
+
+        public double getAcquireNanos() {
+            return acquireNanos.sum();
+        }
+
+        public long getHeldCount() {
+            return heldCount.sum();
+        }
+
+        public double getHeldNanos() {
+            return heldNanos.sum();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.config;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.ethos.replacement.docmosis.config.ConnectionUsageTrackingDataSource.ConnectionUsage;
+
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application data source in a {@link ConnectionUsageTrackingDataSource} and publishes how long queue
+ * workers and other callers wait for, and hold, database connections. These sit alongside the pool-wide
+ * {@code hikaricp.connections.*} metrics Spring Boot already publishes for the Hikari pool.
+ */
+@Configuration
+public class DataSourceMetricsConfiguration {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor connectionUsageTrackingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof ConnectionUsageTrackingDataSource)) {
+                    return new ConnectionUsageTrackingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionUsageMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionUsageTrackingDataSource trackingDataSource) {
+                register(registry, "queue-worker", trackingDataSource.getQueueWorkerUsage());
+                register(registry, "other", trackingDataSource.getOtherUsage());
+            }
+        };
+    }
+
+    private static void register(MeterRegistry registry, String caller, ConnectionUsage usage) {
+        FunctionTimer.builder("db.connection.acquire", usage,
+                ConnectionUsage::getAcquireCount, ConnectionUsage::getAcquireNanos, TimeUnit.NANOSECONDS)
+            .description("Time spent waiting for a connection from the database pool")
+            .tag("caller", caller)
+            .register(registry);
+        FunctionTimer.builder("db.connection.usage", usage,
+                ConnectionUsage::getHeldCount, ConnectionUsage::getHeldNanos, TimeUnit.NANOSECONDS)
+            .description("Time a database connection was held before being returned to the pool")
+            .tag("caller", caller)
+            .register(registry);
+    }
+}
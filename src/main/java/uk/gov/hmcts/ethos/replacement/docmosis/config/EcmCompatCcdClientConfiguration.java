@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.ecm.common.client.ElasticSearchConsistencyWait;
 import uk.gov.hmcts.ecm.compat.common.client.CaseDataBuilder;
 import uk.gov.hmcts.ecm.compat.common.client.CcdClient;
 import uk.gov.hmcts.ecm.compat.common.client.CcdClientConfig;
@@ -21,7 +22,8 @@ public class EcmCompatCcdClientConfiguration {
 
     @Bean
     public CcdClient ecmCcdClient(RestTemplate restTemplate, UserIdamService userIdamService,
-                                  ObjectMapper objectMapper, AuthTokenGenerator authTokenGenerator) {
+                                  ObjectMapper objectMapper, AuthTokenGenerator authTokenGenerator,
+                                  ElasticSearchConsistencyWait elasticSearchConsistencyWait) {
         UserService compatUserService = new UserService() {
             @Override
             public UserDetails getUserDetails(String authorisation) {
@@ -45,12 +47,14 @@ public class EcmCompatCcdClientConfiguration {
             }
         };
 
-        return new CcdClient(
+        CcdClient ccdClient = new CcdClient(
                 restTemplate,
                 compatUserService,
                 new CaseDataBuilder(objectMapper),
                 new CcdClientConfig(ccdDataStoreApiBaseUrl),
                 authTokenGenerator
         );
+        ccdClient.setConsistencyWait(elasticSearchConsistencyWait);
+        return ccdClient;
     }
 }
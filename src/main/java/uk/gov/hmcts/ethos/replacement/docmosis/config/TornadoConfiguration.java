@@ -10,4 +10,19 @@ import org.springframework.stereotype.Component;
 public class TornadoConfiguration {
     private String url;
     private String accessKey;
+
+    /**
+     * Maximum number of documents rendered at the same time, which is also the size of the connection pool.
+     */
+    private int maxConnections = 20;
+    /**
+     * How long a render waits for a pooled connection to become free before giving up, in milliseconds.
+     */
+    private int connectionRequestTimeout = 30_000;
+    private int connectTimeout = 10_000;
+    private int responseTimeout = 60_000;
+    /**
+     * How long an idle connection is kept alive in the pool, in milliseconds.
+     */
+    private int idleTimeout = 30_000;
 }
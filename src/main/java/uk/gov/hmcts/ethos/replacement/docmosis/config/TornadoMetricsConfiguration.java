@@ -0,0 +1,41 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.TornadoConnection;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class TornadoMetricsConfiguration {
+
+    @Bean
+    public MeterBinder tornadoConnectionMetrics(TornadoConnection tornadoConnection) {
+        return registry -> {
+            FunctionTimer.builder("tornado.render", tornadoConnection,
+                    TornadoConnection::getRenderCount, TornadoConnection::getRenderNanos, TimeUnit.NANOSECONDS)
+                .description("Documents rendered by Tornado, including the time taken to read the response")
+                .register(registry);
+            FunctionCounter.builder("tornado.render.failures", tornadoConnection,
+                    TornadoConnection::getFailedRenderCount)
+                .description("Tornado renders that failed or returned an error response")
+                .register(registry);
+            Gauge.builder("tornado.pool.leased", tornadoConnection, c -> c.getPoolStats().getLeased())
+                .description("Tornado connections in use by a render")
+                .register(registry);
+            Gauge.builder("tornado.pool.available", tornadoConnection, c -> c.getPoolStats().getAvailable())
+                .description("Idle keep-alive Tornado connections in the pool")
+                .register(registry);
+            Gauge.builder("tornado.pool.pending", tornadoConnection, c -> c.getPoolStats().getPending())
+                .description("Renders waiting for a Tornado connection to become free")
+                .register(registry);
+            Gauge.builder("tornado.pool.max", tornadoConnection, c -> c.getPoolStats().getMax())
+                .description("Maximum number of Tornado connections")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.UserDetailsCache;
+
+@Configuration
+public class UserDetailsCacheMetricsConfiguration {
+
+    @Bean
+    public MeterBinder userDetailsCacheMetrics(UserDetailsCache userDetailsCache) {
+        return registry -> {
+            FunctionCounter.builder("idam.user.details.cache.hits", userDetailsCache,
+                    UserDetailsCache::getRequestHits)
+                .tag("scope", "request")
+                .description("User details found among those already looked up in the same request")
+                .register(registry);
+            FunctionCounter.builder("idam.user.details.cache.hits", userDetailsCache,
+                    UserDetailsCache::getSharedHits)
+                .tag("scope", "shared")
+                .description("User details found among those recently looked up by another request")
+                .register(registry);
+            FunctionCounter.builder("idam.user.details.cache.misses", userDetailsCache,
+                    UserDetailsCache::getMisses)
+                .description("User details looked up from IDAM")
+                .register(registry);
+            Gauge.builder("idam.user.details.cache.size", userDetailsCache, UserDetailsCache::getSize)
+                .description("Tokens with user details shared between requests")
+                .register(registry);
+        };
+    }
+}
@@ -164,7 +164,7 @@ public class RespondentRepresentativeController {
             try {
                 NocUtils.mapRepresentativesToRespondents(caseData, ccdRequest.getCaseDetails().getCaseId());
                 nocRespondentHelper.removeUnmatchedRepresentations(caseData);
-                nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, userToken);
+                nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
                 NocUtils.assignNonMyHmctsOrganisationIds(caseData.getRepCollection());
                 nocRespondentRepresentativeService.removeConflictingClaimantRepresentation(ccdRequest.getCaseDetails());
             } catch (GenericRuntimeException | GenericServiceException gse) {
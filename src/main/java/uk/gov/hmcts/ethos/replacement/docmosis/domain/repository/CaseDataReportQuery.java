@@ -0,0 +1,51 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import org.apache.commons.lang3.StringUtils;
+import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+
+import java.util.Set;
+
+/**
+ * The cases a report reads through {@link CaseDataReportRepository}. Conditions left unset match every case.
+ */
+@Getter
+@Builder
+public class CaseDataReportQuery {
+    private final String caseTypeId;
+    private final String managingOffice;
+    @Singular
+    private final Set<String> states;
+    @Singular
+    private final Set<String> excludedStates;
+    @Singular
+    private final Set<String> positionTypes;
+    @Singular
+    private final Set<String> jurisdictionCodes;
+    /**
+     * Range of hearing listed dates, in the date time format the report searches use; only the day is compared.
+     */
+    private final String listedDateFrom;
+    private final String listedDateTo;
+    /**
+     * Top-level case data fields that must have a value, where an empty collection counts as no value.
+     */
+    @Singular
+    private final Set<String> presentFields;
+    @Singular
+    private final Set<String> absentFields;
+
+    /**
+     * Starts a query for a report on the given case type and office. As in the report searches, cases are only
+     * filtered by office for an England and Wales office; Scotland reports cover all offices.
+     */
+    public static CaseDataReportQueryBuilder forReport(String caseTypeId, String managingOffice) {
+        boolean filterByOffice = StringUtils.isNotBlank(managingOffice)
+            && TribunalOffice.isEnglandWalesOffice(managingOffice);
+        return builder()
+            .caseTypeId(caseTypeId)
+            .managingOffice(filterByOffice ? managingOffice : null);
+    }
+}
@@ -0,0 +1,153 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the cases for reports straight from ccd.case_data, which this service owns now that CCD is decentralised,
+ * instead of searching CCD's Elasticsearch over HTTP. Every condition of a {@link CaseDataReportQuery} is answered
+ * from one of the expression indexes added by V026__CaseDataReportIndexes. Cases are returned in the same JSON shape
+ * as a CCD search result, so they are read into the reports' existing submit event projections, and are handed over
+ * a page at a time in case reference order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaseDataReportRepository {
+
+    private static final Pattern FIELD_NAME = Pattern.compile("\\w+");
+    private static final int DATE_LENGTH = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reports.read-model.page-size:1000}")
+    private int pageSize = 1000;
+
+    public <T> void streamCases(CaseDataReportQuery query, Class<T> submitEventType, Consumer<List<T>> pageConsumer) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = createSql(query, parameters);
+        long lastReference = 0;
+        int pageCount;
+        do {
+            List<T> page = new ArrayList<>();
+            long[] pageLastReference = {lastReference};
+            jdbcTemplate.query(sql, bind(parameters, lastReference), resultSet -> {
+                pageLastReference[0] = resultSet.getLong("reference");
+                page.add(read(resultSet.getString("submit_event"), submitEventType));
+            });
+            pageCount = page.size();
+            lastReference = pageLastReference[0];
+            if (!page.isEmpty()) {
+                pageConsumer.accept(page);
+            }
+        } while (pageCount == pageSize);
+    }
+
+    public <T> List<T> findCases(CaseDataReportQuery query, Class<T> submitEventType) {
+        List<T> submitEvents = new ArrayList<>();
+        streamCases(query, submitEventType, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    /**
+     * Builds the query for one page of cases. The parameters for the conditions are added to {@code parameters};
+     * the last case reference already read and the page size are bound after them.
+     */
+    String createSql(CaseDataReportQuery query, List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT reference, jsonb_build_object('id', reference, 'state', state, 'case_data', data)::text "
+                + "AS submit_event FROM ccd.case_data WHERE case_type_id = ?");
+        parameters.add(query.getCaseTypeId());
+        if (query.getManagingOffice() != null) {
+            sql.append(" AND data ->> 'managingOffice' = ?");
+            parameters.add(query.getManagingOffice());
+        }
+        if (!query.getStates().isEmpty()) {
+            sql.append(" AND state = ANY(?::text[])");
+            parameters.add(toArray(query.getStates()));
+        }
+        if (!query.getExcludedStates().isEmpty()) {
+            sql.append(" AND state <> ALL(?::text[])");
+            parameters.add(toArray(query.getExcludedStates()));
+        }
+        if (!query.getPositionTypes().isEmpty()) {
+            sql.append(" AND data ->> 'positionType' = ANY(?::text[])");
+            parameters.add(toArray(query.getPositionTypes()));
+        }
+        if (!query.getJurisdictionCodes().isEmpty()) {
+            sql.append(" AND ccd.fn_case_data_jurisdiction_codes(data) && ?::text[]");
+            parameters.add(toArray(query.getJurisdictionCodes()));
+        }
+        if (query.getListedDateFrom() != null && query.getListedDateTo() != null) {
+            sql.append(" AND ccd.fn_case_data_hearing_listed_days(data) && ?::text[]");
+            parameters.add(listedDays(query.getListedDateFrom(), query.getListedDateTo()));
+        }
+        for (String field : query.getPresentFields()) {
+            sql.append(" AND data -> '").append(checkFieldName(field))
+                .append("' NOT IN ('null'::jsonb, '[]'::jsonb)");
+        }
+        for (String field : query.getAbsentFields()) {
+            sql.append(" AND coalesce(data -> '").append(checkFieldName(field))
+                .append("', 'null'::jsonb) IN ('null'::jsonb, '[]'::jsonb)");
+        }
+        return sql.append(" AND reference > ? ORDER BY reference LIMIT ?").toString();
+    }
+
+    private PreparedStatementSetter bind(List<Object> parameters, long lastReference) {
+        return preparedStatement -> {
+            Connection connection = preparedStatement.getConnection();
+            int index = 1;
+            for (Object parameter : parameters) {
+                if (parameter instanceof String[] values) {
+                    preparedStatement.setArray(index++, connection.createArrayOf("text", values));
+                } else {
+                    preparedStatement.setObject(index++, parameter);
+                }
+            }
+            preparedStatement.setLong(index++, lastReference);
+            preparedStatement.setInt(index, pageSize);
+        };
+    }
+
+    private <T> T read(String submitEvent, Class<T> submitEventType) {
+        try {
+            return objectMapper.readValue(submitEvent, submitEventType);
+        } catch (JsonProcessingException e) {
+            throw new DataRetrievalFailureException("Failed to read case data as " + submitEventType.getName(), e);
+        }
+    }
+
+    /**
+     * Every day from the first to the last listed date searched for, as held by ccd.fn_case_data_hearing_listed_days.
+     */
+    private static String[] listedDays(String listedDateFrom, String listedDateTo) {
+        LocalDate firstDay = LocalDate.parse(listedDateFrom.substring(0, DATE_LENGTH));
+        LocalDate lastDay = LocalDate.parse(listedDateTo.substring(0, DATE_LENGTH));
+        return firstDay.datesUntil(lastDay.plusDays(1)).map(LocalDate::toString).toArray(String[]::new);
+    }
+
+    private static String[] toArray(Collection<String> values) {
+        return values.toArray(String[]::new);
+    }
+
+    private static String checkFieldName(String field) {
+        if (!FIELD_NAME.matcher(field).matches()) {
+            throw new IllegalArgumentException("Invalid case data field name " + field);
+        }
+        return field;
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.MultipleReferenceScotland;
@@ -11,4 +12,11 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.MultipleReferenceScotland;
 public interface MultipleRefScotlandRepository extends JpaRepository<MultipleReferenceScotland, Integer> {
     @Query(value = "SELECT fn_ScotlandEthosMultipleCaseRefGen()", nativeQuery = true)
     String ethosMultipleCaseRefGen();
+
+    /**
+     * Reserves a block of consecutive multiple references.
+     * @return the last reference number in the block
+     */
+    @Query(value = "SELECT fn_ScotlandEthosMultipleCaseRefBlock(:blockSize)", nativeQuery = true)
+    int reserveMultipleCaseRefBlock(@Param("blockSize") int blockSize);
 }
\ No newline at end of file
@@ -12,4 +12,11 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.SingleReferenceEnglandWale
 public interface SingleRefEnglandWalesRepository extends JpaRepository<SingleReferenceEnglandWales, Integer> {
     @Query(value = "SELECT fn_EnglandWalesEthosCaseRefGen(:currentYear)", nativeQuery = true)
     String ethosCaseRefGen(@Param("currentYear") int currentYear);
+
+    /**
+     * Reserves a block of consecutive references for the year.
+     * @return the last reference number in the block
+     */
+    @Query(value = "SELECT fn_EnglandWalesEthosCaseRefBlock(:currentYear, :blockSize)", nativeQuery = true)
+    int reserveCaseRefBlock(@Param("currentYear") int currentYear, @Param("blockSize") int blockSize);
 }
\ No newline at end of file
@@ -12,4 +12,11 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.SingleReferenceScotland;
 public interface SingleRefScotlandRepository extends JpaRepository<SingleReferenceScotland, Integer> {
     @Query(value = "SELECT fn_ScotlandEthosCaseRefGen(:currentYear)", nativeQuery = true)
     String ethosCaseRefGen(@Param("currentYear") int currentYear);
+
+    /**
+     * Reserves a block of consecutive references for the year.
+     * @return the last reference number in the block
+     */
+    @Query(value = "SELECT fn_ScotlandEthosCaseRefBlock(:currentYear, :blockSize)", nativeQuery = true)
+    int reserveCaseRefBlock(@Param("currentYear") int currentYear, @Param("blockSize") int blockSize);
 }
\ No newline at end of file
@@ -6,9 +6,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.CreateUpdatesQueueMessage;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,6 +24,27 @@ public interface CreateUpdatesQueueRepository extends JpaRepository<CreateUpdate
     List<CreateUpdatesQueueMessage> findPendingMessages(@Param("now") LocalDateTime now,
                                                         Pageable pageable);
 
+    /**
+     * Atomically claims up to {@code limit} pending messages for the given processor. Rows already locked by
+     * another transaction are skipped rather than waited on, so concurrent pods never claim the same message.
+     * Messages still PROCESSING whose lease has run out belong to a processor that stopped without completing
+     * them, and are claimed again.
+     */
+    @Transactional
+    @Query(value = "UPDATE create_updates_queue "
+           + "SET status = 'PROCESSING', locked_by = :lockedBy, locked_until = :lockedUntil "
+           + "WHERE id IN (SELECT id FROM create_updates_queue "
+           + "WHERE (status = 'PENDING' AND (locked_until IS NULL OR locked_until < :now)) "
+           + "OR (status = 'PROCESSING' AND locked_until < :now) "
+           + "ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED) "
+           + "RETURNING *",
+           nativeQuery = true)
+    List<CreateUpdatesQueueMessage> claimPendingMessages(@Param("lockedBy") String lockedBy,
+                                                         @Param("lockedUntil") LocalDateTime lockedUntil,
+                                                         @Param("now") LocalDateTime now,
+                                                         @Param("limit") int limit);
+
+    @Transactional
     @Modifying
     @Query("UPDATE CreateUpdatesQueueMessage m "
            + "SET m.status = "
@@ -37,16 +60,44 @@ public interface CreateUpdatesQueueRepository extends JpaRepository<CreateUpdate
                     @Param("lockedUntil") LocalDateTime lockedUntil,
                     @Param("now") LocalDateTime now);
 
+    /**
+     * Extends the lease on the given messages while the processor that claimed them is still working on them, so
+     * that a long-running message is not claimed again by another processor while it is being processed.
+     *
+     * @return the number of leases extended
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CreateUpdatesQueueMessage m "
+           + "SET m.lockedUntil = :lockedUntil "
+           + "WHERE m.messageId IN :messageIds "
+           + "AND m.lockedBy = :lockedBy "
+           + "AND m.status = "
+           + "uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.PROCESSING")
+    int renewLeases(@Param("messageIds") Collection<String> messageIds,
+                    @Param("lockedBy") String lockedBy,
+                    @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Marks a message completed, provided it is still leased to the given processor. A processor whose lease ran
+     * out while it was working on the message leaves it to whichever processor has claimed it since.
+     *
+     * @return 1 if the message was marked completed, or 0 if the processor no longer holds its lease
+     */
+    @Transactional
     @Modifying
     @Query("UPDATE CreateUpdatesQueueMessage m "
            + "SET m.status = uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.COMPLETED, "
            + "m.processedAt = :processedAt, "
            + "m.lockedBy = NULL, "
            + "m.lockedUntil = NULL "
-           + "WHERE m.messageId = :messageId")
-    void markAsCompleted(@Param("messageId") String messageId,
-                         @Param("processedAt") LocalDateTime processedAt);
+           + "WHERE m.messageId = :messageId "
+           + "AND m.lockedBy = :lockedBy")
+    int markAsCompleted(@Param("messageId") String messageId,
+                        @Param("lockedBy") String lockedBy,
+                        @Param("processedAt") LocalDateTime processedAt);
 
+    @Transactional
     @Modifying
     @Query("UPDATE CreateUpdatesQueueMessage m "
            + "SET m.status = CASE "
@@ -59,12 +110,15 @@ public interface CreateUpdatesQueueRepository extends JpaRepository<CreateUpdate
            + "m.lockedBy = NULL, "
            + "m.lockedUntil = NULL, "
            + "m.processedAt = :processedAt "
-           + "WHERE m.messageId = :messageId")
+           + "WHERE m.messageId = :messageId "
+           + "AND m.lockedBy = :lockedBy")
     int incrementRetryAndMarkFailureIfMax(@Param("messageId") String messageId,
+                                          @Param("lockedBy") String lockedBy,
                                           @Param("errorMessage") String errorMessage,
                                           @Param("maxRetries") int maxRetries,
                                           @Param("processedAt") LocalDateTime processedAt);
 
+    @Transactional
     @Modifying
     @Query("UPDATE CreateUpdatesQueueMessage m "
            + "SET m.status = uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.FAILED, "
@@ -73,8 +127,25 @@ public interface CreateUpdatesQueueRepository extends JpaRepository<CreateUpdate
            + "m.lockedBy = NULL, "
            + "m.lockedUntil = NULL, "
            + "m.processedAt = :processedAt "
-           + "WHERE m.messageId = :messageId")
+           + "WHERE m.messageId = :messageId "
+           + "AND m.lockedBy = :lockedBy")
     int markAsFailedNoRetry(@Param("messageId") String messageId,
+                            @Param("lockedBy") String lockedBy,
                             @Param("errorMessage") String errorMessage,
                             @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Deletes up to {@code limit} messages in the given final status that were processed before {@code cutoff}.
+     * Rows already being deleted by another pod are skipped rather than waited on, so every pod can purge at once.
+     *
+     * @return the number of messages deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM create_updates_queue WHERE id IN (SELECT id FROM create_updates_queue "
+           + "WHERE status = :status AND processed_at < :cutoff LIMIT :limit FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int deleteProcessedBefore(@Param("status") String status,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              @Param("limit") int limit);
 }
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.EmailOutboxMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Atomically claims up to {@code limit} emails that are due to be sent for the given dispatcher. Rows already
+     * locked by another transaction are skipped rather than waited on, so concurrent pods never claim the same
+     * email. A PENDING email whose locked_until is still in the future is waiting to be retried and is left alone;
+     * one still PROCESSING whose lease has run out belongs to a dispatcher that stopped before sending it.
+     */
+    @Transactional
+    @Query(value = "UPDATE email_outbox "
+           + "SET status = 'PROCESSING', locked_by = :lockedBy, locked_until = :lockedUntil "
+           + "WHERE id IN (SELECT id FROM email_outbox "
+           + "WHERE (status = 'PENDING' AND (locked_until IS NULL OR locked_until < :now)) "
+           + "OR (status = 'PROCESSING' AND locked_until < :now) "
+           + "ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED) "
+           + "RETURNING *",
+           nativeQuery = true)
+    List<EmailOutboxMessage> claimPendingEmails(@Param("lockedBy") String lockedBy,
+                                                @Param("lockedUntil") LocalDateTime lockedUntil,
+                                                @Param("now") LocalDateTime now,
+                                                @Param("limit") int limit);
+
+    /**
+     * Extends the lease on an email the given dispatcher is about to send.
+     *
+     * @return 1 if the lease was extended, or 0 if the email is no longer leased to the dispatcher
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m "
+           + "SET m.lockedUntil = :lockedUntil "
+           + "WHERE m.reference = :reference "
+           + "AND m.lockedBy = :lockedBy "
+           + "AND m.status = "
+           + "uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.PROCESSING")
+    int renewLease(@Param("reference") String reference,
+                   @Param("lockedBy") String lockedBy,
+                   @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m "
+           + "SET m.status = uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.COMPLETED, "
+           + "m.processedAt = :processedAt, "
+           + "m.lockedBy = NULL, "
+           + "m.lockedUntil = NULL "
+           + "WHERE m.reference = :reference "
+           + "AND m.lockedBy = :lockedBy")
+    int markAsSent(@Param("reference") String reference,
+                   @Param("lockedBy") String lockedBy,
+                   @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Records a failed attempt to send an email, provided it is still leased to the given dispatcher. An email to be
+     * retried is put back to PENDING with {@code retryAt} as its locked_until, so that it is not claimed again until
+     * then.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m "
+           + "SET m.status = :status, "
+           + "m.errorMessage = :errorMessage, "
+           + "m.retryCount = :retryCount, "
+           + "m.lockedBy = NULL, "
+           + "m.lockedUntil = :retryAt, "
+           + "m.processedAt = :processedAt "
+           + "WHERE m.reference = :reference "
+           + "AND m.lockedBy = :lockedBy")
+    int markAsFailed(@Param("reference") String reference,
+                     @Param("lockedBy") String lockedBy,
+                     @Param("errorMessage") String errorMessage,
+                     @Param("retryCount") int retryCount,
+                     @Param("status") QueueMessageStatus status,
+                     @Param("processedAt") LocalDateTime processedAt,
+                     @Param("retryAt") LocalDateTime retryAt);
+
+    /**
+     * Deletes up to {@code limit} emails in the given final status that were processed before {@code cutoff}.
+     * Rows already being deleted by another pod are skipped rather than waited on, so every pod can purge at once.
+     *
+     * @return the number of emails deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM email_outbox WHERE id IN (SELECT id FROM email_outbox "
+           + "WHERE status = :status AND processed_at < :cutoff LIMIT :limit FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int deleteProcessedBefore(@Param("status") String status,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              @Param("limit") int limit);
+}
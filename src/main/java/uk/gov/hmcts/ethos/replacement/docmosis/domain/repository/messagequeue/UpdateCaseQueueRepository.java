@@ -6,14 +6,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface UpdateCaseQueueRepository extends JpaRepository<UpdateCaseQueueMessage, Long> {
+public interface UpdateCaseQueueRepository extends JpaRepository<UpdateCaseQueueMessage, Long>,
+    UpdateCaseQueueRepositoryCustom {
 
     @Query("SELECT m FROM UpdateCaseQueueMessage m "
            + "WHERE m.status = "
@@ -23,6 +26,27 @@ public interface UpdateCaseQueueRepository extends JpaRepository<UpdateCaseQueue
     List<UpdateCaseQueueMessage> findPendingMessages(@Param("now") LocalDateTime now,
                                                      Pageable pageable);
 
+    /**
+     * Atomically claims up to {@code limit} pending messages for the given processor. Rows already locked by
+     * another transaction are skipped rather than waited on, so concurrent pods never claim the same message.
+     * Messages still PROCESSING whose lease has run out belong to a processor that stopped without completing
+     * them, and are claimed again.
+     */
+    @Transactional
+    @Query(value = "UPDATE update_case_queue "
+           + "SET status = 'PROCESSING', locked_by = :lockedBy, locked_until = :lockedUntil "
+           + "WHERE id IN (SELECT id FROM update_case_queue "
+           + "WHERE (status = 'PENDING' AND (locked_until IS NULL OR locked_until < :now)) "
+           + "OR (status = 'PROCESSING' AND locked_until < :now) "
+           + "ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED) "
+           + "RETURNING *",
+           nativeQuery = true)
+    List<UpdateCaseQueueMessage> claimPendingMessages(@Param("lockedBy") String lockedBy,
+                                                      @Param("lockedUntil") LocalDateTime lockedUntil,
+                                                      @Param("now") LocalDateTime now,
+                                                      @Param("limit") int limit);
+
+    @Transactional
     @Modifying
     @Query("UPDATE UpdateCaseQueueMessage m "
            + "SET m.status = "
@@ -38,16 +62,44 @@ public interface UpdateCaseQueueRepository extends JpaRepository<UpdateCaseQueue
                     @Param("lockedUntil") LocalDateTime lockedUntil,
                     @Param("now") LocalDateTime now);
 
+    /**
+     * Extends the lease on the given messages while the processor that claimed them is still working on them, so
+     * that a long-running message is not claimed again by another processor while it is being processed.
+     *
+     * @return the number of leases extended
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UpdateCaseQueueMessage m "
+           + "SET m.lockedUntil = :lockedUntil "
+           + "WHERE m.messageId IN :messageIds "
+           + "AND m.lockedBy = :lockedBy "
+           + "AND m.status = "
+           + "uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.PROCESSING")
+    int renewLeases(@Param("messageIds") Collection<String> messageIds,
+                    @Param("lockedBy") String lockedBy,
+                    @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Marks a message completed, provided it is still leased to the given processor. A processor whose lease ran
+     * out while it was working on the message leaves it to whichever processor has claimed it since.
+     *
+     * @return 1 if the message was marked completed, or 0 if the processor no longer holds its lease
+     */
+    @Transactional
     @Modifying
     @Query("UPDATE UpdateCaseQueueMessage m "
            + "SET m.status = uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus.COMPLETED, "
            + "m.processedAt = :processedAt, "
            + "m.lockedBy = NULL, "
            + "m.lockedUntil = NULL "
-           + "WHERE m.messageId = :messageId")
-    void markAsCompleted(@Param("messageId") String messageId,
-                         @Param("processedAt") LocalDateTime processedAt);
+           + "WHERE m.messageId = :messageId "
+           + "AND m.lockedBy = :lockedBy")
+    int markAsCompleted(@Param("messageId") String messageId,
+                        @Param("lockedBy") String lockedBy,
+                        @Param("processedAt") LocalDateTime processedAt);
 
+    @Transactional
     @Modifying
     @Query("UPDATE UpdateCaseQueueMessage m "
            + "SET m.status = :status, "
@@ -56,10 +108,27 @@ public interface UpdateCaseQueueRepository extends JpaRepository<UpdateCaseQueue
            + "m.lockedBy = NULL, "
            + "m.lockedUntil = NULL, "
            + "m.processedAt = :processedAt "
-           + "WHERE m.messageId = :messageId")
-    void markAsFailed(@Param("messageId") String messageId,
-                      @Param("errorMessage") String errorMessage,
-                      @Param("retryCount") int retryCount,
-                      @Param("status") QueueMessageStatus status,
-                      @Param("processedAt") LocalDateTime processedAt);
+           + "WHERE m.messageId = :messageId "
+           + "AND m.lockedBy = :lockedBy")
+    int markAsFailed(@Param("messageId") String messageId,
+                     @Param("lockedBy") String lockedBy,
+                     @Param("errorMessage") String errorMessage,
+                     @Param("retryCount") int retryCount,
+                     @Param("status") QueueMessageStatus status,
+                     @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Deletes up to {@code limit} messages in the given final status that were processed before {@code cutoff}.
+     * Rows already being deleted by another pod are skipped rather than waited on, so every pod can purge at once.
+     *
+     * @return the number of messages deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM update_case_queue WHERE id IN (SELECT id FROM update_case_queue "
+           + "WHERE status = :status AND processed_at < :cutoff LIMIT :limit FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int deleteProcessedBefore(@Param("status") String status,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              @Param("limit") int limit);
 }
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue;
+
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
+
+import java.util.List;
+
+/**
+ * Bulk operations on the update_case_queue table that Spring Data cannot derive.
+ */
+public interface UpdateCaseQueueRepositoryCustom {
+
+    /**
+     * Inserts the given messages with a single multi-row INSERT for each chunk of messages, instead of an INSERT
+     * (and a flush) per entity. The generated ids are not set on the messages.
+     */
+    void insertAll(List<UpdateCaseQueueMessage> messages);
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UpdateCaseQueueRepositoryCustomImpl implements UpdateCaseQueueRepositoryCustom {
+
+    static final int CHUNK_SIZE = 1000;
+
+    // Each column is bound as one array, so a chunk is a single statement whatever its size and the
+    // statement-level notify trigger fires once per chunk
+    private static final String INSERT_ALL_SQL = "INSERT INTO update_case_queue "
+        + "(message_id, message_body, status, created_at, retry_count) "
+        + "SELECT * FROM unnest(?::varchar[], ?::text[], ?::varchar[], ?::timestamp[], ?::integer[])";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<UpdateCaseQueueMessage> messages) {
+        for (int from = 0; from < messages.size(); from += CHUNK_SIZE) {
+            List<UpdateCaseQueueMessage> chunk = messages.subList(from, Math.min(from + CHUNK_SIZE, messages.size()));
+            jdbcTemplate.update(INSERT_ALL_SQL, ps -> {
+                Connection connection = ps.getConnection();
+                ps.setArray(1, connection.createArrayOf("varchar",
+                    chunk.stream().map(UpdateCaseQueueMessage::getMessageId).toArray()));
+                ps.setArray(2, connection.createArrayOf("text",
+                    chunk.stream().map(UpdateCaseQueueMessage::getMessageBody).toArray()));
+                ps.setArray(3, connection.createArrayOf("varchar",
+                    chunk.stream().map(message -> message.getStatus().name()).toArray()));
+                ps.setArray(4, connection.createArrayOf("timestamp",
+                    chunk.stream().map(message -> Timestamp.valueOf(message.getCreatedAt())).toArray()));
+                ps.setArray(5, connection.createArrayOf("int4",
+                    chunk.stream().map(UpdateCaseQueueMessage::getRetryCount).toArray()));
+            });
+        }
+    }
+}
@@ -9,11 +9,11 @@ import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import uk.gov.hmcts.ecm.common.model.helper.SchedulePayload;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.SingleCasesReadingService;
@@ -34,7 +34,7 @@ public final class ExcelReportHelper {
     private ExcelReportHelper() {
     }
 
-    public static CellStyle getReportTitleCellStyle(XSSFWorkbook workbook) {
+    public static CellStyle getReportTitleCellStyle(Workbook workbook) {
         Font font = getFont(workbook);
         font.setColor(IndexedColors.GREY_50_PERCENT.getIndex());
         font.setFontHeightInPoints((short) 25);
@@ -44,7 +44,7 @@ public final class ExcelReportHelper {
         return cellStyle;
     }
 
-    public static CellStyle getHeaderCellStyle(XSSFWorkbook workbook) {
+    public static CellStyle getHeaderCellStyle(Workbook workbook) {
         Font font = getFont(workbook);
         font.setColor(IndexedColors.GREY_50_PERCENT.getIndex());
         CellStyle cellStyle = getHeadersCellStyle(workbook);
@@ -54,7 +54,7 @@ public final class ExcelReportHelper {
         return cellStyle;
     }
 
-    private static CellStyle getHeadersCellStyle(XSSFWorkbook workbook) {
+    private static CellStyle getHeadersCellStyle(Workbook workbook) {
         CellStyle cellStyle = workbook.createCellStyle();
         cellStyle.setFillForegroundColor(IndexedColors.LIGHT_GREEN.getIndex());
         cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
@@ -63,7 +63,7 @@ public final class ExcelReportHelper {
         return cellStyle;
     }
 
-    private static Font getFont(XSSFWorkbook workbook) {
+    private static Font getFont(Workbook workbook) {
         Font font = workbook.createFont();
         font.setBold(true);
         font.setFontName("Calibre");
@@ -72,7 +72,7 @@ public final class ExcelReportHelper {
         return font;
     }
 
-    public static CellStyle getReportSubTitleCellStyle(XSSFWorkbook workbook) {
+    public static CellStyle getReportSubTitleCellStyle(Workbook workbook) {
         Font font = getFont(workbook);
         font.setColor(IndexedColors.GREY_50_PERCENT.getIndex());
         font.setFontHeightInPoints((short) 20);
@@ -81,11 +81,11 @@ public final class ExcelReportHelper {
         return cellStyle;
     }
 
-    public static void addReportAdminDetails(XSSFWorkbook workbook, XSSFSheet sheet, int rowIndex,
+    public static void addReportAdminDetails(Workbook workbook, Sheet sheet, int rowIndex,
                                              String reportPrintedOnDescription, int lastCol) {
         CellRangeAddress reportTitleCellRange = new CellRangeAddress(rowIndex, rowIndex, 0, lastCol);
         sheet.addMergedRegion(reportTitleCellRange);
-        XSSFRow rowReportTitle = sheet.createRow(rowIndex);
+        Row rowReportTitle = sheet.createRow(rowIndex);
         rowReportTitle.setHeight((short) (rowReportTitle.getHeight() * 8));
         CellStyle styleForHeaderCell = getCellStyle(workbook);
         styleForHeaderCell.setAlignment(HorizontalAlignment.CENTER);
@@ -99,8 +99,8 @@ public final class ExcelReportHelper {
         createCell(rowReportTitle, 0, reportPrintedOnDescription, styleForHeaderCell);
     }
 
-    public static void initializeHeaders(XSSFSheet sheet, CellStyle styleForLocking) {
-        XSSFRow rowHead = sheet.createRow(0);
+    public static void initializeHeaders(Sheet sheet, CellStyle styleForLocking) {
+        Row rowHead = sheet.createRow(0);
 
         List<String> headers = MultiplesHelper.getHeaders();
         for (int j = 0; j < headers.size(); j++) {
@@ -109,7 +109,7 @@ public final class ExcelReportHelper {
         }
     }
 
-    public static CellStyle getCellStyle(XSSFWorkbook workbook) {
+    public static CellStyle getCellStyle(Workbook workbook) {
         CellStyle cellStyle = workbook.createCellStyle();
         cellStyle.setVerticalAlignment(VerticalAlignment.CENTER);
         Font font = getFont(workbook);
@@ -128,23 +128,23 @@ public final class ExcelReportHelper {
         return cellStyle;
     }
 
-    public static void initializeReportHeaders(String documentName, String periodDescription, XSSFWorkbook workbook,
-                                               XSSFSheet sheet, List<String> headers) {
+    public static void initializeReportHeaders(String documentName, String periodDescription, Workbook workbook,
+                                               Sheet sheet, List<String> headers) {
         CellRangeAddress reportTitleCellRange = new CellRangeAddress(0, 0, 0, headers.size() - 1);
         sheet.addMergedRegion(reportTitleCellRange);
-        XSSFRow rowReportTitle = sheet.createRow(0);
+        Row rowReportTitle = sheet.createRow(0);
         rowReportTitle.setHeight((short) (rowReportTitle.getHeight() * 8));
         CellStyle styleForHeaderCell = getReportTitleCellStyle(workbook);
         createCell(rowReportTitle, 0, documentName, styleForHeaderCell);
 
         CellRangeAddress reportPeriodCellRange = new CellRangeAddress(1, 1, 0, headers.size() - 1);
         sheet.addMergedRegion(reportPeriodCellRange);
-        XSSFRow rowReportPeriod = sheet.createRow(1);
+        Row rowReportPeriod = sheet.createRow(1);
         rowReportPeriod.setHeight((short) (rowReportPeriod.getHeight() * 6));
         CellStyle styleForSubTitleCell = getReportSubTitleCellStyle(workbook);
         createCell(rowReportPeriod, 0, periodDescription, styleForSubTitleCell);
 
-        XSSFRow rowHead = sheet.createRow(2);
+        Row rowHead = sheet.createRow(2);
         rowHead.setHeight((short) (rowHead.getHeight() * 4));
         CellStyle styleForColHeaderCell = getHeaderCellStyle(workbook);
         for (int j = 0; j < headers.size(); j++) {
@@ -153,7 +153,7 @@ public final class ExcelReportHelper {
         }
     }
 
-    public static void createCell(XSSFRow row, int cellIndex, String value, CellStyle style) {
+    public static void createCell(Row row, int cellIndex, String value, CellStyle style) {
         Cell cell = row.createCell(cellIndex);
         cell.setCellStyle(style);
 
@@ -2,7 +2,6 @@ package uk.gov.hmcts.ethos.replacement.docmosis.helpers;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import uk.gov.hmcts.ecm.common.helpers.UtilHelper;
 import uk.gov.hmcts.ecm.common.model.helper.SchedulePayload;
 import uk.gov.hmcts.et.common.model.bulk.items.CaseIdTypeItem;
@@ -12,10 +11,7 @@ import uk.gov.hmcts.et.common.model.multiples.MultipleObject;
 import uk.gov.hmcts.et.common.model.multiples.items.CaseMultipleTypeItem;
 import uk.gov.hmcts.et.common.model.multiples.items.SubMultipleTypeItem;
 import uk.gov.hmcts.et.common.model.multiples.types.SubMultipleType;
-import uk.gov.hmcts.ethos.replacement.docmosis.exceptions.ExcelGenerationException;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -357,20 +353,6 @@ public final class MultiplesHelper {
         }
     }
 
-    public static byte[] writeExcelFileToByteArray(XSSFWorkbook workbook) {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-
-        try {
-            workbook.write(bos);
-            workbook.close();
-        } catch (IOException e) {
-            log.error("Error generating the excel");
-            throw new ExcelGenerationException("Error generating the excel", e);
-        }
-
-        return bos.toByteArray();
-    }
-
     public static String removeMultipleSuffix(String caseTypeId) {
         return caseTypeId.replace(MULTIPLE_SUFFIX, "");
     }
@@ -53,6 +53,7 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.reports.Constants.TOTAL_CA
 
 @Slf4j
 public final class ReportDocHelper {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
     private static final String REPORT_LIST = "\"Report_List\":[\n";
     private static final String DAY_1_LIST = "\"Day_1_List\":[\n";
     private static final String DAY_2_LIST = "\"Day_2_List\":[\n";
@@ -221,9 +222,8 @@ public final class ReportDocHelper {
     public static void addJsonCollection(String name, Iterator<?> iterator, StringBuilder sb)
             throws JsonProcessingException {
         sb.append('"').append(name).append("\":[\n");
-        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
         while (iterator.hasNext()) {
-            sb.append(objectMapper.writeValueAsString(iterator.next()));
+            sb.append(OBJECT_MAPPER.writeValueAsString(iterator.next()));
             if (iterator.hasNext()) {
                 sb.append(',');
             }
@@ -30,6 +30,7 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.DocumentHelper.cre
 import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.applications.TseHelper.hasSupportingDocs;
 
 public final class TseAdmReplyHelper {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
     private static final String TSE_ADMIN_REPLY_OUTPUT_NAME = "%s Reply.pdf";
     private static final String TSE_ADMIN_REPLY_TEMPLATE_NAME = "EM-TRB-EGW-ENG-000991.docx";
 
@@ -71,7 +72,7 @@ public final class TseAdmReplyHelper {
                 .outputName(String.format(TSE_ADMIN_REPLY_OUTPUT_NAME, selectedApplication.getType()))
                 .templateName(TSE_ADMIN_REPLY_TEMPLATE_NAME)
                 .data(data).build();
-        return new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(document);
+        return OBJECT_MAPPER.writeValueAsString(document);
     }
 
     public static GenericTseApplicationType getTseAdminSelectedApplicationType(CaseData caseData) {
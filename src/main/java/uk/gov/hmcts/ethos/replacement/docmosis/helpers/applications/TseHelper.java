@@ -57,6 +57,7 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.constants.TableMarkupConst
 @Slf4j
 public final class TseHelper {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
     private static final String INTRO = """
             <p>The %s has applied to <strong>%s</strong>.</p>
             %s
@@ -269,7 +270,7 @@ public final class TseHelper {
                 .templateName(REPLY_TEMPLATE_NAME)
                 .data(data)
                 .build();
-        return new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(document);
+        return OBJECT_MAPPER.writeValueAsString(document);
     }
 
     /**
@@ -301,7 +302,7 @@ public final class TseHelper {
                 .outputName(String.format(REPLY_OUTPUT_NAME, selectedApplication.getType()))
                 .templateName(REPLY_TEMPLATE_NAME)
                 .data(data).build();
-        return new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(document);
+        return OBJECT_MAPPER.writeValueAsString(document);
     }
 
     /**
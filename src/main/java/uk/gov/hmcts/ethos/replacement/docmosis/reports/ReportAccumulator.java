@@ -0,0 +1,27 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports;
+
+import java.util.Collection;
+
+/**
+ * Builds a report's figures one case at a time, so that a report can be fed page by page from a search rather than
+ * from a single list of every case, and so that accumulators filled separately, for example from different date
+ * windows, can be combined into one.
+ * @param <T> the type of case the report is run over
+ * @param <A> the accumulator type itself, so that only accumulators of the same report can be merged
+ */
+public interface ReportAccumulator<T, A extends ReportAccumulator<T, A>> {
+
+    void add(T submitEvent);
+
+    /**
+     * Adds everything accumulated by {@code other} to this accumulator, giving the same figures as if its cases had
+     * been added here after this accumulator's own.
+     */
+    void merge(A other);
+
+    default void addAll(Collection<? extends T> submitEvents) {
+        if (submitEvents != null) {
+            submitEvents.forEach(this::add);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.et.common.model.generic.GenericSubmitEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.OLD_DATE_TIME_PATTERN;
+
+/**
+ * Runs a report search as several smaller searches over consecutive date windows of the report period and merges
+ * the cases they find. Each window runs on its own virtual thread, but no more than the configured number of
+ * windows are searched at once across all reports, so national reports do not swamp CCD. A case with hearings in
+ * more than one window is found by each of them and is only kept once.
+ */
+@Slf4j
+@Component
+public class ReportShardExecutor {
+
+    private final int maxShards;
+    private final Semaphore searchPermits;
+
+    public ReportShardExecutor(@Value("${es.reports.shards:6}") int maxShards,
+                               @Value("${es.reports.concurrency:4}") int concurrency) {
+        this.maxShards = Math.max(1, maxShards);
+        this.searchPermits = new Semaphore(Math.max(1, concurrency));
+    }
+
+    /**
+     * Searches each date window between {@code dateFrom} and {@code dateTo} and returns the cases found by any of
+     * them, in window order.
+     * @param search runs the report search for the given from and to dates
+     */
+    public <T extends GenericSubmitEvent> List<T> fetch(String dateFrom, String dateTo,
+                                                        BiFunction<String, String, List<T>> search) {
+        List<DateWindow> windows = split(dateFrom, dateTo);
+        if (windows.size() == 1) {
+            return search.apply(dateFrom, dateTo);
+        }
+
+        Map<Long, T> cases = new LinkedHashMap<>();
+        for (List<T> shard : runAll(windows, window -> search.apply(window.from(), window.to()))) {
+            shard.forEach(submitEvent -> cases.putIfAbsent(submitEvent.getCaseId(), submitEvent));
+        }
+        return new ArrayList<>(cases.values());
+    }
+
+    /**
+     * Streams each date window between {@code dateFrom} and {@code dateTo} into {@code pageConsumer}. Pages from
+     * different windows are handed over one at a time, so the consumer does not need to be thread safe.
+     * @param search streams the report search for the given from and to dates
+     */
+    public <T extends GenericSubmitEvent> void stream(String dateFrom, String dateTo, ShardStream<T> search,
+                                                      Consumer<List<T>> pageConsumer) {
+        List<DateWindow> windows = split(dateFrom, dateTo);
+        if (windows.size() == 1) {
+            search.stream(dateFrom, dateTo, pageConsumer);
+            return;
+        }
+
+        Set<Long> seenCaseIds = ConcurrentHashMap.newKeySet();
+        ReentrantLock consumerLock = new ReentrantLock();
+        runAll(windows, window -> {
+            search.stream(window.from(), window.to(), page -> {
+                List<T> unseen = page.stream()
+                        .filter(submitEvent -> seenCaseIds.add(submitEvent.getCaseId()))
+                        .toList();
+                if (!unseen.isEmpty()) {
+                    consumerLock.lock();
+                    try {
+                        pageConsumer.accept(unseen);
+                    } finally {
+                        consumerLock.unlock();
+                    }
+                }
+            });
+            return null;
+        });
+    }
+
+    List<DateWindow> split(String dateFrom, String dateTo) {
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDateTime.parse(dateFrom, OLD_DATE_TIME_PATTERN).toLocalDate();
+            to = LocalDateTime.parse(dateTo, OLD_DATE_TIME_PATTERN).toLocalDate();
+        } catch (DateTimeParseException e) {
+            log.warn("Searching {} to {} without splitting it into date windows: {}", dateFrom, dateTo,
+                    e.getMessage());
+            return List.of(new DateWindow(dateFrom, dateTo));
+        }
+
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        int shards = (int) Math.max(1, Math.min(maxShards, days));
+        List<DateWindow> windows = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            LocalDate firstDay = from.plusDays(i * days / shards);
+            LocalDate lastDay = from.plusDays((i + 1) * days / shards - 1);
+            windows.add(new DateWindow(
+                    i == 0 ? dateFrom : firstDay.atStartOfDay().format(OLD_DATE_TIME_PATTERN),
+                    i == shards - 1
+                            ? dateTo
+                            : lastDay.atStartOfDay().plusDays(1).minusSeconds(1).format(OLD_DATE_TIME_PATTERN)));
+        }
+        return windows;
+    }
+
+    private <R> List<R> runAll(List<DateWindow> windows, Function<DateWindow, R> task) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<R>> futures = windows.stream()
+                    .map(window -> executor.submit(() -> {
+                        searchPermits.acquire();
+                        try {
+                            return task.apply(window);
+                        } finally {
+                            searchPermits.release();
+                        }
+                    }))
+                    .toList();
+
+            List<R> results = new ArrayList<>(futures.size());
+            try {
+                for (Future<R> future : futures) {
+                    results.add(future.get());
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ReportException("Failed to search report date window", e.getCause());
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ReportException("Interrupted while searching report date windows", e);
+            }
+            return results;
+        }
+    }
+
+    record DateWindow(String from, String to) {
+    }
+
+    @FunctionalInterface
+    public interface ShardStream<T> {
+        void stream(String dateFrom, String dateTo, Consumer<List<T>> pageConsumer);
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment;
+
+import lombok.RequiredArgsConstructor;
+import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSubmitEvent;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportQuery;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLOSED_STATE;
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment.CasesAwaitingJudgmentReport.VALID_POSITION_TYPES;
+
+/**
+ * Reads the cases for the report from the case data held by this service, matching the cases selected by
+ * {@link ElasticSearchQuery}.
+ */
+@RequiredArgsConstructor
+public class CaseDataReportDataSource implements ReportDataSource {
+
+    private final CaseDataReportRepository caseDataReportRepository;
+
+    @Override
+    public List<CasesAwaitingJudgmentSubmitEvent> getData(String caseTypeId, String owningOffice) {
+        List<CasesAwaitingJudgmentSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, owningOffice, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String owningOffice,
+                           Consumer<List<CasesAwaitingJudgmentSubmitEvent>> pageConsumer) {
+        try {
+            CaseDataReportQuery query = CaseDataReportQuery.forReport(caseTypeId, owningOffice)
+                    .excludedState(CLOSED_STATE)
+                    .positionTypes(VALID_POSITION_TYPES)
+                    .presentField("hearingCollection")
+                    .absentField("judgementCollection")
+                    .build();
+            caseDataReportRepository.streamCases(query, CasesAwaitingJudgmentSubmitEvent.class, pageConsumer);
+        } catch (Exception e) {
+            throw new ReportException(String.format(
+                    "Failed to get Cases Awaiting Judgment case data for case type id %s", caseTypeId), e);
+        }
+    }
+}
@@ -74,12 +74,13 @@ public final class CasesAwaitingJudgmentReport {
     public CasesAwaitingJudgmentReportData runReport(ListingDetails listingDetails) {
         String managingOffice = listingDetails.getCaseData().getManagingOffice();
         String caseTypeId = listingDetails.getCaseTypeId();
-        List<CasesAwaitingJudgmentSubmitEvent> submitEvents = getCases(caseTypeId, managingOffice);
-
         String reportOffice = ReportHelper.getReportOffice(caseTypeId, managingOffice);
         CasesAwaitingJudgmentReportData reportData = initReport(reportOffice);
 
-        populateData(reportData, submitEvents);
+        reportDataSource.streamData(UtilHelper.getListingCaseTypeId(caseTypeId), managingOffice,
+                submitEvents -> addCases(reportData, submitEvents));
+        sortReportDetails(reportData);
+        addReportSummary(reportData);
 
         return reportData;
     }
@@ -89,12 +90,8 @@ public final class CasesAwaitingJudgmentReport {
         return new CasesAwaitingJudgmentReportData(reportSummary);
     }
 
-    private List<CasesAwaitingJudgmentSubmitEvent> getCases(String caseTypeId, String owningOffice) {
-        return reportDataSource.getData(UtilHelper.getListingCaseTypeId(caseTypeId), owningOffice);
-    }
-
-    private void populateData(CasesAwaitingJudgmentReportData reportData,
-                              List<CasesAwaitingJudgmentSubmitEvent> submitEvents) {
+    private void addCases(CasesAwaitingJudgmentReportData reportData,
+                          List<CasesAwaitingJudgmentSubmitEvent> submitEvents) {
         for (CasesAwaitingJudgmentSubmitEvent submitEvent : submitEvents) {
             if (!isValidCase(submitEvent)) {
                 continue;
@@ -128,9 +125,6 @@ public final class CasesAwaitingJudgmentReport {
 
             reportData.addReportDetail(reportDetail);
         }
-
-        sortReportDetails(reportData);
-        addReportSummary(reportData);
     }
 
     private boolean isValidCase(CasesAwaitingJudgmentSubmitEvent submitEvent) {
@@ -3,10 +3,13 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
+import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -17,9 +20,18 @@ public class CcdReportDataSource implements ReportDataSource {
 
     @Override
     public List<CasesAwaitingJudgmentSubmitEvent> getData(String caseTypeId, String owningOffice) {
+        List<CasesAwaitingJudgmentSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, owningOffice, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String owningOffice,
+                           Consumer<List<CasesAwaitingJudgmentSubmitEvent>> pageConsumer) {
         try {
             String query = ElasticSearchQuery.create(owningOffice);
-            return ccdClient.casesAwaitingJudgmentSearch(authToken, caseTypeId, query);
+            ccdClient.searchAfterElasticSearch(authToken, caseTypeId, query, CasesAwaitingJudgmentSearchResult.class,
+                    CasesAwaitingJudgmentSearchResult::getCases, pageConsumer);
         } catch (Exception e) {
             throw new ReportException(String.format(
                     "Failed to get Cases Awaiting Judgment search results for case type id %s", caseTypeId), e);
@@ -3,7 +3,16 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment;
 import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSubmitEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReportDataSource {
     List<CasesAwaitingJudgmentSubmitEvent> getData(String caseTypeId, String owningOffice);
+
+    /**
+     * Hands the matching cases to {@code pageConsumer} one page at a time.
+     */
+    default void streamData(String caseTypeId, String owningOffice,
+                            Consumer<List<CasesAwaitingJudgmentSubmitEvent>> pageConsumer) {
+        pageConsumer.accept(getData(caseTypeId, owningOffice));
+    }
 }
\ No newline at end of file
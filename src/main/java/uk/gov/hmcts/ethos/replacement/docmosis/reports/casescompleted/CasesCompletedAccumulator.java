@@ -0,0 +1,201 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.et.common.model.ccd.SubmitEvent;
+import uk.gov.hmcts.et.common.model.ccd.items.JurCodesTypeItem;
+import uk.gov.hmcts.et.common.model.ccd.types.DateListedType;
+import uk.gov.hmcts.et.common.model.ccd.types.HearingType;
+import uk.gov.hmcts.et.common.model.listing.ListingData;
+import uk.gov.hmcts.et.common.model.listing.items.AdhocReportTypeItem;
+import uk.gov.hmcts.et.common.model.listing.types.AdhocReportType;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportAccumulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLOSED_STATE;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_FAST_TRACK;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_NO_CONCILIATION;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_NUMBER_FOUR;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_NUMBER_ONE;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_NUMBER_THREE;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_NUMBER_TWO;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_OPEN_TRACK;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_STANDARD_TRACK;
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportCommonMethods.getHearingJudgeName;
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted.CasesCompletedReport.COMPLETED_PER_SESSION_FORMAT;
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted.CasesCompletedReport.INVALID_POSITION_TYPES;
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted.CasesCompletedReport.VALID_JURISDICTION_OUTCOMES;
+
+/**
+ * Collects the cases completed at hearing, keeping the number of cases and session days of each conciliation track
+ * as plain counters. The header figures are only formatted once, when the report is filled in.
+ */
+public class CasesCompletedAccumulator implements ReportAccumulator<SubmitEvent, CasesCompletedAccumulator> {
+
+    private static final int NO_CONCILIATION = 0;
+    private static final int FAST_TRACK = 1;
+    private static final int STANDARD_TRACK = 2;
+    private static final int OPEN_TRACK = 3;
+    private static final int TRACKS = 4;
+
+    private final ListingData listingData;
+    private final List<AdhocReportTypeItem> reportDetails = new ArrayList<>();
+    private final int[] casesCompleted = new int[TRACKS];
+    private final int[] sessionDays = new int[TRACKS];
+
+    public CasesCompletedAccumulator(ListingData listingData) {
+        this.listingData = listingData;
+    }
+
+    @Override
+    public void add(SubmitEvent submitEvent) {
+        if (!isValidCaseForCasesCompletedReport(submitEvent)) {
+            return;
+        }
+        CaseData caseData = submitEvent.getCaseData();
+        HearingSession hearingSession = new SessionDays(listingData, caseData).getLatestDisposedHearingSession();
+        if (hearingSession == null) {
+            return;
+        }
+
+        AdhocReportTypeItem reportDetailItem = new AdhocReportTypeItem();
+        reportDetailItem.setValue(createReportDetail(caseData, hearingSession));
+        reportDetails.add(reportDetailItem);
+        int track = getTrackIndex(reportDetailItem.getValue().getConciliationTrackNo());
+        casesCompleted[track]++;
+        sessionDays[track] += (int) hearingSession.getSessionDays();
+    }
+
+    @Override
+    public void merge(CasesCompletedAccumulator other) {
+        reportDetails.addAll(other.reportDetails);
+        for (int track = 0; track < TRACKS; track++) {
+            casesCompleted[track] += other.casesCompleted[track];
+            sessionDays[track] += other.sessionDays[track];
+        }
+    }
+
+    /**
+     * Adds the completed cases to the report details and sets the header figures of each conciliation track that
+     * had any, leaving the others as they were initialised.
+     */
+    void addTo(AdhocReportType reportHeader, List<AdhocReportTypeItem> reportDetailList) {
+        reportDetailList.addAll(reportDetails);
+
+        int casesCompletedTotal = 0;
+        int sessionDaysTotal = 0;
+        for (int track = 0; track < TRACKS; track++) {
+            casesCompletedTotal += casesCompleted[track];
+            sessionDaysTotal += sessionDays[track];
+        }
+        if (casesCompletedTotal == 0) {
+            return;
+        }
+
+        if (casesCompleted[NO_CONCILIATION] > 0) {
+            reportHeader.setConNoneCasesCompletedHearing(Integer.toString(casesCompleted[NO_CONCILIATION]));
+            reportHeader.setConNoneSessionDays(Integer.toString(sessionDays[NO_CONCILIATION]));
+            reportHeader.setConNoneCompletedPerSession(completedPerSession(NO_CONCILIATION));
+        }
+        if (casesCompleted[FAST_TRACK] > 0) {
+            reportHeader.setConFastCasesCompletedHearing(Integer.toString(casesCompleted[FAST_TRACK]));
+            reportHeader.setConFastSessionDays(Integer.toString(sessionDays[FAST_TRACK]));
+            reportHeader.setConFastCompletedPerSession(completedPerSession(FAST_TRACK));
+        }
+        if (casesCompleted[STANDARD_TRACK] > 0) {
+            reportHeader.setConStdCasesCompletedHearing(Integer.toString(casesCompleted[STANDARD_TRACK]));
+            reportHeader.setConStdSessionDays(Integer.toString(sessionDays[STANDARD_TRACK]));
+            reportHeader.setConStdCompletedPerSession(completedPerSession(STANDARD_TRACK));
+        }
+        if (casesCompleted[OPEN_TRACK] > 0) {
+            reportHeader.setConOpenCasesCompletedHearing(Integer.toString(casesCompleted[OPEN_TRACK]));
+            reportHeader.setConOpenSessionDays(Integer.toString(sessionDays[OPEN_TRACK]));
+            reportHeader.setConOpenCompletedPerSession(completedPerSession(OPEN_TRACK));
+        }
+
+        reportHeader.setCasesCompletedHearingTotal(Integer.toString(casesCompletedTotal));
+        reportHeader.setSessionDaysTotal(Integer.toString(sessionDaysTotal));
+        reportHeader.setCompletedPerSessionTotal(formatCompletedPerSession(casesCompletedTotal, sessionDaysTotal));
+    }
+
+    private String completedPerSession(int track) {
+        return formatCompletedPerSession(casesCompleted[track], sessionDays[track]);
+    }
+
+    private static String formatCompletedPerSession(int completed, int days) {
+        return String.format(Locale.ROOT, COMPLETED_PER_SESSION_FORMAT, (double) completed / days);
+    }
+
+    private boolean isValidCaseForCasesCompletedReport(SubmitEvent submitEvent) {
+        CaseData caseData = submitEvent.getCaseData();
+        return CLOSED_STATE.equals(submitEvent.getState())
+                && CollectionUtils.isNotEmpty(caseData.getHearingCollection())
+                && (caseData.getPositionType() == null || !INVALID_POSITION_TYPES.contains(caseData.getPositionType()))
+                && isValidJurisdictionOutcome(caseData);
+    }
+
+    private boolean isValidJurisdictionOutcome(CaseData caseData) {
+        if (CollectionUtils.isEmpty(caseData.getJurCodesCollection())) {
+            return true;
+        }
+        for (JurCodesTypeItem jurCodesTypeItem : caseData.getJurCodesCollection()) {
+            if (VALID_JURISDICTION_OUTCOMES.contains(jurCodesTypeItem.getValue().getJudgmentOutcome())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AdhocReportType createReportDetail(CaseData caseData, HearingSession hearingSession) {
+        DateListedType latestSession = hearingSession.getDateListedType();
+        HearingType hearingType = hearingSession.getHearingType();
+
+        AdhocReportType adhocReportType = new AdhocReportType();
+        adhocReportType.setCaseReference(caseData.getEthosCaseReference());
+        adhocReportType.setPosition(caseData.getPositionType());
+        adhocReportType.setConciliationTrack(getConciliationTrack(caseData));
+        adhocReportType.setConciliationTrackNo(getConciliationTrackNumber(caseData.getConciliationTrack()));
+        adhocReportType.setSessionDays(String.valueOf(hearingSession.getSessionDays()));
+        adhocReportType.setHearingNumber(hearingType.getHearingNumber());
+        adhocReportType.setHearingDate(latestSession.getListedDate());
+        adhocReportType.setHearingType(hearingType.getHearingType());
+        adhocReportType.setHearingJudge(getHearingJudgeName(hearingType));
+        if (latestSession.hasHearingClerk()) {
+            adhocReportType.setHearingClerk(latestSession.getHearingClerk().getSelectedLabel());
+        }
+
+        return adhocReportType;
+    }
+
+    private String getConciliationTrack(CaseData caseData) {
+        return StringUtils.isNotBlank(caseData.getConciliationTrack())
+                ? caseData.getConciliationTrack() : CONCILIATION_TRACK_NO_CONCILIATION;
+    }
+
+    private String getConciliationTrackNumber(String conciliationTrack) {
+        if (CONCILIATION_TRACK_NO_CONCILIATION.equals(conciliationTrack)) {
+            return CONCILIATION_TRACK_NUMBER_ONE;
+        } else if (CONCILIATION_TRACK_FAST_TRACK.equals(conciliationTrack)) {
+            return CONCILIATION_TRACK_NUMBER_TWO;
+        } else if (CONCILIATION_TRACK_STANDARD_TRACK.equals(conciliationTrack)) {
+            return CONCILIATION_TRACK_NUMBER_THREE;
+        } else if (CONCILIATION_TRACK_OPEN_TRACK.equals(conciliationTrack)) {
+            return CONCILIATION_TRACK_NUMBER_FOUR;
+        } else {
+            return CONCILIATION_TRACK_NUMBER_ONE;
+        }
+    }
+
+    private int getTrackIndex(String conciliationTrackNo) {
+        return switch (conciliationTrackNo) {
+            case CONCILIATION_TRACK_NUMBER_TWO -> FAST_TRACK;
+            case CONCILIATION_TRACK_NUMBER_THREE -> STANDARD_TRACK;
+            case CONCILIATION_TRACK_NUMBER_FOUR -> OPEN_TRACK;
+            default -> NO_CONCILIATION;
+        };
+    }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.reports.claimsbyhearingvenue.ClaimsByHearingVenueSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -13,12 +14,19 @@ public class ClaimsByHearingVenueCcdReportDataSource implements ClaimsByHearingV
 
     private final String authToken;
     private final CcdClient ccdClient;
+    private final ReportShardExecutor reportShardExecutor;
 
     @Override
     public List<ClaimsByHearingVenueSubmitEvent> getData(String managingOffice, String caseTypeId,
                                                          String listingDateFrom, String listingDateTo) {
+        return reportShardExecutor.fetch(listingDateFrom, listingDateTo,
+            (dateFrom, dateTo) -> search(managingOffice, caseTypeId, dateFrom, dateTo));
+    }
+
+    private List<ClaimsByHearingVenueSubmitEvent> search(String managingOffice, String caseTypeId,
+                                                         String dateFrom, String dateTo) {
         try {
-            String query = ClaimsByHearingVenueESQuery.create(listingDateFrom, listingDateTo, managingOffice);
+            String query = ClaimsByHearingVenueESQuery.create(dateFrom, dateTo, managingOffice);
             return ccdClient.claimsByHearingVenueSearch(authToken, caseTypeId, query);
         } catch (Exception e) {
             throw new ReportException(String.format(
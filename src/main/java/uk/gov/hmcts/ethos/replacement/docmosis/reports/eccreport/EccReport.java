@@ -21,12 +21,17 @@ public final class EccReport {
     }
 
     public EccReportData generateReport(ReportParams params) {
-        List<EccReportSubmitEvent> submitEvents = getCases(params);
         String office = ReportHelper.getReportOffice(params.getCaseTypeId(), params.getManagingOffice());
         EccReportData reportData = initReport(office);
 
-        if (CollectionUtils.isNotEmpty(submitEvents)) {
-            executeReport(reportData, submitEvents);
+        List<EccReportDetail> eccReportDetailList = new ArrayList<>();
+        String caseTypeId = UtilHelper.getListingCaseTypeId(params.getCaseTypeId());
+        reportDataSource.streamData(new ReportParams(caseTypeId, params.getManagingOffice(), params.getDateFrom(),
+                params.getDateTo()), submitEvents -> addReportDetails(eccReportDetailList, submitEvents));
+
+        if (CollectionUtils.isNotEmpty(eccReportDetailList)) {
+            eccReportDetailList.sort(Comparator.comparing(EccReportDetail::getCaseNumber));
+            reportData.addReportDetail(eccReportDetailList);
         }
         return reportData;
     }
@@ -35,19 +40,8 @@ public final class EccReport {
         return new EccReportData(office);
     }
 
-    private List<EccReportSubmitEvent> getCases(ReportParams params) {
-        String caseTypeId = UtilHelper.getListingCaseTypeId(params.getCaseTypeId());
-        return reportDataSource.getData(new ReportParams(caseTypeId, params.getManagingOffice(), params.getDateFrom(),
-                params.getDateTo()));
-    }
-
-    private void executeReport(EccReportData eccReportData,
-                               List<EccReportSubmitEvent> submitEvents) {
-        eccReportData.addReportDetail(getReportDetail(submitEvents));
-    }
-
-    private List<EccReportDetail> getReportDetail(List<EccReportSubmitEvent> submitEvents) {
-        List<EccReportDetail> eccReportDetailList = new ArrayList<>();
+    private void addReportDetails(List<EccReportDetail> eccReportDetailList,
+                                  List<EccReportSubmitEvent> submitEvents) {
         for (EccReportSubmitEvent submitEvent : submitEvents) {
             EccReportCaseData caseData = submitEvent.getCaseData();
             if (CollectionUtils.isNotEmpty(caseData.getEccCases())
@@ -63,8 +57,6 @@ public final class EccReport {
             }
 
         }
-        eccReportDetailList.sort(Comparator.comparing(EccReportDetail::getCaseNumber));
-        return eccReportDetailList;
     }
 
     private String getEccCases(List<EccCounterClaimTypeItem> eccItems) {
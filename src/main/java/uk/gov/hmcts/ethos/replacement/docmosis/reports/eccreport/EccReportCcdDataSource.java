@@ -3,11 +3,14 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.eccreport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
+import uk.gov.hmcts.ecm.common.model.reports.eccreport.EccReportSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.eccreport.EccReportSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -17,10 +20,18 @@ public class EccReportCcdDataSource implements EccReportDataSource {
 
     @Override
     public List<EccReportSubmitEvent> getData(ReportParams reportParams) {
+        List<EccReportSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(reportParams, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(ReportParams reportParams, Consumer<List<EccReportSubmitEvent>> pageConsumer) {
         try {
             String query = EccReportElasticSearchQuery.create(reportParams.getManagingOffice(),
                 reportParams.getDateFrom(), reportParams.getDateTo());
-            return ccdClient.eccReportSearch(authToken, reportParams.getCaseTypeId(), query);
+            ccdClient.searchAfterElasticSearch(authToken, reportParams.getCaseTypeId(), query,
+                    EccReportSearchResult.class, EccReportSearchResult::getCases, pageConsumer);
         } catch (Exception e) {
             throw new ReportException(String.format(
                     "Failed to get ECC Report search results for case type %s and office %s",
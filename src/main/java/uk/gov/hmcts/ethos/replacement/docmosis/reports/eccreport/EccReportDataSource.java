@@ -4,7 +4,15 @@ import uk.gov.hmcts.ecm.common.model.reports.eccreport.EccReportSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EccReportDataSource {
     List<EccReportSubmitEvent> getData(ReportParams reportParams);
+
+    /**
+     * Hands the matching cases to {@code pageConsumer} one page at a time.
+     */
+    default void streamData(ReportParams reportParams, Consumer<List<EccReportSubmitEvent>> pageConsumer) {
+        pageConsumer.accept(getData(reportParams));
+    }
 }
@@ -7,6 +7,7 @@ import uk.gov.hmcts.ecm.common.helpers.UtilHelper;
 import uk.gov.hmcts.ecm.common.model.reports.hearingsbyhearingtype.HearingsByHearingTypeSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -15,13 +16,19 @@ public class HearingsByHearingTypeCcdReportDataSource implements HearingsByHeari
 
     private final String authToken;
     private final CcdClient ccdClient;
+    private final ReportShardExecutor reportShardExecutor;
 
     @Override
     public List<HearingsByHearingTypeSubmitEvent> getData(ReportParams reportParams) {
         String caseTypeId = UtilHelper.getListingCaseTypeId(reportParams.getCaseTypeId());
+        return reportShardExecutor.fetch(reportParams.getDateFrom(), reportParams.getDateTo(),
+            (dateFrom, dateTo) -> search(caseTypeId, reportParams.getManagingOffice(), dateFrom, dateTo));
+    }
+
+    private List<HearingsByHearingTypeSubmitEvent> search(String caseTypeId, String managingOffice,
+                                                          String dateFrom, String dateTo) {
         try {
-            String query = HearingsByHearingTypeElasticSearchQuery.create(
-                    reportParams.getManagingOffice(), reportParams.getDateFrom(), reportParams.getDateTo());
+            String query = HearingsByHearingTypeElasticSearchQuery.create(managingOffice, dateFrom, dateTo);
             return ccdClient.hearingsByHearingTypeSearch(authToken, caseTypeId, query);
         } catch (Exception e) {
             throw new ReportException(String.format(
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments;
+
+import lombok.RequiredArgsConstructor;
+import uk.gov.hmcts.ecm.common.model.reports.hearingstojudgments.HearingsToJudgmentsSubmitEvent;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportQuery;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments.HearingsToJudgmentsReport.VALID_CASE_STATES;
+
+/**
+ * Reads the cases for the report from the case data held by this service, matching the cases selected by
+ * {@link HearingsToJudgmentsElasticSearchQuery}.
+ */
+@RequiredArgsConstructor
+public class HearingsToJudgmentsCaseDataReportDataSource implements HearingsToJudgmentsReportDataSource {
+
+    private final CaseDataReportRepository caseDataReportRepository;
+
+    @Override
+    public List<HearingsToJudgmentsSubmitEvent> getData(String caseTypeId, String managingOffice,
+                                                        String listingDateFrom, String listingDateTo) {
+        List<HearingsToJudgmentsSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, managingOffice, listingDateFrom, listingDateTo, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                           Consumer<List<HearingsToJudgmentsSubmitEvent>> pageConsumer) {
+        try {
+            CaseDataReportQuery query = CaseDataReportQuery.forReport(caseTypeId, managingOffice)
+                    .states(VALID_CASE_STATES)
+                    .listedDateFrom(listingDateFrom)
+                    .listedDateTo(listingDateTo)
+                    .presentField("judgementCollection")
+                    .build();
+            caseDataReportRepository.streamCases(query, HearingsToJudgmentsSubmitEvent.class, pageConsumer);
+        } catch (Exception e) {
+            throw new ReportException(String.format(
+                    "Failed to get Hearings To Judgments case data for case type id %s", caseTypeId), e);
+        }
+    }
+}
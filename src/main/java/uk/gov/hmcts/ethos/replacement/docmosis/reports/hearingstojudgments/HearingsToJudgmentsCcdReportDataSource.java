@@ -3,10 +3,13 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
+import uk.gov.hmcts.ecm.common.model.reports.hearingstojudgments.HearingsToJudgmentsSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.hearingstojudgments.HearingsToJudgmentsSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -17,9 +20,18 @@ public class HearingsToJudgmentsCcdReportDataSource implements HearingsToJudgmen
     @Override
     public List<HearingsToJudgmentsSubmitEvent> getData(String caseTypeId, String managingOffice,
                                                         String listingDateFrom, String listingDateTo) {
+        List<HearingsToJudgmentsSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, managingOffice, listingDateFrom, listingDateTo, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                           Consumer<List<HearingsToJudgmentsSubmitEvent>> pageConsumer) {
         try {
             String query = HearingsToJudgmentsElasticSearchQuery.create(managingOffice, listingDateFrom, listingDateTo);
-            return ccdClient.hearingsToJudgementsSearch(authToken, caseTypeId, query);
+            ccdClient.searchAfterElasticSearch(authToken, caseTypeId, query, HearingsToJudgmentsSearchResult.class,
+                    HearingsToJudgmentsSearchResult::getCases, pageConsumer);
         } catch (Exception e) {
             throw new ReportException(String.format(
                     "Failed to get Hearings To Judgments search results for case type id %s", caseTypeId), e);
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ACCEPTED_STATE;
@@ -69,12 +70,22 @@ public final class HearingsToJudgmentsReport {
     }
 
     public HearingsToJudgmentsReportData runReport(String caseTypeId, String managingOffice) {
-        List<HearingsToJudgmentsSubmitEvent> submitEvents = getCases(caseTypeId, managingOffice);
         String office = ReportHelper.getReportOffice(caseTypeId, managingOffice);
         HearingsToJudgmentsReportData reportData = initReport(office);
 
-        if (CollectionUtils.isNotEmpty(submitEvents)) {
-            populateData(reportData, submitEvents, caseTypeId);
+        List<HearingWithJudgment> allHearingsWithJudgments = new ArrayList<>();
+        AtomicInteger caseCount = new AtomicInteger();
+        hearingsToJudgmentsReportDataSource.streamData(UtilHelper.getListingCaseTypeId(caseTypeId), managingOffice,
+                listingDateFrom, listingDateTo, submitEvents -> {
+                    caseCount.addAndGet(submitEvents.size());
+                    addCases(reportData, submitEvents, allHearingsWithJudgments);
+                });
+
+        if (caseCount.get() > 0) {
+            log.info(String.format("Hearings to judgments case type id %s search results: %d",
+                    caseTypeId, caseCount.get()));
+            reportData.getReportDetails().sort(Comparator.comparingInt(o -> Integer.parseInt(o.getTotalDays())));
+            addReportSummary(reportData.getReportSummary(), allHearingsWithJudgments);
         }
 
         return reportData;
@@ -85,18 +96,9 @@ public final class HearingsToJudgmentsReport {
         return new HearingsToJudgmentsReportData(reportSummary);
     }
 
-    private List<HearingsToJudgmentsSubmitEvent> getCases(String caseTypeId, String managingOffice) {
-        return hearingsToJudgmentsReportDataSource.getData(UtilHelper.getListingCaseTypeId(caseTypeId),
-                managingOffice, listingDateFrom, listingDateTo);
-    }
-
-    private void populateData(HearingsToJudgmentsReportData reportData,
-                              List<HearingsToJudgmentsSubmitEvent> submitEvents,
-                              String listingCaseTypeId) {
-        log.info(String.format("Hearings to judgments case type id %s search results: %d",
-                listingCaseTypeId, submitEvents.size()));
-
-        List<HearingWithJudgment> allHearingsWithJudgments = new ArrayList<>();
+    private void addCases(HearingsToJudgmentsReportData reportData,
+                          List<HearingsToJudgmentsSubmitEvent> submitEvents,
+                          List<HearingWithJudgment> allHearingsWithJudgments) {
         for (HearingsToJudgmentsSubmitEvent submitEvent : submitEvents) {
             if (!isValidCase(submitEvent)) {
                 continue;
@@ -127,9 +129,6 @@ public final class HearingsToJudgmentsReport {
                 }
             }
         }
-
-        reportData.getReportDetails().sort(Comparator.comparingInt(o -> Integer.parseInt(o.getTotalDays())));
-        addReportSummary(reportData.getReportSummary(), allHearingsWithJudgments);
     }
 
     private void addReportSummary(HearingsToJudgmentsReportSummary reportSummary,
@@ -3,8 +3,17 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments;
 import uk.gov.hmcts.ecm.common.model.reports.hearingstojudgments.HearingsToJudgmentsSubmitEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface HearingsToJudgmentsReportDataSource {
     List<HearingsToJudgmentsSubmitEvent> getData(String caseTypeId, String managingOffice, String listingDateFrom,
                                                  String listingDateTo);
+
+    /**
+     * Hands the matching cases to {@code pageConsumer} one page at a time.
+     */
+    default void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                            Consumer<List<HearingsToJudgmentsSubmitEvent>> pageConsumer) {
+        pageConsumer.accept(getData(caseTypeId, managingOffice, listingDateFrom, listingDateTo));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports.memberdays;
+
+import org.springframework.util.CollectionUtils;
+import uk.gov.hmcts.ecm.common.helpers.UtilHelper;
+import uk.gov.hmcts.et.common.model.ccd.SubmitEvent;
+import uk.gov.hmcts.et.common.model.ccd.items.DateListedTypeItem;
+import uk.gov.hmcts.et.common.model.ccd.items.HearingTypeItem;
+import uk.gov.hmcts.et.common.model.listing.ListingData;
+import uk.gov.hmcts.ethos.replacement.docmosis.helpers.ReportHelper;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportAccumulator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.HEARING_STATUS_HEARD;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.SINGLE_HEARING_DATE_TYPE;
+import static uk.gov.hmcts.ethos.replacement.docmosis.constants.HearingConstants.FULL_PANEL;
+import static uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportCommonMethods.getHearingDurationInMinutes;
+
+/**
+ * Collects the heard full panel hearing dates of the member days report, counting the full and half member days of
+ * each hearing date as it goes. A hearing date found more than once is listed each time but only counted once.
+ */
+public class MemberDaysAccumulator implements ReportAccumulator<SubmitEvent, MemberDaysAccumulator> {
+
+    private static final int MINUTES = 60;
+    private static final int FULL_DAY_HOURS = 3;
+    private static final int FULL_DAYS = 0;
+    private static final int HALF_DAYS = 1;
+
+    private final ListingData listingData;
+    private final List<MemberDaysReportDetail> reportDetails = new ArrayList<>();
+    private final Set<MemberDaysReportDetail> countedDetails = new HashSet<>();
+    private final Map<String, int[]> dayCountsByDate = new TreeMap<>();
+    private boolean hasCases;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+
+    public MemberDaysAccumulator(ListingData listingData) {
+        this.listingData = listingData;
+    }
+
+    @Override
+    public void add(SubmitEvent submitEvent) {
+        hasCases = true;
+        List<HearingTypeItem> hearings = submitEvent.getCaseData().getHearingCollection();
+        if (CollectionUtils.isEmpty(hearings)) {
+            return;
+        }
+        for (HearingTypeItem hearing : hearings) {
+            if (FULL_PANEL.equals(hearing.getValue().getHearingSitAlone())) {
+                addValidHearingDates(hearing, submitEvent.getCaseData().getEthosCaseReference());
+            }
+        }
+    }
+
+    @Override
+    public void merge(MemberDaysAccumulator other) {
+        hasCases |= other.hasCases;
+        other.reportDetails.forEach(this::addReportDetail);
+    }
+
+    boolean hasCases() {
+        return hasCases;
+    }
+
+    /**
+     * Fills in the report details, sorted by hearing date, the summary of each hearing date and the report totals.
+     */
+    void addTo(MemberDaysReportData reportData) {
+        reportData.getReportDetails().clear();
+        reportDetails.stream()
+            .sorted(Comparator.comparing(MemberDaysReportDetail::getSortingHearingDate))
+            .forEach(reportData.getReportDetails()::add);
+
+        int fullDaysTotal = 0;
+        int halfDaysTotal = 0;
+        double totalDays = 0.0;
+        for (Map.Entry<String, int[]> dayCounts : dayCountsByDate.entrySet()) {
+            int fullDays = dayCounts.getValue()[FULL_DAYS];
+            int halfDays = dayCounts.getValue()[HALF_DAYS];
+            double days = (double) fullDays + (double) halfDays / 2.0;
+
+            MemberDaySummaryItem memberDaySummaryItem = new MemberDaySummaryItem();
+            memberDaySummaryItem.setHearingDate(UtilHelper.formatCurrentDate(LocalDate.parse(dayCounts.getKey())));
+            memberDaySummaryItem.setFullDays(String.valueOf(fullDays));
+            memberDaySummaryItem.setHalfDays(String.valueOf(halfDays));
+            memberDaySummaryItem.setTotalDays(String.valueOf(days));
+            reportData.getMemberDaySummaryItems().add(memberDaySummaryItem);
+
+            fullDaysTotal += fullDays;
+            halfDaysTotal += halfDays;
+            totalDays += days;
+        }
+        reportData.setFullDaysTotal(String.valueOf(fullDaysTotal));
+        reportData.setHalfDaysTotal(String.valueOf(halfDaysTotal));
+        reportData.setTotalDays(String.valueOf(totalDays));
+    }
+
+    private void addValidHearingDates(HearingTypeItem hearing, String ethosCaseReference) {
+        for (DateListedTypeItem hearingDate : hearing.getValue().getHearingDateCollection()) {
+            if (!HEARING_STATUS_HEARD.equals(hearingDate.getValue().getHearingStatus())) {
+                continue;
+            }
+            String currentHearingDate = ReportHelper.getFormattedLocalDate(hearingDate.getValue().getListedDate());
+            if (currentHearingDate != null && isValidHearingDate(currentHearingDate)) {
+                MemberDaysReportDetail reportDetail = new MemberDaysReportDetail();
+                reportDetail.setSortingHearingDate(currentHearingDate);
+                reportDetail.setHearingDate(UtilHelper.formatCurrentDate(LocalDate.parse(currentHearingDate)));
+                if (hearing.getValue().hasHearingEmployeeMember()) {
+                    reportDetail.setEmployeeMember(hearing.getValue().getHearingEEMember().getSelectedLabel());
+                }
+                if (hearing.getValue().hasHearingEmployerMember()) {
+                    reportDetail.setEmployerMember(hearing.getValue().getHearingERMember().getSelectedLabel());
+                }
+                reportDetail.setCaseReference(ethosCaseReference);
+                reportDetail.setHearingNumber(hearing.getValue().getHearingNumber());
+                reportDetail.setHearingType(hearing.getValue().getHearingType());
+                if (hearingDate.getValue().hasHearingClerk()) {
+                    reportDetail.setHearingClerk(hearingDate.getValue().getHearingClerk().getSelectedLabel());
+                }
+                reportDetail.setHearingDuration(getHearingDurationInMinutes(hearingDate));
+                reportDetail.setParentHearingId(hearing.getId());
+                addReportDetail(reportDetail);
+            }
+        }
+    }
+
+    private void addReportDetail(MemberDaysReportDetail reportDetail) {
+        reportDetails.add(reportDetail);
+        if (!countedDetails.add(reportDetail)) {
+            return;
+        }
+        int[] dayCounts = dayCountsByDate.computeIfAbsent(reportDetail.getSortingHearingDate(), date -> new int[2]);
+        int panelMembers = getPanelMemberValue(reportDetail.getEmployeeMember())
+            + getPanelMemberValue(reportDetail.getEmployerMember());
+        if (Integer.parseInt(reportDetail.getHearingDuration()) / MINUTES >= FULL_DAY_HOURS) {
+            dayCounts[FULL_DAYS] += panelMembers;
+        } else {
+            dayCounts[HALF_DAYS] += panelMembers;
+        }
+    }
+
+    private int getPanelMemberValue(String currentMember) {
+        return isNullOrEmpty(currentMember) ? 0 : 1;
+    }
+
+    private boolean isValidHearingDate(String dateListed) {
+        if (dateFrom == null) {
+            if (SINGLE_HEARING_DATE_TYPE.equals(listingData.getHearingDateType())) {
+                dateFrom = LocalDate.parse(listingData.getListingDate());
+                dateTo = dateFrom;
+            } else {
+                dateFrom = LocalDate.parse(listingData.getListingDateFrom());
+                dateTo = LocalDate.parse(listingData.getListingDateTo());
+            }
+        }
+        LocalDate hearingListedDate = LocalDate.parse(dateListed);
+        return !hearingListedDate.isBefore(dateFrom) && !hearingListedDate.isAfter(dateTo);
+    }
+}
@@ -12,6 +12,7 @@ import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RespondentsReport {
 
@@ -22,12 +23,13 @@ public class RespondentsReport {
     }
 
     public RespondentsReportData generateReport(ReportParams params) {
-        List<RespondentsReportSubmitEvent> submitEvents = getCases(params);
         String reportOffice = ReportHelper.getReportOffice(params.getCaseTypeId(), params.getManagingOffice());
         RespondentsReportData reportData = initReport(reportOffice);
-        if (CollectionUtils.isNotEmpty(submitEvents)) {
-            executeReport(reportData, submitEvents);
-        }
+        AtomicInteger moreThan1Resp = new AtomicInteger();
+        String caseTypeId = UtilHelper.getListingCaseTypeId(params.getCaseTypeId());
+        reportDataSource.streamData(caseTypeId, params.getManagingOffice(), params.getDateFrom(), params.getDateTo(),
+                submitEvents -> addCases(reportData, submitEvents, moreThan1Resp));
+        reportData.getReportSummary().setTotalCasesWithMoreThanOneRespondent(String.valueOf(moreThan1Resp.get()));
         return reportData;
     }
 
@@ -38,21 +40,13 @@ public class RespondentsReport {
         return new RespondentsReportData(reportSummary);
     }
 
-    private List<RespondentsReportSubmitEvent> getCases(ReportParams params) {
-        String caseTypeId = UtilHelper.getListingCaseTypeId(params.getCaseTypeId());
-        return reportDataSource.getData(caseTypeId, params.getManagingOffice(), params.getDateFrom(),
-                params.getDateTo());
-    }
-
-    private void executeReport(RespondentsReportData respondentReportData,
-                               List<RespondentsReportSubmitEvent> submitEvents) {
-        int moreThan1Resp = (int) submitEvents.stream()
+    private void addCases(RespondentsReportData respondentReportData,
+                          List<RespondentsReportSubmitEvent> submitEvents, AtomicInteger moreThan1Resp) {
+        moreThan1Resp.addAndGet((int) submitEvents.stream()
                 .filter(s -> CollectionUtils.isNotEmpty(s.getCaseData().getRespondentCollection())
-               && s.getCaseData().getRespondentCollection().size() > 1).count();
+               && s.getCaseData().getRespondentCollection().size() > 1).count());
 
-        respondentReportData.getReportSummary().setTotalCasesWithMoreThanOneRespondent(String.valueOf(moreThan1Resp));
         respondentReportData.addReportDetail(getReportDetail(submitEvents));
-
     }
 
     private List<RespondentsReportDetail> getReportDetail(List<RespondentsReportSubmitEvent> submitEvents) {
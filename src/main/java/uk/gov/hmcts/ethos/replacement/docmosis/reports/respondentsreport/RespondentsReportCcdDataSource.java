@@ -3,9 +3,13 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.respondentsreport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
+import uk.gov.hmcts.ecm.common.model.reports.respondentsreport.RespondentsReportSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.respondentsreport.RespondentsReportSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -16,9 +20,18 @@ public class RespondentsReportCcdDataSource implements RespondentsReportDataSour
     @Override
     public List<RespondentsReportSubmitEvent> getData(String caseTypeId, String managingOffice, String listingDateFrom,
                                                       String listingDateTo) {
+        List<RespondentsReportSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, managingOffice, listingDateFrom, listingDateTo, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                           Consumer<List<RespondentsReportSubmitEvent>> pageConsumer) {
         try {
             String query = RespondentsReportElasticSearchQuery.create(managingOffice, listingDateFrom, listingDateTo);
-            return ccdClient.respondentsReportSearch(authToken, caseTypeId, query);
+            ccdClient.searchAfterElasticSearch(authToken, caseTypeId, query, RespondentsReportSearchResult.class,
+                    RespondentsReportSearchResult::getCases, pageConsumer);
         } catch (Exception e) {
             throw new ReportException(String.format(
                     "Failed to get Respondent Report search results for case type id %s", caseTypeId), e);
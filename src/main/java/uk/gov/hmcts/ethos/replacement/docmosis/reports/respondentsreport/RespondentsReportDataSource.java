@@ -2,8 +2,17 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.respondentsreport;
 
 import uk.gov.hmcts.ecm.common.model.reports.respondentsreport.RespondentsReportSubmitEvent;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface RespondentsReportDataSource {
     List<RespondentsReportSubmitEvent> getData(String caseTypeId, String managingOffice, String listingDateFrom,
                                                String listingDateTo);
+
+    /**
+     * Hands the matching cases to {@code pageConsumer} one page at a time.
+     */
+    default void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                            Consumer<List<RespondentsReportSubmitEvent>> pageConsumer) {
+        pageConsumer.accept(getData(caseTypeId, managingOffice, listingDateFrom, listingDateTo));
+    }
 }
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays;
+
+import lombok.RequiredArgsConstructor;
+import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSubmitEvent;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportQuery;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the cases for the report from the case data held by this service, matching the cases selected by
+ * {@link SessionDaysElasticSearchQuery}. The whole date range is read in one query, as the index on listed days
+ * makes splitting it into windows unnecessary.
+ */
+@RequiredArgsConstructor
+public class SessionDaysCaseDataReportDataSource implements SessionDaysReportDataSource {
+
+    private final CaseDataReportRepository caseDataReportRepository;
+
+    @Override
+    public List<SessionDaysSubmitEvent> getData(String caseTypeId, String managingOffice,
+                                                String listingDateFrom, String listingDateTo) {
+        List<SessionDaysSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, managingOffice, listingDateFrom, listingDateTo, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                           Consumer<List<SessionDaysSubmitEvent>> pageConsumer) {
+        try {
+            CaseDataReportQuery query = CaseDataReportQuery.forReport(caseTypeId, managingOffice)
+                    .listedDateFrom(listingDateFrom)
+                    .listedDateTo(listingDateTo)
+                    .build();
+            caseDataReportRepository.streamCases(query, SessionDaysSubmitEvent.class, pageConsumer);
+        } catch (Exception e) {
+            throw new ReportException(String.format(
+                    "Failed to get session days case data for case type id %s", caseTypeId), e);
+        }
+    }
+}
@@ -3,10 +3,14 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
+import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -14,13 +18,30 @@ public class SessionDaysCcdReportDataSource implements SessionDaysReportDataSour
 
     private final String authToken;
     private final CcdClient ccdClient;
+    private final ReportShardExecutor reportShardExecutor;
 
     @Override
     public List<SessionDaysSubmitEvent> getData(String caseTypeId, String managingOffice,
                                                 String listingDateFrom, String listingDateTo) {
+        List<SessionDaysSubmitEvent> submitEvents = new ArrayList<>();
+        streamData(caseTypeId, managingOffice, listingDateFrom, listingDateTo, submitEvents::addAll);
+        return submitEvents;
+    }
+
+    @Override
+    public void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                           Consumer<List<SessionDaysSubmitEvent>> pageConsumer) {
+        reportShardExecutor.stream(listingDateFrom, listingDateTo,
+            (dateFrom, dateTo, shardConsumer) -> search(caseTypeId, managingOffice, dateFrom, dateTo, shardConsumer),
+            pageConsumer);
+    }
+
+    private void search(String caseTypeId, String managingOffice, String dateFrom, String dateTo,
+                        Consumer<List<SessionDaysSubmitEvent>> pageConsumer) {
         try {
-            String query = SessionDaysElasticSearchQuery.create(listingDateFrom, listingDateTo, managingOffice);
-            return ccdClient.sessionDaysSearch(authToken, caseTypeId, query);
+            String query = SessionDaysElasticSearchQuery.create(dateFrom, dateTo, managingOffice);
+            ccdClient.searchAfterElasticSearch(authToken, caseTypeId, query, SessionDaysSearchResult.class,
+                    SessionDaysSearchResult::getCases, pageConsumer);
         } catch (Exception e) {
             throw new ReportException(String.format(
                     "Failed to get session days search results for case type id %s", caseTypeId), e);
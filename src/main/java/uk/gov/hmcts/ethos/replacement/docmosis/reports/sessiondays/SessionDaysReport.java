@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.lang.Math.round;
@@ -53,10 +54,19 @@ public final class SessionDaysReport {
 
     public SessionDaysReportData generateReport(ReportParams params) {
         this.params = params;
-        List<SessionDaysSubmitEvent> submitEvents = getCases();
         SessionDaysReportData reportData = initReport();
-        if (CollectionUtils.isNotEmpty(submitEvents)) {
-            executeReport(submitEvents, reportData);
+        List<SessionDaysReportSummary2> sessionDaysReportSummary2List = new ArrayList<>();
+        List<SessionDaysReportDetail> sessionDaysReportDetailList = new ArrayList<>();
+        List<List<String>> sessionsList = new ArrayList<>();
+        AtomicBoolean casesFound = new AtomicBoolean();
+        reportDataSource.streamData(UtilHelper.getListingCaseTypeId(params.getCaseTypeId()),
+                params.getManagingOffice(), params.getDateFrom(), params.getDateTo(), submitEvents -> {
+                    casesFound.compareAndSet(false, CollectionUtils.isNotEmpty(submitEvents));
+                    addCases(submitEvents, reportData, sessionDaysReportSummary2List, sessionDaysReportDetailList,
+                            sessionsList);
+                });
+        if (casesFound.get()) {
+            setReportData(reportData, sessionDaysReportSummary2List, sessionDaysReportDetailList);
         }
         return reportData;
     }
@@ -93,15 +103,6 @@ public final class SessionDaysReport {
         reportSummary2.setSessionDaysTotalDetail("0");
     }
 
-    private List<SessionDaysSubmitEvent> getCases() {
-        return reportDataSource.getData(UtilHelper.getListingCaseTypeId(params.getCaseTypeId()),
-                params.getManagingOffice(), params.getDateFrom(), params.getDateTo());
-    }
-
-    private void executeReport(List<SessionDaysSubmitEvent> submitEvents, SessionDaysReportData sessionDaysReportData) {
-        setReportData(submitEvents, sessionDaysReportData);
-    }
-
     private boolean sessionExists(String judgeName, String date, List<List<String>> sessionsList) {
         String dateFormatted = LocalDateTime.parse(date, OLD_DATE_TIME_PATTERN).toLocalDate().toString();
         if (!isNullOrEmpty(judgeName) && !isNullOrEmpty(dateFormatted)) {
@@ -116,16 +117,21 @@ public final class SessionDaysReport {
         return true;
     }
 
-    private void setReportData(List<SessionDaysSubmitEvent> submitEvents, SessionDaysReportData reportData) {
-        List<SessionDaysReportSummary2> sessionDaysReportSummary2List = new ArrayList<>();
-        List<SessionDaysReportDetail> sessionDaysReportDetailList = new ArrayList<>();
-        List<List<String>> sessionsList = new ArrayList<>();
+    private void addCases(List<SessionDaysSubmitEvent> submitEvents, SessionDaysReportData reportData,
+                          List<SessionDaysReportSummary2> sessionDaysReportSummary2List,
+                          List<SessionDaysReportDetail> sessionDaysReportDetailList,
+                          List<List<String>> sessionsList) {
         for (SessionDaysSubmitEvent submitEvent : submitEvents) {
             SessionDaysCaseData caseData = submitEvent.getCaseData();
             setCaseReportSummaries(caseData, reportData.getReportSummary(),
                     sessionDaysReportSummary2List, sessionsList);
             setReportDetail(caseData, sessionDaysReportDetailList);
         }
+    }
+
+    private void setReportData(SessionDaysReportData reportData,
+                               List<SessionDaysReportSummary2> sessionDaysReportSummary2List,
+                               List<SessionDaysReportDetail> sessionDaysReportDetailList) {
         sessionDaysReportSummary2List.sort(Comparator.comparing(SessionDaysReportSummary2::getDate));
         sessionDaysReportDetailList.sort(Comparator.comparing(SessionDaysReportDetail::getHearingDate));
         int ft = Integer.parseInt(reportData.getReportSummary().getFtSessionDaysTotal());
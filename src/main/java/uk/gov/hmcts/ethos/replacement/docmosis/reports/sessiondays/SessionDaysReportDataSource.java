@@ -3,8 +3,17 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays;
 import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSubmitEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SessionDaysReportDataSource {
     List<SessionDaysSubmitEvent> getData(String caseTypeId, String managingOffice,
                                          String listingDateFrom, String listingDateTo);
+
+    /**
+     * Hands the matching cases to {@code pageConsumer} one page at a time.
+     */
+    default void streamData(String caseTypeId, String managingOffice, String listingDateFrom, String listingDateTo,
+                            Consumer<List<SessionDaysSubmitEvent>> pageConsumer) {
+        pageConsumer.accept(getData(caseTypeId, managingOffice, listingDateFrom, listingDateTo));
+    }
 }
@@ -38,6 +38,7 @@ import uk.gov.hmcts.reform.document.domain.UploadResponse;
 import uk.gov.hmcts.reform.document.utils.InMemoryMultipartFile;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Locale;
 import java.util.Objects;
@@ -104,11 +105,34 @@ public class DocumentManagementService {
         return uploadDocumentWithMetadata(authToken, byteArray, outputFileName, type, caseTypeID).uri();
     }
 
+    /**
+     * Uploads a document that has been written to a file, reading it from disk rather than from a byte array.
+     */
+    @Retryable(retryFor = {DocumentManagementException.class}, backoff = @Backoff(delay = 200))
+    public URI uploadDocument(String authToken, Path documentFile, String outputFileName, String type,
+                              String caseTypeID) {
+        return uploadDocumentWithMetadata(authToken, documentFile, outputFileName, type, caseTypeID).uri();
+    }
+
     @Retryable(retryFor = {DocumentManagementException.class}, backoff = @Backoff(delay = 200))
     public UploadedDocumentMetadata uploadDocumentWithMetadata(String authToken, byte[] byteArray,
                                                                String outputFileName, String type, String caseTypeID) {
+        MultipartFile file = new InMemoryMultipartFile(FILES_NAME, outputFileName, type, byteArray);
+        return uploadMultipartFile(authToken, file, caseTypeID);
+    }
+
+    /**
+     * Uploads a document that has been written to a file and returns its location and hash token.
+     */
+    @Retryable(retryFor = {DocumentManagementException.class}, backoff = @Backoff(delay = 200))
+    public UploadedDocumentMetadata uploadDocumentWithMetadata(String authToken, Path documentFile,
+                                                               String outputFileName, String type, String caseTypeID) {
+        MultipartFile file = new FileMultipartFile(FILES_NAME, documentFile, outputFileName, type);
+        return uploadMultipartFile(authToken, file, caseTypeID);
+    }
+
+    private UploadedDocumentMetadata uploadMultipartFile(String authToken, MultipartFile file, String caseTypeID) {
         try {
-            MultipartFile file = new InMemoryMultipartFile(FILES_NAME, outputFileName, type, byteArray);
             if (secureDocStoreEnabled) {
                 log.info("Using Case Document Client");
                 uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse response = caseDocumentClient.uploadDocuments(
@@ -149,7 +173,7 @@ public class DocumentManagementService {
         } catch (Exception ex) {
             log.info("Exception: " + ex.getMessage());
             throw new DocumentManagementException(String.format("Unable to upload document %s to document management",
-                    outputFileName), ex);
+                    file.getOriginalFilename()), ex);
         }
     }
 
@@ -1,9 +1,11 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue.EmailOutboxSender;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
@@ -15,12 +17,14 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.constants.NotificationServ
 /**
  * EmailService is a class that is used for sending email via the GOV.UK Notify service.
  * For more detail, please view the documentation https://docs.notifications.service.gov.uk/java.html#send-an-email
+ * When the email outbox is enabled, emails are queued for EmailOutboxDispatcher to send in the background rather
+ * than sent while the caller waits.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
     private final NotificationClient emailClient;
+    private final EmailOutboxSender emailOutboxSender;
 
     @Value("${case-details-url.exui}")
     private String exuiUrl;
@@ -29,6 +33,16 @@ public class EmailService {
     @Value("${case-details-url.syr}")
     private String syrUrl;
 
+    public EmailService(NotificationClient emailClient) {
+        this(emailClient, null);
+    }
+
+    @Autowired
+    public EmailService(NotificationClient emailClient, @Nullable EmailOutboxSender emailOutboxSender) {
+        this.emailClient = emailClient;
+        this.emailOutboxSender = emailOutboxSender;
+    }
+
     /**
      * Sends email to an email address using a specified email template.
      * @param templateId The template that of the email being sent.
@@ -36,6 +50,14 @@ public class EmailService {
      * @param personalisation A map of values that contains the personalised information.
      */
     public void sendEmail(String templateId, String emailAddress, Map<String, ?> personalisation) {
+        if (emailOutboxSender != null) {
+            try {
+                emailOutboxSender.queueEmail(templateId, emailAddress, personalisation);
+                return;
+            } catch (IllegalStateException e) {
+                log.warn("Could not queue email in the email outbox, sending it now");
+            }
+        }
 
         String referenceId = UUID.randomUUID().toString();
         try {
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -26,7 +27,9 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
@@ -71,6 +74,7 @@ public class Et1SubmissionService {
     private final EmailService emailService;
     private final FeatureToggleService featureToggleService;
     private final CcdClient ccdClient;
+    private static final int VEXATION_CHECK_MAX_CASES = 100;
 
     @Value("${template.et1.et1ProfessionalSubmission}")
     private String et1ProfessionalSubmissionTemplateId;
@@ -268,8 +272,10 @@ public class Et1SubmissionService {
 
     /**
      * Checks for vexation by querying ElasticSearch for cases. It checks to see if a claimant has submitted 4 or more
-     * claims in the last 6 months. Note the query is in a String format to allow the usage of _source that works
-     * with CCD's ElasticSearch.
+     * claims in the last 6 months. The search runs with the submitting user's token, so it only finds the claims
+     * made from their account; only the most recent of those are fetched, with the claimant's name used to rank
+     * their own claims first, so the cost of the check does not grow with the total number of claims. Note the query
+     * is in a String format to allow the usage of _source that works with CCD's ElasticSearch.
      * @param caseDetails the case details
      * @param userToken the user token
      */
@@ -279,7 +285,11 @@ public class Et1SubmissionService {
         }
         String query = """
             {
-              "size": 10000,
+              "size": %d,
+              "sort": [
+                { "_score": "desc" },
+                { "data.receiptDate": "desc" }
+              ],
               "query": {
                 "bool": {
                   "filter": [
@@ -299,14 +309,15 @@ public class Et1SubmissionService {
                         ]
                       }
                     }
-                  ]
+                  ]%s
                 }
               },
               "_source": [
                 "data.ethosCaseReference", "data.claimant", "state.keyword", "data.receiptDate", "data.respondent"
               ]
             }
-            """.formatted(LocalDate.now().minusMonths(6L));
+            """.formatted(VEXATION_CHECK_MAX_CASES, LocalDate.now().minusMonths(6L),
+                claimantRanking(caseDetails.getCaseData()));
 
         List<SubmitEvent> submitEventList = getSubmitEventList(userToken, query);
 
@@ -325,6 +336,51 @@ public class Et1SubmissionService {
 
     }
 
+    /**
+     * Builds an optional clause that scores the claims made in the submitting claimant's name above the account's
+     * other claims. It never excludes a claim, so the check still counts every claim made from the account, including
+     * when the claimant's name is missing or spelt differently.
+     */
+    private static String claimantRanking(CaseData caseData) {
+        String claimant = normaliseClaimant(getClaimant(caseData));
+        if (claimant.isEmpty()) {
+            return "";
+        }
+        return """
+            ,
+                  "should": [
+                    {
+                      "match": {
+                        "data.claimant": {
+                          "query": "%s",
+                          "operator": "and"
+                        }
+                      }
+                    }
+                  ]""".formatted(new String(JsonStringEncoder.getInstance().quoteAsString(claimant)));
+    }
+
+    private static String getClaimant(CaseData caseData) {
+        if (!isNullOrEmpty(caseData.getClaimant())) {
+            return caseData.getClaimant();
+        }
+        if (caseData.getClaimantIndType() != null) {
+            return String.join(" ",
+                    Objects.toString(caseData.getClaimantIndType().getClaimantFirstNames(), ""),
+                    Objects.toString(caseData.getClaimantIndType().getClaimantLastName(), ""));
+        }
+        return caseData.getClaimantCompany();
+    }
+
+    /**
+     * Normalises a claimant name so that the same claimant matches however their name was spaced or capitalised.
+     */
+    private static String normaliseClaimant(String claimant) {
+        return claimant == null
+                ? ""
+                : claimant.trim().replaceAll("\\s+", " ").toLowerCase(Locale.UK);
+    }
+
     private List<SubmitEvent> getSubmitEventList(String userToken, String query) {
         CompletableFuture<List<SubmitEvent>> englandWalesFuture = CompletableFuture.supplyAsync(
                 () -> fetchSubmitEvents(userToken, ENGLANDWALES_CASE_TYPE_ID, query));
@@ -35,6 +35,10 @@ public class Et3VettingService {
     private final DocumentManagementService documentManagementService;
     private final TornadoService tornadoService;
 
+    // Copies empty vetting answers over the case data too, which the application ObjectMapper bean would skip
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .registerModule(new JavaTimeModule());
     private static final String DOCGEN_ERROR = "Failed to generate document for case id: %s";
 
     /**
@@ -84,11 +88,8 @@ public class Et3VettingService {
      * @param et3VettingType to bring in values from
      */
     public void updateValuesOnObject(CaseData caseData, Et3VettingType et3VettingType) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        mapper.registerModule(new JavaTimeModule());
         try {
-            mapper.updateValue(caseData, et3VettingType);
+            OBJECT_MAPPER.updateValue(caseData, et3VettingType);
         } catch (JsonMappingException e) {
             log.error(String.format("Failed to restore et3 data for case %s: %s",
                 caseData.getEthosCaseReference(), e));
@@ -7,10 +7,12 @@ import org.elasticsearch.index.query.MatchQueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.index.query.TermsQueryBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.exceptions.CaseCreationException;
 import uk.gov.hmcts.ecm.common.exceptions.DocumentManagementException;
+import uk.gov.hmcts.ecm.common.helpers.ESHelper;
 import uk.gov.hmcts.ecm.common.helpers.UtilHelper;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
 import uk.gov.hmcts.et.common.model.bulk.types.DynamicFixedListType;
@@ -27,6 +29,8 @@ import uk.gov.hmcts.et.common.model.listing.ListingData;
 import uk.gov.hmcts.et.common.model.listing.ListingDetails;
 import uk.gov.hmcts.et.common.model.listing.items.ListingTypeItem;
 import uk.gov.hmcts.et.common.model.listing.types.ListingType;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportQuery;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.ListingHelper;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.ListingVenueHelper;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.ReportHelper;
@@ -103,12 +107,30 @@ public class ListingService {
     private final ExcelReportDocumentInfoService excelReportDocumentInfoService;
     private final VenueService venueService;
     private final BfActionReport bfActionReport;
+    private final CaseDataReportRepository caseDataReportRepository;
     private static final String MISSING_DOCUMENT_NAME = "Missing document name";
     private static final String MESSAGE = "Failed to generate document for case id : ";
     public static final String ELASTICSEARCH_FIELD_HEARING_VENUE_SCOTLAND =
             "data.hearingCollection.value.Hearing_venue_Scotland";
     public static final String HEARING_STATUS_VACATED = "Vacated";
     public static final String ELASTICSEARCH_FIELD_MANAGING_OFFICE = "data.managingOffice";
+    // Only the fields used to build cause lists, so that documents, notifications and applications are not fetched
+    private static final List<String> LISTING_SOURCE_FIELDS = List.of(
+            "data.ethosCaseReference",
+            "data.positionType",
+            "data.jurCodesCollection",
+            "data.hearingCollection",
+            "data.restrictedReporting",
+            "data.claimant_Company",
+            "data.claimantIndType",
+            "data.claimantType",
+            "data.representativeClaimantType",
+            "data.respondentCollection",
+            "data.repCollection");
+
+    // Cause lists are read from the case data held by this service instead of searching CCD
+    @Value("${reports.read-model.enabled:false}")
+    private boolean readModelEnabled;
 
     public ListingData listingCaseCreation(ListingDetails listingDetails) {
 
@@ -224,11 +246,31 @@ public class ListingService {
             venueToSearchMapping = getFieldNameForVenueToSearch(listingDetails.getCaseTypeId());
         }
 
+        if (readModelEnabled) {
+            return getListingHearingsFromCaseData(listingDetails, dateFrom, dateTo);
+        }
         return ccdClient.buildAndGetElasticSearchRequest(authToken,
                 UtilHelper.getListingCaseTypeId(listingDetails.getCaseTypeId()),
                 getESQuery(dateFrom, dateTo, venueToSearchMapping, venueToSearch, listingData.getManagingOffice()));
     }
 
+    /**
+     * Reads the cases with a hearing listed in the date range from ccd.case_data. Only the office of an England and
+     * Wales listing is filtered on here; the venue, and for Scotland the office, of each hearing date is checked when
+     * the cause list is built, as it is for the cases found by the search.
+     */
+    private List<SubmitEvent> getListingHearingsFromCaseData(ListingDetails listingDetails, String dateFrom,
+                                                             String dateTo) {
+        String managingOffice = listingDetails.getCaseData().getManagingOffice();
+        CaseDataReportQuery query = CaseDataReportQuery
+                .forReport(UtilHelper.getListingCaseTypeId(listingDetails.getCaseTypeId()),
+                        ALL_OFFICES.equals(managingOffice) ? null : managingOffice)
+                .listedDateFrom(dateFrom)
+                .listedDateTo(dateTo)
+                .build();
+        return caseDataReportRepository.findCases(query, SubmitEvent.class);
+    }
+
     private String getFieldNameForVenueToSearch(String caseTypeId) {
         return SCOTLAND_CASE_TYPE_ID.equals(UtilHelper.getListingCaseTypeId(caseTypeId))
                 ? ELASTICSEARCH_FIELD_HEARING_VENUE_SCOTLAND
@@ -258,9 +300,9 @@ public class ListingService {
             }
         }
 
-        return new SearchSourceBuilder()
+        return ESHelper.withSourceFields(new SearchSourceBuilder()
                 .size(MAX_ES_SIZE)
-                .query(boolQueryBuilder).toString();
+                .query(boolQueryBuilder).toString(), LISTING_SOURCE_FIELDS);
     }
 
     public String getSelectedOfficeForPrintLists(CaseData caseData) {
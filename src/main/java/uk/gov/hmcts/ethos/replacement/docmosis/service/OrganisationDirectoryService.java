@@ -0,0 +1,188 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.et.common.model.ccd.RetrieveOrgByIdResponse;
+import uk.gov.hmcts.et.common.model.ccd.types.OrganisationsResponse;
+import uk.gov.hmcts.ethos.replacement.docmosis.rdprofessional.OrganisationClient;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory directory of active rd-professional organisations, indexed by organisation identifier.
+ * The full list of active organisations is downloaded in the background and swapped in as a whole, so callbacks
+ * only ever do a map lookup. An organisation missing from the directory (e.g. registered since the last refresh)
+ * is fetched on its own and remembered for a short time, up to a bounded number of such organisations. The single
+ * organisation lookup returns organisations whatever their status, so one that is not active is treated as not found,
+ * and that answer is remembered in the same way.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganisationDirectoryService {
+
+    private static final String ACTIVE_STATUS = "ACTIVE";
+
+    private final AdminUserService adminUserService;
+    private final AuthTokenGenerator authTokenGenerator;
+    private final OrganisationClient organisationClient;
+
+    @Value("${caching.organisationDirectoryFetchedSize:1000}")
+    private int fetchedOrganisationsMaxSize;
+
+    @Value("${caching.organisationDirectoryFetchedTtl:PT10M}")
+    private Duration fetchedOrganisationsTtl;
+
+    private final Map<String, FetchedOrganisation> fetchedOrganisations = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+            .name("organisation-directory-refresh")
+            .daemon()
+            .factory());
+    private volatile Map<String, OrganisationsResponse> organisationsById = Map.of();
+
+    /**
+     * Starts reloading every active organisation on a thread of its own, so that the download does not hold up a
+     * scheduler thread. Nothing is started while the previous reload is still running.
+     */
+    @Scheduled(fixedDelayString = "${caching.organisationDirectory:3600000}")
+    public void scheduleRefresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reloads every active organisation. The previous directory is kept if the download fails.
+     */
+    public void refresh() {
+        try {
+            List<OrganisationsResponse> organisations = organisationClient.getOrganisations(
+                    adminUserService.getAdminUserToken(), authTokenGenerator.generate());
+            Map<String, OrganisationsResponse> index = new HashMap<>();
+            for (OrganisationsResponse organisation : organisations) {
+                if (organisation.getOrganisationIdentifier() != null) {
+                    index.putIfAbsent(organisation.getOrganisationIdentifier(), organisation);
+                }
+            }
+            organisationsById = Map.copyOf(index);
+            fetchedOrganisations.clear();
+            log.info("Organisation directory refreshed with {} active organisations", index.size());
+        } catch (Exception e) {
+            log.error("Failed to refresh organisation directory, keeping {} cached organisations",
+                    organisationsById.size(), e);
+        }
+    }
+
+    /**
+     * Finds an active organisation by its identifier, falling back to a single-organisation lookup on a miss.
+     * @param organisationId rd-professional organisation identifier
+     * @return the organisation, or empty if it cannot be found
+     */
+    public Optional<OrganisationsResponse> getOrganisation(String organisationId) {
+        if (StringUtils.isBlank(organisationId)) {
+            return Optional.empty();
+        }
+        OrganisationsResponse organisation = organisationsById.get(organisationId);
+        if (organisation != null) {
+            return Optional.of(organisation);
+        }
+        FetchedOrganisation fetched = getFetchedOrganisation(organisationId);
+        if (fetched != null) {
+            return Optional.ofNullable(fetched.organisation());
+        }
+        try {
+            organisation = fetchOrganisation(organisationId);
+        } catch (FeignException e) {
+            log.error("Failed to retrieve organisation {}: {}", organisationId, e.getMessage());
+            return Optional.empty();
+        }
+        rememberFetchedOrganisation(organisationId, organisation);
+        return Optional.ofNullable(organisation);
+    }
+
+    int getFetchedOrganisationsSize() {
+        return fetchedOrganisations.size();
+    }
+
+    private FetchedOrganisation getFetchedOrganisation(String organisationId) {
+        FetchedOrganisation fetched = fetchedOrganisations.get(organisationId);
+        if (fetched == null) {
+            return null;
+        }
+        if (Instant.now().isBefore(fetched.expiresAt())) {
+            return fetched;
+        }
+        fetchedOrganisations.remove(organisationId, fetched);
+        return null;
+    }
+
+    private void rememberFetchedOrganisation(String organisationId, OrganisationsResponse organisation) {
+        Instant now = Instant.now();
+        if (fetchedOrganisations.size() >= fetchedOrganisationsMaxSize) {
+            fetchedOrganisations.values().removeIf(fetched -> !fetched.expiresAt().isAfter(now));
+            if (fetchedOrganisations.size() >= fetchedOrganisationsMaxSize) {
+                return;
+            }
+        }
+        fetchedOrganisations.put(organisationId, new FetchedOrganisation(organisation,
+                now.plus(fetchedOrganisationsTtl)));
+    }
+
+    /**
+     * Looks up a single organisation.
+     * @return the organisation, or null if it does not exist or is not active
+     * @throws FeignException if rd-professional could not be asked
+     */
+    private OrganisationsResponse fetchOrganisation(String organisationId) {
+        ResponseEntity<RetrieveOrgByIdResponse> response;
+        try {
+            response = organisationClient.getOrganisationById(
+                    adminUserService.getAdminUserToken(), authTokenGenerator.generate(), organisationId);
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+            throw e;
+        }
+        RetrieveOrgByIdResponse body = response == null ? null : response.getBody();
+        if (body == null || !ACTIVE_STATUS.equals(body.getStatus())) {
+            return null;
+        }
+        return OrganisationsResponse.builder()
+                .organisationIdentifier(StringUtils.defaultIfBlank(body.getOrganisationIdentifier(), organisationId))
+                .name(body.getName())
+                .contactInformation(body.getContactInformation())
+                .build();
+    }
+
+    /**
+     * The result of a single organisation lookup, where a null organisation means there is no active organisation
+     * with that identifier.
+     */
+    private record FetchedOrganisation(OrganisationsResponse organisation, Instant expiresAt) {
+    }
+}
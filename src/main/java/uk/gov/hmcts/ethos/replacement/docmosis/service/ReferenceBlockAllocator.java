@@ -0,0 +1,48 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+/**
+ * Hands out reference numbers from a block reserved in the database, so that only one case in every block has to
+ * wait on the counter row. Blocks are reserved per key (the year for single references) and a new block is reserved
+ * whenever the key changes, so references roll over with the year.
+ *
+ * <p>Numbers are never handed out twice, because every block is reserved by moving the database counter on past
+ * it. Numbers left in a block when the key changes or the application stops are never used, so there can be gaps
+ * between references.</p>
+ */
+public final class ReferenceBlockAllocator {
+
+    private final BlockReserver blockReserver;
+
+    private int key;
+    private int next;
+    private int last = -1;
+
+    public ReferenceBlockAllocator(BlockReserver blockReserver) {
+        this.blockReserver = blockReserver;
+    }
+
+    /**
+     * Reserves a block of references in the database.
+     */
+    @FunctionalInterface
+    public interface BlockReserver {
+        /**
+         * Moves the counter for {@code key} on by {@code blockSize}.
+         * @return the last number in the reserved block
+         */
+        int reserve(int key, int blockSize);
+    }
+
+    /**
+     * Returns the next unused number for {@code key}, reserving a new block of {@code blockSize} numbers when the
+     * current block is used up or was reserved for a different key.
+     */
+    public synchronized int nextReference(int key, int blockSize) {
+        if (key != this.key || next > last) {
+            last = blockReserver.reserve(key, blockSize);
+            next = last - blockSize + 1;
+            this.key = key;
+        }
+        return next++;
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.exceptions.CaseRetrievalException;
@@ -9,11 +10,15 @@ import uk.gov.hmcts.ecm.common.idam.models.UserDetails;
 import uk.gov.hmcts.ecm.common.model.helper.Constants;
 import uk.gov.hmcts.et.common.model.listing.ListingData;
 import uk.gov.hmcts.et.common.model.listing.ListingDetails;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.ReportHelper;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment.CaseDataReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment.CasesAwaitingJudgmentReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment.CasesAwaitingJudgmentReportData;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment.CcdReportDataSource;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment.ReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueCcdReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportData;
@@ -24,18 +29,22 @@ import uk.gov.hmcts.ethos.replacement.docmosis.reports.eccreport.EccReportData;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingsbyhearingtype.HearingsByHearingTypeCcdReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingsbyhearingtype.HearingsByHearingTypeReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingsbyhearingtype.HearingsByHearingTypeReportData;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments.HearingsToJudgmentsCaseDataReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments.HearingsToJudgmentsCcdReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments.HearingsToJudgmentsReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments.HearingsToJudgmentsReportData;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments.HearingsToJudgmentsReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.nochangeincurrentposition.NoPositionChangeCcdDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.nochangeincurrentposition.NoPositionChangeReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.nochangeincurrentposition.NoPositionChangeReportData;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.respondentsreport.RespondentsReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.respondentsreport.RespondentsReportCcdDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.respondentsreport.RespondentsReportData;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays.SessionDaysCaseDataReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays.SessionDaysCcdReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays.SessionDaysReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays.SessionDaysReportData;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays.SessionDaysReportDataSource;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.referencedata.JudgeService;
 import static uk.gov.hmcts.ethos.replacement.docmosis.reports.Constants.CASES_AWAITING_JUDGMENT_REPORT;
 import static uk.gov.hmcts.ethos.replacement.docmosis.reports.Constants.ECC_REPORT;
@@ -54,6 +63,12 @@ public class ReportDataService {
     private final ListingService listingService;
     private final JudgeService judgeService;
     private final UserIdamService userIdamService;
+    private final ReportShardExecutor reportShardExecutor;
+    private final CaseDataReportRepository caseDataReportRepository;
+
+    // Reports that can be read from the case data held by this service do so instead of searching CCD
+    @Value("${reports.read-model.enabled:false}")
+    private boolean readModelEnabled;
 
     private static final String REPORT_DATA_GENERATION_FAILED_ERROR = "Failed to generate report data for case id : ";
 
@@ -89,7 +104,9 @@ public class ReportDataService {
             ListingDetails listingDetails, String authToken) {
         log.info("Cases Awaiting Judgment for {}, Office {}", listingDetails.getCaseTypeId(),
                 listingDetails.getCaseData().getManagingOffice());
-        CcdReportDataSource reportDataSource = new CcdReportDataSource(authToken, ccdClient);
+        ReportDataSource reportDataSource = readModelEnabled
+                ? new CaseDataReportDataSource(caseDataReportRepository)
+                : new CcdReportDataSource(authToken, ccdClient);
 
         CasesAwaitingJudgmentReport casesAwaitingJudgmentReport = new CasesAwaitingJudgmentReport(reportDataSource);
         CasesAwaitingJudgmentReportData reportData = casesAwaitingJudgmentReport.runReport(listingDetails);
@@ -101,8 +118,9 @@ public class ReportDataService {
                                                                        String authToken) {
         log.info("Hearings To Judgments for {}", listingDetails.getCaseTypeId());
         ReportParams params = ReportHelper.getListingDateRangeForSearch(listingDetails);
-        HearingsToJudgmentsCcdReportDataSource reportDataSource = new HearingsToJudgmentsCcdReportDataSource(
-            authToken, ccdClient);
+        HearingsToJudgmentsReportDataSource reportDataSource = readModelEnabled
+                ? new HearingsToJudgmentsCaseDataReportDataSource(caseDataReportRepository)
+                : new HearingsToJudgmentsCcdReportDataSource(authToken, ccdClient);
         HearingsToJudgmentsReport hearingsToJudgmentsReport = new HearingsToJudgmentsReport(reportDataSource, params);
         HearingsToJudgmentsReportData reportData = hearingsToJudgmentsReport.runReport(listingDetails.getCaseTypeId(),
                 listingDetails.getCaseData().getManagingOffice());
@@ -138,7 +156,7 @@ public class ReportDataService {
                 genericReportParams.getDateFrom(), genericReportParams.getDateTo(), listingData.getHearingDateType(),
                 getUserFullName(authToken));
         ClaimsByHearingVenueCcdReportDataSource reportDataSource = new ClaimsByHearingVenueCcdReportDataSource(
-            authToken, ccdClient);
+            authToken, ccdClient, reportShardExecutor);
         ClaimsByHearingVenueReport claimsByHearingVenueReport = new ClaimsByHearingVenueReport(reportDataSource);
         return claimsByHearingVenueReport.generateReport(claimsByHearingVenueReportParams);
     }
@@ -186,7 +204,9 @@ public class ReportDataService {
 
     private SessionDaysReportData getSessionDaysReport(ListingDetails listingDetails, String authToken) {
         log.info("Session Days Report for {}", listingDetails.getCaseTypeId());
-        SessionDaysCcdReportDataSource reportDataSource = new SessionDaysCcdReportDataSource(authToken, ccdClient);
+        SessionDaysReportDataSource reportDataSource = readModelEnabled
+                ? new SessionDaysCaseDataReportDataSource(caseDataReportRepository)
+                : new SessionDaysCcdReportDataSource(authToken, ccdClient, reportShardExecutor);
         ReportHelper.getListingDateRangeForSearch(listingDetails);
 
         SessionDaysReport sessionDaysReport = new SessionDaysReport(reportDataSource, judgeService);
@@ -209,7 +229,7 @@ public class ReportDataService {
                                                                            String authToken) {
         log.info("Hearings By Hearing Type Report for {}", listingDetails.getCaseTypeId());
         HearingsByHearingTypeCcdReportDataSource reportDataSource = new HearingsByHearingTypeCcdReportDataSource(
-            authToken, ccdClient);
+            authToken, ccdClient, reportShardExecutor);
         ReportHelper.getListingDateRangeForSearch(listingDetails);
         ListingData listingData = listingDetails.getCaseData();
         HearingsByHearingTypeReport hearingsByHearingTypeReport = new HearingsByHearingTypeReport(reportDataSource);
@@ -2,6 +2,7 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.SingleRefEnglandWalesRepository;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.SingleRefScotlandRepository;
@@ -19,13 +20,37 @@ public class SingleReferenceService {
     private final SingleRefScotlandRepository singleRefScotlandRepository;
     private final SingleRefEnglandWalesRepository singleRefEnglandWalesRepository;
 
+    private final ReferenceBlockAllocator englandWalesReferences = new ReferenceBlockAllocator(
+        (year, blockSize) -> this.singleRefEnglandWalesRepository.reserveCaseRefBlock(year, blockSize));
+    private final ReferenceBlockAllocator scotlandReferences = new ReferenceBlockAllocator(
+        (year, blockSize) -> this.singleRefScotlandRepository.reserveCaseRefBlock(year, blockSize));
+
+    /**
+     * Number of references reserved from the database at a time. With 1 or less every reference is generated by the
+     * database, which leaves no gaps but makes every case creation wait on the counter row for the year.
+     */
+    @Value("${reference.single.block-size:1}")
+    private int blockSize;
+
     public synchronized String createReference(String caseTypeId) {
         int currentYear = LocalDate.now().getYear();
-        return switch (caseTypeId) {
-            case ENGLANDWALES_CASE_TYPE_ID -> singleRefEnglandWalesRepository.ethosCaseRefGen(currentYear);
-            case SCOTLAND_CASE_TYPE_ID -> singleRefScotlandRepository.ethosCaseRefGen(currentYear);
-            default -> throw new IllegalArgumentException(
-                    String.format("Unable to create case reference: unexpected caseTypeId %s", caseTypeId));
+        if (blockSize <= 1) {
+            return switch (caseTypeId) {
+                case ENGLANDWALES_CASE_TYPE_ID -> singleRefEnglandWalesRepository.ethosCaseRefGen(currentYear);
+                case SCOTLAND_CASE_TYPE_ID -> singleRefScotlandRepository.ethosCaseRefGen(currentYear);
+                default -> throw unexpectedCaseType(caseTypeId);
+            };
+        }
+        ReferenceBlockAllocator references = switch (caseTypeId) {
+            case ENGLANDWALES_CASE_TYPE_ID -> englandWalesReferences;
+            case SCOTLAND_CASE_TYPE_ID -> scotlandReferences;
+            default -> throw unexpectedCaseType(caseTypeId);
         };
+        return references.nextReference(currentYear, blockSize) + "/" + currentYear;
+    }
+
+    private static IllegalArgumentException unexpectedCaseType(String caseTypeId) {
+        return new IllegalArgumentException(
+                String.format("Unable to create case reference: unexpected caseTypeId %s", caseTypeId));
     }
 }
@@ -1,35 +1,135 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.ethos.replacement.docmosis.config.TornadoConfiguration;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Renders documents with Tornado (Docmosis). Requests are sent over a pool of keep-alive connections, so consecutive
+ * documents reuse an open TLS connection, and the size of the pool bounds how many documents are rendered at once:
+ * a render waits up to {@code tornado.connection-request-timeout} for a connection to become free.
+ */
 @Component
 public class TornadoConnection {
 
     private final TornadoConfiguration tornadoConfiguration;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    private final LongAdder renderCount = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+    private final LongAdder failedRenderCount = new LongAdder();
 
     public TornadoConnection(TornadoConfiguration tornadoConfiguration) {
         this.tornadoConfiguration = tornadoConfiguration;
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .useSystemProperties()
+            .setMaxConnTotal(tornadoConfiguration.getMaxConnections())
+            .setMaxConnPerRoute(tornadoConfiguration.getMaxConnections())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(tornadoConfiguration.getConnectTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(tornadoConfiguration.getResponseTimeout()))
+                .build())
+            .build();
+        this.httpClient = HttpClients.custom()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(
+                    Timeout.ofMilliseconds(tornadoConfiguration.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(tornadoConfiguration.getResponseTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(tornadoConfiguration.getIdleTimeout()))
+            .build();
     }
 
-    public HttpURLConnection createConnection() throws IOException {
-        String tornadoURL = tornadoConfiguration.getUrl();
-        HttpURLConnection conn = (HttpURLConnection) new URL(tornadoURL).openConnection();
-        conn.setRequestMethod("POST");
-        conn.setUseCaches(false);
-        conn.setDoOutput(true);
-        conn.setDoInput(true);
-        conn.setRequestProperty("Content-Type", "application/json; charset=utf-8");
-        conn.connect();
+    /**
+     * Reads a rendered document.
+     */
+    @FunctionalInterface
+    public interface RenderedDocumentHandler<T> {
+        /**
+         * Handles the rendered document. The connection goes back to the pool once this returns, so the document
+         * should be read to the end here rather than held on to.
+         * @param document content of the rendered document
+         */
+        T handle(InputStream document) throws IOException;
+    }
 
-        return conn;
+    /**
+     * Sends a render request to Tornado and hands the rendered document to {@code documentHandler}.
+     * @param instruction JSON render instruction, including the access key
+     * @param documentHandler reads the rendered document
+     * @return the value returned by {@code documentHandler}
+     * @throws IOException if Tornado cannot be reached or does not render the document
+     */
+    public <T> T render(String instruction, RenderedDocumentHandler<T> documentHandler) throws IOException {
+        HttpPost request = new HttpPost(tornadoConfiguration.getUrl());
+        request.setEntity(new StringEntity(instruction, ContentType.APPLICATION_JSON));
+        long started = System.nanoTime();
+        boolean rendered = false;
+        try {
+            T result = httpClient.execute(request, response -> {
+                if (response.getCode() != HttpStatus.SC_OK) {
+                    throw new IOException(String.format("Invalid response code %d received from Tornado: %s",
+                        response.getCode(), response.getReasonPhrase()));
+                }
+                try (InputStream document = response.getEntity().getContent()) {
+                    return documentHandler.handle(document);
+                }
+            });
+            rendered = true;
+            return result;
+        } finally {
+            renderCount.increment();
+            renderNanos.add(System.nanoTime() - started);
+            if (!rendered) {
+                failedRenderCount.increment();
+            }
+        }
     }
 
     public String getAccessKey() {
         return tornadoConfiguration.getAccessKey();
     }
+
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    public long getRenderCount() {
+        return renderCount.sum();
+    }
+
+    public long getRenderNanos() {
+        return renderNanos.sum();
+    }
+
+    public long getFailedRenderCount() {
+        return failedRenderCount.sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
 }
@@ -32,17 +32,14 @@ import uk.gov.hmcts.ethos.replacement.docmosis.helpers.applications.TseAdmReplyH
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.applications.TseHelper;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.applications.TseService;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static java.net.HttpURLConnection.HTTP_OK;
 import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.LETTER_ADDRESS_ALLOCATED_OFFICE;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.OUTPUT_FILE_NAME;
@@ -57,8 +54,11 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.service.DocumentManagement
 @RequiredArgsConstructor
 @Service("tornadoService")
 public class TornadoService {
+    // Not the application ObjectMapper bean, which leaves out empty values that the templates still refer to
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final String UNABLE_TO_CONNECT_TO_DOCMOSIS = "Unable to connect to Docmosis: ";
     private static final String OUTPUT_FILE_NAME_PDF = "document.pdf";
+    private static final String TEMP_FILE_PREFIX = "tornado-";
 
     private static final String ET1_VETTING_PDF = "ET1 Vetting.pdf";
     private static final String ET3_PROCESSING_PDF = "ET3 Processing.pdf";
@@ -88,20 +88,14 @@ public class TornadoService {
                                            CorrespondenceType correspondenceType,
                                            CorrespondenceScotType correspondenceScotType,
                                            MultipleData multipleData) throws IOException {
-        HttpURLConnection conn = null;
         try {
-            conn = createConnection();
-
-            buildInstruction(conn, caseData, authToken, caseTypeId,
+            String instruction = buildInstruction(caseData, authToken, caseTypeId,
                     correspondenceType, correspondenceScotType, multipleData);
             String documentName = Helper.getDocumentName(correspondenceType, correspondenceScotType);
-            byte[] bytes = getDocumentByteArray(conn);
-            return createDocumentInfoFromBytes(authToken, bytes, documentName, caseTypeId);
+            return renderDocument(authToken, instruction, documentName, caseTypeId);
         } catch (IOException e) {
             log.error(UNABLE_TO_CONNECT_TO_DOCMOSIS, e);
             throw e;
-        } finally {
-            closeConnection(conn);
         }
     }
 
@@ -117,37 +111,29 @@ public class TornadoService {
     public DocumentInfo generateDocument(String userToken, TornadoDocument<?> document, String documentName, 
         String caseTypeId) throws IOException {
 
-        HttpURLConnection connection = null;
         try {
-            connection = createConnection();
             document.setAccessKey(tornadoConnection.getAccessKey());
-            String content = new ObjectMapper().writeValueAsString(document);
-            buildDocumentInstruction(connection, content);
-            byte[] bytes = getDocumentByteArray(connection);
-            return createDocumentInfoFromBytes(userToken, bytes, documentName, caseTypeId);
+            String content = OBJECT_MAPPER.writeValueAsString(document);
+            return renderDocument(userToken, content, documentName, caseTypeId);
         } catch (IOException exception) {
             log.error(UNABLE_TO_CONNECT_TO_DOCMOSIS, exception);
             throw exception;
-        } finally {
-            closeConnection(connection);
         }
     }
 
-    private void buildInstruction(HttpURLConnection conn, CaseData caseData, String authToken,
-                                  String caseTypeId, CorrespondenceType correspondenceType,
-                                  CorrespondenceScotType correspondenceScotType,
-                                  MultipleData multipleData) throws IOException {
-        try (OutputStreamWriter os = new OutputStreamWriter(conn.getOutputStream(), StandardCharsets.UTF_8)) {
-            DefaultValues allocatedCourtAddress = getAllocatedCourtAddress(caseData, caseTypeId, multipleData);
-            UserDetails userDetails = userIdamService.getUserDetails(authToken);
+    private String buildInstruction(CaseData caseData, String authToken,
+                                    String caseTypeId, CorrespondenceType correspondenceType,
+                                    CorrespondenceScotType correspondenceScotType,
+                                    MultipleData multipleData) {
+        DefaultValues allocatedCourtAddress = getAllocatedCourtAddress(caseData, caseTypeId, multipleData);
+        UserDetails userDetails = userIdamService.getUserDetails(authToken);
 
-            StringBuilder documentContent = DocumentHelper.buildDocumentContent(caseData,
-                    tornadoConnection.getAccessKey(),
-                    userDetails, caseTypeId, correspondenceType,
-                    correspondenceScotType, multipleData, allocatedCourtAddress, venueAddressReaderService);
+        StringBuilder documentContent = DocumentHelper.buildDocumentContent(caseData,
+                tornadoConnection.getAccessKey(),
+                userDetails, caseTypeId, correspondenceType,
+                correspondenceScotType, multipleData, allocatedCourtAddress, venueAddressReaderService);
 
-            writeOutputStream(os, documentContent);
-        }
+        return TornadoDocumentFilter.filterJson(documentContent.toString());
     }
 
     private DefaultValues getAllocatedCourtAddress(CaseData caseData, String caseTypeId, MultipleData multipleData) {
@@ -165,24 +151,18 @@ public class TornadoService {
     }
 
     DocumentInfo listingGeneration(String authToken, ListingData listingData, String caseType) throws IOException {
-        HttpURLConnection conn = null;
         try {
-            conn = createConnection();
-
             String documentName = ListingHelper.getListingDocName(listingData);
-            buildListingInstruction(conn, listingData, documentName, authToken, caseType);
-            byte[] bytes = getDocumentByteArray(conn);
-            return createDocumentInfoFromBytes(authToken, bytes, documentName, caseType);
+            String instruction = buildListingInstruction(listingData, documentName, authToken, caseType);
+            return renderDocument(authToken, instruction, documentName, caseType);
         } catch (IOException e) {
             log.error(UNABLE_TO_CONNECT_TO_DOCMOSIS, e);
             throw e;
-        } finally {
-            closeConnection(conn);
         }
     }
 
-    private void buildListingInstruction(HttpURLConnection conn, ListingData listingData,
-                                         String documentName, String authToken, String caseType) throws IOException {
+    private String buildListingInstruction(ListingData listingData, String documentName, String authToken,
+                                           String caseType) {
         UserDetails userDetails = userIdamService.getUserDetails(authToken);
         StringBuilder sb;
 
@@ -193,35 +173,32 @@ public class TornadoService {
             sb = ListingHelper.buildListingDocumentContent(listingData, tornadoConnection.getAccessKey(),
                     documentName, userDetails, caseType);
         }
-        try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-            conn.getOutputStream(), StandardCharsets.UTF_8)) {
-            writeOutputStream(outputStreamWriter, sb);
-        }
+        return TornadoDocumentFilter.filterJson(sb.toString());
     }
 
-    private HttpURLConnection createConnection() throws IOException {
-        return tornadoConnection.createConnection();
-    }
-
-    private void closeConnection(HttpURLConnection conn) {
-        if (conn != null) {
-            conn.disconnect();
+    /**
+     * Renders a document with Tornado and uploads it to dm store. The rendered document is streamed to a temporary
+     * file rather than held in memory, and the Tornado connection is handed back to the pool before the upload starts.
+     */
+    private DocumentInfo renderDocument(String authToken, String instruction, String documentName,
+                                        String caseTypeId) throws IOException {
+        Path documentFile = tornadoConnection.render(instruction, TornadoService::writeToTempFile);
+        try {
+            return createDocumentInfoFromFile(authToken, documentFile, documentName, caseTypeId);
+        } finally {
+            Files.deleteIfExists(documentFile);
         }
     }
 
-    private byte[] getDocumentByteArray(HttpURLConnection conn)
-        throws IOException {
-        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            int responseCode = conn.getResponseCode();
-            if (responseCode == HTTP_OK) {
-                try (InputStream is = conn.getInputStream()) {
-                    return getBytesFromInputStream(os, is);
-                }
-            } else {
-                throw new IOException(String.format("Invalid response code %d received from Tornado: %s", responseCode,
-                    conn.getResponseMessage()));
-            }
+    private static Path writeToTempFile(InputStream document) throws IOException {
+        Path documentFile = Files.createTempFile(TEMP_FILE_PREFIX, null);
+        try {
+            Files.copy(document, documentFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(documentFile);
+            throw e;
         }
+        return documentFile;
     }
 
     /**
@@ -236,35 +213,40 @@ public class TornadoService {
                                                      String caseTypeId) {
 
         DocumentManagementService.UploadedDocumentMetadata uploadedDocument =
-                uploadDocument(documentName, authToken, bytes, caseTypeId);
+                documentManagementService.uploadDocumentWithMetadata(authToken, bytes,
+                        getUploadFileName(documentName), getContentType(documentName), caseTypeId);
+        return createDocumentInfo(documentName, uploadedDocument);
+    }
+
+    private DocumentInfo createDocumentInfoFromFile(String authToken, Path documentFile, String documentName,
+                                                    String caseTypeId) {
+        DocumentManagementService.UploadedDocumentMetadata uploadedDocument =
+                documentManagementService.uploadDocumentWithMetadata(authToken, documentFile,
+                        getUploadFileName(documentName), getContentType(documentName), caseTypeId);
+        return createDocumentInfo(documentName, uploadedDocument);
+    }
+
+    private DocumentInfo createDocumentInfo(String documentName,
+                                            DocumentManagementService.UploadedDocumentMetadata uploadedDocument) {
         URI documentSelfPath = uploadedDocument.uri();
         String downloadUrl = documentManagementService.generateDownloadableURL(documentSelfPath);
         String markup = documentManagementService.generateMarkupDocument(downloadUrl);
         return generateDocumentInfo(documentName, documentSelfPath, markup, uploadedDocument.hashToken());
     }
 
-    private DocumentManagementService.UploadedDocumentMetadata uploadDocument(String documentName, String authToken,
-                                                                             byte[] bytes, String caseTypeId) {
+    private static String getUploadFileName(String documentName) {
         if (documentName.endsWith(".pdf")) {
-            String pdfFileName = isCustomDocName(documentName) ? documentName : OUTPUT_FILE_NAME_PDF;
-            return documentManagementService.uploadDocumentWithMetadata(authToken, bytes, pdfFileName,
-                    APPLICATION_PDF_VALUE, caseTypeId);
-        } else {
-            return documentManagementService.uploadDocumentWithMetadata(authToken, bytes, OUTPUT_FILE_NAME,
-                    APPLICATION_DOCX_VALUE, caseTypeId);
+            return isCustomDocName(documentName) ? documentName : OUTPUT_FILE_NAME_PDF;
         }
+        return OUTPUT_FILE_NAME;
     }
 
-    private static boolean isCustomDocName(String documentName) {
-        return documentName.matches(".*(ET1|ET3|ACAS|ET1 Vetting|Notification).*");
+    private static String getContentType(String documentName) {
+        return documentName.endsWith(".pdf") ? APPLICATION_PDF_VALUE : APPLICATION_DOCX_VALUE;
     }
 
-    private byte[] getBytesFromInputStream(ByteArrayOutputStream os, InputStream is) throws IOException {
-        byte[] buffer = new byte[0xFFFF];
-        for (int len = is.read(buffer); len != -1; len = is.read(buffer)) {
-            os.write(buffer, 0, len);
-        }
-        return os.toByteArray();
+    private static boolean isCustomDocName(String documentName) {
+        return documentName.matches(".*(ET1|ET3|ACAS|ET1 Vetting|Notification).*");
     }
 
     private DocumentInfo generateDocumentInfo(String documentName, URI documentSelfPath, String markupURL,
@@ -281,12 +263,6 @@ public class TornadoService {
         return documentInfo;
     }
 
-    private void writeOutputStream(OutputStreamWriter outputStreamWriter, StringBuilder sb) throws IOException {
-        String reportJson = TornadoDocumentFilter.filterJson(sb.toString());
-        outputStreamWriter.write(reportJson);
-        outputStreamWriter.flush();
-    }
-
     /**
      * This method calls the helper method to create the data to be passed through to Tornado and then checks whether
      * it can reach the service.
@@ -301,19 +277,12 @@ public class TornadoService {
     public DocumentInfo generateEventDocument(CaseData caseData, String userToken, String caseTypeId,
                                               String documentName)
         throws IOException {
-        HttpURLConnection connection = null;
         try {
-            connection = createConnection();
-
-            buildDocumentInstruction(connection, caseData, documentName, caseTypeId);
-            byte[] bytes = getDocumentByteArray(connection);
-            return createDocumentInfoFromBytes(userToken, bytes,
-                    getDmStoreDocumentName(caseData, documentName), caseTypeId);
+            String instruction = buildDocumentInstruction(caseData, documentName, caseTypeId);
+            return renderDocument(userToken, instruction, getDmStoreDocumentName(caseData, documentName), caseTypeId);
         } catch (IOException exception) {
             log.error(UNABLE_TO_CONNECT_TO_DOCMOSIS, exception);
             throw exception;
-        } finally {
-            closeConnection(connection);
         }
     }
 
@@ -357,16 +326,12 @@ public class TornadoService {
      */
     public byte[] generateEventDocumentBytes(CaseData caseData, String caseTypeId, String documentName)
         throws IOException {
-        HttpURLConnection connection = null;
         try {
-            connection = createConnection();
-            buildDocumentInstruction(connection, caseData, documentName, caseTypeId);
-            return getDocumentByteArray(connection);
+            String instruction = buildDocumentInstruction(caseData, documentName, caseTypeId);
+            return tornadoConnection.render(instruction, InputStream::readAllBytes);
         } catch (IOException exception) {
             log.error(UNABLE_TO_CONNECT_TO_DOCMOSIS, exception);
             throw exception;
-        } finally {
-            closeConnection(connection);
         }
     }
 
@@ -394,27 +359,12 @@ public class TornadoService {
         return respondent.getSelectedLabel();
     }
 
-    private void buildDocumentInstruction(HttpURLConnection connection, String content) throws IOException {
-        OutputStream outputStream = connection.getOutputStream();
-        try (OutputStreamWriter writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
-            writer.write(content);
-            writer.flush();
-        }
-    }
-
-    private void buildDocumentInstruction(HttpURLConnection connection, CaseData caseData, String documentName,
-                                          String caseTypeId)
-            throws IOException {
+    private String buildDocumentInstruction(CaseData caseData, String documentName, String caseTypeId)
+            throws JsonProcessingException {
         if (isNullOrEmpty(documentName)) {
             throw new IllegalArgumentException("Document name cannot be null or empty");
         }
-        String documentContent = getDocumentContent(caseData, documentName, caseTypeId);
-
-        try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(connection.getOutputStream(),
-                StandardCharsets.UTF_8)) {
-            outputStreamWriter.write(documentContent);
-            outputStreamWriter.flush();
-        }
+        return getDocumentContent(caseData, documentName, caseTypeId);
     }
 
     private String getDocumentContent(CaseData caseData, String documentName, String caseTypeId)
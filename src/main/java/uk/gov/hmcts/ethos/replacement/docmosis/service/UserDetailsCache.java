@@ -0,0 +1,159 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import com.nimbusds.jwt.JWTParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.hmcts.ecm.common.idam.models.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Keeps the IDAM user details looked up for a token, keyed by a hash of the token, so that a callback asking for
+ * the same user several times only calls IDAM once. Details are kept for the rest of the request that looked them
+ * up and, for tokens with an expiry, shared with later requests for a short time that never outlasts the token.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private static final String REQUEST_ATTRIBUTE = UserDetailsCache.class.getName();
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Map<String, CachedUserDetails> sharedCache = new ConcurrentHashMap<>();
+    private final AtomicLong requestHits = new AtomicLong();
+    private final AtomicLong sharedHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public UserDetailsCache(@Value("${idam.api.userDetailsCacheSize:1000}") int maxSize,
+                            @Value("${idam.api.userDetailsCacheTtl:PT1M}") Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the user details for the token, calling {@code lookup} only if they are not already known.
+     */
+    public UserDetails get(String authorisation, Function<String, UserDetails> lookup) {
+        if (authorisation == null) {
+            misses.incrementAndGet();
+            return lookup.apply(null);
+        }
+        String tokenHash = hash(authorisation);
+        Map<String, UserDetails> requestCache = getRequestCache();
+        if (requestCache != null) {
+            UserDetails userDetails = requestCache.get(tokenHash);
+            if (userDetails != null) {
+                requestHits.incrementAndGet();
+                return userDetails;
+            }
+        }
+
+        CachedUserDetails cached = sharedCache.get(tokenHash);
+        if (cached != null) {
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                sharedHits.incrementAndGet();
+                if (requestCache != null) {
+                    requestCache.put(tokenHash, cached.userDetails());
+                }
+                return cached.userDetails();
+            }
+            sharedCache.remove(tokenHash, cached);
+        }
+
+        misses.incrementAndGet();
+        UserDetails userDetails = lookup.apply(authorisation);
+        if (userDetails != null) {
+            if (requestCache != null) {
+                requestCache.put(tokenHash, userDetails);
+            }
+            share(tokenHash, authorisation, userDetails);
+        }
+        return userDetails;
+    }
+
+    private void share(String tokenHash, String authorisation, UserDetails userDetails) {
+        Instant tokenExpiry = getTokenExpiry(authorisation);
+        Instant now = Instant.now();
+        if (tokenExpiry == null || !tokenExpiry.isAfter(now)) {
+            return;
+        }
+        if (sharedCache.size() >= maxSize) {
+            sharedCache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+            if (sharedCache.size() >= maxSize) {
+                return;
+            }
+        }
+        Instant expiresAt = now.plus(timeToLive);
+        sharedCache.put(tokenHash, new CachedUserDetails(userDetails,
+            expiresAt.isBefore(tokenExpiry) ? expiresAt : tokenExpiry));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, UserDetails> getRequestCache() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        Object requestCache = requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestCache == null) {
+            requestCache = new ConcurrentHashMap<String, UserDetails>();
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, requestCache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, UserDetails>) requestCache;
+    }
+
+    private static Instant getTokenExpiry(String authorisation) {
+        try {
+            Date expirationTime = JWTParser.parse(authorisation.replace("Bearer ", ""))
+                .getJWTClaimsSet()
+                .getExpirationTime();
+            return expirationTime == null ? null : expirationTime.toInstant();
+        } catch (ParseException e) {
+            log.debug("Not sharing user details for a token that is not a JWT: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long getRequestHits() {
+        return requestHits.get();
+    }
+
+    public long getSharedHits() {
+        return sharedHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int getSize() {
+        return sharedCache.size();
+    }
+
+    private record CachedUserDetails(UserDetails userDetails, Instant expiresAt) {
+    }
+}
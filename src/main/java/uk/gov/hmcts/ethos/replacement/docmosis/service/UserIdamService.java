@@ -9,22 +9,35 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.TokenRequest;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.TokenResponse;
 import uk.gov.hmcts.ethos.replacement.docmosis.idam.IdamApi;
 
+import java.time.Duration;
+
 @Component
 public class UserIdamService implements UserService {
     private final IdamApi idamApi;
     private final OAuth2Configuration oauth2Configuration;
+    private final UserDetailsCache userDetailsCache;
 
     public static final String OPENID_GRANT_TYPE = "password";
 
-    @Autowired
     public UserIdamService(IdamApi idamApi, OAuth2Configuration oauth2Configuration) {
+        this(idamApi, oauth2Configuration, new UserDetailsCache(0, Duration.ZERO));
+    }
+
+    @Autowired
+    public UserIdamService(IdamApi idamApi, OAuth2Configuration oauth2Configuration,
+                           UserDetailsCache userDetailsCache) {
         this.idamApi = idamApi;
         this.oauth2Configuration = oauth2Configuration;
+        this.userDetailsCache = userDetailsCache;
     }
 
+    /**
+     * Returns the details of the user the token belongs to. Details already looked up for the same token, earlier
+     * in the request or recently by another request, are returned without calling IDAM again.
+     */
     @Override
     public UserDetails getUserDetails(String authorisation) {
-        return idamApi.retrieveUserDetails(authorisation);
+        return userDetailsCache.get(authorisation, idamApi::retrieveUserDetails);
     }
 
     @Override
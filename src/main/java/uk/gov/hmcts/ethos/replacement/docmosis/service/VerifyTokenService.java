@@ -3,12 +3,17 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.KeySourceException;
 import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
 import com.nimbusds.jose.jwk.AsymmetricJWK;
 import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
 import com.nimbusds.jose.jwk.SecretJWK;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
 import com.nimbusds.jose.proc.JWSVerifierFactory;
+import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.SignedJWT;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,56 +21,142 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.exceptions.VerifyTokenServiceException;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Verifies the signature of IDAM tokens against the IDAM JSON web key set. The key set is fetched once and kept,
+ * refreshed in the background before it expires and fetched again straight away only when a token is signed with a
+ * key it does not contain. Tokens that have been verified are remembered by their hash until they expire, so a
+ * token sent with many requests is only verified once.
+ */
 @Slf4j
 @Service("verifyTokenService")
 public class VerifyTokenService {
 
+    private static final long JWKS_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(15);
+    private static final long JWKS_REFRESH_TIMEOUT = TimeUnit.SECONDS.toMillis(15);
+    private static final long JWKS_REFRESH_AHEAD_TIME = TimeUnit.MINUTES.toMillis(1);
+    private static final long JWKS_OUTAGE_TOLERANCE = TimeUnit.HOURS.toMillis(4);
+    private static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     @Value("${idam.api.jwkUrl}")
     private String idamJwkUrl;
 
+    @Value("${idam.api.verifiedTokenCacheSize:10000}")
+    private int verifiedTokenCacheSize = DEFAULT_VERIFIED_TOKEN_CACHE_SIZE;
+
     private final JWSVerifierFactory jwsVerifierFactory;
+    private final Map<String, Instant> verifiedTokens = new ConcurrentHashMap<>();
+    private volatile JWKSource<SecurityContext> jwkSource;
     public static final String INVALID_TOKEN = "Invalid Token {}";
 
     public VerifyTokenService() {
+        this(null, DEFAULT_VERIFIED_TOKEN_CACHE_SIZE);
+    }
+
+    VerifyTokenService(JWKSource<SecurityContext> jwkSource, int verifiedTokenCacheSize) {
         this.jwsVerifierFactory = new DefaultJWSVerifierFactory();
+        this.jwkSource = jwkSource;
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
     }
 
     public boolean verifyTokenSignature(String token) {
         try {
             String tokenTocheck = token.replace("Bearer ", "");
-            SignedJWT signedJwt = SignedJWT.parse(tokenTocheck);
+            String tokenHash = hash(tokenTocheck);
+            Instant verifiedUntil = verifiedTokens.get(tokenHash);
+            if (verifiedUntil != null) {
+                if (Instant.now().isBefore(verifiedUntil)) {
+                    return true;
+                }
+                verifiedTokens.remove(tokenHash, verifiedUntil);
+            }
 
-            JWKSet jsonWebKeySet = loadJsonWebKeySet(idamJwkUrl);
+            SignedJWT signedJwt = SignedJWT.parse(tokenTocheck);
 
             JWSHeader jwsHeader = signedJwt.getHeader();
-            Key key = findKeyById(jsonWebKeySet, jwsHeader.getKeyID());
+            Key key = findKeyById(jwsHeader.getKeyID());
 
             JWSVerifier jwsVerifier = jwsVerifierFactory.createJWSVerifier(jwsHeader, key);
 
-            return signedJwt.verify(jwsVerifier);
+            boolean verified = signedJwt.verify(jwsVerifier);
+            if (verified) {
+                rememberVerifiedToken(tokenHash, signedJwt.getJWTClaimsSet().getExpirationTime());
+            }
+            return verified;
         } catch (Exception e) {
             log.error("Token validation error:", e);
             return false;
         }
     }
 
-    private JWKSet loadJsonWebKeySet(String jwksUrl) {
+    private void rememberVerifiedToken(String tokenHash, Date expirationTime) {
+        if (expirationTime == null || !expirationTime.toInstant().isAfter(Instant.now())) {
+            return;
+        }
+        if (verifiedTokens.size() >= verifiedTokenCacheSize) {
+            Instant now = Instant.now();
+            verifiedTokens.values().removeIf(expiry -> !expiry.isAfter(now));
+            if (verifiedTokens.size() >= verifiedTokenCacheSize) {
+                return;
+            }
+        }
+        verifiedTokens.put(tokenHash, expirationTime.toInstant());
+    }
+
+    private JWKSource<SecurityContext> getJwkSource() {
+        JWKSource<SecurityContext> source = jwkSource;
+        if (source == null) {
+            synchronized (this) {
+                source = jwkSource;
+                if (source == null) {
+                    source = loadJsonWebKeySource(idamJwkUrl);
+                    jwkSource = source;
+                }
+            }
+        }
+        return source;
+    }
+
+    private JWKSource<SecurityContext> loadJsonWebKeySource(String jwksUrl) {
         try {
-            return JWKSet.load(new URI(jwksUrl).toURL());
+            return JWKSourceBuilder.<SecurityContext>create(new URI(jwksUrl).toURL())
+                .cache(JWKS_TIME_TO_LIVE, JWKS_REFRESH_TIMEOUT)
+                .refreshAheadCache(JWKS_REFRESH_AHEAD_TIME, true)
+                .outageTolerant(JWKS_OUTAGE_TOLERANCE)
+                .build();
         } catch (Exception e) {
             log.error("JWKS key loading error", e);
             throw new VerifyTokenServiceException("JWKS error", e);
         }
     }
 
-    private Key findKeyById(JWKSet jsonWebKeySet, String keyId) {
+    private Key findKeyById(String keyId) {
+        if (keyId == null) {
+            throw new VerifyTokenServiceException("JWK does not exist in the key set");
+        }
+        List<JWK> jsonWebKeys;
         try {
-            JWK jsonWebKey = jsonWebKeySet.getKeyByKeyId(keyId);
-            if (jsonWebKey == null) {
+            jsonWebKeys = getJwkSource().get(new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build()), null);
+        } catch (KeySourceException e) {
+            log.error("JWKS key loading error", e);
+            throw new VerifyTokenServiceException("JWKS error", e);
+        }
+        try {
+            if (jsonWebKeys.isEmpty()) {
                 throw new VerifyTokenServiceException("JWK does not exist in the key set");
             }
+            JWK jsonWebKey = jsonWebKeys.getFirst();
             if (jsonWebKey instanceof SecretJWK secretJWK) {
                 return secretJWK.toSecretKey();
             }
@@ -79,6 +170,11 @@ public class VerifyTokenService {
         }
     }
 
+    private static String hash(String token) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
     public boolean isTokenSignatureValid(String token) {
         return verifyTokenSignature(token);
     }
@@ -5,15 +5,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.et.common.model.listing.items.BFDateTypeItem;
 import uk.gov.hmcts.et.common.model.listing.types.BFDateType;
-import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultiplesHelper;
+import uk.gov.hmcts.ethos.replacement.docmosis.exceptions.ExcelGenerationException;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.bfaction.BfActionReportData;
+
+import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -25,7 +28,6 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.ExcelReportHelper.
 import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.ExcelReportHelper.getCellStyle;
 import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.ExcelReportHelper.initializeReportHeaders;
 
-@SuppressWarnings({"PMD.CloseResource"})
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -41,27 +43,32 @@ public class BfExcelReportService {
             CASE_NUMBER_HEADER, ACTION, DATE_TAKEN,
             BF_DATE, COMMENTS));
 
-    public byte[] getReportExcelFile(BfActionReportData reportData) {
-        if (reportData == null) {
-            return new byte[0];
-        }
+    public SpreadsheetFile getReportExcelFile(BfActionReportData reportData) {
+        try {
+            if (reportData == null) {
+                return SpreadsheetFile.empty();
+            }
 
-        XSSFWorkbook workbook = new XSSFWorkbook();
-        XSSFSheet sheet = workbook.createSheet(EXCEL_REPORT_WORKBOOK_NAME);
-        adjustColumnSize(sheet);
-        initializeReportHeaders(reportData.getDocumentName(),
-                reportData.getReportPeriodDescription(),
-                workbook,
-                sheet,
-                HEADERS);
-        initializeReportData(workbook,
-                sheet,
-                reportData.getBfDateCollection(),
-                reportData.getReportPrintedOnDescription());
-        return MultiplesHelper.writeExcelFileToByteArray(workbook);
+            return SpreadsheetFile.create(workbook -> {
+                SXSSFSheet sheet = workbook.createSheet(EXCEL_REPORT_WORKBOOK_NAME);
+                adjustColumnSize(sheet);
+                initializeReportHeaders(reportData.getDocumentName(),
+                        reportData.getReportPeriodDescription(),
+                        workbook,
+                        sheet,
+                        HEADERS);
+                initializeReportData(workbook,
+                        sheet,
+                        reportData.getBfDateCollection(),
+                        reportData.getReportPrintedOnDescription());
+            });
+        } catch (IOException e) {
+            log.error("Error generating the excel");
+            throw new ExcelGenerationException("Error generating the excel", e);
+        }
     }
 
-    private void adjustColumnSize(XSSFSheet sheet) {
+    private void adjustColumnSize(Sheet sheet) {
         //Adjust the column width to fit the content
         for (int i = 0; i < 4; i++) {
             sheet.setColumnWidth(i, 9000);
@@ -69,7 +76,7 @@ public class BfExcelReportService {
         sheet.setColumnWidth(4, 15_000);
     }
 
-    private void initializeReportData(XSSFWorkbook workbook, XSSFSheet sheet,
+    private void initializeReportData(Workbook workbook, Sheet sheet,
                                       List<BFDateTypeItem> bfDateTypeCollection,
                                       String reportPrintedOnDescription) {
         if (CollectionUtils.isEmpty(bfDateTypeCollection)) {
@@ -79,36 +86,33 @@ public class BfExcelReportService {
         int rowIndex = 3;
         addColumnFilterCellRange(sheet, bfDateTypeCollection.size());
 
+        CellStyle cellStyle = getCellStyle(workbook);
+        cellStyle.setWrapText(true);
         for (BFDateTypeItem item : bfDateTypeCollection) {
             BFDateType bfDateType = item.getValue();
-            constructCaseExcelRow(workbook, sheet, rowIndex, bfDateType);
+            constructCaseExcelRow(sheet, rowIndex, bfDateType, cellStyle);
             rowIndex++;
         }
 
         addReportAdminDetails(workbook, sheet, rowIndex, reportPrintedOnDescription, 4);
     }
 
-    private void addColumnFilterCellRange(XSSFSheet sheet, int reportDetailsCount) {
+    private void addColumnFilterCellRange(Sheet sheet, int reportDetailsCount) {
         int firstRow = 2;
         int lastRow = firstRow + reportDetailsCount;
         sheet.setAutoFilter(new CellRangeAddress(firstRow, lastRow, 0, 4));
     }
 
-    private void constructCaseExcelRow(XSSFWorkbook workbook, XSSFSheet sheet, int rowIndex,
-                                       BFDateType bfDateType) {
-        XSSFRow row = sheet.createRow(rowIndex);
+    private void constructCaseExcelRow(Sheet sheet, int rowIndex, BFDateType bfDateType, CellStyle cellStyle) {
+        Row row = sheet.createRow(rowIndex);
         row.setHeight((short)(row.getHeight() * 4));
         int columnIndex = 0;
-        CellStyle cellStyle = getCellStyle(workbook);
         createCell(row, columnIndex, bfDateType.getCaseReference(), cellStyle);
         createCell(row, columnIndex + 1, bfDateType.getBroughtForwardAction(), cellStyle);
         createCell(row, columnIndex + 2,
                 formatDate(bfDateType.getBroughtForwardEnteredDate()), cellStyle);
         createCell(row, columnIndex + 3,
                 formatDate(bfDateType.getBroughtForwardDate()), cellStyle);
-        if (cellStyle != null) {
-            cellStyle.setWrapText(true);
-        }
         createCell(row, columnIndex + 4, bfDateType.getBroughtForwardDateReason(), cellStyle);
     }
 
@@ -3,14 +3,17 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultiplesHelper;
+import uk.gov.hmcts.ethos.replacement.docmosis.exceptions.ExcelGenerationException;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportData;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportDetail;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,7 +25,6 @@ import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.ExcelReportHelper.
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@SuppressWarnings({"PMD.CloseResource"})
 public class ClaimsByHearingVenueExcelReportCreationService {
     private static final String EXCEL_REPORT_WORKBOOK_NAME = "Claims By Hearing Venue Report";
     private static final String CASE_NUMBER_HEADER = "Case Number";
@@ -35,32 +37,37 @@ public class ClaimsByHearingVenueExcelReportCreationService {
             CASE_NUMBER_HEADER, DATE_OF_RECEIPT_HEADER, CLAIMANT_POSTCODE_HEADER,
             CLAIMANT_WORK_POSTCODE_HEADER, RESPONDENT_POSTCODE_HEADER, RESPONDENT_ET3_POSTCODE_HEADER));
 
-    public byte[] getReportExcelFile(ClaimsByHearingVenueReportData reportData) {
-        if (reportData == null) {
-            return new byte[0];
-        }
+    public SpreadsheetFile getReportExcelFile(ClaimsByHearingVenueReportData reportData) {
+        try {
+            if (reportData == null) {
+                return SpreadsheetFile.empty();
+            }
 
-        List<ClaimsByHearingVenueReportDetail> reportDetails = reportData.getReportDetails();
-        XSSFWorkbook workbook = new XSSFWorkbook();
-        XSSFSheet sheet = workbook.createSheet(EXCEL_REPORT_WORKBOOK_NAME);
-        adjustColumnSize(sheet);
-        initializeReportHeaders(reportData.getDocumentName(),
-                reportData.getReportPeriodDescription(),
-                workbook,
-                sheet,
-                HEADERS);
-        initializeReportData(workbook, sheet, reportDetails, reportData.getReportPrintedOnDescription());
-        return MultiplesHelper.writeExcelFileToByteArray(workbook);
+            List<ClaimsByHearingVenueReportDetail> reportDetails = reportData.getReportDetails();
+            return SpreadsheetFile.create(workbook -> {
+                SXSSFSheet sheet = workbook.createSheet(EXCEL_REPORT_WORKBOOK_NAME);
+                adjustColumnSize(sheet);
+                initializeReportHeaders(reportData.getDocumentName(),
+                        reportData.getReportPeriodDescription(),
+                        workbook,
+                        sheet,
+                        HEADERS);
+                initializeReportData(workbook, sheet, reportDetails, reportData.getReportPrintedOnDescription());
+            });
+        } catch (IOException e) {
+            log.error("Error generating the excel");
+            throw new ExcelGenerationException("Error generating the excel", e);
+        }
     }
 
-    private void adjustColumnSize(XSSFSheet sheet) {
+    private void adjustColumnSize(Sheet sheet) {
         //Adjust the column width to fit the content
         for (int i = 0; i <= 5; i++) {
             sheet.setColumnWidth(i, 9000);
         }
     }
 
-    private void initializeReportData(XSSFWorkbook workbook, XSSFSheet sheet,
+    private void initializeReportData(Workbook workbook, Sheet sheet,
                                       List<ClaimsByHearingVenueReportDetail> reportDetails,
                                       String reportPrintedOnDescription) {
         if (reportDetails.isEmpty()) {
@@ -70,25 +77,25 @@ public class ClaimsByHearingVenueExcelReportCreationService {
         int rowIndex = 3;
         addColumnFilterCellRange(sheet, reportDetails.size());
 
+        CellStyle cellStyle = getCellStyle(workbook);
         for (ClaimsByHearingVenueReportDetail claim : reportDetails) {
-            constructCaseExcelRow(workbook, sheet, rowIndex, claim);
+            constructCaseExcelRow(sheet, rowIndex, claim, cellStyle);
             rowIndex++;
         }
         addReportAdminDetails(workbook, sheet, rowIndex, reportPrintedOnDescription, 6);
     }
 
-    private void addColumnFilterCellRange(XSSFSheet sheet, int reportDetailsCount) {
+    private void addColumnFilterCellRange(Sheet sheet, int reportDetailsCount) {
         int firstRow = 2;
         int lastRow = firstRow + reportDetailsCount;
         sheet.setAutoFilter(new CellRangeAddress(firstRow, lastRow, 0, 5));
     }
 
-    private void constructCaseExcelRow(XSSFWorkbook workbook, XSSFSheet sheet, int rowIndex,
-                                       ClaimsByHearingVenueReportDetail item) {
-        XSSFRow row = sheet.createRow(rowIndex);
+    private void constructCaseExcelRow(Sheet sheet, int rowIndex, ClaimsByHearingVenueReportDetail item,
+                                       CellStyle cellStyle) {
+        Row row = sheet.createRow(rowIndex);
         row.setHeight((short)(row.getHeight() * 4));
         int columnIndex = 0;
-        CellStyle cellStyle = getCellStyle(workbook);
         createCell(row, columnIndex, item.getCaseReference(), cellStyle);
         createCell(row, columnIndex + 1, item.getDateOfReceipt(), cellStyle);
         createCell(row, columnIndex + 2, item.getClaimantPostcode(), cellStyle);
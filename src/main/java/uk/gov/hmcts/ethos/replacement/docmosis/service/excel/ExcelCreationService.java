@@ -11,10 +11,12 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddressList;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ecm.common.model.helper.SchedulePayload;
@@ -22,10 +24,11 @@ import uk.gov.hmcts.et.common.model.multiples.MultipleObject;
 import uk.gov.hmcts.ethos.replacement.docmosis.exceptions.ExcelGenerationException;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultiplesHelper;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
 
 import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.CONSTRAINT_KEY;
@@ -44,48 +47,46 @@ public class ExcelCreationService {
     private static final String CLAIMANT_NOT_FOUND = "Claimant not found";
     private final SingleCasesReadingService singleCasesReadingService;
 
-    public byte[] writeExcel(List<?> multipleCollection,
-                             List<String> subMultipleCollection,
-                             String leadCaseString,
-                             String userToken,
-                             String caseTypeId) {
-
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            XSSFSheet sheet = workbook.createSheet(SHEET_NAME);
-            XSSFSheet hiddenSheet = workbook.createSheet(HIDDEN_SHEET_NAME);
-
-            enableLocking(sheet);
-            enableLocking(hiddenSheet);
-
-            CellStyle styleForLocking = getStyleForLocking(workbook, false);
-
-            initializeHeaders(sheet, styleForLocking);
-            initializeData(
-                    workbook,
-                    sheet,
-                    multipleCollection,
-                    subMultipleCollection,
-                    leadCaseString,
-                    styleForLocking,
-                    userToken,
-                    caseTypeId
-            );
-
-            adjustColumnSize(sheet);
-            createHiddenSheet(hiddenSheet, subMultipleCollection, styleForLocking);
-            addSubMultiplesValidation(workbook, sheet, multipleCollection, subMultipleCollection);
-
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            workbook.write(bos);
-
-            return bos.toByteArray();
+    public SpreadsheetFile writeExcel(List<?> multipleCollection,
+                                      List<String> subMultipleCollection,
+                                      String leadCaseString,
+                                      String userToken,
+                                      String caseTypeId) {
+
+        try {
+            return SpreadsheetFile.create(workbook -> {
+                SXSSFSheet sheet = workbook.createSheet(SHEET_NAME);
+                SXSSFSheet hiddenSheet = workbook.createSheet(HIDDEN_SHEET_NAME);
+                sheet.trackColumnsForAutoSizing(List.of(0, 6));
+
+                enableLocking(sheet);
+                enableLocking(hiddenSheet);
+
+                CellStyle styleForLocking = getStyleForLocking(workbook, false);
+
+                initializeHeaders(sheet, styleForLocking);
+                initializeData(
+                        workbook,
+                        sheet,
+                        multipleCollection,
+                        subMultipleCollection,
+                        leadCaseString,
+                        styleForLocking,
+                        userToken,
+                        caseTypeId
+                );
+
+                adjustColumnSize(sheet);
+                createHiddenSheet(hiddenSheet, subMultipleCollection, styleForLocking);
+                addSubMultiplesValidation(workbook, sheet, multipleCollection, subMultipleCollection);
+            });
         } catch (IOException e) {
             log.error("Error generating the excel");
             throw new ExcelGenerationException("Error generating the excel", e);
         }
     }
 
-    private void enableLocking(XSSFSheet sheet) {
+    private void enableLocking(SXSSFSheet sheet) {
         sheet.lockDeleteColumns(true);
         sheet.lockDeleteRows(true);
         sheet.lockFormatCells(true);
@@ -97,7 +98,7 @@ public class ExcelCreationService {
         sheet.protectSheet(CONSTRAINT_KEY);
     }
 
-    private CellStyle getStyleForUnLocking(XSSFWorkbook workbook) {
+    private CellStyle getStyleForUnLocking(SXSSFWorkbook workbook) {
         CellStyle styleForUnLocking = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setColor(IndexedColors.BLUE.getIndex());
@@ -106,12 +107,12 @@ public class ExcelCreationService {
         styleForUnLocking.setAlignment(HorizontalAlignment.CENTER);
         styleForUnLocking.setFont(font);
 
-        workbook.lockStructure();
+        workbook.getXSSFWorkbook().lockStructure();
 
         return styleForUnLocking;
     }
 
-    private static CellStyle getStyleForLocking(XSSFWorkbook workbook, boolean lead) {
+    private static CellStyle getStyleForLocking(Workbook workbook, boolean lead) {
         CellStyle styleForLocking = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setColor(IndexedColors.BLACK.getIndex());
@@ -128,13 +129,13 @@ public class ExcelCreationService {
         return styleForLocking;
     }
 
-    private static CellStyle getStyleForClaimant(XSSFWorkbook workbook) {
+    private static CellStyle getStyleForClaimant(Workbook workbook) {
         CellStyle styleForClaimant = getStyleForLocking(workbook, false);
         styleForClaimant.setAlignment(HorizontalAlignment.CENTER);
         return styleForClaimant;
     }
 
-    private void adjustColumnSize(XSSFSheet sheet) {
+    private void adjustColumnSize(Sheet sheet) {
         // Adjust the column width to fit the content
         sheet.autoSizeColumn(0);
         sheet.setColumnWidth(1, 8000);
@@ -144,7 +145,7 @@ public class ExcelCreationService {
         setWidthOfClaimantColumn(sheet);
     }
 
-    private static void setWidthOfClaimantColumn(XSSFSheet sheet) {
+    private static void setWidthOfClaimantColumn(Sheet sheet) {
         // Auto-sizing doesn't give enough space
         sheet.autoSizeColumn(6);
         int claimantColumnWidth = sheet.getColumnWidth(6);
@@ -154,18 +155,18 @@ public class ExcelCreationService {
         sheet.setColumnWidth(6, claimantColumnWidth);
     }
 
-    private void createHiddenSheet(XSSFSheet hiddenSheet,
+    private void createHiddenSheet(Sheet hiddenSheet,
                                    List<String> subMultipleCollection,
                                    CellStyle styleForLocking) {
         if (!subMultipleCollection.isEmpty()) {
             for (int i = 0; i < subMultipleCollection.size(); i++) {
-                XSSFRow row = hiddenSheet.createRow(i);
+                Row row = hiddenSheet.createRow(i);
                 createCell(row, 0, subMultipleCollection.get(i), styleForLocking);
             }
         }
     }
 
-    private void addSubMultiplesValidation(XSSFWorkbook workbook, XSSFSheet sheet, List<?> multipleCollection,
+    private void addSubMultiplesValidation(Workbook workbook, Sheet sheet, List<?> multipleCollection,
                                            List<String> subMultipleCollection) {
         if (!subMultipleCollection.isEmpty() && !multipleCollection.isEmpty()) {
             Name namedCell = workbook.createName();
@@ -179,7 +180,7 @@ public class ExcelCreationService {
         }
     }
 
-    private static @NotNull DataValidation getDataValidation(XSSFSheet sheet, List<?> multipleCollection) {
+    private static @NotNull DataValidation getDataValidation(Sheet sheet, List<?> multipleCollection) {
         CellRangeAddressList cellRangeAddressList =
                 new CellRangeAddressList(1, multipleCollection.size(), 1, 1);
         DataValidationHelper helper = sheet.getDataValidationHelper();
@@ -190,7 +191,7 @@ public class ExcelCreationService {
         return dataValidation;
     }
 
-    private void initializeData(XSSFWorkbook workbook, XSSFSheet sheet, List<?> multipleCollection,
+    private void initializeData(SXSSFWorkbook workbook, Sheet sheet, List<?> multipleCollection,
                                 List<String> subMultipleCollection, String leadCaseString,
                                 CellStyle styleForLocking,
                                 String userToken, String caseTypeId) {
@@ -219,6 +220,7 @@ public class ExcelCreationService {
         CellStyle styleForClaimant = getStyleForClaimant(workbook);
         CellStyle styleForLockingLead = getStyleForLocking(workbook, true);
         String leadCase = MultiplesHelper.getCurrentLead(leadCaseString);
+        Map<String, String> claimantNames = getClaimantNames(schedulePayloads);
 
         log.info("Populating sheet");
         orderedAllCasesList.forEach((caseYear, caseYearList) ->
@@ -226,12 +228,12 @@ public class ExcelCreationService {
                     if (isStringRefsList) {
                         constructCaseExcelRow(sheet, rowIndex[0], (String) caseItem, leadCase, null,
                                 !subMultipleCollection.isEmpty(), styleForUnLocking, styleForLocking,
-                                styleForLockingLead, styleForClaimant, schedulePayloads);
+                                styleForLockingLead, styleForClaimant, claimantNames);
                     } else {
                         MultipleObject multipleObject = (MultipleObject) caseItem;
                         constructCaseExcelRow(sheet, rowIndex[0], multipleObject.getEthosCaseRef(), leadCase,
                                 multipleObject, !subMultipleCollection.isEmpty(), styleForUnLocking, styleForLocking,
-                                styleForLockingLead, styleForClaimant, schedulePayloads);
+                                styleForLockingLead, styleForClaimant, claimantNames);
                     }
                     rowIndex[0]++;
                 }));
@@ -249,6 +251,14 @@ public class ExcelCreationService {
                 new ArrayList<>(), log, singleCasesReadingService);
     }
 
+    private static Map<String, String> getClaimantNames(List<SchedulePayload> schedulePayloads) {
+        Map<String, String> claimantNames = new HashMap<>();
+        for (SchedulePayload schedulePayload : schedulePayloads) {
+            claimantNames.putIfAbsent(schedulePayload.getEthosCaseRef(), schedulePayload.getClaimantName());
+        }
+        return claimantNames;
+    }
+
     private List<String> extractEthosCaseRefs(SortedMap<String, SortedMap<String, Object>> orderedAllCasesList,
                                               boolean isStringRefsList) {
         List<String> ethosCaseRefCollection = new ArrayList<>();
@@ -264,13 +274,13 @@ public class ExcelCreationService {
         return ethosCaseRefCollection;
     }
 
-    private void constructCaseExcelRow(XSSFSheet sheet, int rowIndex, String ethosCaseRef,
+    private void constructCaseExcelRow(Sheet sheet, int rowIndex, String ethosCaseRef,
                                        String leadCase, MultipleObject multipleObject, boolean hasSubMultiples,
                                        CellStyle styleForUnLocking, CellStyle styleForLocking,
                                        CellStyle styleForLockingLead, CellStyle styleForClaimant,
-                                       List<SchedulePayload> schedulePayloads) {
+                                       Map<String, String> claimantNames) {
 
-        XSSFRow row = sheet.createRow(rowIndex);
+        Row row = sheet.createRow(rowIndex);
 
         int columnIndex = 0;
         createFirstColumn(ethosCaseRef, leadCase, styleForLocking, styleForLockingLead, row, columnIndex);
@@ -303,11 +313,9 @@ public class ExcelCreationService {
             createCell(row, columnIndex, multipleObject.getFlag4(), styleForUnLocking);
         }
         columnIndex++;
-        String claimant = schedulePayloads.stream()
-                .filter(payload -> payload.getEthosCaseRef().equals(ethosCaseRef))
-                .map(SchedulePayload::getClaimantName)
-                .findFirst()
-                .orElse(CLAIMANT_NOT_FOUND);
+        String claimant = claimantNames.containsKey(ethosCaseRef)
+                ? claimantNames.get(ethosCaseRef)
+                : CLAIMANT_NOT_FOUND;
         createCell(row, columnIndex, claimant, styleForClaimant);
     }
 
@@ -315,7 +323,7 @@ public class ExcelCreationService {
                                    String leadCase,
                                    CellStyle styleForLocking,
                                    CellStyle styleForLockingLead,
-                                   XSSFRow row,
+                                   Row row,
                                    int columnIndex) {
         if (ethosCaseRef.equals(leadCase)) {
             log.info("Lead: {}", leadCase);
@@ -47,13 +47,14 @@ public class ExcelDocManagementService {
     private final ExcelCreationService excelCreationService;
     private final UserIdamService userIdamService;
     private final ScheduleCreationService scheduleCreationService;
+    private final MultipleExcelCache multipleExcelCache;
 
-    public void uploadExcelDocument(String userToken, MultipleDetails multipleDetails, byte[] excelBytes) {
+    public void uploadExcelDocument(String userToken, MultipleDetails multipleDetails, SpreadsheetFile excelFile) {
         MultipleData multipleData = multipleDetails.getCaseData();
         log.info("Multiple Name is: {} for multiple reference: {}",
                 multipleData.getMultipleName(),
                 multipleData.getMultipleReference());
-        URI documentSelfPath = documentManagementService.uploadDocument(userToken, excelBytes,
+        URI documentSelfPath = documentManagementService.uploadDocument(userToken, excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(multipleData), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId());
 
@@ -61,6 +62,10 @@ public class ExcelDocManagementService {
 
         log.info("Add document to multiple with reference: {}", multipleData.getMultipleReference());
 
+        if (multipleData.getCaseImporterFile() != null
+                && multipleData.getCaseImporterFile().getUploadedDocument() != null) {
+            multipleExcelCache.evict(MultiplesHelper.getExcelBinaryUrl(multipleData));
+        }
         addDocumentToMultiple(userToken, multipleData, documentSelfPath);
 
     }
@@ -96,9 +101,10 @@ public class ExcelDocManagementService {
         log.info("MultipleName is: {} for multiple reference: {}",
                 multipleData.getMultipleName(),
                 multipleData.getMultipleReference());
-        byte[] excelBytes = excelCreationService.writeExcel(multipleCollection, subMultipleCollection,
-                multipleData.getLeadCase(), userToken, multipleDetails.getCaseTypeId());
-        uploadExcelDocument(userToken, multipleDetails, excelBytes);
+        try (SpreadsheetFile excelFile = excelCreationService.writeExcel(multipleCollection, subMultipleCollection,
+                multipleData.getLeadCase(), userToken, multipleDetails.getCaseTypeId())) {
+            uploadExcelDocument(userToken, multipleDetails, excelFile);
+        }
 
         log.info("Add multiple case counter for multipleReference: {}", multipleData.getMultipleReference());
 
@@ -123,18 +129,19 @@ public class ExcelDocManagementService {
                                                        MultipleDetails multipleDetails,
                                                        List<SchedulePayload> schedulePayloads) {
 
-        byte[] excelBytes = scheduleCreationService.writeSchedule(multipleDetails.getCaseData(),
-                schedulePayloads, multipleObjectsFiltered);
-
-        return uploadScheduleDocument(userToken, multipleDetails, excelBytes);
+        try (SpreadsheetFile excelFile = scheduleCreationService.writeSchedule(multipleDetails.getCaseData(),
+                schedulePayloads, multipleObjectsFiltered)) {
+            return uploadScheduleDocument(userToken, multipleDetails, excelFile);
+        }
 
     }
 
-    private DocumentInfo uploadScheduleDocument(String userToken, MultipleDetails multipleDetails, byte[] excelBytes) {
+    private DocumentInfo uploadScheduleDocument(String userToken, MultipleDetails multipleDetails,
+                                                SpreadsheetFile excelFile) {
 
         String documentName = MultiplesScheduleHelper.generateScheduleDocumentName(multipleDetails.getCaseData());
 
-        URI documentSelfPath = documentManagementService.uploadDocument(userToken, excelBytes,
+        URI documentSelfPath = documentManagementService.uploadDocument(userToken, excelFile.getPath(),
                 documentName, APPLICATION_EXCEL_VALUE, multipleDetails.getCaseTypeId());
 
         log.info("URI documentSelfPath uploaded and created: {}", documentSelfPath.toString());
@@ -154,8 +161,8 @@ public class ExcelDocManagementService {
                 .build();
     }
 
-    public DocumentInfo uploadExcelReportDocument(String userToken, String documentName, byte[] excelBytes) {
-        URI documentUri = documentManagementService.uploadDocument(userToken, excelBytes,
+    public DocumentInfo uploadExcelReportDocument(String userToken, String documentName, SpreadsheetFile excelFile) {
+        URI documentUri = documentManagementService.uploadDocument(userToken, excelFile.getPath(),
             documentName, APPLICATION_EXCEL_VALUE, "Listings_Type");
 
         log.info("Excel Report - URI documentSelfPath uploaded and created: {}", documentUri.toString());
@@ -4,9 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.openxml4j.util.ZipSecureFile;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.util.NumberToTextConverter;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.elasticsearch.common.Strings;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,9 +18,13 @@ import uk.gov.hmcts.et.common.model.multiples.MultipleData;
 import uk.gov.hmcts.et.common.model.multiples.MultipleDetails;
 import uk.gov.hmcts.et.common.model.multiples.MultipleObject;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.FilterExcelType;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.MultipleExcelCache.MultipleSheet;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.RowHandler;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.SheetSummary;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -44,14 +46,18 @@ public class ExcelReadingService {
 
     private static final String ERROR_SHEET_NAME_NOT_FOUND = "Worksheet name not found";
     private static final String ERROR_DOCUMENT_NOT_VALID = "Document uploaded not valid";
+    private static final int MULTIPLE_COLUMN_COUNT = 6;
 
     private final ExcelDocManagementService excelDocManagementService;
     private final CcdClient ccdClient;
+    private final MultipleExcelCache multipleExcelCache;
 
     @Autowired
-    public ExcelReadingService(ExcelDocManagementService excelDocManagementService, CcdClient ccdClient) {
+    public ExcelReadingService(ExcelDocManagementService excelDocManagementService, CcdClient ccdClient,
+                               MultipleExcelCache multipleExcelCache) {
         this.excelDocManagementService = excelDocManagementService;
         this.ccdClient = ccdClient;
+        this.multipleExcelCache = multipleExcelCache;
     }
 
     public XSSFWorkbook readWorkbook(String userToken, String documentBinaryUrl) throws IOException {
@@ -61,14 +67,33 @@ public class ExcelReadingService {
         return new XSSFWorkbook(excelInputStream);
     }
 
+    /**
+     * Reads a worksheet row by row without loading the workbook into memory.
+     * @param sheetName name of the worksheet, or null for the first worksheet
+     * @param columnCount number of leading cells read from each row
+     * @param rowHandler receives each row, including the header row
+     * @return the row and header counts and protection of the worksheet
+     */
+    public SheetSummary streamSheet(String userToken, String documentBinaryUrl, String sheetName, int columnCount,
+                                    RowHandler rowHandler) throws IOException {
+        try (InputStream excelInputStream =
+                     excelDocManagementService.downloadExcelDocument(userToken, documentBinaryUrl)) {
+            return StreamingExcelSheetReader.readSheet(excelInputStream, sheetName, columnCount, rowHandler);
+        }
+    }
+
     public SortedMap<String, Object> readExcel(String userToken, String documentBinaryUrl, List<String> errors,
                                                MultipleData multipleData, FilterExcelType filter) {
         SortedMap<String, Object> multipleObjects = new TreeMap<>();
 
         try {
-            XSSFSheet datatypeSheet = checkExcelErrors(userToken, documentBinaryUrl, errors);
-            if (errors.isEmpty()) {
-                populateMultipleObjects(multipleObjects, datatypeSheet, multipleData, filter);
+            MultipleSheet datatypeSheet = readMultipleSheet(userToken, documentBinaryUrl);
+            for (String[] row : datatypeSheet.getRows()) {
+                populateMultipleObjects(multipleObjects, Arrays.asList(row), multipleData, filter);
+            }
+            checkSheetErrors(datatypeSheet.getSummary(), errors);
+            if (!errors.isEmpty()) {
+                multipleObjects.clear();
             }
 
         } catch (IOException e) {
@@ -103,17 +128,29 @@ public class ExcelReadingService {
                 multipleDetails.getJurisdiction(), returnedRequest, String.valueOf(submitEvents.get(0).getCaseId()));
     }
 
-    public XSSFSheet checkExcelErrors(String userToken, String documentBinaryUrl, List<String> errors)
+    /**
+     * Reads the multiple worksheet, adding an error if the sheet is missing or was not generated by this service.
+     * The sheet is kept in the {@link MultipleExcelCache} for the reads that follow in the same event.
+     * @return the row and header counts of the worksheet
+     */
+    public SheetSummary checkExcelErrors(String userToken, String documentBinaryUrl, List<String> errors)
             throws IOException {
 
-        try (XSSFWorkbook workbook = readWorkbook(userToken, documentBinaryUrl)) {
-            XSSFSheet datatypeSheet = workbook.getSheet(SHEET_NAME);
-            if (datatypeSheet == null) {
-                errors.add(ERROR_SHEET_NAME_NOT_FOUND);
-            } else if (!datatypeSheet.validateSheetPassword(CONSTRAINT_KEY)) {
-                errors.add(ERROR_DOCUMENT_NOT_VALID);
-            }
-            return datatypeSheet;
+        SheetSummary datatypeSheet = readMultipleSheet(userToken, documentBinaryUrl).getSummary();
+        checkSheetErrors(datatypeSheet, errors);
+        return datatypeSheet;
+    }
+
+    private MultipleSheet readMultipleSheet(String userToken, String documentBinaryUrl) throws IOException {
+        return multipleExcelCache.get(userToken, documentBinaryUrl, rowHandler ->
+                streamSheet(userToken, documentBinaryUrl, SHEET_NAME, MULTIPLE_COLUMN_COUNT, rowHandler));
+    }
+
+    private void checkSheetErrors(SheetSummary datatypeSheet, List<String> errors) {
+        if (!datatypeSheet.isFound()) {
+            errors.add(ERROR_SHEET_NAME_NOT_FOUND);
+        } else if (!datatypeSheet.validateSheetPassword(CONSTRAINT_KEY)) {
+            errors.add(ERROR_DOCUMENT_NOT_VALID);
         }
     }
 
@@ -157,56 +194,49 @@ public class ExcelReadingService {
 
     }
 
-    private void filterSubMultiple(Row currentRow, MultipleData multipleData,
+    private void filterSubMultiple(List<String> currentRow, MultipleData multipleData,
                                    SortedMap<String, Object> multipleObjects) {
         if (isMultipleInFlagsAndBelongsSubMultiple(currentRow, multipleData)) {
             setSubMultipleObjects(multipleObjects,
-                    getCellValue(currentRow.getCell(0)),
-                    getCellValue(currentRow.getCell(1)));
+                    currentRow.get(0),
+                    currentRow.get(1));
         } else {
             if (isMultipleInFlags(currentRow, multipleData)) {
                 setSubMultipleObjects(multipleObjects,
-                        getCellValue(currentRow.getCell(0)),
+                        currentRow.get(0),
                         NOT_ALLOCATED);
             }
         }
     }
 
     private void populateMultipleObjects(SortedMap<String, Object> multipleObjects,
-                                         XSSFSheet datatypeSheet,
+                                         List<String> currentRow,
                                          MultipleData multipleData,
                                          FilterExcelType filter) {
 
-        for (Row currentRow : datatypeSheet) {
+        if (filter.equals(FilterExcelType.SUB_MULTIPLE)) {
+            filterSubMultiple(currentRow, multipleData, multipleObjects);
 
-            if (currentRow.getRowNum() == 0) {
-                continue;
+        } else if (filter.equals(FilterExcelType.FLAGS)) {
+            if (isMultipleInFlags(currentRow, multipleData)) {
+                multipleObjects.put(
+                        currentRow.get(0),
+                        currentRow.get(0));
             }
 
-            if (filter.equals(FilterExcelType.SUB_MULTIPLE)) {
-                filterSubMultiple(currentRow, multipleData, multipleObjects);
-
-            } else if (filter.equals(FilterExcelType.FLAGS)) {
-                if (isMultipleInFlags(currentRow, multipleData)) {
-                    multipleObjects.put(
-                            getCellValue(currentRow.getCell(0)),
-                            getCellValue(currentRow.getCell(0)));
-                }
-
-            } else if (filter.equals(FilterExcelType.DL_FLAGS)) {
-                setFlagObjects(multipleObjects,
-                        getCellValue(currentRow.getCell(1)),
-                        getCellValue(currentRow.getCell(2)),
-                        getCellValue(currentRow.getCell(3)),
-                        getCellValue(currentRow.getCell(4)),
-                        getCellValue(currentRow.getCell(5)));
-
-            } else {
-                multipleObjects.put(
-                        getCellValue(currentRow.getCell(0)),
-                        getMultipleObject(currentRow));
+        } else if (filter.equals(FilterExcelType.DL_FLAGS)) {
+            setFlagObjects(multipleObjects,
+                    currentRow.get(1),
+                    currentRow.get(2),
+                    currentRow.get(3),
+                    currentRow.get(4),
+                    currentRow.get(5));
+
+        } else {
+            multipleObjects.put(
+                    currentRow.get(0),
+                    getMultipleObject(currentRow));
 
-            }
         }
     }
 
@@ -228,46 +258,46 @@ public class ExcelReadingService {
 
     }
 
-    private MultipleObject getMultipleObject(Row currentRow) {
+    private MultipleObject getMultipleObject(List<String> currentRow) {
 
         return MultipleObject.builder()
-                .ethosCaseRef(getCellValue(currentRow.getCell(0)))
-                .subMultiple(getCellValue(currentRow.getCell(1)))
-                .flag1(getCellValue(currentRow.getCell(2)))
-                .flag2(getCellValue(currentRow.getCell(3)))
-                .flag3(getCellValue(currentRow.getCell(4)))
-                .flag4(getCellValue(currentRow.getCell(5)))
+                .ethosCaseRef(currentRow.get(0))
+                .subMultiple(currentRow.get(1))
+                .flag1(currentRow.get(2))
+                .flag2(currentRow.get(3))
+                .flag3(currentRow.get(4))
+                .flag4(currentRow.get(5))
                 .build();
     }
 
-    private boolean isMultipleInFlags(Row currentRow, MultipleData multipleData) {
+    private boolean isMultipleInFlags(List<String> currentRow, MultipleData multipleData) {
 
-        return isFilterPassed(currentRow.getCell(1), multipleData.getSubMultiple())
-                && isFilterPassed(currentRow.getCell(2), multipleData.getFlag1())
-                && isFilterPassed(currentRow.getCell(3), multipleData.getFlag2())
-                && isFilterPassed(currentRow.getCell(4), multipleData.getFlag3())
-                && isFilterPassed(currentRow.getCell(5), multipleData.getFlag4());
+        return isFilterPassed(currentRow.get(1), multipleData.getSubMultiple())
+                && isFilterPassed(currentRow.get(2), multipleData.getFlag1())
+                && isFilterPassed(currentRow.get(3), multipleData.getFlag2())
+                && isFilterPassed(currentRow.get(4), multipleData.getFlag3())
+                && isFilterPassed(currentRow.get(5), multipleData.getFlag4());
     }
 
-    private boolean isMultipleInFlagsAndBelongsSubMultiple(Row currentRow, MultipleData multipleData) {
+    private boolean isMultipleInFlagsAndBelongsSubMultiple(List<String> currentRow, MultipleData multipleData) {
 
-        return !getCellValue(currentRow.getCell(1)).isEmpty()
-                && isFilterPassed(currentRow.getCell(2), multipleData.getFlag1())
-                && isFilterPassed(currentRow.getCell(3), multipleData.getFlag2())
-                && isFilterPassed(currentRow.getCell(4), multipleData.getFlag3())
-                && isFilterPassed(currentRow.getCell(5), multipleData.getFlag4());
+        return !currentRow.get(1).isEmpty()
+                && isFilterPassed(currentRow.get(2), multipleData.getFlag1())
+                && isFilterPassed(currentRow.get(3), multipleData.getFlag2())
+                && isFilterPassed(currentRow.get(4), multipleData.getFlag3())
+                && isFilterPassed(currentRow.get(5), multipleData.getFlag4());
     }
 
-    private boolean isFilterPassed(Cell cell, DynamicFixedListType flag) {
+    private boolean isFilterPassed(String cellValue, DynamicFixedListType flag) {
 
         if (flag != null) {
 
             return flag.getValue().getCode().equals(SELECT_ALL)
-                    || getCellValue(cell).equals(flag.getValue().getCode());
+                    || cellValue.equals(flag.getValue().getCode());
 
         } else {
 
-            return getCellValue(cell).isEmpty();
+            return cellValue.isEmpty();
         }
 
     }
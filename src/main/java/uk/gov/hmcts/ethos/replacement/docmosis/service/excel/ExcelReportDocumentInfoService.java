@@ -22,15 +22,18 @@ public class ExcelReportDocumentInfoService {
             ClaimsByHearingVenueReportData reportData,
             String caseTypeId,
             String userToken) {
-        byte[] excelBytes = claimsByHearingVenueExcelReportCreationService.getReportExcelFile(reportData);
         String outPutFileName = UtilHelper.getListingCaseTypeId(caseTypeId) + CLAIMS_BY_HEARING_VENUE_FILE_NAME;
-        return excelDocManagementService.uploadExcelReportDocument(userToken, outPutFileName, excelBytes);
+        try (SpreadsheetFile excelFile =
+                 claimsByHearingVenueExcelReportCreationService.getReportExcelFile(reportData)) {
+            return excelDocManagementService.uploadExcelReportDocument(userToken, outPutFileName, excelFile);
+        }
     }
 
     public DocumentInfo generateBfExcelReportDocumentInfo(BfActionReportData reportData, String caseTypeId,
                                                           String userToken) {
-        byte[] excelBytes = bfExcelReportService.getReportExcelFile(reportData);
         String outPutFileName = UtilHelper.getListingCaseTypeId(caseTypeId) + BROUGHT_FORWARD_REPORT_FILE_NAME;
-        return excelDocManagementService.uploadExcelReportDocument(userToken, outPutFileName, excelBytes);
+        try (SpreadsheetFile excelFile = bfExcelReportService.getReportExcelFile(reportData)) {
+            return excelDocManagementService.uploadExcelReportDocument(userToken, outPutFileName, excelFile);
+        }
     }
 }
@@ -0,0 +1,197 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.SheetSummary;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the multiple worksheets recently read by {@link ExcelReadingService}, so that the several services handling
+ * one multiples event, and the mid event and submit callbacks of that event, only download and parse the spreadsheet
+ * once. A multiple's spreadsheet is never changed in place: each new version is uploaded to a new binary url, and
+ * {@link ExcelDocManagementService} evicts the old one when it does so.
+ *
+ * <p>Sheets are held as their rows of cell values, with repeated values such as sub multiple names and flags shared,
+ * and are keyed by binary url and a hash of the user token, so a sheet is only handed back to a user whose own
+ * download of it succeeded. The cache is bounded by the total number of cells held, evicting the least recently
+ * used sheets first, and sheets are dropped once they have not been read for the time to live.</p>
+ */
+@Slf4j
+@Component
+public class MultipleExcelCache {
+
+    private final long maxCells;
+    private final Duration timeToLive;
+    private final Map<CacheKey, CachedSheet> sheets = new LinkedHashMap<>(16, 0.75f, true);
+    private long cells;
+
+    public MultipleExcelCache(@Value("${multiples.excel-cache.max-cells:1000000}") long maxCells,
+                              @Value("${multiples.excel-cache.ttl:PT10M}") Duration timeToLive) {
+        this.maxCells = maxCells;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Loads a worksheet and holds on to its rows.
+     */
+    @FunctionalInterface
+    public interface SheetLoader {
+        /**
+         * Streams the worksheet to {@code rowHandler}.
+         * @return what was found out about the worksheet while reading it
+         */
+        SheetSummary load(StreamingExcelSheetReader.RowHandler rowHandler) throws IOException;
+    }
+
+    /**
+     * Returns the worksheet read from {@code documentBinaryUrl} with the given token, calling {@code loader} only if it
+     * is not already held.
+     */
+    public MultipleSheet get(String userToken, String documentBinaryUrl, SheetLoader loader) throws IOException {
+        if (maxCells <= 0) {
+            return read(loader);
+        }
+        CacheKey key = new CacheKey(documentBinaryUrl, hash(userToken));
+        MultipleSheet sheet = getCached(key);
+        if (sheet != null) {
+            log.debug("Read multiple spreadsheet {} from the cache", documentBinaryUrl);
+            return sheet;
+        }
+
+        sheet = read(loader);
+        put(key, sheet);
+        return sheet;
+    }
+
+    /**
+     * Drops every worksheet read from {@code documentBinaryUrl}.
+     */
+    public synchronized void evict(String documentBinaryUrl) {
+        if (documentBinaryUrl == null) {
+            return;
+        }
+        Iterator<Map.Entry<CacheKey, CachedSheet>> entries = sheets.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<CacheKey, CachedSheet> entry = entries.next();
+            if (documentBinaryUrl.equals(entry.getKey().documentBinaryUrl())) {
+                cells -= entry.getValue().sheet().getCellCount();
+                entries.remove();
+            }
+        }
+    }
+
+    synchronized int getSize() {
+        return sheets.size();
+    }
+
+    private synchronized MultipleSheet getCached(CacheKey key) {
+        CachedSheet cached = sheets.get(key);
+        if (cached == null) {
+            return null;
+        }
+        Instant now = Instant.now();
+        if (!now.isBefore(cached.expiresAt())) {
+            remove(key);
+            return null;
+        }
+        sheets.put(key, new CachedSheet(cached.sheet(), now.plus(timeToLive)));
+        return cached.sheet();
+    }
+
+    private synchronized void put(CacheKey key, MultipleSheet sheet) {
+        if (sheet.getCellCount() > maxCells) {
+            return;
+        }
+        remove(key);
+        Iterator<CachedSheet> leastRecentlyUsed = sheets.values().iterator();
+        while (cells + sheet.getCellCount() > maxCells && leastRecentlyUsed.hasNext()) {
+            cells -= leastRecentlyUsed.next().sheet().getCellCount();
+            leastRecentlyUsed.remove();
+        }
+        sheets.put(key, new CachedSheet(sheet, Instant.now().plus(timeToLive)));
+        cells += sheet.getCellCount();
+    }
+
+    private void remove(CacheKey key) {
+        CachedSheet removed = sheets.remove(key);
+        if (removed != null) {
+            cells -= removed.sheet().getCellCount();
+        }
+    }
+
+    private static MultipleSheet read(SheetLoader loader) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        Map<String, String> values = new HashMap<>();
+        SheetSummary summary = loader.load((rowNum, rowCells) -> {
+            if (rowNum > 0) {
+                String[] row = new String[rowCells.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = values.computeIfAbsent(rowCells.get(i), value -> value);
+                }
+                rows.add(row);
+            }
+        });
+        return new MultipleSheet(summary, rows);
+    }
+
+    private static String hash(String userToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(String.valueOf(userToken).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The summary and data rows of a multiple worksheet. Rows are shared with other readers and must not be changed.
+     */
+    public static final class MultipleSheet {
+        private final SheetSummary summary;
+        private final List<String[]> rows;
+        private final long cellCount;
+
+        MultipleSheet(SheetSummary summary, List<String[]> rows) {
+            this.summary = summary;
+            this.rows = Collections.unmodifiableList(rows);
+            this.cellCount = rows.stream().mapToLong(row -> row.length).sum();
+        }
+
+        public SheetSummary getSummary() {
+            return summary;
+        }
+
+        /**
+         * The rows after the header row, each holding the leading cells read from it.
+         */
+        public List<String[]> getRows() {
+            return rows;
+        }
+
+        long getCellCount() {
+            return cellCount;
+        }
+    }
+
+    private record CacheKey(String documentBinaryUrl, String tokenHash) {
+    }
+
+    private record CachedSheet(MultipleSheet sheet, Instant expiresAt) {
+    }
+}
@@ -1,7 +1,6 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.et.common.model.multiples.MultipleData;
@@ -9,6 +8,7 @@ import uk.gov.hmcts.et.common.model.multiples.MultipleDetails;
 import uk.gov.hmcts.et.common.model.multiples.MultipleObject;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.FilterExcelType;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultiplesHelper;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.SheetSummary;
 
 import java.io.IOException;
 import java.util.List;
@@ -44,7 +44,7 @@ public class MultipleUploadService {
 
             MultipleData multipleData = multipleDetails.getCaseData();
 
-            XSSFSheet datatypeSheet = excelReadingService.checkExcelErrors(
+            SheetSummary datatypeSheet = excelReadingService.checkExcelErrors(
                     userToken,
                     MultiplesHelper.getExcelBinaryUrl(multipleData),
                     errors);
@@ -104,9 +104,9 @@ public class MultipleUploadService {
         });
     }
 
-    private void validateSheet(XSSFSheet datatypeSheet, MultipleData multipleData, List<String> errors) {
+    private void validateSheet(SheetSummary datatypeSheet, MultipleData multipleData, List<String> errors) {
 
-        if (datatypeSheet.getRow(0) != null) {
+        if (datatypeSheet.hasHeaderRow()) {
 
             int collectionSize = Integer.parseInt(multipleData.getCaseCounter());
 
@@ -120,9 +120,9 @@ public class MultipleUploadService {
 
             }
 
-            log.info("Number of columns: {}", datatypeSheet.getRow(0).getLastCellNum());
+            log.info("Number of columns: {}", datatypeSheet.getHeaderCellCount());
             int headersSize = MultiplesHelper.getHeaders().size();
-            if (datatypeSheet.getRow(0).getLastCellNum() != headersSize) {
+            if (datatypeSheet.getHeaderCellCount() != headersSize) {
 
                 errors.add(ERROR_SHEET_NUMBER_COLUMNS + headersSize);
 
@@ -3,9 +3,10 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ecm.common.model.helper.SchedulePayload;
 import uk.gov.hmcts.et.common.model.multiples.MultipleData;
@@ -46,33 +47,34 @@ public class ScheduleCreationService {
     private final List<String> multipleDetailedHeaders = new ArrayList<>(Arrays.asList(HEADER_1, HEADER_3, HEADER_4));
     private final List<String> subMultipleHeaders = new ArrayList<>(Arrays.asList(HEADER_1, HEADER_5, HEADER_6));
 
-    public byte[] writeSchedule(MultipleData multipleData, List<SchedulePayload> schedulePayloads,
-                                SortedMap<String, Object> multipleObjectsFiltered) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            XSSFSheet sheet = workbook.createSheet(SCHEDULE_SHEET_NAME);
-
-            initializeHeaders(workbook, sheet, multipleData);
-
-            if (Arrays.asList(MULTIPLE_SCHEDULE_CONFIG, MULTIPLE_SCHEDULE_DETAILED_CONFIG)
-                    .contains(multipleData.getScheduleDocName())) {
-                initializeData(workbook, sheet, schedulePayloads, multipleData.getScheduleDocName());
-            } else {
-                initializeSubMultipleDataLogic(workbook, sheet, multipleData,
-                        schedulePayloads, multipleObjectsFiltered);
-            }
-
-            MultiplesSchedulePrinter.adjustColumnSize(sheet);
+    public SpreadsheetFile writeSchedule(MultipleData multipleData, List<SchedulePayload> schedulePayloads,
+                                         SortedMap<String, Object> multipleObjectsFiltered) {
+        try {
+            return SpreadsheetFile.create(workbook -> {
+                SXSSFSheet sheet = workbook.createSheet(SCHEDULE_SHEET_NAME);
+                sheet.trackColumnsForAutoSizing(List.of(0, 1, 2));
+
+                initializeHeaders(workbook, sheet, multipleData);
+
+                if (Arrays.asList(MULTIPLE_SCHEDULE_CONFIG, MULTIPLE_SCHEDULE_DETAILED_CONFIG)
+                        .contains(multipleData.getScheduleDocName())) {
+                    initializeData(workbook, sheet, schedulePayloads, multipleData.getScheduleDocName());
+                } else {
+                    initializeSubMultipleDataLogic(workbook, sheet, multipleData,
+                            schedulePayloads, multipleObjectsFiltered);
+                }
 
-            return MultiplesHelper.writeExcelFileToByteArray(workbook);
+                MultiplesSchedulePrinter.adjustColumnSize(sheet);
+            });
         } catch (IOException e) {
             log.error("Error generating the excel");
             throw new ExcelGenerationException("Error generating the excel", e);
         }
     }
 
-    private void initializeHeaders(XSSFWorkbook workbook, XSSFSheet sheet, MultipleData multipleData) {
+    private void initializeHeaders(Workbook workbook, Sheet sheet, MultipleData multipleData) {
         String multipleTitle = multipleData.getMultipleReference() + " - " + multipleData.getMultipleName();
-        XSSFRow rowHead1 = sheet.createRow(0);
+        Row rowHead1 = sheet.createRow(0);
 
         if (multipleData.getScheduleDocName().equals(LIST_CASES_CONFIG)) {
             CellStyle header1CellStyle = MultiplesSchedulePrinter.getHeader1CellStyle(workbook);
@@ -81,13 +83,13 @@ public class ScheduleCreationService {
         } else {
             CellStyle header2CellStyle = MultiplesSchedulePrinter.getHeader2CellStyle(workbook);
             createCell(rowHead1, 1, HEADER_SCHEDULE, MultiplesSchedulePrinter.getHeader1CellStyle(workbook));
-            XSSFRow rowHead2 = sheet.createRow(1);
+            Row rowHead2 = sheet.createRow(1);
             createCell(rowHead2, 0, "Multiple: ", header2CellStyle);
             createCell(rowHead2, 1, multipleTitle, header2CellStyle);
         }
     }
 
-    private void createCell(XSSFRow row, int cellIndex, String value, CellStyle style) {
+    private void createCell(Row row, int cellIndex, String value, CellStyle style) {
         Cell cell = row.createCell(cellIndex);
         cell.setCellValue(value);
         cell.setCellStyle(style);
@@ -97,7 +99,7 @@ public class ScheduleCreationService {
         return schedulePayload.getClaimantName() + " -v- " + schedulePayload.getRespondentName();
     }
 
-    private void initializeData(XSSFWorkbook workbook, XSSFSheet sheet,
+    private void initializeData(Workbook workbook, Sheet sheet,
                                 List<SchedulePayload> schedulePayloads, String scheduleTemplate) {
 
         if (schedulePayloads.isEmpty()) {
@@ -109,7 +111,7 @@ public class ScheduleCreationService {
             MultiplesHelper.createCollectionOrderedByCaseRef(schedulePayloads);
 
         int startingRow = 4;
-        XSSFRow tableTitleRow = sheet.createRow(3);
+        Row tableTitleRow = sheet.createRow(3);
         if (scheduleTemplate.equals(MULTIPLE_SCHEDULE_CONFIG)) {
             log.info("Multiple schedule");
             for (int j = 0; j < multipleHeaders.size(); j++) {
@@ -122,7 +124,7 @@ public class ScheduleCreationService {
                     scheduleYearList.forEach((String caseNum, Object item) -> {
                         int columnIndex = 0;
                         SchedulePayload schedulePayload = (SchedulePayload) item;
-                        XSSFRow row = sheet.createRow(rowIndex[0] + startingRow);
+                        Row row = sheet.createRow(rowIndex[0] + startingRow);
                         createCell(row, columnIndex, schedulePayload.getEthosCaseRef(), cellStyle);
                         columnIndex++;
                         createCell(row, columnIndex, getClaimantVsRespondent(schedulePayload), cellStyle);
@@ -142,7 +144,7 @@ public class ScheduleCreationService {
                     scheduleYearList.forEach((String caseNum, Object item) -> {
                         int columnIndex = 0;
                         SchedulePayload schedulePayload = (SchedulePayload) item;
-                        XSSFRow row = sheet.createRow(rowIndex[0] + startingRow);
+                        Row row = sheet.createRow(rowIndex[0] + startingRow);
                         row.setHeightInPoints((float) 4.5 * sheet.getDefaultRowHeightInPoints());
                         createCell(row, columnIndex, schedulePayload.getEthosCaseRef(), cellStyle);
                         columnIndex++;
@@ -218,7 +220,7 @@ public class ScheduleCreationService {
         }
     }
 
-    private void initializeSubMultipleData(XSSFWorkbook workbook, XSSFSheet sheet, MultipleData multipleData,
+    private void initializeSubMultipleData(Workbook workbook, Sheet sheet, MultipleData multipleData,
                                            SortedMap<String, SortedMap<String, SortedMap<String,
                                            Object>>> schedulePayloadTreeMap) {
 
@@ -232,11 +234,11 @@ public class ScheduleCreationService {
                     schedulePayloadTreeMap.entrySet()) {
                 SortedMap<String, SortedMap<String, Object>> schedulePayloads = entry.getValue();
                 //TITLE ROW
-                XSSFRow subMultipleRow = sheet.createRow(startingRow);
+                Row subMultipleRow = sheet.createRow(startingRow);
                 createCell(subMultipleRow, 0, getSubMultipleTitle(multipleData, entry.getKey()),
                         MultiplesSchedulePrinter.getHeader3CellStyle(workbook));
                 //SUBTITLE ROW
-                XSSFRow tableTitleRow = sheet.createRow(startingRow + 1);
+                Row tableTitleRow = sheet.createRow(startingRow + 1);
                 for (int j = 0; j < subMultipleHeaders.size(); j++) {
                     createCell(tableTitleRow, j, subMultipleHeaders.get(j),
                             MultiplesSchedulePrinter.getHeader3CellStyle(workbook));
@@ -248,7 +250,7 @@ public class ScheduleCreationService {
                         scheduleYearList.forEach((String caseNum, Object caseItem) -> {
                             int columnIndex = 0;
                             SchedulePayload schedulePayload = (SchedulePayload) caseItem;
-                            XSSFRow row = sheet.createRow(entryStartingRow + 2 + rowIndex[0]);
+                            Row row = sheet.createRow(entryStartingRow + 2 + rowIndex[0]);
                             createCell(row, columnIndex, schedulePayload.getEthosCaseRef(), cellStyle);
                             columnIndex++;
                             createCell(row, columnIndex, schedulePayload.getClaimantName(), cellStyle);
@@ -263,7 +265,7 @@ public class ScheduleCreationService {
         }
     }
 
-    private void initializeSubMultipleDataLogic(XSSFWorkbook workbook, XSSFSheet sheet,
+    private void initializeSubMultipleDataLogic(Workbook workbook, Sheet sheet,
                                                 MultipleData multipleData, List<SchedulePayload> schedulePayloads,
                                                 SortedMap<String, Object> multipleObjectsFiltered) {
 
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An xlsx document generated with a streaming {@link SXSSFWorkbook} and written to a temporary file, from where it is
+ * uploaded to document management. Only {@link #ROW_ACCESS_WINDOW_SIZE} rows of each sheet are kept in memory while
+ * the workbook is built, and the finished document is never copied into a byte array. The temporary file is deleted
+ * when this is closed.
+ */
+@Slf4j
+public final class SpreadsheetFile implements AutoCloseable {
+
+    /**
+     * Number of rows of a sheet held in memory before older rows are flushed to disk.
+     */
+    public static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private static final String TEMP_FILE_PREFIX = "excel-writing-";
+    private static final String TEMP_FILE_SUFFIX = ".xlsx";
+
+    private final Path path;
+
+    private SpreadsheetFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Adds the sheets, rows and cells of the document to the workbook.
+     */
+    @FunctionalInterface
+    public interface WorkbookContent {
+        void build(SXSSFWorkbook workbook);
+    }
+
+    /**
+     * Builds the content of the document in a workbook that keeps a window of {@link #ROW_ACCESS_WINDOW_SIZE} rows of
+     * each sheet in memory, then writes it to a new temporary file. The temporary files used by the workbook for its
+     * flushed rows are removed whether or not this succeeds.
+     */
+    public static SpreadsheetFile create(WorkbookContent content) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        Path path = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        try (workbook; OutputStream outputStream = Files.newOutputStream(path)) {
+            content.build(workbook);
+            workbook.write(outputStream);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        } finally {
+            workbook.dispose();
+        }
+        return new SpreadsheetFile(path);
+    }
+
+    /**
+     * Creates an empty file, for reports that have no data to write.
+     */
+    public static SpreadsheetFile empty() throws IOException {
+        return new SpreadsheetFile(Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getSize() throws IOException {
+        return Files.size(path);
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete temporary excel file {}", path, e);
+        }
+    }
+}
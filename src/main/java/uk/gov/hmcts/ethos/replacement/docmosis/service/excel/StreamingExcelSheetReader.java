@@ -0,0 +1,287 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.poifs.crypt.CryptoFunctions;
+import org.apache.poi.poifs.crypt.HashAlgorithm;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Reads the rows of one worksheet of an xlsx document with the XSSF event (SAX) API. Unlike
+ * {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} the sheet is never built in memory: the document is spooled to a
+ * temporary file and each row is handed to a {@link RowHandler} as soon as it has been parsed, so memory use does not
+ * grow with the number of rows.
+ *
+ * <p>Cell values are converted the same way as {@link ExcelReadingService#getCellValue}: strings as they are,
+ * numbers through {@link NumberToTextConverter} and anything else (blank, formula, boolean, error) as an empty
+ * string. Missing cells are also read as an empty string.</p>
+ */
+public final class StreamingExcelSheetReader {
+
+    private static final String TEMP_FILE_PREFIX = "excel-reading-";
+    private static final String TEMP_FILE_SUFFIX = ".xlsx";
+
+    private StreamingExcelSheetReader() {
+    }
+
+    /**
+     * Receives the rows of the sheet in document order.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * Handles one row.
+         * @param rowNum zero-based row number
+         * @param cells values of the first {@code columnCount} cells of the row
+         */
+        void handleRow(int rowNum, List<String> cells);
+    }
+
+    /**
+     * Streams the rows of a worksheet to {@code rowHandler}.
+     * @param excelInputStream xlsx document, read to the end but not closed
+     * @param sheetName name of the worksheet to read, or null for the first worksheet
+     * @param columnCount number of leading cells read from each row
+     * @param rowHandler receives each row of the worksheet
+     * @return what was found out about the worksheet while reading it
+     */
+    public static SheetSummary readSheet(InputStream excelInputStream, String sheetName, int columnCount,
+                                         RowHandler rowHandler) throws IOException {
+        ZipSecureFile.setMinInflateRatio(0);
+        Path excelFile = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        try {
+            Files.copy(excelInputStream, excelFile, StandardCopyOption.REPLACE_EXISTING);
+            OPCPackage opcPackage = openPackage(excelFile);
+            try {
+                return readSheet(opcPackage, sheetName, columnCount, rowHandler);
+            } finally {
+                opcPackage.revert();
+            }
+        } finally {
+            Files.deleteIfExists(excelFile);
+        }
+    }
+
+    private static OPCPackage openPackage(Path excelFile) throws IOException {
+        try {
+            return OPCPackage.open(excelFile.toFile(), PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new IOException("Document is not a valid xlsx file", e);
+        }
+    }
+
+    private static SheetSummary readSheet(OPCPackage opcPackage, String sheetName, int columnCount,
+                                          RowHandler rowHandler) throws IOException {
+        try {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheetInputStream = sheets.next()) {
+                    if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                        SheetHandler sheetHandler = new SheetHandler(sharedStrings, columnCount, rowHandler);
+                        XMLReader xmlReader = XMLHelper.newXMLReader();
+                        xmlReader.setContentHandler(sheetHandler);
+                        xmlReader.parse(new InputSource(sheetInputStream));
+                        return sheetHandler.summary;
+                    }
+                }
+            }
+            return SheetSummary.NOT_FOUND;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Unable to read worksheet " + sheetName, e);
+        }
+    }
+
+    /**
+     * Details of a streamed worksheet that are only known once all of it has been read.
+     */
+    public static final class SheetSummary {
+        static final SheetSummary NOT_FOUND = new SheetSummary(false);
+
+        private final boolean found;
+        private int lastRowNum = -1;
+        private int headerCellCount = -1;
+        private boolean locked;
+        private String legacyPasswordHash;
+        private String algorithmName;
+        private String hashValue;
+        private String saltValue;
+        private int spinCount;
+
+        private SheetSummary(boolean found) {
+            this.found = found;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        /**
+         * Zero-based number of the last row, as returned by {@code XSSFSheet.getLastRowNum()}.
+         */
+        public int getLastRowNum() {
+            return lastRowNum;
+        }
+
+        public boolean hasHeaderRow() {
+            return headerCellCount >= 0;
+        }
+
+        /**
+         * Index of the last cell of the first row plus one, as returned by {@code Row.getLastCellNum()}, or -1 if the
+         * sheet has no first row.
+         */
+        public int getHeaderCellCount() {
+            return headerCellCount;
+        }
+
+        /**
+         * Same check as {@code XSSFSheet.validateSheetPassword}, made against the sheet protection read from the
+         * stream.
+         */
+        public boolean validateSheetPassword(String password) {
+            if (!locked) {
+                return password == null;
+            }
+            if (legacyPasswordHash != null) {
+                return Integer.parseInt(legacyPasswordHash, 16) == CryptoFunctions.createXorVerifier1(password);
+            }
+            if (hashValue == null || algorithmName == null || password == null) {
+                return false;
+            }
+            HashAlgorithm hashAlgorithm = HashAlgorithm.fromString(algorithmName);
+            byte[] salt = saltValue == null ? new byte[0] : Base64.getDecoder().decode(saltValue);
+            byte[] hash = CryptoFunctions.hashPassword(password, hashAlgorithm, salt, spinCount, false);
+            return Arrays.equals(Base64.getDecoder().decode(hashValue), hash);
+        }
+    }
+
+    private static final class SheetHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final int columnCount;
+        private final RowHandler rowHandler;
+        private final SheetSummary summary = new SheetSummary(true);
+        private final StringBuilder value = new StringBuilder();
+
+        private String[] cells;
+        private int rowNum = -1;
+        private int column = -1;
+        private int lastCellNum;
+        private String cellType;
+        private boolean formula;
+        private boolean readingValue;
+
+        SheetHandler(ReadOnlySharedStringsTable sharedStrings, int columnCount, RowHandler rowHandler) {
+            this.sharedStrings = sharedStrings;
+            this.columnCount = columnCount;
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qualifiedName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String rowRef = attributes.getValue("r");
+                    rowNum = rowRef == null ? rowNum + 1 : Integer.parseInt(rowRef) - 1;
+                    cells = new String[columnCount];
+                    Arrays.fill(cells, "");
+                    column = -1;
+                    lastCellNum = 0;
+                }
+                case "c" -> {
+                    String cellRef = attributes.getValue("r");
+                    column = cellRef == null ? column + 1 : new CellReference(cellRef).getCol();
+                    cellType = attributes.getValue("t");
+                    formula = false;
+                    value.setLength(0);
+                }
+                case "f" -> formula = true;
+                case "v", "t" -> readingValue = true;
+                case "sheetProtection" -> readSheetProtection(attributes);
+                default -> {
+                    // Nothing to read from other elements
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (readingValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qualifiedName) {
+            switch (localName) {
+                case "v", "t" -> readingValue = false;
+                case "c" -> {
+                    lastCellNum = column + 1;
+                    if (column < columnCount) {
+                        cells[column] = cellValue();
+                    }
+                }
+                case "row" -> {
+                    if (rowNum == 0) {
+                        summary.headerCellCount = lastCellNum;
+                    }
+                    summary.lastRowNum = rowNum;
+                    rowHandler.handleRow(rowNum, Collections.unmodifiableList(Arrays.asList(cells)));
+                }
+                default -> {
+                    // Nothing to do for other elements
+                }
+            }
+        }
+
+        private String cellValue() {
+            if (formula || value.isEmpty()) {
+                return "";
+            }
+            if (cellType == null || "n".equals(cellType)) {
+                return NumberToTextConverter.toText(Double.parseDouble(value.toString()));
+            }
+            return switch (cellType) {
+                case "s" -> sharedStrings.getItemAt(Integer.parseInt(value.toString())).getString();
+                case "inlineStr" -> value.toString();
+                default -> "";
+            };
+        }
+
+        private void readSheetProtection(Attributes attributes) {
+            String sheet = attributes.getValue("sheet");
+            summary.locked = "true".equals(sheet) || "1".equals(sheet);
+            summary.legacyPasswordHash = StringUtils.trimToNull(attributes.getValue("password"));
+            summary.algorithmName = attributes.getValue("algorithmName");
+            summary.hashValue = attributes.getValue("hashValue");
+            summary.saltValue = attributes.getValue("saltValue");
+            String spinCount = attributes.getValue("spinCount");
+            summary.spinCount = spinCount == null ? 0 : Integer.parseInt(spinCount);
+        }
+    }
+}
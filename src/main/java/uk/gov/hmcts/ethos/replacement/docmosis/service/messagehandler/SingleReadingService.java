@@ -14,8 +14,12 @@ import uk.gov.hmcts.ethos.replacement.docmosis.service.AdminUserService;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.SINGLE_CASE_TYPE;
 
@@ -34,14 +38,22 @@ public class SingleReadingService {
     private final SingleTransferService singleTransferService;
 
     public void sendUpdateToSingleLogic(UpdateCaseMsg updateCaseMsg) throws IOException {
+        sendUpdateToSingleLogic(updateCaseMsg, UpdateCaseBatch.empty());
+    }
+
+    public void sendUpdateToSingleLogic(UpdateCaseMsg updateCaseMsg, UpdateCaseBatch batch) throws IOException {
         String accessToken = userService.getAdminUserToken();
-        List<SubmitEvent> submitEvents = retrieveSingleCase(accessToken, updateCaseMsg);
+        Optional<SubmitEvent> prefetched = batch.getCase(getCaseType(updateCaseMsg),
+            updateCaseMsg.getEthosCaseReference());
+        List<SubmitEvent> submitEvents = prefetched.isPresent()
+            ? List.of(prefetched.get())
+            : retrieveSingleCase(accessToken, updateCaseMsg);
 
         if (CollectionUtils.isNotEmpty(submitEvents)) {
             if (updateCaseMsg.getDataModelParent() instanceof CreationSingleDataModel) {
                 singleTransferService.sendTransferred(submitEvents.getFirst(), accessToken, updateCaseMsg);
             } else {
-                singleUpdateService.sendUpdate(submitEvents.getFirst(), accessToken, updateCaseMsg);
+                singleUpdateService.sendUpdate(submitEvents.getFirst(), accessToken, updateCaseMsg, batch);
             }
         } else {
             log.warn("No submit events found for msg id {} with case reference {}", updateCaseMsg.getMsgId(),
@@ -49,15 +61,64 @@ public class SingleReadingService {
         }
     }
 
+    /**
+     * Looks up the cases for a batch of messages with one Elasticsearch search per case type, rather than one per
+     * message. A case referenced by more than one message in the batch is left out, so that each message still
+     * updates its own copy of the case, as is any case the search does not return; those are looked up per message
+     * as before. A failed search only means the batch is empty.
+     */
+    public UpdateCaseBatch prefetchCases(List<UpdateCaseMsg> updateCaseMsgs) {
+        Map<String, Map<String, Long>> referenceCountsByCaseType = updateCaseMsgs.stream()
+            .filter(updateCaseMsg -> updateCaseMsg.getEthosCaseReference() != null)
+            .collect(Collectors.groupingBy(this::getCaseType,
+                Collectors.groupingBy(UpdateCaseMsg::getEthosCaseReference, Collectors.counting())));
+
+        Map<String, SubmitEvent> cases = new HashMap<>();
+        try {
+            String accessToken = userService.getAdminUserToken();
+            for (Map.Entry<String, Map<String, Long>> entry : referenceCountsByCaseType.entrySet()) {
+                List<String> references = entry.getValue().entrySet().stream()
+                    .filter(referenceCount -> referenceCount.getValue() == 1)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toCollection(ArrayList::new));
+                if (references.isEmpty()) {
+                    continue;
+                }
+                List<SubmitEvent> submitEvents =
+                    ccdClient.retrieveCasesElasticSearch(accessToken, entry.getKey(), references);
+                if (submitEvents == null) {
+                    continue;
+                }
+                for (SubmitEvent submitEvent : submitEvents) {
+                    String reference = submitEvent.getCaseData() == null
+                        ? null
+                        : submitEvent.getCaseData().getEthosCaseReference();
+                    if (reference != null && entry.getValue().containsKey(reference)) {
+                        cases.put(UpdateCaseBatch.caseKey(entry.getKey(), reference), submitEvent);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to prefetch cases for {} update-case messages, looking them up one at a time",
+                updateCaseMsgs.size(), e);
+            return UpdateCaseBatch.empty();
+        }
+        log.info("Prefetched {} cases for {} update-case messages", cases.size(), updateCaseMsgs.size());
+        return new UpdateCaseBatch(cases);
+    }
+
     private List<SubmitEvent> retrieveSingleCase(String accessToken, UpdateCaseMsg updateCaseMsg) throws IOException {
         Objects.requireNonNull(updateCaseMsg.getEthosCaseReference(), "No ethosCaseReference found");
-        String caseType = updateCaseMsg.getMultipleRef().equals(SINGLE_CASE_TYPE)
-            ? updateCaseMsg.getCaseTypeId()
-            : UtilHelper.getCaseTypeId(updateCaseMsg.getCaseTypeId());
 
         return ccdClient.retrieveCasesElasticSearch(
             accessToken,
-            caseType,
+            getCaseType(updateCaseMsg),
             new ArrayList<>(Collections.singletonList(updateCaseMsg.getEthosCaseReference())));
     }
+
+    private String getCaseType(UpdateCaseMsg updateCaseMsg) {
+        return SINGLE_CASE_TYPE.equals(updateCaseMsg.getMultipleRef())
+            ? updateCaseMsg.getCaseTypeId()
+            : UtilHelper.getCaseTypeId(updateCaseMsg.getCaseTypeId());
+    }
 }
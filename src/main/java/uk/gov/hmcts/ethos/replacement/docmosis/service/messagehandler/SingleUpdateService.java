@@ -41,12 +41,17 @@ public class SingleUpdateService {
 
     public void sendUpdate(SubmitEvent submitEvent, String accessToken,
                            UpdateCaseMsg updateCaseMsg) throws IOException {
+        sendUpdate(submitEvent, accessToken, updateCaseMsg, UpdateCaseBatch.empty());
+    }
+
+    public void sendUpdate(SubmitEvent submitEvent, String accessToken,
+                           UpdateCaseMsg updateCaseMsg, UpdateCaseBatch batch) throws IOException {
 
         var caseTypeId = UtilHelper.getCaseTypeId(updateCaseMsg.getCaseTypeId());
         var jurisdiction = updateCaseMsg.getJurisdiction();
         var caseId = String.valueOf(submitEvent.getCaseId());
 
-        updateMultipleReferenceLinkMarkUp(submitEvent, accessToken, updateCaseMsg);
+        updateMultipleReferenceLinkMarkUp(submitEvent, accessToken, updateCaseMsg, batch);
 
         CCDRequest returnedRequest = getReturnedRequest(accessToken, caseTypeId,
                                                         jurisdiction, caseId, updateCaseMsg);
@@ -110,10 +115,14 @@ public class SingleUpdateService {
     }
 
     private void updateMultipleReferenceLinkMarkUp(SubmitEvent submitEvent, String accessToken,
-                                                   UpdateCaseMsg updateCaseMsg) throws IOException {
+                                                   UpdateCaseMsg updateCaseMsg,
+                                                   UpdateCaseBatch batch) throws IOException {
 
         if (isNullOrEmpty(submitEvent.getCaseData().getMultipleReferenceLinkMarkUp())) {
-            List<SubmitMultipleEvent> submitMultipleEvents = retrieveMultipleCase(accessToken, updateCaseMsg);
+            List<SubmitMultipleEvent> submitMultipleEvents = batch.getMultiple(
+                updateCaseMsg.getCaseTypeId(),
+                updateCaseMsg.getMultipleRef(),
+                () -> retrieveMultipleCase(accessToken, updateCaseMsg));
             if (!submitMultipleEvents.isEmpty()) {
                 submitEvent.getCaseData().setMultipleReferenceLinkMarkUp(
                     MultiplesHelper.generateMarkUp(
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler;
+
+import uk.gov.hmcts.et.common.model.ccd.SubmitEvent;
+import uk.gov.hmcts.et.common.model.multiples.SubmitMultipleEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cases and parent multiples looked up once for a batch of update-case messages claimed together, so that each
+ * message does not need its own Elasticsearch searches. The cases are fetched up front by
+ * {@link SingleReadingService#prefetchCases}; a parent multiple is looked up by the first message that needs it and
+ * shared with the rest of the batch. Anything missing from the batch is looked up per message as before.
+ */
+public final class UpdateCaseBatch {
+
+    private static final UpdateCaseBatch EMPTY = new UpdateCaseBatch(Map.of());
+
+    private final Map<String, SubmitEvent> cases;
+    private final Map<String, List<SubmitMultipleEvent>> multiples = new ConcurrentHashMap<>();
+
+    UpdateCaseBatch(Map<String, SubmitEvent> cases) {
+        this.cases = Map.copyOf(cases);
+    }
+
+    /**
+     * Returns a batch with no cases in it, for messages processed on their own.
+     */
+    public static UpdateCaseBatch empty() {
+        return EMPTY;
+    }
+
+    public Optional<SubmitEvent> getCase(String caseTypeId, String ethosCaseReference) {
+        return Optional.ofNullable(cases.get(caseKey(caseTypeId, ethosCaseReference)));
+    }
+
+    /**
+     * Returns the multiple cases for the given multiple reference, calling the lookup only the first time they are
+     * asked for in this batch. Messages asking at the same time wait for that one lookup rather than making their
+     * own. The empty batch is shared, so it never caches and always calls the lookup.
+     */
+    public List<SubmitMultipleEvent> getMultiple(String caseTypeId, String multipleRef, MultipleLookup lookup)
+        throws IOException {
+
+        if (this == EMPTY) {
+            return lookup.retrieve();
+        }
+        try {
+            return multiples.computeIfAbsent(caseKey(caseTypeId, multipleRef), key -> {
+                try {
+                    return lookup.retrieve();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    int size() {
+        return cases.size();
+    }
+
+    static String caseKey(String caseTypeId, String reference) {
+        return caseTypeId + ":" + reference;
+    }
+
+    @FunctionalInterface
+    public interface MultipleLookup {
+        List<SubmitMultipleEvent> retrieve() throws IOException;
+    }
+}
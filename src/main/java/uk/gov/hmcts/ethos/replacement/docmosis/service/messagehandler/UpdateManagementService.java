@@ -12,7 +12,6 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.MultipleCounter
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.MultipleErrorsRepository;
 
 import java.io.IOException;
-import java.security.SecureRandom;
 import java.util.List;
 import javax.naming.NameNotFoundException;
 
@@ -29,7 +28,6 @@ import static uk.gov.hmcts.ecm.common.model.helper.Constants.YES;
 public class UpdateManagementService {
 
     private static final String UNPROCESSABLE_MESSAGE = "Unprocessable message";
-    private static final SecureRandom RANDOM = new SecureRandom();
 
     private final MultipleCounterRepository multipleCounterRepository;
     private final MultipleErrorsRepository multipleErrorsRepository;
@@ -39,6 +37,25 @@ public class UpdateManagementService {
 
     public void updateLogic(UpdateCaseMsg updateCaseMsg) throws IOException, InterruptedException,
         NameNotFoundException {
+        updateLogic(updateCaseMsg, UpdateCaseBatch.empty());
+    }
+
+    /**
+     * Looks up in bulk the cases that a batch of messages will update, to be passed to
+     * {@link #updateLogic(UpdateCaseMsg, UpdateCaseBatch)} for each of them.
+     */
+    public UpdateCaseBatch prepareBatch(List<UpdateCaseMsg> updateCaseMsgs) {
+        List<UpdateCaseMsg> singleUpdates = updateCaseMsgs.stream()
+            .filter(updateCaseMsg -> !(updateCaseMsg.getDataModelParent() instanceof LegalRepDataModel)
+                && !(updateCaseMsg.getDataModelParent() instanceof ResetStateDataModel))
+            .toList();
+        return singleUpdates.isEmpty()
+            ? UpdateCaseBatch.empty()
+            : singleReadingService.prefetchCases(singleUpdates);
+    }
+
+    public void updateLogic(UpdateCaseMsg updateCaseMsg, UpdateCaseBatch batch) throws IOException,
+        InterruptedException, NameNotFoundException {
 
         if (updateCaseMsg.getDataModelParent() instanceof LegalRepDataModel legalRepDataModel) {
             legalRepAccessService.run(legalRepDataModel);
@@ -53,7 +70,7 @@ public class UpdateManagementService {
 
         } else {
 
-            singleReadingService.sendUpdateToSingleLogic(updateCaseMsg);
+            singleReadingService.sendUpdateToSingleLogic(updateCaseMsg, batch);
 
             if (!updateCaseMsg.getMultipleRef().equals(SINGLE_CASE_TYPE)) {
 
@@ -67,7 +84,8 @@ public class UpdateManagementService {
 
     public void checkIfFinish(UpdateCaseMsg updateCaseMsg) throws IOException, InterruptedException {
 
-        int counter = getNextCounterNumberWithDelay(updateCaseMsg.getMultipleRef());
+        // Atomic increment: every caller gets a distinct value, so exactly one sees the total
+        int counter = multipleCounterRepository.persistentQGetNextMultipleCountVal(updateCaseMsg.getMultipleRef());
 
         log.info("COUNTER: " + counter + " TOTAL CASES: " + updateCaseMsg.getTotalCases());
 
@@ -88,15 +106,6 @@ public class UpdateManagementService {
 
     }
 
-    private int getNextCounterNumberWithDelay(String multipleRef) throws InterruptedException {
-
-        long delay = RANDOM.nextInt(1000);
-
-        Thread.sleep(delay);
-
-        return multipleCounterRepository.persistentQGetNextMultipleCountVal(multipleRef);
-    }
-
     private void deleteMultipleRefDatabase(String multipleRef) {
 
         log.info("Clearing all multipleRef from DBs: " + multipleRef);
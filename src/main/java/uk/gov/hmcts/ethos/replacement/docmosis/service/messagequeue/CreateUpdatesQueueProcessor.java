@@ -3,12 +3,10 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import uk.gov.hmcts.ecm.common.model.servicebus.CreateUpdatesMsg;
 import uk.gov.hmcts.ecm.common.model.servicebus.UpdateCaseMsg;
@@ -20,9 +18,17 @@ import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.TransferTo
 import java.net.InetAddress;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static uk.gov.hmcts.ethos.replacement.docmosis.config.ConnectionUsageTrackingDataSource.QUEUE_WORKER_THREAD_PREFIX;
 
 /**
  * Processes messages from the create_updates_queue table.
@@ -39,8 +45,8 @@ public class CreateUpdatesQueueProcessor {
     private final CreateUpdatesQueueRepository createUpdatesQueueRepository;
     private final UpdateCaseQueueSender updateCaseQueueSender;
     private final ObjectMapper objectMapper;
-    private final ObjectProvider<CreateUpdatesQueueProcessor> selfProvider;
     private final TransferToEcmService transferToEcmService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${queue.create-updates.batch-size:10}")
     private int batchSize;
@@ -48,31 +54,80 @@ public class CreateUpdatesQueueProcessor {
     @Value("${queue.create-updates.threads:15}")
     private int threadCount;
 
+    @Value("${queue.create-updates.lease-renewal-interval:60000}")
+    private long leaseRenewalInterval;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean backlog = new AtomicBoolean();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final Set<String> leasedMessageIds = ConcurrentHashMap.newKeySet();
     private ExecutorService executor;
+    private ScheduledExecutorService leaseRenewer;
     private String processorId;
 
-    public void init() {
+    public synchronized void init() {
         if (executor == null) {
-            executor = Executors.newFixedThreadPool(threadCount);
+            executor = Executors.newFixedThreadPool(threadCount, Thread.ofPlatform()
+                .name(QUEUE_WORKER_THREAD_PREFIX + "create-updates-", 0)
+                .factory());
             try {
                 processorId = InetAddress.getLocalHost().getHostName() + "-" + UUID.randomUUID();
             } catch (Exception e) {
                 processorId = "processor-" + UUID.randomUUID();
             }
+            if (leaseRenewalInterval > 0) {
+                // Renew on a thread of its own, so a busy scheduler cannot delay renewal until leases run out
+                leaseRenewer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name(QUEUE_WORKER_THREAD_PREFIX + "create-updates-lease-renewal")
+                    .daemon()
+                    .factory());
+                leaseRenewer.scheduleWithFixedDelay(this::renewLeasesSafely, leaseRenewalInterval,
+                    leaseRenewalInterval, TimeUnit.MILLISECONDS);
+            }
         }
     }
 
-    @Scheduled(fixedDelayString = "${queue.create-updates.poll-interval:1000}")
+    /**
+     * Claims as many pending messages as there are idle workers and hands them to the workers. The scheduler, the
+     * queue notification listener and workers that free up while there is a backlog all call this, but only one
+     * of them claims at a time; a call made while another is claiming has that caller claim once more when it has
+     * finished, so that messages enqueued in the meantime are not left for the next poll.
+     */
+    @Scheduled(fixedDelayString = "${queue.create-updates.poll-interval:30000}")
     public void processPendingMessages() {
+        pollRequested.set(true);
+        while (pollRequested.get() && polling.compareAndSet(false, true)) {
+            try {
+                pollRequested.set(false);
+                claimAndSubmitMessages();
+            } finally {
+                polling.set(false);
+            }
+        }
+    }
+
+    private void claimAndSubmitMessages() {
         log.info("Polling for create-updates messages...");
         init();
-        
-        List<CreateUpdatesQueueMessage> messages = createUpdatesQueueRepository.findPendingMessages(
+
+        // Only claim as many messages as there are idle workers, so claimed rows never sit in the executor
+        // queue while their lock runs down and other pods are left with nothing to do
+        int capacity = Math.min(batchSize, threadCount - inFlight.get());
+        if (capacity <= 0) {
+            log.info("All create-updates workers busy, skipping poll");
+            return;
+        }
+
+        List<CreateUpdatesQueueMessage> messages = createUpdatesQueueRepository.claimPendingMessages(
+                processorId,
+                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES),
                 LocalDateTime.now(),
-                PageRequest.of(0, batchSize)
+                capacity
         );
+        backlog.set(messages.size() == capacity);
 
-        log.info("Found {} messages in create-updates queue", messages.size());
+        log.info("Claimed {} messages from create-updates queue", messages.size());
         
         if (messages.isEmpty()) {
             return;
@@ -80,30 +135,68 @@ public class CreateUpdatesQueueProcessor {
 
         messages.forEach(message -> {
             log.info("Submitting message {} to executor", message.getMessageId());
-            // Use self-proxy to ensure @Transactional works
-            CreateUpdatesQueueProcessor self = selfProvider.getObject();
-            executor.submit(() -> self.processMessage(message));
+            inFlight.incrementAndGet();
+            leasedMessageIds.add(message.getMessageId());
+            executor.submit(() -> {
+                try {
+                    processMessage(message);
+                } finally {
+                    leasedMessageIds.remove(message.getMessageId());
+                    inFlight.decrementAndGet();
+                    pollAgainIfBacklogged();
+                }
+            });
         });
     }
 
-    @Transactional
-    public void processMessage(CreateUpdatesQueueMessage queueMessage) {
-        log.info("processMessage called for message: {}", queueMessage.getMessageId());
-        
-        // Try to lock the message
-        int locked = createUpdatesQueueRepository.lockMessage(
-                queueMessage.getMessageId(),
-                processorId,
-                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES),
-                LocalDateTime.now()
-        );
+    /**
+     * A full claim means more messages are probably waiting, so a worker that frees up claims the next one
+     * straight away instead of waiting for a notification or the safety-net poll.
+     */
+    private void pollAgainIfBacklogged() {
+        if (backlog.get()) {
+            try {
+                processPendingMessages();
+            } catch (Exception e) {
+                log.error("Error polling create-updates queue for backlogged messages", e);
+            }
+        }
+    }
 
-        log.info("Lock attempt result for message {}: locked={}", queueMessage.getMessageId(), locked);
-        
-        if (locked == 0) {
-            log.info("Message {} already locked by another processor", queueMessage.getMessageId());
+    /**
+     * Renews the lease on the messages this processor is still working on. Messages are processed outside any
+     * transaction, so the lease taken when they were claimed is all that stops another processor claiming them
+     * again; renewing it well inside {@value #LOCK_DURATION_MINUTES} minutes keeps long-running messages owned by
+     * this processor, while the messages of a processor that has stopped are picked up once its leases run out.
+     */
+    public void renewLeases() {
+        List<String> messageIds = List.copyOf(leasedMessageIds);
+        if (messageIds.isEmpty()) {
             return;
         }
+        int renewed = createUpdatesQueueRepository.renewLeases(messageIds, processorId,
+                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES));
+        log.debug("Renewed the lease on {} create-updates messages", renewed);
+    }
+
+    private void renewLeasesSafely() {
+        try {
+            renewLeases();
+        } catch (Exception e) {
+            log.error("Error renewing leases on create-updates messages", e);
+        }
+    }
+
+    /**
+     * Processes a message already claimed by this processor through
+     * {@link CreateUpdatesQueueRepository#claimPendingMessages}. No transaction is held while the message is
+     * processed, so the database connection is only borrowed for the individual inserts and updates rather than
+     * for the whole of any transfer to ECM through CCD. Each status update runs in a short transaction of its
+     * own, or in the one that queues the message's update-case messages, and only takes effect while this
+     * processor still holds the message's lease.
+     */
+    public void processMessage(CreateUpdatesQueueMessage queueMessage) {
+        log.info("processMessage called for message: {}", queueMessage.getMessageId());
 
         try {
             CreateUpdatesMsg createUpdatesMsg = objectMapper.readValue(
@@ -115,38 +208,51 @@ public class CreateUpdatesQueueProcessor {
 
             if (createUpdatesMsg.getDataModelParent() instanceof TransferToEcmDataModel) {
                 transferToEcmService.transferToEcm(createUpdatesMsg);
+                log.info("Marking message {} as completed", queueMessage.getMessageId());
+                markAsCompleted(queueMessage);
             } else {
-                sendUpdateCaseMessages(createUpdatesMsg);
+                sendUpdateCaseMessagesAndComplete(queueMessage, createUpdatesMsg);
             }
 
-            // Mark as completed
-            log.info("Marking message {} as completed", queueMessage.getMessageId());
-            createUpdatesQueueRepository.markAsCompleted(
-                    queueMessage.getMessageId(),
-                    LocalDateTime.now()
-            );
-
             log.info("Successfully processed create-updates message: {}", queueMessage.getMessageId());
 
         } catch (Exception e) {
-            selfProvider.getObject().handleError(queueMessage, e);
+            handleError(queueMessage, e);
         }
     }
 
-    private void sendUpdateCaseMessages(CreateUpdatesMsg createUpdatesMsg) {
-        if (createUpdatesMsg.getEthosCaseRefCollection() != null) {
-            for (String ethosCaseReference : createUpdatesMsg.getEthosCaseRefCollection()) {
-                UpdateCaseMsg updateCaseMsg = mapToUpdateCaseMsg(createUpdatesMsg, ethosCaseReference);
-                updateCaseQueueSender.sendMessage(updateCaseMsg);
+    /**
+     * Queues the update-case messages and marks the create-updates message completed in one transaction, so a
+     * processor stopping between the two, or losing its lease, cannot leave the message to be fanned out again.
+     */
+    private void sendUpdateCaseMessagesAndComplete(CreateUpdatesQueueMessage queueMessage,
+                                                   CreateUpdatesMsg createUpdatesMsg) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (createUpdatesMsg.getEthosCaseRefCollection() != null) {
+                updateCaseQueueSender.sendMessages(mapToUpdateCaseMsg(createUpdatesMsg),
+                        createUpdatesMsg.getEthosCaseRefCollection());
             }
+            log.info("Marking message {} as completed", queueMessage.getMessageId());
+            markAsCompleted(queueMessage);
+        });
+    }
+
+    private void markAsCompleted(CreateUpdatesQueueMessage queueMessage) {
+        int updated = createUpdatesQueueRepository.markAsCompleted(queueMessage.getMessageId(), processorId,
+                LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalStateException("Lease on create-updates message " + queueMessage.getMessageId()
+                    + " was lost before it completed");
         }
     }
 
-    private UpdateCaseMsg mapToUpdateCaseMsg(CreateUpdatesMsg createUpdatesMsg, String ethosCaseReference) {
+    /**
+     * Maps the fields shared by every case; the message id and case reference are set per case by
+     * {@link UpdateCaseQueueSender#sendMessages}.
+     */
+    private UpdateCaseMsg mapToUpdateCaseMsg(CreateUpdatesMsg createUpdatesMsg) {
         return UpdateCaseMsg.builder()
-                .msgId(UUID.randomUUID().toString())
                 .multipleRef(createUpdatesMsg.getMultipleRef())
-                .ethosCaseReference(ethosCaseReference)
                 .totalCases(createUpdatesMsg.getTotalCases())
                 .multipleReferenceLinkMarkUp(createUpdatesMsg.getMultipleReferenceLinkMarkUp())
                 .jurisdiction(createUpdatesMsg.getJurisdiction())
@@ -157,7 +263,6 @@ public class CreateUpdatesQueueProcessor {
                 .build();
     }
 
-    @Transactional
     protected void handleError(CreateUpdatesQueueMessage queueMessage, Exception ex) {
         log.error("Error processing create-updates message {}: {}",
                 queueMessage.getMessageId(), ex.getMessage(), ex);
@@ -165,6 +270,7 @@ public class CreateUpdatesQueueProcessor {
         if (isUnprocessableEntity(ex)) {
             createUpdatesQueueRepository.markAsFailedNoRetry(
                     queueMessage.getMessageId(),
+                    processorId,
                     ex.getMessage(),
                     LocalDateTime.now()
             );
@@ -177,6 +283,7 @@ public class CreateUpdatesQueueProcessor {
 
         createUpdatesQueueRepository.incrementRetryAndMarkFailureIfMax(
                 queueMessage.getMessageId(),
+                processorId,
                 ex.getMessage(),
                 MAX_RETRIES,
                 processedAt
@@ -0,0 +1,160 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.EmailOutboxMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the emails queued in the email_outbox table through GOV.UK Notify.
+ * Each poll claims one batch of due emails and sends them one after another, no faster than the configured rate, so
+ * that a burst of callbacks cannot take this pod over its share of the Notify rate limit. Notify does not treat the
+ * reference an email is sent with as an idempotency key, so the lease on each email is renewed just before it is
+ * sent and an email whose lease has been lost to another dispatcher is left to that dispatcher. Emails Notify
+ * rejects as invalid fail straight away, while rate limiting, server and connection errors are retried with an
+ * increasing delay until {@value #MAX_RETRIES} attempts have been made.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "queue.email-outbox.enabled", havingValue = "true")
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_RETRIES = 10;
+    private static final int LOCK_DURATION_MINUTES = 5;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    private static final TypeReference<Map<String, Object>> PERSONALISATION_TYPE = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final NotificationClient notificationClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${queue.email-outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${queue.email-outbox.rate-per-second:20}")
+    private int ratePerSecond;
+
+    @Value("${queue.email-outbox.retry-delay:30000}")
+    private long retryDelayMillis;
+
+    private final String dispatcherId = createDispatcherId();
+    private long nextSendNanos = System.nanoTime();
+
+    @Scheduled(fixedDelayString = "${queue.email-outbox.poll-interval:1000}")
+    public void dispatchPendingEmails() {
+        List<EmailOutboxMessage> emails = emailOutboxRepository.claimPendingEmails(
+                dispatcherId,
+                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES),
+                LocalDateTime.now(),
+                batchSize
+        );
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        log.info("Claimed {} emails from the email outbox to send", emails.size());
+        for (EmailOutboxMessage email : emails) {
+            try {
+                awaitRateLimit();
+            } catch (InterruptedException e) {
+                // The lease on the emails not yet sent runs out and they are claimed again
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // Waiting on the rate limit and on Notify for the emails before this one may have used up its lease
+            if (emailOutboxRepository.renewLease(email.getReference(), dispatcherId,
+                    LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES)) == 0) {
+                log.warn("Lease on email {} was lost before it was sent", email.getReference());
+                continue;
+            }
+            sendEmail(email);
+        }
+    }
+
+    void sendEmail(EmailOutboxMessage email) {
+        try {
+            Map<String, Object> personalisation =
+                    objectMapper.readValue(email.getPersonalisation(), PERSONALISATION_TYPE);
+            notificationClient.sendEmail(
+                    email.getTemplateId(),
+                    email.getEmailAddress(),
+                    personalisation,
+                    email.getReference()
+            );
+            emailOutboxRepository.markAsSent(email.getReference(), dispatcherId, LocalDateTime.now());
+            log.info("Sending email success. Reference ID: {}", email.getReference());
+        } catch (NotificationClientException e) {
+            handleError(email, e, isRetryable(e));
+        } catch (JsonProcessingException e) {
+            handleError(email, e, false);
+        }
+    }
+
+    private void handleError(EmailOutboxMessage email, Exception exception, boolean retryable) {
+        int retryCount = email.getRetryCount() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        if (retryable && retryCount < MAX_RETRIES) {
+            log.warn("Failed to send email, will retry. Reference ID: {}. Reason: {}",
+                    email.getReference(), exception.getMessage());
+            emailOutboxRepository.markAsFailed(email.getReference(), dispatcherId, exception.getMessage(), retryCount,
+                    QueueMessageStatus.PENDING, null, now.plus(retryDelay(retryCount)));
+        } else {
+            log.error("Failed to send email. Reference ID: {}. Reason:", email.getReference(), exception);
+            emailOutboxRepository.markAsFailed(email.getReference(), dispatcherId, exception.getMessage(), retryCount,
+                    QueueMessageStatus.FAILED, now, null);
+        }
+    }
+
+    /**
+     * Notify answers 429 when the rate limit is exceeded and 5xx when it is unavailable, and the client reports
+     * connection failures without an HTTP status; any other 4xx means the email itself is wrong.
+     */
+    private static boolean isRetryable(NotificationClientException exception) {
+        int httpResult = exception.getHttpResult();
+        return httpResult < 400 || httpResult == 429 || httpResult >= 500;
+    }
+
+    private Duration retryDelay(int retryCount) {
+        Duration delay = Duration.ofMillis(retryDelayMillis).multipliedBy(1L << Math.min(retryCount - 1, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    private void awaitRateLimit() throws InterruptedException {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long wait = nextSendNanos - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        nextSendNanos = Math.max(nextSendNanos, System.nanoTime()) + TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+    }
+
+    private static String createDispatcherId() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + UUID.randomUUID();
+        } catch (Exception e) {
+            return "dispatcher-" + UUID.randomUUID();
+        }
+    }
+}
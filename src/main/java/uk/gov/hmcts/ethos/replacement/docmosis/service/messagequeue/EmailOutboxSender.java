@@ -0,0 +1,69 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.EmailOutboxMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service to write GOV.UK Notify emails to the email_outbox table, for {@link EmailOutboxDispatcher} to send.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "queue.email-outbox.enabled", havingValue = "true")
+public class EmailOutboxSender {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Queues an email to be sent with the given template and personalisation.
+     *
+     * @return the reference the email will be sent to Notify with
+     */
+    public String queueEmail(String templateId, String emailAddress, Map<String, ?> personalisation) {
+        String reference = UUID.randomUUID().toString();
+        try {
+            emailOutboxRepository.save(EmailOutboxMessage.builder()
+                    .reference(reference)
+                    .templateId(templateId)
+                    .emailAddress(emailAddress)
+                    .personalisation(objectMapper.writeValueAsString(toJsonValues(personalisation)))
+                    .status(QueueMessageStatus.PENDING)
+                    .createdAt(LocalDateTime.now())
+                    .retryCount(0)
+                    .build());
+            log.info("Queued email in the email outbox. Reference ID: {}", reference);
+            return reference;
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.error("Failed to queue email in the email outbox", e);
+            throw new IllegalStateException("Failed to queue email", e);
+        }
+    }
+
+    /**
+     * Document links are prepared for Notify as org.json objects, which Jackson cannot write, so they are turned
+     * into maps; the Notify client turns them back into the same JSON when the email is sent.
+     */
+    private static Map<String, Object> toJsonValues(Map<String, ?> personalisation) {
+        Map<String, Object> jsonValues = new LinkedHashMap<>();
+        if (personalisation != null) {
+            personalisation.forEach((key, value) ->
+                jsonValues.put(key, value instanceof JSONObject jsonObject ? jsonObject.toMap() : value));
+        }
+        return jsonValues;
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Wakes the database queue processors as soon as a message is enqueued.
+ * Holds one dedicated (non-pooled) connection that LISTENs on the channels raised by the insert triggers on
+ * create_updates_queue and update_case_queue. The processors are woken on threads of their own, so that a slow
+ * claim never holds up reading notifications. The processors' scheduled polling remains as a safety net for
+ * retries and for anything enqueued while this connection is being re-established.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "queue.notify.enabled", havingValue = "true", matchIfMissing = true)
+public class QueueNotificationListener {
+
+    static final String CREATE_UPDATES_CHANNEL = "create_updates_queue";
+    static final String UPDATE_CASE_CHANNEL = "update_case_queue";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CreateUpdatesQueueProcessor createUpdatesQueueProcessor;
+    private final UpdateCaseQueueProcessor updateCaseQueueProcessor;
+    // One thread for each processor
+    private final ExecutorService wakeExecutor = Executors.newFixedThreadPool(2, Thread.ofPlatform()
+            .name("queue-notification-wake-", 0)
+            .daemon()
+            .factory());
+
+    @Value("${queue.notify.receive-timeout:10000}")
+    private int receiveTimeoutMillis;
+
+    @Value("${queue.notify.reconnect-delay:5000}")
+    private long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (listenerThread != null) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "queue-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+        wakeExecutor.shutdownNow();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                subscribe(connection);
+                log.info("Listening for notifications on {} and {}", CREATE_UPDATES_CHANNEL, UPDATE_CASE_CHANNEL);
+
+                // Pick up anything enqueued while we were not listening
+                wakeProcessor(CREATE_UPDATES_CHANNEL);
+                wakeProcessor(UPDATE_CASE_CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(receiveTimeoutMillis);
+                    if (notifications != null) {
+                        dispatch(notifications);
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Queue notification connection lost, reconnecting in {} ms", reconnectDelayMillis, e);
+                    pauseBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void subscribe(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CREATE_UPDATES_CHANNEL);
+            statement.execute("LISTEN " + UPDATE_CASE_CHANNEL);
+        }
+    }
+
+    void dispatch(PGNotification... notifications) {
+        Arrays.stream(notifications)
+                .map(PGNotification::getName)
+                .distinct()
+                .forEach(this::wakeProcessor);
+    }
+
+    private void wakeProcessor(String channel) {
+        Runnable processor = switch (channel) {
+            case CREATE_UPDATES_CHANNEL -> createUpdatesQueueProcessor::processPendingMessages;
+            case UPDATE_CASE_CHANNEL -> updateCaseQueueProcessor::processPendingMessages;
+            default -> null;
+        };
+        if (processor == null) {
+            log.warn("Ignoring notification on unexpected channel {}", channel);
+            return;
+        }
+        wakeExecutor.execute(() -> {
+            try {
+                processor.run();
+            } catch (Exception e) {
+                log.error("Error waking processor for channel {}", channel, e);
+            }
+        });
+    }
+
+    private void pauseBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -3,26 +3,33 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import uk.gov.hmcts.ecm.common.model.servicebus.UpdateCaseMsg;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.UpdateCaseQueueRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.UpdateCaseBatch;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.UpdateManagementService;
 
 import java.io.IOException;
 import java.net.InetAddress;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static uk.gov.hmcts.ethos.replacement.docmosis.config.ConnectionUsageTrackingDataSource.QUEUE_WORKER_THREAD_PREFIX;
 
 /**
  * Processes messages from the update_case_queue table.
@@ -39,7 +46,6 @@ public class UpdateCaseQueueProcessor {
     private final UpdateCaseQueueRepository updateCaseQueueRepository;
     private final ObjectMapper objectMapper;
     private final UpdateManagementService updateManagementService;
-    private final ObjectProvider<UpdateCaseQueueProcessor> selfProvider;
 
     @Value("${queue.update-case.batch-size:10}")
     private int batchSize;
@@ -47,55 +53,177 @@ public class UpdateCaseQueueProcessor {
     @Value("${queue.update-case.threads:15}")
     private int threadCount;
 
+    @Value("${queue.update-case.lease-renewal-interval:60000}")
+    private long leaseRenewalInterval;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean backlog = new AtomicBoolean();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final Set<String> leasedMessageIds = ConcurrentHashMap.newKeySet();
     private ExecutorService executor;
+    private ScheduledExecutorService leaseRenewer;
     private String processorId;
 
-    public void init() {
+    public synchronized void init() {
         if (executor == null) {
-            executor = Executors.newFixedThreadPool(threadCount);
+            executor = Executors.newFixedThreadPool(threadCount, Thread.ofPlatform()
+                .name(QUEUE_WORKER_THREAD_PREFIX + "update-case-", 0)
+                .factory());
             try {
                 processorId = InetAddress.getLocalHost().getHostName() + "-" + UUID.randomUUID();
             } catch (Exception e) {
                 processorId = "processor-" + UUID.randomUUID();
             }
+            if (leaseRenewalInterval > 0) {
+                // Renew on a thread of its own, so a busy scheduler cannot delay renewal until leases run out
+                leaseRenewer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name(QUEUE_WORKER_THREAD_PREFIX + "update-case-lease-renewal")
+                    .daemon()
+                    .factory());
+                leaseRenewer.scheduleWithFixedDelay(this::renewLeasesSafely, leaseRenewalInterval,
+                    leaseRenewalInterval, TimeUnit.MILLISECONDS);
+            }
         }
     }
 
-    @Scheduled(fixedDelayString = "${queue.update-case.poll-interval:1000}")
+    /**
+     * Claims as many pending messages as there are idle workers and hands them to the workers. The scheduler, the
+     * queue notification listener and workers that free up while there is a backlog all call this, but only one
+     * of them claims at a time; a call made while another is claiming has that caller claim once more when it has
+     * finished, so that messages enqueued in the meantime are not left for the next poll.
+     */
+    @Scheduled(fixedDelayString = "${queue.update-case.poll-interval:30000}")
     public void processPendingMessages() {
+        pollRequested.set(true);
+        while (pollRequested.get() && polling.compareAndSet(false, true)) {
+            try {
+                pollRequested.set(false);
+                claimAndSubmitMessages();
+            } finally {
+                polling.set(false);
+            }
+        }
+    }
+
+    private void claimAndSubmitMessages() {
         init();
-        
-        List<UpdateCaseQueueMessage> messages = updateCaseQueueRepository.findPendingMessages(
+
+        // Only claim as many messages as there are idle workers, so claimed rows never sit in the executor
+        // queue while their lock runs down and other pods are left with nothing to do
+        int capacity = Math.min(batchSize, threadCount - inFlight.get());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<UpdateCaseQueueMessage> messages = updateCaseQueueRepository.claimPendingMessages(
+                processorId,
+                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES),
                 LocalDateTime.now(),
-                PageRequest.of(0, batchSize)
+                capacity
         );
+        backlog.set(messages.size() == capacity);
 
         if (messages.isEmpty()) {
             return;
         }
 
-        log.info("Found {} pending update-case messages to process", messages.size());
+        log.info("Claimed {} pending update-case messages to process", messages.size());
 
-        // Use self-proxy to ensure @Transactional works
-        UpdateCaseQueueProcessor self = selfProvider.getObject();
-        messages.forEach(message -> executor.submit(() -> self.processMessage(message)));
+        UpdateCaseBatch batch = prepareBatch(messages);
+        messages.forEach(message -> {
+            inFlight.incrementAndGet();
+            leasedMessageIds.add(message.getMessageId());
+            executor.submit(() -> {
+                try {
+                    processMessage(message, batch);
+                } finally {
+                    leasedMessageIds.remove(message.getMessageId());
+                    inFlight.decrementAndGet();
+                    pollAgainIfBacklogged();
+                }
+            });
+        });
     }
 
-    @Transactional
-    public void processMessage(UpdateCaseQueueMessage queueMessage) {
-        // Try to lock the message
-        int locked = updateCaseQueueRepository.lockMessage(
-                queueMessage.getMessageId(),
-                processorId,
-                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES),
-                LocalDateTime.now()
-        );
+    /**
+     * Looks up the cases for the claimed messages together, so that the workers do not each search for their own.
+     * A message that cannot be read here is left to fail in {@link #processMessage} as it would otherwise.
+     */
+    private UpdateCaseBatch prepareBatch(List<UpdateCaseQueueMessage> messages) {
+        List<UpdateCaseMsg> updateCaseMsgs = new ArrayList<>(messages.size());
+        for (UpdateCaseQueueMessage message : messages) {
+            try {
+                UpdateCaseMsg updateCaseMsg = objectMapper.readValue(message.getMessageBody(), UpdateCaseMsg.class);
+                if (updateCaseMsg != null) {
+                    updateCaseMsgs.add(updateCaseMsg);
+                }
+            } catch (Exception e) {
+                log.debug("Not prefetching the case for unreadable update-case message {}", message.getMessageId());
+            }
+        }
+        try {
+            return updateManagementService.prepareBatch(updateCaseMsgs);
+        } catch (Exception e) {
+            log.error("Error preparing batch of update-case messages", e);
+            return UpdateCaseBatch.empty();
+        }
+    }
+
+    /**
+     * A full claim means more messages are probably waiting, so a worker that frees up claims the next one
+     * straight away instead of waiting for a notification or the safety-net poll.
+     */
+    private void pollAgainIfBacklogged() {
+        if (backlog.get()) {
+            try {
+                processPendingMessages();
+            } catch (Exception e) {
+                log.error("Error polling update-case queue for backlogged messages", e);
+            }
+        }
+    }
 
-        if (locked == 0) {
-            log.debug("Message {} already locked by another processor", queueMessage.getMessageId());
+    /**
+     * Renews the lease on the messages this processor is still working on. Messages are processed outside any
+     * transaction, so the lease taken when they were claimed is all that stops another processor claiming them
+     * again; renewing it well inside {@value #LOCK_DURATION_MINUTES} minutes keeps long-running messages owned by
+     * this processor, while the messages of a processor that has stopped are picked up once its leases run out.
+     */
+    public void renewLeases() {
+        List<String> messageIds = List.copyOf(leasedMessageIds);
+        if (messageIds.isEmpty()) {
             return;
         }
+        int renewed = updateCaseQueueRepository.renewLeases(messageIds, processorId,
+                LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES));
+        log.debug("Renewed the lease on {} update-case messages", renewed);
+    }
 
+    private void renewLeasesSafely() {
+        try {
+            renewLeases();
+        } catch (Exception e) {
+            log.error("Error renewing leases on update-case messages", e);
+        }
+    }
+
+    /**
+     * Processes a message already claimed by this processor through
+     * {@link UpdateCaseQueueRepository#claimPendingMessages}. No transaction is held while the message is
+     * processed, so the database connection is only borrowed for the individual queries and updates rather than
+     * for the whole of the CCD and Elasticsearch calls; each status update runs in its own short transaction.
+     * Every status update is conditional on this processor still holding the message's lease.
+     */
+    public void processMessage(UpdateCaseQueueMessage queueMessage) {
+        processMessage(queueMessage, UpdateCaseBatch.empty());
+    }
+
+    /**
+     * Processes a claimed message, taking its case and parent multiple from the batch it was claimed in where they
+     * have already been looked up.
+     */
+    public void processMessage(UpdateCaseQueueMessage queueMessage, UpdateCaseBatch batch) {
         try {
             UpdateCaseMsg updateCaseMsg = objectMapper.readValue(
                     queueMessage.getMessageBody(),
@@ -107,21 +235,26 @@ public class UpdateCaseQueueProcessor {
                     updateCaseMsg.getMultipleRef(),
                     updateCaseMsg.getMultipleReferenceLinkMarkUp());
 
-            handleUpdateCaseMessage(queueMessage, updateCaseMsg);
+            handleUpdateCaseMessage(queueMessage, updateCaseMsg, batch);
         } catch (Exception e) {
-            selfProvider.getObject().handleError(queueMessage, e);
+            handleError(queueMessage, e);
         }
     }
 
-    private void handleUpdateCaseMessage(UpdateCaseQueueMessage queueMessage, UpdateCaseMsg updateCaseMsg) {
+    private void handleUpdateCaseMessage(UpdateCaseQueueMessage queueMessage, UpdateCaseMsg updateCaseMsg,
+                                         UpdateCaseBatch batch) {
         try {
-            updateManagementService.updateLogic(updateCaseMsg);
+            updateManagementService.updateLogic(updateCaseMsg, batch);
 
-            // Mark as completed
-            updateCaseQueueRepository.markAsCompleted(
+            int updated = updateCaseQueueRepository.markAsCompleted(
                     queueMessage.getMessageId(),
+                    processorId,
                     LocalDateTime.now()
             );
+            if (updated == 0) {
+                log.warn("Lease on update-case message {} was lost before it completed", queueMessage.getMessageId());
+                return;
+            }
 
             log.info("COMPLETED RECEIVED 'Update Case' ----> message with ID {}", queueMessage.getMessageId());
 
@@ -129,7 +262,7 @@ public class UpdateCaseQueueProcessor {
             // Unrecoverable error - mark as failed immediately
             log.error("Unrecoverable error occurred when handling 'Update Case' message with ID {}",
                     queueMessage.getMessageId(), e);
-            selfProvider.getObject().handleUnrecoverableError(queueMessage, updateCaseMsg, e);
+            handleUnrecoverableError(queueMessage, updateCaseMsg, e);
         } catch (InterruptedException interruptedException) {
             Thread.currentThread().interrupt();
         } catch (Exception exception) {
@@ -140,7 +273,6 @@ public class UpdateCaseQueueProcessor {
         }
     }
 
-    @Transactional
     protected void handleError(UpdateCaseQueueMessage queueMessage, Exception exception) {
         log.error("Error processing update-case message {}: {}",
                 queueMessage.getMessageId(), exception.getMessage(), exception);
@@ -148,6 +280,7 @@ public class UpdateCaseQueueProcessor {
         if (isNonRetryableClientError(exception)) {
             updateCaseQueueRepository.markAsFailed(
                     queueMessage.getMessageId(),
+                    processorId,
                     exception.getMessage(),
                     queueMessage.getRetryCount() + 1,
                     QueueMessageStatus.FAILED,
@@ -166,6 +299,7 @@ public class UpdateCaseQueueProcessor {
 
         updateCaseQueueRepository.markAsFailed(
                 queueMessage.getMessageId(),
+                processorId,
                 exception.getMessage(),
                 newRetryCount,
                 newStatus,
@@ -188,7 +322,6 @@ public class UpdateCaseQueueProcessor {
         }
     }
     
-    @Transactional
     protected void handleUnrecoverableError(UpdateCaseQueueMessage queueMessage,
                                            UpdateCaseMsg updateCaseMsg,
                                            Exception exception) {
@@ -197,6 +330,7 @@ public class UpdateCaseQueueProcessor {
         // Mark as failed immediately (no retries for unrecoverable errors)
         updateCaseQueueRepository.markAsFailed(
                 queueMessage.getMessageId(),
+                processorId,
                 exception.getMessage(),
                 queueMessage.getRetryCount() + 1,
                 QueueMessageStatus.FAILED,
@@ -2,6 +2,7 @@ package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
@@ -14,6 +15,9 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQue
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.UpdateCaseQueueRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,6 +28,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UpdateCaseQueueSender {
 
+    private static final String MSG_ID = "id";
+    private static final String ETHOS_CASE_REFERENCE = "ethosCaseReference";
+
     private final UpdateCaseQueueRepository updateCaseQueueRepository;
     private final ObjectMapper objectMapper;
     private final ObjectProvider<UpdateCaseQueueSender> selfProvider;
@@ -49,6 +56,42 @@ public class UpdateCaseQueueSender {
         }
     }
 
+    /**
+     * Queues one copy of {@code updateCaseMsg} for each of {@code ethosCaseReferences}, all in one transaction.
+     * The message, including its data model, is serialised once and only the message id and case reference are
+     * changed for each case, and the messages are written with one multi-row insert per chunk rather than a save
+     * per case.
+     */
+    @Transactional
+    public void sendMessages(UpdateCaseMsg updateCaseMsg, Collection<String> ethosCaseReferences) {
+        if (ethosCaseReferences.isEmpty()) {
+            return;
+        }
+        try {
+            ObjectNode messageTree = objectMapper.valueToTree(updateCaseMsg);
+            LocalDateTime createdAt = LocalDateTime.now();
+            List<UpdateCaseQueueMessage> queueMessages = new ArrayList<>(ethosCaseReferences.size());
+            for (String ethosCaseReference : ethosCaseReferences) {
+                messageTree.put(MSG_ID, UUID.randomUUID().toString());
+                messageTree.put(ETHOS_CASE_REFERENCE, ethosCaseReference);
+                queueMessages.add(UpdateCaseQueueMessage.builder()
+                        .messageId(UUID.randomUUID().toString())
+                        .messageBody(objectMapper.writeValueAsString(messageTree))
+                        .status(QueueMessageStatus.PENDING)
+                        .createdAt(createdAt)
+                        .retryCount(0)
+                        .build());
+            }
+
+            updateCaseQueueRepository.insertAll(queueMessages);
+            log.info("Sent {} UpdateCaseMsgs to database queue: multipleRef={}",
+                    queueMessages.size(), updateCaseMsg.getMultipleRef());
+        } catch (IllegalArgumentException | JsonProcessingException | DataAccessException e) {
+            log.error("Failed to send UpdateCaseMsgs to queue", e);
+            throw new IllegalStateException("Failed to queue update case messages", e);
+        }
+    }
+
     public void sendMessageAsync(UpdateCaseMsg updateCaseMsg) {
         // For compatibility with existing code that expects async behavior
         selfProvider.getObject().sendMessage(updateCaseMsg);
@@ -26,6 +26,7 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.MultipleRefEngl
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.MultipleRefScotlandRepository;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultiplesHelper;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.AdminUserService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.ReferenceBlockAllocator;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.MultipleCasesSendingService;
 
 import java.io.IOException;
@@ -49,21 +50,45 @@ public class MultipleReferenceService {
     private final MultipleCasesSendingService multipleCasesSendingService;
     private final AdminUserService adminUserService;
 
+    private final ReferenceBlockAllocator englandWalesReferences = new ReferenceBlockAllocator(
+        (key, blockSize) -> this.multipleRefEnglandWalesRepository.reserveMultipleCaseRefBlock(blockSize));
+    private final ReferenceBlockAllocator scotlandReferences = new ReferenceBlockAllocator(
+        (key, blockSize) -> this.multipleRefScotlandRepository.reserveMultipleCaseRefBlock(blockSize));
+
     @Value("${ccd.data-store-api-url}")
     private String ccdDataStoreUrl;
 
+    /**
+     * Number of multiple references reserved from the database at a time. With 1 or less every reference is
+     * generated by the database.
+     */
+    @Value("${reference.multiple.block-size:1}")
+    private int blockSize;
+
     private static final String NOT_MULTIPLE_ERROR = "The Case (%s) is not a Multiple";
     private static final String MISSING_MULTIPLE_REFERENCE_ERROR = "The Case (%s) is missing a Multiple Reference";
     private static final String SEARCH_CASES_FORMAT = "%s/searchCases?ctid=%s";
     private static final String ADD_USER_ERROR = "Call to add legal rep to Multiple Case failed for %s";
 
     public synchronized String createReference(String caseTypeId) {
-        return switch (caseTypeId) {
-            case ENGLANDWALES_BULK_CASE_TYPE_ID -> multipleRefEnglandWalesRepository.ethosMultipleCaseRefGen();
-            case SCOTLAND_BULK_CASE_TYPE_ID -> multipleRefScotlandRepository.ethosMultipleCaseRefGen();
-            default -> throw new IllegalArgumentException(
-                    String.format("Unable to create case reference: unexpected caseTypeId %s", caseTypeId));
+        if (blockSize <= 1) {
+            return switch (caseTypeId) {
+                case ENGLANDWALES_BULK_CASE_TYPE_ID -> multipleRefEnglandWalesRepository.ethosMultipleCaseRefGen();
+                case SCOTLAND_BULK_CASE_TYPE_ID -> multipleRefScotlandRepository.ethosMultipleCaseRefGen();
+                default -> throw unexpectedCaseType(caseTypeId);
+            };
+        }
+        ReferenceBlockAllocator references = switch (caseTypeId) {
+            case ENGLANDWALES_BULK_CASE_TYPE_ID -> englandWalesReferences;
+            case SCOTLAND_BULK_CASE_TYPE_ID -> scotlandReferences;
+            default -> throw unexpectedCaseType(caseTypeId);
         };
+        return String.valueOf(references.nextReference(0, blockSize));
+    }
+
+    private static IllegalArgumentException unexpectedCaseType(String caseTypeId) {
+        return new IllegalArgumentException(
+                String.format("Unable to create case reference: unexpected caseTypeId %s", caseTypeId));
     }
 
     public List<String> validateSubcaseIsOfMultiple(CaseData caseData) {
@@ -1,10 +1,6 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service.multiples.bulkaddsingles;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.et.common.model.multiples.MultipleData;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.ExcelReadingService;
@@ -23,36 +19,30 @@ class ExcelFileSingleCasesImporter implements SingleCasesImporter {
 
     @Override
     public List<String> importCases(MultipleData multipleData, String authToken) throws ImportException {
-        try (XSSFWorkbook workbook = getWorkbook(multipleData, authToken)) {
-            return getEthosCasesReferences(workbook);
+        try {
+            return getEthosCasesReferences(multipleData, authToken);
         } catch (IOException e) {
             throw new ImportException(String.format("Unexpected error when importing Excel file for multiple %s",
                     multipleData.getMultipleReference()), e);
         }
     }
 
-    private XSSFWorkbook getWorkbook(MultipleData multipleData, String authToken) throws IOException {
+    private List<String> getEthosCasesReferences(MultipleData multipleData, String authToken) throws IOException {
         String downloadBinaryUrl = multipleData
                 .getBulkAddSingleCasesImportFile().getUploadedDocument().getDocumentBinaryUrl();
-        return excelReadingService.readWorkbook(authToken, downloadBinaryUrl);
-    }
-
-    private List<String> getEthosCasesReferences(XSSFWorkbook workbook) {
-        XSSFSheet sheet = workbook.getSheetAt(0);
 
         List<String> ethosCaseReferences = new ArrayList<>();
 
-        for (Row row : sheet) {
+        excelReadingService.streamSheet(authToken, downloadBinaryUrl, null, 1, (rowNum, cells) -> {
             // Skip header row
-            if (row.getRowNum() == 0) {
-                continue;
+            if (rowNum == 0) {
+                return;
             }
-            Cell cell = row.getCell(0);
-            String ethosReference = cell.getStringCellValue();
+            String ethosReference = cells.get(0);
             if (StringUtils.isNotBlank(ethosReference)) {
                 ethosCaseReferences.add(ethosReference);
             }
-        }
+        });
         return ethosCaseReferences;
     }
 }
@@ -83,7 +83,7 @@ public class NocRepresentativeService {
                     caseDetails);
         } else {
             caseData = nocRespondentRepresentativeService.updateRespondentRepresentation(caseDetails);
-            caseData = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, userToken);
+            caseData = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
             caseDetails.setCaseData(caseData);
             caseData = nocRespondentRepresentativeService.removeConflictingClaimantRepresentation(caseDetails);
         }
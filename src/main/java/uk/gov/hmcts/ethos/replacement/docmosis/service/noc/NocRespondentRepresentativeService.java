@@ -38,6 +38,7 @@ import uk.gov.hmcts.ethos.replacement.docmosis.helpers.NoticeOfChangeFieldPopula
 import uk.gov.hmcts.ethos.replacement.docmosis.rdprofessional.OrganisationClient;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.AdminUserService;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.MyHmctsService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.OrganisationDirectoryService;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.OrganisationService;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.UserIdamService;
 import uk.gov.hmcts.ethos.replacement.docmosis.utils.AddressUtils;
@@ -101,6 +102,7 @@ public class NocRespondentRepresentativeService {
     private final UserIdamService userIdamService;
     private final OrganisationService organisationService;
     private final MyHmctsService myHmctsService;
+    private final OrganisationDirectoryService organisationDirectoryService;
 
     private static final String CLASS_NAME = NocRespondentRepresentativeService.class.getSimpleName();
 
@@ -1068,30 +1070,19 @@ public class NocRespondentRepresentativeService {
      * @param caseData case data
      * @return modified case data
      */
-    public CaseData prepopulateOrgAddress(CaseData caseData, String userToken) {
+    public CaseData prepopulateOrgAddress(CaseData caseData) {
         List<RepresentedTypeRItem> repCollection = caseData.getRepCollection();
-
-        if (CollectionUtils.isEmpty(repCollection)
-                || repCollection.stream()
-                        .noneMatch(r -> r.getValue() != null && YES.equals(r.getValue().getMyHmctsYesNo()))) {
+        if (CollectionUtils.isEmpty(repCollection)) {
             return caseData;
         }
-        // get all Organisation Details
-        List<OrganisationsResponse> organisationList = organisationClient.getOrganisations(
-                userToken, authTokenGenerator.generate());
         for (RepresentedTypeRItem representative : repCollection) {
             RepresentedTypeR representativeDetails = representative.getValue();
             if (representativeDetails != null && YES.equals(representativeDetails.getMyHmctsYesNo())) {
                 Organisation repOrg = representativeDetails.getRespondentOrganisation();
                 if (repOrg != null && repOrg.getOrganisationID() != null) {
                     representativeDetails.setNonMyHmctsOrganisationId(StringUtils.EMPTY);
-                    // get organisation details
-                    Optional<OrganisationsResponse> organisation =
-                            organisationList
-                                    .stream()
-                                    .filter(o -> o.getOrganisationIdentifier().equals(repOrg.getOrganisationID()))
-                                    .findFirst();
-                    organisation.ifPresent(orgResponse -> updateRepDetails(orgResponse, representativeDetails));
+                    organisationDirectoryService.getOrganisation(repOrg.getOrganisationID())
+                            .ifPresent(orgResponse -> updateRepDetails(orgResponse, representativeDetails));
                 }
             }
         }
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.tasks;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.CreateUpdatesQueueRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.UpdateCaseQueueRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes processed messages from the database queue tables once they are older than the configured retention.
+ * Every multiples operation adds a row per case and nothing else removes them, so without this the tables and
+ * their indexes grow for ever. Sent and failed emails are deleted from the email outbox in the same way. FAILED
+ * messages are kept for longer than COMPLETED ones so that they can be inspected, and a retention of 0 days or
+ * less keeps messages in that status indefinitely.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueRetentionTask {
+
+    private final UpdateCaseQueueRepository updateCaseQueueRepository;
+    private final CreateUpdatesQueueRepository createUpdatesQueueRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${queue.retention.completed-days:7}")
+    private int completedRetentionDays;
+
+    @Value("${queue.retention.failed-days:90}")
+    private int failedRetentionDays;
+
+    @Value("${queue.retention.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${cron.queueRetention:0 30 2 * * ?}")
+    public void purgeProcessedMessages() {
+        purge("update_case_queue", QueueMessageStatus.COMPLETED, completedRetentionDays,
+            updateCaseQueueRepository::deleteProcessedBefore);
+        purge("update_case_queue", QueueMessageStatus.FAILED, failedRetentionDays,
+            updateCaseQueueRepository::deleteProcessedBefore);
+        purge("create_updates_queue", QueueMessageStatus.COMPLETED, completedRetentionDays,
+            createUpdatesQueueRepository::deleteProcessedBefore);
+        purge("create_updates_queue", QueueMessageStatus.FAILED, failedRetentionDays,
+            createUpdatesQueueRepository::deleteProcessedBefore);
+        purge("email_outbox", QueueMessageStatus.COMPLETED, completedRetentionDays,
+            emailOutboxRepository::deleteProcessedBefore);
+        purge("email_outbox", QueueMessageStatus.FAILED, failedRetentionDays,
+            emailOutboxRepository::deleteProcessedBefore);
+    }
+
+    private void purge(String queue, QueueMessageStatus status, int retentionDays, BatchDelete batchDelete) {
+        if (retentionDays <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            // Each batch is its own short transaction, so a large backlog never holds locks for long
+            int deleted;
+            do {
+                deleted = batchDelete.deleteProcessedBefore(status.name(), cutoff, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+            log.info("Queue retention - deleted {} {} messages processed before {} from {}",
+                total, status, cutoff, queue);
+        } catch (Exception e) {
+            log.error("Queue retention - failed to delete {} messages from {} after deleting {}",
+                status, queue, total, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchDelete {
+        int deleteProcessedBefore(String status, LocalDateTime cutoff, int limit);
+    }
+}
@@ -11,6 +11,8 @@ import java.util.Collection;
 
 public final class CallbackObjectUtils {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private CallbackObjectUtils() {
         // Utility classes should not have a public or default constructor.
     }
@@ -32,9 +34,7 @@ public final class CallbackObjectUtils {
         if (object == null || clazz == null) {
             return null;
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper
-                .readValue(objectMapper.writeValueAsString(object), clazz);
+        return OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(object), clazz);
     }
 
     /**
@@ -1,7 +1,7 @@
 package uk.gov.hmcts.reform.et.syaapi.helper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
@@ -9,15 +9,23 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.Et1CaseData;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Converts case data that is stored in a format used in http calls and wraps it in a class for API use.
+ * All conversions share one mapper, so the serializers and deserializers for the case data classes are only built
+ * once rather than on every call. The mapper is held statically, rather than being the application ObjectMapper bean,
+ * because most callers use the static conversions and the bean leaves empty fields out of the case data map.
  */
 @Slf4j
 @Service
 public class EmployeeObjectMapper {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final JavaType CASE_DATA_MAP_TYPE = OBJECT_MAPPER.getTypeFactory()
+        .constructMapType(LinkedHashMap.class, String.class, Object.class);
+
     /**
      * Converts caseData string to {@link Et1CaseData} object.
      *
@@ -25,11 +33,9 @@ public class EmployeeObjectMapper {
      * @return @link Et1CaseData format of input json object
      */
     public Et1CaseData getEmploymentCaseData(String caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
         Et1CaseData data = null;
         try {
-            data = mapper.readValue(caseData, Et1CaseData.class);
+            data = OBJECT_MAPPER.readValue(caseData, Et1CaseData.class);
         } catch (JsonProcessingException e) {
             log.error("Failed to parse the input json request body,", e);
         }
@@ -43,15 +49,7 @@ public class EmployeeObjectMapper {
      * @return case data wrapped in {@link Et1CaseData} format
      */
     public Et1CaseData getEmploymentCaseData(Map<String, Object> caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(caseData, Et1CaseData.class);
-    }
-
-    private static CaseData getCaseData(Map<String, Object> caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(caseData, CaseData.class);
+        return OBJECT_MAPPER.convertValue(caseData, Et1CaseData.class);
     }
 
     /**
@@ -60,12 +58,15 @@ public class EmployeeObjectMapper {
      * @return case data wrapped in {@link CaseData} format
      */
     public static CaseData convertCaseDataMapToCaseDataObject(Map<String, Object> caseData) {
-        return getCaseData(caseData);
+        return OBJECT_MAPPER.convertValue(caseData, CaseData.class);
     }
 
+    /**
+     * Converts {@link CaseData} to a map of its fields, in the order they are declared.
+     * @param caseData to be converted
+     * @return case data as a {@link LinkedHashMap}
+     */
     public static Map<String, Object> mapCaseDataToLinkedHashMap(CaseData caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(caseData, new TypeReference<>() {});
+        return OBJECT_MAPPER.convertValue(caseData, CASE_DATA_MAP_TYPE);
     }
 }
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -61,6 +60,7 @@ public class AcasCaseService {
     private final AdminUserService adminUserService;
     private final IdamClient idamClient;
     private final CaseDocumentService caseDocumentService;
+    private final CaseDetailsConverter caseDetailsConverter;
     @Qualifier("applicationTaskExecutor")
     private final TaskExecutor taskExecutor;
 
@@ -355,17 +355,15 @@ public class AcasCaseService {
         StartEventResponse startEventResponse = startCaseUpdate(caseId, authorization, caseTypeId, "et1Vetting");
         CaseData caseData = convertCaseDataMapToCaseDataObject(startEventResponse.getCaseDetails().getData());
         setVettingData(caseData);
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(new ObjectMapper());
-        submitCaseUpdate(caseId, authorization, caseTypeId, caseDetailsConverter, startEventResponse, caseData);
+        submitCaseUpdate(caseId, authorization, caseTypeId, startEventResponse, caseData);
 
         startEventResponse = startCaseUpdate(caseId, authorization, caseTypeId, "preAcceptanceCase");
         caseData = convertCaseDataMapToCaseDataObject(startEventResponse.getCaseDetails().getData());
         setAcceptanceData(caseData);
-        return submitCaseUpdate(caseId, authorization, caseTypeId, caseDetailsConverter, startEventResponse, caseData);
+        return submitCaseUpdate(caseId, authorization, caseTypeId, startEventResponse, caseData);
     }
 
     private CaseDetails submitCaseUpdate(String caseId, String authorization, String caseTypeId,
-                                         CaseDetailsConverter caseDetailsConverter,
                                          StartEventResponse startEventResponse, CaseData caseData) {
         String s2sToken = authTokenGenerator.generate();
         UserInfo userInfo = idamClient.getUserInfo(authorization);
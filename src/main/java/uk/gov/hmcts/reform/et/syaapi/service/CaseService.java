@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -93,6 +92,7 @@ public class CaseService {
     private static final String VARY_REVOKE_AN_ORDER = "Vary/revoke an order";
     private static final String VARY_OR_REVOKE_AN_ORDER_APP_TYPE = "Vary or revoke an order";
     private final FeatureToggleService featureToggleService;
+    private final CaseDetailsConverter caseDetailsConverter;
 
     /**
      * Given a user derived from the authorisation token in the request,
@@ -105,21 +105,27 @@ public class CaseService {
     // covers all runtime exceptions.
     @Retryable
     protected List<CaseDetails> getAllUserCases(String authorization) {
-        // Elasticsearch
-        List<CaseDetails> scotlandCases = Optional.ofNullable(ccdApiClient.searchCases(
-            authorization,
-            authTokenGenerator.generate(),
-            SCOTLAND_CASE_TYPE,
-            ALL_CASES_QUERY).getCases()).orElse(Collections.emptyList());
+        List<CaseDetails> scotlandCases = getAllUserCases(authorization, SCOTLAND_CASE_TYPE);
+        List<CaseDetails> englandCases = getAllUserCases(authorization, ENGLAND_CASE_TYPE);
+        return Stream.of(scotlandCases, englandCases)
+            .flatMap(Collection::stream).toList();
+    }
 
+    /**
+     * Given a user derived from the authorisation token in the request,
+     * this will get all cases {@link CaseDetails} of the given case type for that user.
+     *
+     * @param authorization is used to get the {@link UserInfo} for the request
+     * @param caseTypeId    is the case type to search, ET_EnglandWales or ET_Scotland
+     * @return the associated {@link CaseDetails} list for the authorization code provided
+     */
+    protected List<CaseDetails> getAllUserCases(String authorization, String caseTypeId) {
         // Elasticsearch
-        List<CaseDetails> englandCases = Optional.ofNullable(ccdApiClient.searchCases(
+        return Optional.ofNullable(ccdApiClient.searchCases(
             authorization,
             authTokenGenerator.generate(),
-            ENGLAND_CASE_TYPE,
+            caseTypeId,
             ALL_CASES_QUERY).getCases()).orElse(Collections.emptyList());
-        return Stream.of(scotlandCases, englandCases)
-            .flatMap(Collection::stream).toList();
     }
 
     /**
@@ -285,8 +291,6 @@ public class CaseService {
      */
     public CaseDetails triggerEvent(String authorization, String caseId, CaseEvent eventName,
                                     String caseType, Map<String, Object> caseData) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         StartEventResponse startEventResponse = startUpdate(authorization, caseId, caseType, eventName);
         CaseData caseData1 = EmployeeObjectMapper.convertCaseDataMapToCaseDataObject(caseData);
 
@@ -324,8 +328,6 @@ public class CaseService {
         caseData1.setClaimantPcqId(caseRequest.getCaseData().get("claimantPcqId") == null ? "" :
                                       caseRequest.getCaseData().get("claimantPcqId").toString());
         caseData1.setEt1OnlineSubmission(YES);
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         try {
             return submitUpdate(
                 authorization,
@@ -582,8 +584,6 @@ public class CaseService {
 
         CaseData caseData = EmployeeObjectMapper
             .convertCaseDataMapToCaseDataObject(startEventResponse.getCaseDetails().getData());
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         CaseDataContent content = caseDetailsConverter.caseDataContent(startEventResponse, caseData);
 
         return submitUpdate(
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -56,6 +55,7 @@ public class ET3Service {
     private final CaseService caseService;
     private final ET3FormService et3FormService;
     private final NotificationService notificationService;
+    private final CaseDetailsConverter caseDetailsConverter;
     private static final String FIELD_NAME_SUBMISSION_REFERENCE = "reference.keyword";
     private static final String FIELD_NAME_STATE = "state.keyword";
     private static final String STATE_VALUE_ACCEPTED = "Accepted";
@@ -184,8 +184,6 @@ public class ET3Service {
      */
     public CaseDetails triggerEvent(String authorization, String caseId, StartEventResponse startEventResponse,
                                     String caseType, Map<String, Object> caseData) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         CaseData caseDataObject = EmployeeObjectMapper.convertCaseDataMapToCaseDataObject(caseData);
         return caseService.submitUpdate(
             authorization,
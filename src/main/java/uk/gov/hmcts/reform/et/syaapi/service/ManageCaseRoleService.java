@@ -1,12 +1,16 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -57,6 +61,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static uk.gov.hmcts.ecm.common.client.CcdClient.EXPERIMENTAL;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.EMPLOYMENT;
@@ -82,6 +90,11 @@ import static uk.gov.hmcts.reform.et.syaapi.service.utils.RemoteServiceUtil.buil
 @Service
 @RequiredArgsConstructor
 public class ManageCaseRoleService {
+    private static final String CASE_LISTING_METRIC = "citizen.case.listing";
+    private static final String CASE_LISTING_STAGE_SEARCH = "search";
+    private static final String CASE_LISTING_STAGE_ROLES = "roles";
+    private static final String CASE_LISTING_STAGE_TOTAL = "total";
+
     private final AdminUserService adminUserService;
     private final AuthTokenGenerator authTokenGenerator;
     private final IdamClient idamClient;
@@ -91,6 +104,9 @@ public class ManageCaseRoleService {
     private final CaseService caseService;
     private final CaseDetailsConverter caseDetailsConverter;
     private final FeatureToggleService featureToggleService;
+    @Qualifier("applicationTaskExecutor")
+    private final TaskExecutor taskExecutor;
+    private final MeterRegistry meterRegistry;
 
     @Value("${assign_case_access_api_url}")
     private String aacUrl;
@@ -617,6 +633,11 @@ public class ManageCaseRoleService {
      */
     public CaseAssignedUserRolesResponse getCaseUserRolesByCaseAndUserIdsCcd(
         String authorization, List<CaseDetails> caseDetailsList) throws IOException {
+        return getCaseUserRolesByCaseAndUserIdsCcd(authorization, null, caseDetailsList);
+    }
+
+    private CaseAssignedUserRolesResponse getCaseUserRolesByCaseAndUserIdsCcd(
+        String authorization, String userId, List<CaseDetails> caseDetailsList) throws IOException {
         if (CollectionUtils.isEmpty(caseDetailsList)) {
             return CaseAssignedUserRolesResponse.builder().build();
         }
@@ -629,11 +650,11 @@ public class ManageCaseRoleService {
         if (CollectionUtils.isEmpty(caseIds)) {
             return CaseAssignedUserRolesResponse.builder().build();
         }
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        String uid = userId == null ? idamClient.getUserInfo(authorization).getUid() : userId;
         SearchCaseAssignedUserRolesRequest searchCaseAssignedUserRolesRequest = SearchCaseAssignedUserRolesRequest
             .builder()
             .caseIds(caseIds)
-            .userIds(List.of(userInfo.getUid()))
+            .userIds(List.of(uid))
             .build();
         CaseAssignedUserRolesResponse response;
         try {
@@ -687,25 +708,60 @@ public class ManageCaseRoleService {
     // covers all runtime exceptions.
     @Retryable
     public List<CaseDetails> getUserCasesByCaseUserRole(String authorization, String caseUserRole) {
-        return getCasesByCaseDetailsListAuthorizationAndCaseUserRole(getCaseDetailsByCaseUserRole(authorization,
-                                                                                                  caseUserRole),
-                                                                     authorization,
-                                                                     caseUserRole);
+        log.info("CASE USER ROLE VALUE ON getUserCasesByCaseUserRole: {}", caseUserRole);
+        Timer.Sample listingSample = Timer.start(meterRegistry);
+        // Both case types are searched at the same time, and the cases of each are filtered by role as soon as its
+        // search returns rather than waiting for the other
+        CompletableFuture<String> userIdFuture = CompletableFuture.supplyAsync(
+            () -> idamClient.getUserInfo(authorization).getUid(), taskExecutor);
+        List<CompletableFuture<List<CaseDetails>>> caseTypeFutures = Stream.of(SCOTLAND_CASE_TYPE, ENGLAND_CASE_TYPE)
+            .map(caseTypeId -> CompletableFuture
+                .supplyAsync(() -> timeListingStage(CASE_LISTING_STAGE_SEARCH, caseTypeId,
+                    () -> caseService.getAllUserCases(authorization, caseTypeId)), taskExecutor)
+                .thenCombine(userIdFuture, (caseDetailsList, userId) -> timeListingStage(
+                    CASE_LISTING_STAGE_ROLES, caseTypeId, () -> getCasesByCaseDetailsListAuthorizationAndCaseUserRole(
+                        caseDetailsList, authorization, userId, caseUserRole))))
+            .toList();
+        try {
+            return caseTypeFutures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        } finally {
+            listingSample.stop(listingTimer(CASE_LISTING_STAGE_TOTAL, "all"));
+        }
+    }
+
+    private <T> T timeListingStage(String stage, String caseTypeId, Supplier<T> supplier) {
+        return listingTimer(stage, caseTypeId).record(supplier);
     }
 
-    private List<CaseDetails> getCaseDetailsByCaseUserRole(String authorization, String caseUserRole) {
-        // If defendant uses ET3 cases search because case service's all case search doesn't list all cases
-        // immediately after assigning a new case
-        log.info("CASE USER ROLE VALUE ON getCaseDetailsByCaseUserRole: {}", caseUserRole);
-        return caseService.getAllUserCases(authorization);
+    private Timer listingTimer(String stage, String caseTypeId) {
+        return Timer.builder(CASE_LISTING_METRIC)
+            .description("Time taken to list a citizen's cases by case user role")
+            .tag("stage", stage)
+            .tag("caseType", caseTypeId)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
 
     private List<CaseDetails> getCasesByCaseDetailsListAuthorizationAndCaseUserRole(
         List<CaseDetails> caseDetailsList, String authorization, String caseUserRole) {
+        return getCasesByCaseDetailsListAuthorizationAndCaseUserRole(
+            caseDetailsList, authorization, null, caseUserRole);
+    }
+
+    private List<CaseDetails> getCasesByCaseDetailsListAuthorizationAndCaseUserRole(
+        List<CaseDetails> caseDetailsList, String authorization, String userId, String caseUserRole) {
         List<CaseDetails> caseDetailsListByRole;
         try {
             CaseAssignedUserRolesResponse caseAssignedUserRolesResponse =
-                getCaseUserRolesByCaseAndUserIdsCcd(authorization, caseDetailsList);
+                getCaseUserRolesByCaseAndUserIdsCcd(authorization, userId, caseDetailsList);
             caseDetailsListByRole = ManageCaseRoleServiceUtil
                 .getCaseDetailsByCaseUserRole(caseDetailsList,
                                               caseAssignedUserRolesResponse.getCaseAssignedUserRoles(),
@@ -0,0 +1,15 @@
+-- =====================================================
+-- Migration: V018__QueueClaimPendingIndexes
+-- Description: Partial indexes covering only PENDING rows of the database-backed message queues.
+--              The queue processors claim work with SELECT ... FOR UPDATE SKIP LOCKED ordered by
+--              created_at, so the claim only ever scans rows still waiting to be processed,
+--              however many COMPLETED and FAILED rows accumulate in the tables.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_create_updates_queue_pending
+    ON create_updates_queue (created_at, locked_until)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_update_case_queue_pending
+    ON update_case_queue (created_at, locked_until)
+    WHERE status = 'PENDING';
@@ -0,0 +1,25 @@
+-- =====================================================
+-- Migration: V019__QueueInsertNotifyTriggers
+-- Description: Raises a NOTIFY on a channel named after the queue table whenever messages are inserted
+--              into create_updates_queue or update_case_queue. QueueNotificationListener LISTENs on
+--              these channels and wakes the matching processor straight away, so the scheduled poll
+--              is only a safety net. The triggers are statement level, so a multi-row insert raises a
+--              single notification, and Postgres folds duplicates within one transaction.
+-- =====================================================
+
+CREATE OR REPLACE FUNCTION fn_queue_notify_insert() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify(TG_TABLE_NAME, '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_create_updates_queue_notify ON create_updates_queue;
+CREATE TRIGGER trg_create_updates_queue_notify
+    AFTER INSERT ON create_updates_queue
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_queue_notify_insert();
+
+DROP TRIGGER IF EXISTS trg_update_case_queue_notify ON update_case_queue;
+CREATE TRIGGER trg_update_case_queue_notify
+    AFTER INSERT ON update_case_queue
+    FOR EACH STATEMENT EXECUTE FUNCTION fn_queue_notify_insert();
@@ -0,0 +1,43 @@
+-- =====================================================
+-- Migration: V020__MultipleCounterAtomicIncrement
+-- Description: Makes the multiple completion counter a single atomic upsert.
+--              multiple_counter had no unique key, so two workers finishing the first cases of a multiple
+--              at the same time could each insert a row and the count would never reach the total. Callers
+--              compensated with a random sleep before every increment. With a unique key the increment is
+--              one INSERT ... ON CONFLICT DO UPDATE ... RETURNING statement: each caller gets a distinct
+--              value, so exactly one worker sees the total and finishes the multiple.
+-- =====================================================
+
+-- Collapse any duplicate rows left behind by the old function, keeping the highest count
+DELETE FROM multiple_counter a
+    USING multiple_counter b
+WHERE a.multipleRef = b.multipleRef
+  AND (a.counter < b.counter OR (a.counter = b.counter AND a.ctid < b.ctid));
+
+CREATE UNIQUE INDEX IF NOT EXISTS UX_multipleCounter_multipleRef ON multiple_counter(multipleRef);
+DROP INDEX IF EXISTS IX_multipleCounter_multipleRef;
+
+CREATE OR REPLACE FUNCTION fn_persistentQ_getNextMultipleCountVal (p_multipleRef varchar(25)) RETURNS Integer AS $$
+
+-- =============================================
+-- Author:		Mohammed Hafejee
+
+-- TEST :		SELECT fn_persistentQ_getNextMultipleCountVal ('3265');
+--
+-- Create date: 10-JUN-2020
+-- Description:	Function to return next incremental value for a multiple reference number passed in
+-- VERSION	  :	10-JUN-2020	- 1.0  - Initial
+--            : 29-OCT-2021 - 2.0  - CCD Consolidation
+--            : 18-OCT-2026 - 3.0  - Single atomic upsert on the unique multipleRef key instead of SELECT FOR UPDATE
+-- =============================================
+
+    DECLARE currentval integer;
+
+BEGIN
+    INSERT INTO multiple_counter(multipleRef, counter) VALUES (p_multipleRef, 1)
+    ON CONFLICT (multipleRef) DO UPDATE SET counter = multiple_counter.counter + 1
+    RETURNING counter INTO currentval;
+
+    RETURN  currentval;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,65 @@
+-- =====================================================
+-- Migration: V021__CaseRefBlockFunctions
+-- Description: Functions that reserve a block of consecutive case reference numbers in one statement.
+--              fn_EnglandWalesEthosCaseRefGen and its siblings lock the one counter row for the year and
+--              hand out a single reference, so every case created by every pod queues on that row lock.
+--              The block functions move the counter on by the size of the block with one atomic upsert
+--              and return the last number of the block; the caller hands out the numbers from
+--              (returned value - block size + 1) to the returned value from memory. The same counter rows
+--              are used, so the single-reference functions can still be called alongside these and the two
+--              never return the same number.
+-- =====================================================
+
+CREATE OR REPLACE FUNCTION fn_EnglandWalesEthosCaseRefBlock(yr integer, blockSize integer)
+    RETURNS integer AS
+$$
+DECLARE
+    lastCounter integer;
+BEGIN
+    INSERT INTO single_reference_englandwales (cyear, counter) VALUES (yr, 6000000 + blockSize)
+    ON CONFLICT (cyear) DO UPDATE SET counter = single_reference_englandwales.counter + blockSize
+    RETURNING counter INTO lastCounter;
+
+    RETURN lastCounter;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION fn_ScotlandEthosCaseRefBlock(yr integer, blockSize integer)
+    RETURNS integer AS
+$$
+DECLARE
+    lastCounter integer;
+BEGIN
+    INSERT INTO single_reference_scotland (cyear, counter) VALUES (yr, 8000000 + blockSize)
+    ON CONFLICT (cyear) DO UPDATE SET counter = single_reference_scotland.counter + blockSize
+    RETURNING counter INTO lastCounter;
+
+    RETURN lastCounter;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION fn_EnglandWalesEthosMultipleCaseRefBlock(blockSize integer)
+    RETURNS integer AS
+$$
+DECLARE
+    lastCounter integer;
+BEGIN
+    UPDATE multiple_reference_englandwales SET counter = counter + blockSize
+    RETURNING counter INTO lastCounter;
+
+    RETURN lastCounter;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION fn_ScotlandEthosMultipleCaseRefBlock(blockSize integer)
+    RETURNS integer AS
+$$
+DECLARE
+    lastCounter integer;
+BEGIN
+    UPDATE multiple_reference_scotland SET counter = counter + blockSize
+    RETURNING counter INTO lastCounter;
+
+    RETURN lastCounter;
+END;
+$$ LANGUAGE plpgsql;
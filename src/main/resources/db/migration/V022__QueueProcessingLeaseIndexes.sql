@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration: V022__QueueProcessingLeaseIndexes
+-- Description: Partial indexes covering only PROCESSING rows of the database-backed message queues.
+--              A claimed message is processed outside any transaction under a lease (locked_until)
+--              that its processor keeps renewing. The claim also picks up PROCESSING rows whose lease
+--              has run out, and lease renewal finds the rows held by one processor, so both only ever
+--              scan the handful of messages currently being worked on.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_create_updates_queue_processing
+    ON create_updates_queue (locked_until, locked_by)
+    WHERE status = 'PROCESSING';
+
+CREATE INDEX IF NOT EXISTS idx_update_case_queue_processing
+    ON update_case_queue (locked_until, locked_by)
+    WHERE status = 'PROCESSING';
@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration: V023__QueueProcessedAtIndexes
+-- Description: Partial indexes on processed_at covering only COMPLETED and FAILED rows of the
+--              database-backed message queues. QueueRetentionTask deletes messages processed before
+--              the retention cut-off in batches, and each batch finds its rows through these indexes
+--              instead of scanning the whole table. Rows still waiting or being processed have no
+--              processed_at, so they are left out of the indexes altogether.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_create_updates_queue_processed_at
+    ON create_updates_queue (processed_at)
+    WHERE processed_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_update_case_queue_processed_at
+    ON update_case_queue (processed_at)
+    WHERE processed_at IS NOT NULL;
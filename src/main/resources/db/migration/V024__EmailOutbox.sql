@@ -0,0 +1,41 @@
+-- =====================================================
+-- Migration: V024__EmailOutbox
+-- Description: Creates the email_outbox table. When the email outbox is enabled, EmailService writes
+--              each GOV.UK Notify email here instead of sending it within the callback, and
+--              EmailOutboxDispatcher claims and sends them in batches in the background. The reference
+--              is passed to Notify with every attempt to send the email, so retries of the same email
+--              can be matched up. Partial indexes cover only the rows the dispatcher claims and the
+--              processed rows QueueRetentionTask deletes, as for the other database-backed queues.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    reference VARCHAR(255) UNIQUE NOT NULL,
+    template_id VARCHAR(255) NOT NULL,
+    email_address TEXT NOT NULL,
+    personalisation TEXT NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+    retry_count INTEGER NOT NULL DEFAULT 0,
+    error_message TEXT,
+    locked_until TIMESTAMP,
+    locked_by VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_pending
+    ON email_outbox (created_at, locked_until)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_processing
+    ON email_outbox (locked_until, locked_by)
+    WHERE status = 'PROCESSING';
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_processed_at
+    ON email_outbox (processed_at)
+    WHERE processed_at IS NOT NULL;
+
+COMMENT ON TABLE email_outbox IS 'Outbox of GOV.UK Notify emails waiting to be sent by EmailOutboxDispatcher';
+COMMENT ON COLUMN email_outbox.reference IS 'Reference sent to Notify with every attempt to send the email';
+COMMENT ON COLUMN email_outbox.personalisation IS 'Notify personalisation for the template, as JSON';
+COMMENT ON COLUMN email_outbox.locked_until IS 'Timestamp until which the email is claimed, or is held back before a retry';
@@ -0,0 +1,24 @@
+-- =====================================================
+-- Migration: V025__CaseDataReportFunctions
+-- Description: Functions that pull the collections searched by CaseDataReportRepository out of
+--              ccd.case_data, so that they can be indexed (see V026__CaseDataReportIndexes).
+--              Hearing listed dates and jurisdiction codes are held in collections, so each is
+--              extracted into an array by an immutable function; a report searches them with &&
+--              against the days or codes it wants. Listed dates are cut down to the day, as the
+--              reports only ever search whole days. The functions live in the ccd schema next to
+--              the table they index, so queries and indexes resolve them the same way whatever
+--              the search_path.
+-- =====================================================
+
+CREATE OR REPLACE FUNCTION ccd.fn_case_data_hearing_listed_days(data jsonb) RETURNS text[] AS $$
+    SELECT coalesce(array_agg(DISTINCT left(listed_date #>> '{}', 10)), '{}'::text[])
+    FROM jsonb_path_query(data, '$.hearingCollection[*].value.hearingDateCollection[*].value.listedDate')
+        AS listed_date
+    WHERE jsonb_typeof(listed_date) = 'string';
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE OR REPLACE FUNCTION ccd.fn_case_data_jurisdiction_codes(data jsonb) RETURNS text[] AS $$
+    SELECT coalesce(array_agg(DISTINCT jurisdiction_code #>> '{}'), '{}'::text[])
+    FROM jsonb_path_query(data, '$.jurCodesCollection[*].value.juridictionCodesList') AS jurisdiction_code
+    WHERE jsonb_typeof(jurisdiction_code) = 'string';
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
@@ -0,0 +1,28 @@
+-- =====================================================
+-- Migration: V026__CaseDataReportIndexes
+-- Description: Expression indexes on ccd.case_data for the reports that CaseDataReportRepository
+--              reads straight from the case data instead of searching CCD's Elasticsearch.
+--              managingOffice, positionType and state are compared as plain values, so they get
+--              btree indexes led by case_type_id. The hearing listed days and jurisdiction codes
+--              extracted by the V025 functions are indexed with GIN.
+--              The indexes are built CONCURRENTLY so that case_data stays writable while they
+--              build, which means Flyway runs this script outside a transaction. A concurrent
+--              build waits for every open transaction, including one holding Flyway's lock, so
+--              spring.flyway.postgresql.transactional-lock must stay false. A build that fails
+--              leaves an INVALID index behind; drop it before re-running the migration.
+-- =====================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_case_data_managing_office
+    ON ccd.case_data (case_type_id, (data ->> 'managingOffice'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_case_data_position_type
+    ON ccd.case_data (case_type_id, (data ->> 'positionType'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_case_data_state
+    ON ccd.case_data (case_type_id, state);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_case_data_hearing_listed_days
+    ON ccd.case_data USING gin (ccd.fn_case_data_hearing_listed_days(data));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_case_data_jurisdiction_codes
+    ON ccd.case_data USING gin (ccd.fn_case_data_jurisdiction_codes(data));
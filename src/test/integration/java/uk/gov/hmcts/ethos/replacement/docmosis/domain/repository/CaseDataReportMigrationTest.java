@@ -0,0 +1,102 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.flywaydb.database.postgresql.PostgreSQLConfigurationExtension;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Runs the case data report migrations, V025 and V026, through Flyway as the application does on startup. V026
+ * builds its indexes CONCURRENTLY, which waits for every open transaction to finish, so it would hang if Flyway
+ * held its advisory lock in a transaction.
+ */
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CaseDataReportMigrationTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final List<String> REPORT_INDEXES = List.of(
+        "idx_case_data_managing_office",
+        "idx_case_data_position_type",
+        "idx_case_data_state",
+        "idx_case_data_hearing_listed_days",
+        "idx_case_data_jurisdiction_codes");
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    Flyway flyway;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldNotHoldTheFlywayLockInATransaction() {
+        assertFalse(flyway.getConfiguration().getPluginRegister()
+            .getPlugin(PostgreSQLConfigurationExtension.class).isTransactionalLock());
+    }
+
+    @Test
+    void shouldApplyTheReportMigrationsOnStartup() {
+        assertApplied("25");
+        assertApplied("26");
+        assertEquals(REPORT_INDEXES.size(), validReportIndexes());
+    }
+
+    @Test
+    void shouldBuildTheReportIndexesWhenMigrating() {
+        for (String index : REPORT_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS ccd." + index);
+        }
+        jdbcTemplate.update("DELETE FROM " + flyway.getConfiguration().getTable() + " WHERE version IN ('25', '26')");
+
+        MigrateResult result = assertTimeoutPreemptively(Duration.ofMinutes(1), () -> flyway.migrate());
+
+        assertEquals(2, result.migrationsExecuted);
+        assertApplied("25");
+        assertApplied("26");
+        assertEquals(REPORT_INDEXES.size(), validReportIndexes());
+    }
+
+    private void assertApplied(String version) {
+        MigrationInfo migration = Arrays.stream(flyway.info().applied())
+            .filter(applied -> applied.getVersion() != null && version.equals(applied.getVersion().getVersion()))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Migration V" + version + " has not been applied"));
+        assertEquals(MigrationState.SUCCESS, migration.getState());
+    }
+
+    private int validReportIndexes() {
+        return jdbcTemplate.queryForObject("""
+            SELECT count(*) FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = 'ccd' AND i.indisvalid AND c.relname = ANY (?)
+            """, Integer.class, (Object) REPORT_INDEXES.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,236 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ecm.common.model.ccd.CaseData;
+import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSubmitEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds ccd.case_data with {@value #CASES} synthetic cases and checks that {@link CaseDataReportRepository} selects the
+ * same cases as the report's own filters, using the report indexes rather than scanning the table. The table is seeded
+ * at that size so that the planner prefers the indexes. The benchmark run also logs how long the read model takes to
+ * read the cases awaiting judgment for one office against fetching the same cases from a local HTTP server in CCD
+ * search result pages, which stands in for the Elasticsearch path. No Elasticsearch runs here, so that path leaves out
+ * the time spent searching and is a lower bound for it.
+ */
+@Slf4j
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CaseDataReportThroughputTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final String CASE_TYPE_ID = "ET_ReadModelBenchmark";
+    private static final String OFFICE = "Leeds";
+    private static final String[] OFFICES = {"Bristol", "Leeds", "Manchester", "Watford"};
+    private static final long FIRST_REFERENCE = 1_700_000_000_000_000L;
+    private static final int CASES = 20_000;
+    private static final int ES_PAGE_SIZE = 1000;
+    private static final int RUNS = 5;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private CaseDataReportRepository caseDataReportRepository;
+
+    @BeforeEach
+    void setUp() {
+        deleteCases();
+        jdbcTemplate.update("""
+            INSERT INTO ccd.case_data (reference, jurisdiction, case_type_id, state, data, security_classification)
+            SELECT ? + i, 'EMPLOYMENT', ?,
+                   CASE WHEN i % 5 = 0 THEN 'Closed' ELSE 'Accepted' END,
+                   jsonb_build_object(
+                       'ethosCaseReference', format('%s/2024', 6000000 + i),
+                       'managingOffice', (ARRAY['Bristol', 'Leeds', 'Manchester', 'Watford'])[i % 4 + 1],
+                       'positionType', CASE WHEN i % 3 = 0 THEN 'Draft with members' ELSE 'Awaiting ET3' END,
+                       'jurCodesCollection', jsonb_build_array(jsonb_build_object('id', 'jur' || i,
+                           'value', jsonb_build_object('juridictionCodesList',
+                               (ARRAY['DAG', 'UDL', 'WA'])[i % 3 + 1]))),
+                       'hearingCollection', jsonb_build_array(jsonb_build_object('id', 'hearing' || i,
+                           'value', jsonb_build_object('hearingDateCollection', jsonb_build_array(
+                               jsonb_build_object('id', 'date' || i, 'value', jsonb_build_object('listedDate',
+                                   to_char(date '2024-01-01' + i % 365, 'YYYY-MM-DD') || 'T10:00:00.000'))))))
+                   ) || CASE WHEN i % 7 = 0
+                       THEN jsonb_build_object('judgementCollection',
+                           jsonb_build_array(jsonb_build_object('id', 'judgment' || i, 'value', '{}'::jsonb)))
+                       ELSE '{}'::jsonb END,
+                   'PUBLIC'
+            FROM generate_series(1, ?) AS i
+            """, FIRST_REFERENCE, CASE_TYPE_ID, CASES);
+        jdbcTemplate.execute("ANALYZE ccd.case_data");
+        caseDataReportRepository = new CaseDataReportRepository(jdbcTemplate, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteCases();
+    }
+
+    @Test
+    void shouldSelectTheReportCasesThroughTheIndexes() {
+        List<CasesAwaitingJudgmentSubmitEvent> submitEvents =
+            caseDataReportRepository.findCases(casesAwaitingJudgmentQuery(), CasesAwaitingJudgmentSubmitEvent.class);
+
+        assertEquals(expectedCasesAwaitingJudgment(), submitEvents.size());
+        for (CasesAwaitingJudgmentSubmitEvent submitEvent : submitEvents) {
+            CaseData caseData = submitEvent.getCaseData();
+            assertNotEquals("Closed", submitEvent.getState());
+            assertEquals(OFFICE, caseData.getManagingOffice());
+            assertEquals("Draft with members", caseData.getPositionType());
+            assertFalse(caseData.getHearingCollection().isEmpty());
+            assertTrue(caseData.getJudgementCollection() == null || caseData.getJudgementCollection().isEmpty());
+        }
+
+        // 1 March 2024 is 60 days after 1 January, the first listed date
+        long listedOnFirstMarch = IntStream.rangeClosed(1, CASES).filter(i -> i % 365 == 60).count();
+        assertEquals(listedOnFirstMarch, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM ccd.case_data WHERE case_type_id = ? "
+                + "AND ccd.fn_case_data_hearing_listed_days(data) && ARRAY['2024-03-01']",
+            Long.class, CASE_TYPE_ID));
+        assertNoSeqScan("SELECT reference FROM ccd.case_data "
+            + "WHERE ccd.fn_case_data_hearing_listed_days(data) && ARRAY['2024-03-01']");
+        assertNoSeqScan("SELECT reference FROM ccd.case_data "
+            + "WHERE case_type_id = '" + CASE_TYPE_ID + "' AND data ->> 'managingOffice' = 'Leeds'");
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldReadReportCasesFasterThanSearching() throws IOException, InterruptedException {
+        CaseDataReportQuery query = casesAwaitingJudgmentQuery();
+        List<String> searchResultPages = searchResultPages(
+            caseDataReportRepository.findCases(query, CasesAwaitingJudgmentSubmitEvent.class));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/searchCases", exchange -> {
+            String page = exchange.getRequestURI().getQuery().substring("page=".length());
+            byte[] body = searchResultPages.get(Integer.parseInt(page)).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            URI searchUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/searchCases");
+            long readModel = Long.MAX_VALUE;
+            long search = Long.MAX_VALUE;
+            int expected = expectedCasesAwaitingJudgment();
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                assertEquals(expected,
+                    caseDataReportRepository.findCases(query, CasesAwaitingJudgmentSubmitEvent.class).size());
+                readModel = Math.min(readModel, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                assertEquals(expected, search(httpClient, searchUri, searchResultPages.size()).size());
+                search = Math.min(search, System.nanoTime() - start);
+            }
+            log.info("Cases awaiting judgment for {} of {} cases: read model {} ms, "
+                + "search result pages over HTTP {} ms", OFFICE, CASES, TimeUnit.NANOSECONDS.toMillis(readModel),
+                TimeUnit.NANOSECONDS.toMillis(search));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private List<CasesAwaitingJudgmentSubmitEvent> search(HttpClient httpClient, URI searchUri, int pages)
+        throws IOException, InterruptedException {
+        List<CasesAwaitingJudgmentSubmitEvent> submitEvents = new ArrayList<>();
+        for (int page = 0; page < pages; page++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(searchUri + "?page=" + page)).build();
+            String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            SearchResult searchResult = objectMapper.readValue(body, SearchResult.class);
+            submitEvents.addAll(searchResult.cases());
+        }
+        return submitEvents;
+    }
+
+    private List<String> searchResultPages(List<CasesAwaitingJudgmentSubmitEvent> submitEvents) throws IOException {
+        List<Map<String, Object>> cases = objectMapper.convertValue(submitEvents, new TypeReference<>() {
+        });
+        List<String> pages = new ArrayList<>();
+        for (int from = 0; from < cases.size(); from += ES_PAGE_SIZE) {
+            List<Map<String, Object>> page = cases.subList(from, Math.min(from + ES_PAGE_SIZE, cases.size()));
+            pages.add(objectMapper.writeValueAsString(Map.of("total", cases.size(), "cases", page)));
+        }
+        return pages;
+    }
+
+    private static CaseDataReportQuery casesAwaitingJudgmentQuery() {
+        return CaseDataReportQuery.forReport(CASE_TYPE_ID, OFFICE)
+            .excludedState("Closed")
+            .positionType("Draft with members")
+            .presentField("hearingCollection")
+            .absentField("judgementCollection")
+            .build();
+    }
+
+    private static int expectedCasesAwaitingJudgment() {
+        int expected = 0;
+        for (int i = 1; i <= CASES; i++) {
+            if (OFFICE.equals(OFFICES[i % 4]) && i % 5 != 0 && i % 3 == 0 && i % 7 != 0) {
+                expected++;
+            }
+        }
+        return expected;
+    }
+
+    private void assertNoSeqScan(String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    private void deleteCases() {
+        jdbcTemplate.update("DELETE FROM ccd.case_data WHERE case_type_id = ?", CASE_TYPE_ID);
+    }
+
+    private record SearchResult(int total, List<CasesAwaitingJudgmentSubmitEvent> cases) {
+    }
+}
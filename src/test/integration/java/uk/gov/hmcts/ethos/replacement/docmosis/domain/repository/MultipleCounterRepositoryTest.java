@@ -0,0 +1,125 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ecm.common.model.servicebus.UpdateCaseMsg;
+import uk.gov.hmcts.ecm.common.model.servicebus.datamodel.CloseDataModel;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.LegalRepAccessService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.MultipleUpdateService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.SingleReadingService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.UpdateManagementService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.YES;
+
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MultipleCounterRepositoryTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final int WORKERS = 50;
+    private static final int CASES_PER_WORKER = 20;
+    private static final int TOTAL_CASES = WORKERS * CASES_PER_WORKER;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    MultipleCounterRepository multipleCounterRepository;
+
+    @Autowired
+    MultipleErrorsRepository multipleErrorsRepository;
+
+    @BeforeEach
+    void setUp() {
+        multipleCounterRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldReturnDistinctCountsUnderConcurrentIncrements() throws Exception {
+        Set<Integer> counts = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> counts.add(multipleCounterRepository.persistentQGetNextMultipleCountVal("6000001")));
+
+        assertEquals(TOTAL_CASES, counts.size());
+        assertTrue(counts.contains(1));
+        assertTrue(counts.contains(TOTAL_CASES));
+        assertEquals(1, multipleCounterRepository.findByMultipleref("6000001").size());
+    }
+
+    @Test
+    void shouldFinishMultipleExactlyOnceUnderConcurrentWorkers() throws Exception {
+        MultipleUpdateService multipleUpdateService = mock(MultipleUpdateService.class);
+        UpdateManagementService updateManagementService = new UpdateManagementService(
+            multipleCounterRepository,
+            multipleErrorsRepository,
+            multipleUpdateService,
+            mock(SingleReadingService.class),
+            mock(LegalRepAccessService.class)
+        );
+        UpdateCaseMsg updateCaseMsg = UpdateCaseMsg.builder()
+            .msgId("1")
+            .multipleRef("6000002")
+            .ethosCaseReference("6000001/2026")
+            .totalCases(String.valueOf(TOTAL_CASES))
+            .confirmation(YES)
+            .dataModelParent(new CloseDataModel())
+            .build();
+
+        runConcurrently(() -> {
+            updateManagementService.checkIfFinish(updateCaseMsg);
+            return null;
+        });
+
+        verify(multipleUpdateService, times(1)).sendUpdateToMultipleLogic(any(), any());
+        assertTrue(multipleCounterRepository.findByMultipleref("6000002").isEmpty());
+    }
+
+    private void runConcurrently(Callable<?> increment) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < WORKERS; worker++) {
+            futures.add(workers.submit(() -> {
+                start.await();
+                for (int i = 0; i < CASES_PER_WORKER; i++) {
+                    increment.call();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+    }
+}
@@ -31,4 +31,12 @@ public class SingleRefEnglandWalesRepositoryTest {
         assertEquals("6000002/2023", singleRefEnglandWalesRepository.ethosCaseRefGen(2023));
         assertEquals("6000004/2022", singleRefEnglandWalesRepository.ethosCaseRefGen(2022));
     }
+
+    @Test
+    public void testReserveRefBlocks() {
+        assertEquals(6000010, singleRefEnglandWalesRepository.reserveCaseRefBlock(2040, 10));
+        assertEquals("6000011/2040", singleRefEnglandWalesRepository.ethosCaseRefGen(2040));
+        assertEquals(6000031, singleRefEnglandWalesRepository.reserveCaseRefBlock(2040, 20));
+        assertEquals(6000005, singleRefEnglandWalesRepository.reserveCaseRefBlock(2041, 5));
+    }
 }
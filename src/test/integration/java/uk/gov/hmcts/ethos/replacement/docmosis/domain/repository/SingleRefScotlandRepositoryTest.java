@@ -31,4 +31,12 @@ public class SingleRefScotlandRepositoryTest {
         assertEquals("8000002/2023", singleRefScotlandRepository.ethosCaseRefGen(2023));
         assertEquals("8000004/2022", singleRefScotlandRepository.ethosCaseRefGen(2022));
     }
+
+    @Test
+    public void testReserveRefBlocks() {
+        assertEquals(8000010, singleRefScotlandRepository.reserveCaseRefBlock(2040, 10));
+        assertEquals("8000011/2040", singleRefScotlandRepository.ethosCaseRefGen(2040));
+        assertEquals(8000031, singleRefScotlandRepository.reserveCaseRefBlock(2040, 20));
+        assertEquals(8000005, singleRefScotlandRepository.reserveCaseRefBlock(2041, 5));
+    }
 }
@@ -85,6 +85,7 @@ class CreateUpdatesQueueRepositoryTest {
 
         createUpdatesQueueRepository.incrementRetryAndMarkFailureIfMax(
             saved.getMessageId(),
+            "processor-1",
             "Temporary failure",
             10,
             null
@@ -104,6 +105,7 @@ class CreateUpdatesQueueRepositoryTest {
 
         createUpdatesQueueRepository.incrementRetryAndMarkFailureIfMax(
             saved.getMessageId(),
+            "processor-1",
             "Final failure",
             10,
             LocalDateTime.now()
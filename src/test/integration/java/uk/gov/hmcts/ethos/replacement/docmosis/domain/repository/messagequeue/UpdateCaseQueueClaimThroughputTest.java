@@ -0,0 +1,148 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.EtCosPostgresqlContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Simulates several pods draining the update_case_queue concurrently through
+ * {@link UpdateCaseQueueRepository#claimPendingMessages}, checking that each message is claimed once. The benchmark
+ * run also reports messages/sec per pod count.
+ */
+@Slf4j
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UpdateCaseQueueClaimThroughputTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final int MESSAGE_COUNT = 200;
+    private static final int BENCHMARK_MESSAGE_COUNT = 2000;
+    private static final int BATCH_SIZE = 10;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    UpdateCaseQueueRepository updateCaseQueueRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        updateCaseQueueRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldClaimEveryMessageExactlyOnceAcrossPods() throws Exception {
+        enqueue(MESSAGE_COUNT);
+        Set<String> claimed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        drainWithPods(4, claimed, duplicates);
+
+        assertEquals(0, duplicates.get());
+        assertEquals(MESSAGE_COUNT, claimed.size());
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8})
+    void reportClaimThroughputPerPodCount(int podCount) throws Exception {
+        enqueue(BENCHMARK_MESSAGE_COUNT);
+        Set<String> claimed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        long start = System.nanoTime();
+        drainWithPods(podCount, claimed, duplicates);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        log.info("{} pod(s) drained {} messages in {} ms ({} messages/sec)",
+            podCount, claimed.size(), elapsedMillis, claimed.size() * 1000L / elapsedMillis);
+        assertEquals(0, duplicates.get());
+        assertEquals(BENCHMARK_MESSAGE_COUNT, claimed.size());
+    }
+
+    private void enqueue(int messageCount) {
+        List<UpdateCaseQueueMessage> messages = new ArrayList<>();
+        for (int i = 0; i < messageCount; i++) {
+            messages.add(UpdateCaseQueueMessage.builder()
+                .messageId("msg-" + UUID.randomUUID())
+                .messageBody("{\"msg\":\"test\"}")
+                .status(QueueMessageStatus.PENDING)
+                .createdAt(LocalDateTime.now().minusSeconds(5))
+                .retryCount(0)
+                .build());
+        }
+        updateCaseQueueRepository.saveAll(messages);
+    }
+
+    private void drainWithPods(int podCount, Set<String> claimed, AtomicInteger duplicates) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService pods = Executors.newFixedThreadPool(podCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int pod = 0; pod < podCount; pod++) {
+            String processorId = "pod-" + pod;
+            futures.add(pods.submit(() -> drainQueue(processorId, transactionTemplate, claimed, duplicates)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pods.shutdown();
+    }
+
+    private void drainQueue(String processorId, TransactionTemplate transactionTemplate,
+                            Set<String> claimed, AtomicInteger duplicates) {
+        List<UpdateCaseQueueMessage> batch;
+        do {
+            batch = updateCaseQueueRepository.claimPendingMessages(
+                processorId,
+                LocalDateTime.now().plusMinutes(5),
+                LocalDateTime.now(),
+                BATCH_SIZE
+            );
+            for (UpdateCaseQueueMessage message : batch) {
+                if (!claimed.add(message.getMessageId())) {
+                    duplicates.incrementAndGet();
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                    updateCaseQueueRepository.markAsCompleted(message.getMessageId(), processorId,
+                        LocalDateTime.now()));
+            }
+        } while (!batch.isEmpty());
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ecm.common.model.servicebus.UpdateCaseMsg;
+import uk.gov.hmcts.ecm.common.model.servicebus.datamodel.CloseDataModel;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.EtCosPostgresqlContainer;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue.UpdateCaseQueueSender;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link UpdateCaseQueueSender#sendMessages} queues one message for each case of a multiple update. The
+ * benchmark run enqueues the messages for a 10,000 case multiple update, one save per case through
+ * {@link UpdateCaseQueueSender#sendMessage} and in bulk through {@link UpdateCaseQueueSender#sendMessages}, and
+ * reports messages/sec for each.
+ */
+@Slf4j
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UpdateCaseQueueEnqueueThroughputTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final int CASE_COUNT = 10_000;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    UpdateCaseQueueRepository updateCaseQueueRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private UpdateCaseQueueSender sender;
+    private List<String> ethosCaseReferences;
+
+    @BeforeEach
+    void setUp() {
+        updateCaseQueueRepository.deleteAllInBatch();
+        sender = new UpdateCaseQueueSender(updateCaseQueueRepository, new ObjectMapper(), null);
+        ethosCaseReferences = new ArrayList<>();
+        for (int i = 0; i < CASE_COUNT; i++) {
+            ethosCaseReferences.add(String.format("%07d/2026", 6_000_000 + i));
+        }
+    }
+
+    @Test
+    void shouldEnqueueOneMessagePerCaseInBulk() throws IOException {
+        List<String> someCaseReferences = ethosCaseReferences.subList(0, 100);
+        UpdateCaseMsg updateCaseMsg = createUpdateCaseMsg();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> sender.sendMessages(updateCaseMsg, someCaseReferences));
+
+        List<UpdateCaseQueueMessage> messages = updateCaseQueueRepository.findAll();
+        ObjectMapper objectMapper = new ObjectMapper();
+        Set<String> queuedCaseReferences = new HashSet<>();
+        for (UpdateCaseQueueMessage message : messages) {
+            queuedCaseReferences.add(
+                objectMapper.readTree(message.getMessageBody()).get("ethosCaseReference").asText());
+        }
+        assertEquals(someCaseReferences.size(), messages.size());
+        assertEquals(Set.copyOf(someCaseReferences), queuedCaseReferences);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldEnqueueEveryCaseOneSaveAtATime() {
+        UpdateCaseMsg updateCaseMsg = createUpdateCaseMsg();
+
+        long start = System.nanoTime();
+        for (String ethosCaseReference : ethosCaseReferences) {
+            updateCaseMsg.setEthosCaseReference(ethosCaseReference);
+            sender.sendMessage(updateCaseMsg);
+        }
+        logThroughput("One save per case", start);
+
+        assertEquals(CASE_COUNT, updateCaseQueueRepository.count());
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldEnqueueEveryCaseInBulk() {
+        UpdateCaseMsg updateCaseMsg = createUpdateCaseMsg();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> sender.sendMessages(updateCaseMsg, ethosCaseReferences));
+        logThroughput("Bulk insert", start);
+
+        assertEquals(CASE_COUNT, updateCaseQueueRepository.count());
+    }
+
+    private static void logThroughput(String path, long start) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("{}: enqueued {} update-case messages in {} ms ({} messages/sec)",
+            path, CASE_COUNT, elapsedMillis, CASE_COUNT * 1000L / elapsedMillis);
+    }
+
+    private static UpdateCaseMsg createUpdateCaseMsg() {
+        return UpdateCaseMsg.builder()
+            .msgId("msg-1")
+            .jurisdiction("EMPLOYMENT")
+            .caseTypeId("ET_EnglandWales")
+            .multipleRef("6000001")
+            .totalCases(String.valueOf(CASE_COUNT))
+            .username("test@test.com")
+            .confirmation("No")
+            .dataModelParent(new CloseDataModel())
+            .build();
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.EtCosPostgresqlContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Grows the COMPLETED and FAILED history in update_case_queue and checks that the claim query the processors poll
+ * with never scans the table, logging the poll latency at each history size. The claim only reads the partial
+ * indexes over PENDING and PROCESSING rows, so its cost should not depend on how much history is kept.
+ */
+@Slf4j
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UpdateCaseQueuePollPlanTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final int[] HISTORY_SIZES = {0, 20_000, 100_000, 200_000};
+    private static final int PENDING_COUNT = 100;
+    private static final int POLLS = 50;
+    private static final int BATCH_SIZE = 10;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    UpdateCaseQueueRepository updateCaseQueueRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        // Other tests clear the table with deleteAll, which loads every row first
+        updateCaseQueueRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldPollWithoutScanningHistory() throws Exception {
+        updateCaseQueueRepository.deleteAllInBatch();
+        updateCaseQueueRepository.insertAll(createMessages(PENDING_COUNT, QueueMessageStatus.PENDING));
+        String explainClaim = "EXPLAIN " + claimQueryWithLiterals();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int history = 0;
+        for (int historySize : HISTORY_SIZES) {
+            int completed = (historySize - history) * 9 / 10;
+            updateCaseQueueRepository.insertAll(createMessages(completed, QueueMessageStatus.COMPLETED));
+            updateCaseQueueRepository.insertAll(
+                createMessages(historySize - history - completed, QueueMessageStatus.FAILED));
+            history = historySize;
+            jdbcTemplate.execute("ANALYZE update_case_queue");
+
+            String plan = String.join("\n", jdbcTemplate.queryForList(explainClaim, String.class));
+            if (history > 0) {
+                // With only the pending messages in the table a sequential scan is cheapest, and that is fine
+                assertFalse(plan.contains("Seq Scan"), () -> "Claim query scans the table:\n" + plan);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < POLLS; i++) {
+                // Roll every claim back so each poll sees the same pending messages
+                transactionTemplate.executeWithoutResult(status -> {
+                    assertEquals(BATCH_SIZE, updateCaseQueueRepository.claimPendingMessages("poll-plan-test",
+                        LocalDateTime.now().plusMinutes(5), LocalDateTime.now(), BATCH_SIZE).size());
+                    status.setRollbackOnly();
+                });
+            }
+            log.info("History of {} processed messages: {} microseconds per poll\n{}",
+                history, (System.nanoTime() - start) / 1000 / POLLS, plan);
+        }
+    }
+
+    private static String claimQueryWithLiterals() throws NoSuchMethodException {
+        String claimQuery = UpdateCaseQueueRepository.class.getMethod("claimPendingMessages",
+                String.class, LocalDateTime.class, LocalDateTime.class, int.class)
+            .getAnnotation(Query.class)
+            .value();
+        return claimQuery
+            .replace(":lockedBy", "'poll-plan-test'")
+            .replace(":lockedUntil", "now() + interval '5 minutes'")
+            .replace(":now", "now()")
+            .replace(":limit", String.valueOf(BATCH_SIZE));
+    }
+
+    private static List<UpdateCaseQueueMessage> createMessages(int count, QueueMessageStatus status) {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        List<UpdateCaseQueueMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(UpdateCaseQueueMessage.builder()
+                .messageId("msg-" + UUID.randomUUID())
+                .messageBody("{\"msg\":\"test\"}")
+                .status(status)
+                .createdAt(createdAt)
+                .retryCount(0)
+                .build());
+        }
+        return messages;
+    }
+}
@@ -16,12 +16,15 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQue
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.EtCosPostgresqlContainer;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
 @ImportAutoConfiguration(DecentralisedDataConfiguration.class)
@@ -79,12 +82,125 @@ class UpdateCaseQueueRepositoryTest {
         assertEquals(QueueMessageStatus.PROCESSING, updated.getStatus());
     }
 
+    @Test
+    void shouldClaimOnlyUnlockedPendingMessages() {
+        UpdateCaseQueueMessage pending = updateCaseQueueRepository.save(createPendingMessage());
+        updateCaseQueueRepository.save(createProcessingMessage(0));
+        flushAndClear();
+
+        List<UpdateCaseQueueMessage> claimed = updateCaseQueueRepository.claimPendingMessages(
+            "processor-2",
+            LocalDateTime.now().plusMinutes(5),
+            LocalDateTime.now(),
+            10
+        );
+
+        assertEquals(1, claimed.size());
+        assertEquals(pending.getMessageId(), claimed.get(0).getMessageId());
+        assertEquals(QueueMessageStatus.PROCESSING, claimed.get(0).getStatus());
+        assertEquals("processor-2", claimed.get(0).getLockedBy());
+
+        flushAndClear();
+        assertEquals(0, updateCaseQueueRepository.claimPendingMessages(
+            "processor-3",
+            LocalDateTime.now().plusMinutes(5),
+            LocalDateTime.now(),
+            10
+        ).size());
+    }
+
+    @Test
+    void shouldReclaimProcessingMessageWhoseLeaseHasRunOut() {
+        UpdateCaseQueueMessage abandoned = createProcessingMessage(0);
+        abandoned.setLockedUntil(LocalDateTime.now().minusMinutes(1));
+        abandoned = updateCaseQueueRepository.save(abandoned);
+        updateCaseQueueRepository.save(createProcessingMessage(0));
+        flushAndClear();
+
+        List<UpdateCaseQueueMessage> claimed = updateCaseQueueRepository.claimPendingMessages(
+            "processor-2",
+            LocalDateTime.now().plusMinutes(5),
+            LocalDateTime.now(),
+            10
+        );
+
+        assertEquals(1, claimed.size());
+        assertEquals(abandoned.getMessageId(), claimed.get(0).getMessageId());
+        assertEquals("processor-2", claimed.get(0).getLockedBy());
+    }
+
+    @Test
+    void shouldRenewLeasesOnlyOnGivenMessagesStillLockedByProcessor() {
+        UpdateCaseQueueMessage inFlight = updateCaseQueueRepository.save(createProcessingMessage(0));
+        UpdateCaseQueueMessage notInFlight = updateCaseQueueRepository.save(createProcessingMessage(0));
+        UpdateCaseQueueMessage reclaimed = createProcessingMessage(0);
+        reclaimed.setLockedBy("processor-2");
+        reclaimed = updateCaseQueueRepository.save(reclaimed);
+        flushAndClear();
+        LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(30);
+
+        int renewed = updateCaseQueueRepository.renewLeases(
+            List.of(inFlight.getMessageId(), reclaimed.getMessageId()),
+            "processor-1",
+            lockedUntil
+        );
+        flushAndClear();
+
+        assertEquals(1, renewed);
+        assertTrue(updateCaseQueueRepository.findById(inFlight.getId()).orElseThrow()
+            .getLockedUntil().isAfter(LocalDateTime.now().plusMinutes(20)));
+        assertTrue(updateCaseQueueRepository.findById(notInFlight.getId()).orElseThrow()
+            .getLockedUntil().isBefore(LocalDateTime.now().plusMinutes(20)));
+        assertTrue(updateCaseQueueRepository.findById(reclaimed.getId()).orElseThrow()
+            .getLockedUntil().isBefore(LocalDateTime.now().plusMinutes(20)));
+    }
+
+    @Test
+    void shouldInsertAllMessagesAcrossChunks() {
+        List<UpdateCaseQueueMessage> messages = new ArrayList<>();
+        for (int i = 0; i < UpdateCaseQueueRepositoryCustomImpl.CHUNK_SIZE + 10; i++) {
+            messages.add(createPendingMessage());
+        }
+
+        updateCaseQueueRepository.insertAll(messages);
+        flushAndClear();
+
+        assertEquals(messages.size(), updateCaseQueueRepository.count());
+        List<UpdateCaseQueueMessage> claimed = updateCaseQueueRepository.claimPendingMessages(
+            "processor-1",
+            LocalDateTime.now().plusMinutes(5),
+            LocalDateTime.now(),
+            1
+        );
+        assertEquals(1, claimed.size());
+        assertEquals(messages.get(0).getMessageBody(), claimed.get(0).getMessageBody());
+        assertEquals(Integer.valueOf(0), claimed.get(0).getRetryCount());
+    }
+
+    @Test
+    void shouldOnlyCompleteMessageStillLeasedToProcessor() {
+        UpdateCaseQueueMessage saved = updateCaseQueueRepository.save(createProcessingMessage(0));
+
+        int completedByOther = updateCaseQueueRepository.markAsCompleted(saved.getMessageId(), "processor-2",
+            LocalDateTime.now());
+        int completedByOwner = updateCaseQueueRepository.markAsCompleted(saved.getMessageId(), "processor-1",
+            LocalDateTime.now());
+        flushAndClear();
+
+        assertEquals(0, completedByOther);
+        assertEquals(1, completedByOwner);
+        UpdateCaseQueueMessage updated = updateCaseQueueRepository.findById(saved.getId()).orElse(null);
+        assertNotNull(updated);
+        assertEquals(QueueMessageStatus.COMPLETED, updated.getStatus());
+    }
+
     @Test
     void shouldMarkRetriedMessageAsPendingWithoutProcessedAt() {
         UpdateCaseQueueMessage saved = updateCaseQueueRepository.save(createProcessingMessage(0));
 
         updateCaseQueueRepository.markAsFailed(
             saved.getMessageId(),
+            "processor-1",
             "Temporary failure",
             1,
             QueueMessageStatus.PENDING,
@@ -106,6 +222,7 @@ class UpdateCaseQueueRepositoryTest {
 
         updateCaseQueueRepository.markAsFailed(
             saved.getMessageId(),
+            "processor-1",
             "Final failure",
             10,
             QueueMessageStatus.FAILED,
@@ -120,6 +237,52 @@ class UpdateCaseQueueRepositoryTest {
         assertNotNull(updated.getProcessedAt());
     }
 
+    @Test
+    void shouldDeleteOnlyMessagesProcessedBeforeCutoffInGivenStatus() {
+        UpdateCaseQueueMessage oldCompleted = updateCaseQueueRepository.save(
+            createProcessedMessage(QueueMessageStatus.COMPLETED, LocalDateTime.now().minusDays(10)));
+        UpdateCaseQueueMessage recentCompleted = updateCaseQueueRepository.save(
+            createProcessedMessage(QueueMessageStatus.COMPLETED, LocalDateTime.now().minusDays(1)));
+        UpdateCaseQueueMessage oldFailed = updateCaseQueueRepository.save(
+            createProcessedMessage(QueueMessageStatus.FAILED, LocalDateTime.now().minusDays(10)));
+        UpdateCaseQueueMessage pending = updateCaseQueueRepository.save(createPendingMessage());
+        flushAndClear();
+
+        int deleted = updateCaseQueueRepository.deleteProcessedBefore(
+            QueueMessageStatus.COMPLETED.name(),
+            LocalDateTime.now().minusDays(7),
+            10
+        );
+        flushAndClear();
+
+        assertEquals(1, deleted);
+        assertFalse(updateCaseQueueRepository.existsById(oldCompleted.getId()));
+        assertTrue(updateCaseQueueRepository.existsById(recentCompleted.getId()));
+        assertTrue(updateCaseQueueRepository.existsById(oldFailed.getId()));
+        assertTrue(updateCaseQueueRepository.existsById(pending.getId()));
+    }
+
+    private UpdateCaseQueueMessage createProcessedMessage(QueueMessageStatus status, LocalDateTime processedAt) {
+        return UpdateCaseQueueMessage.builder()
+            .messageId("msg-" + UUID.randomUUID())
+            .messageBody("{\"msg\":\"test\"}")
+            .status(status)
+            .createdAt(processedAt.minusMinutes(1))
+            .processedAt(processedAt)
+            .retryCount(0)
+            .build();
+    }
+
+    private UpdateCaseQueueMessage createPendingMessage() {
+        return UpdateCaseQueueMessage.builder()
+            .messageId("msg-" + UUID.randomUUID())
+            .messageBody("{\"msg\":\"test\"}")
+            .status(QueueMessageStatus.PENDING)
+            .createdAt(LocalDateTime.now().minusSeconds(5))
+            .retryCount(0)
+            .build();
+    }
+
     private UpdateCaseQueueMessage createProcessingMessage(int retryCount) {
         return UpdateCaseQueueMessage.builder()
             .messageId("msg-" + UUID.randomUUID())
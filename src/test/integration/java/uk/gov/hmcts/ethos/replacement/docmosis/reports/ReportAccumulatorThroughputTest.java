@@ -0,0 +1,239 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.et.common.model.bulk.types.DynamicFixedListType;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.et.common.model.ccd.SubmitEvent;
+import uk.gov.hmcts.et.common.model.ccd.items.DateListedTypeItem;
+import uk.gov.hmcts.et.common.model.ccd.items.HearingTypeItem;
+import uk.gov.hmcts.et.common.model.ccd.types.DateListedType;
+import uk.gov.hmcts.et.common.model.ccd.types.HearingType;
+import uk.gov.hmcts.et.common.model.listing.ListingData;
+import uk.gov.hmcts.et.common.model.listing.ListingDetails;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted.CasesCompletedAccumulator;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted.CasesCompletedReport;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.memberdays.MemberDaysAccumulator;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.memberdays.MemberDaysReport;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.memberdays.MemberDaysReportData;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.memberdays.MemberDaysReportDetail;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.groupingBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLOSED_STATE;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_FAST_TRACK;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_NO_CONCILIATION;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_OPEN_TRACK;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.CONCILIATION_TRACK_STANDARD_TRACK;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_LISTING_CASE_TYPE_ID;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.HEARING_STATUS_HEARD;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.HEARING_TYPE_PERLIMINARY_HEARING;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.NO;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.RANGE_HEARING_DATE_TYPE;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.YES;
+import static uk.gov.hmcts.ethos.replacement.docmosis.constants.HearingConstants.FULL_PANEL;
+
+/**
+ * Runs the member days and cases completed reports over synthetic cases, from a single accumulator and from four
+ * accumulators filled separately and merged, and checks that both give the same totals. The member days summary is
+ * also rebuilt from the report details with the sort, distinct and group passes the report used before it counted
+ * member days as cases were added. The benchmark run does the same over 50,000 cases and reports the time and bytes
+ * allocated per case for each.
+ */
+@Slf4j
+class ReportAccumulatorThroughputTest {
+
+    private static final int CASES = 2_000;
+    private static final int BENCHMARK_CASES = 50_000;
+    private static final int SHARDS = 4;
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 10;
+    private static final String[] CONCILIATION_TRACKS = {CONCILIATION_TRACK_NO_CONCILIATION,
+        CONCILIATION_TRACK_FAST_TRACK, CONCILIATION_TRACK_STANDARD_TRACK, CONCILIATION_TRACK_OPEN_TRACK};
+
+    @Test
+    void mergedMemberDaysAccumulatorsShouldMatchOneAccumulator() {
+        List<SubmitEvent> submitEvents = createSubmitEvents(CASES);
+        MemberDaysReport memberDaysReport = new MemberDaysReport();
+        MemberDaysReportData reportData = memberDaysReport.runReport(listingDetails(), submitEvents);
+        ListingDetails listingDetails = listingDetails();
+        MemberDaysReportData mergedReportData = memberDaysReport.runReport(listingDetails,
+            mergeShards(submitEvents, () -> new MemberDaysAccumulator(listingDetails.getCaseData())));
+
+        assertEquals(reportData.getTotalDays(), mergedReportData.getTotalDays());
+        assertEquals(reportData.getFullDaysTotal(), regroupSummary(reportData.getReportDetails()));
+    }
+
+    @Test
+    void mergedCasesCompletedAccumulatorsShouldMatchOneAccumulator() {
+        List<SubmitEvent> submitEvents = createSubmitEvents(CASES);
+        CasesCompletedReport casesCompletedReport = new CasesCompletedReport();
+        ListingData listingData = casesCompletedReport.generateReportData(listingDetails(), submitEvents);
+        ListingDetails listingDetails = listingDetails();
+        ListingData mergedListingData = casesCompletedReport.generateReportData(listingDetails,
+            mergeShards(submitEvents, () -> new CasesCompletedAccumulator(listingDetails.getCaseData())));
+
+        assertEquals(listingData.getLocalReportsDetailHdr(), mergedListingData.getLocalReportsDetailHdr());
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldRunMemberDaysReport() {
+        List<SubmitEvent> submitEvents = createSubmitEvents(BENCHMARK_CASES);
+        MemberDaysReport memberDaysReport = new MemberDaysReport();
+        MemberDaysReportData reportData = measure("Member days, one accumulator",
+            () -> memberDaysReport.runReport(listingDetails(), submitEvents));
+        measure("Member days, merged accumulators", () -> {
+            ListingDetails listingDetails = listingDetails();
+            return memberDaysReport.runReport(listingDetails,
+                mergeShards(submitEvents, () -> new MemberDaysAccumulator(listingDetails.getCaseData())));
+        });
+        measure("Member days summary regrouped from details",
+            () -> regroupSummary(reportData.getReportDetails()));
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldRunCasesCompletedReport() {
+        List<SubmitEvent> submitEvents = createSubmitEvents(BENCHMARK_CASES);
+        CasesCompletedReport casesCompletedReport = new CasesCompletedReport();
+        measure("Cases completed, one accumulator",
+            () -> casesCompletedReport.generateReportData(listingDetails(), submitEvents));
+        measure("Cases completed, merged accumulators", () -> {
+            ListingDetails listingDetails = listingDetails();
+            return casesCompletedReport.generateReportData(listingDetails,
+                mergeShards(submitEvents, () -> new CasesCompletedAccumulator(listingDetails.getCaseData())));
+        });
+    }
+
+    private static <A extends ReportAccumulator<SubmitEvent, A>> A mergeShards(List<SubmitEvent> submitEvents,
+                                                                             Supplier<A> accumulators) {
+        int shardSize = submitEvents.size() / SHARDS;
+        A accumulator = accumulators.get();
+        accumulator.addAll(submitEvents.subList(0, shardSize));
+        for (int shard = 1; shard < SHARDS; shard++) {
+            A shardAccumulator = accumulators.get();
+            shardAccumulator.addAll(submitEvents.subList(shard * shardSize,
+                shard == SHARDS - 1 ? submitEvents.size() : (shard + 1) * shardSize));
+            accumulator.merge(shardAccumulator);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Counts the full member days the way the report did before, grouping the sorted and distinct details by date
+     * and summing each group.
+     */
+    private static String regroupSummary(List<MemberDaysReportDetail> reportDetails) {
+        Map<String, List<MemberDaysReportDetail>> groupedByDate = reportDetails.stream()
+            .sorted(MemberDaysReportDetail::comparedTo)
+            .distinct()
+            .collect(groupingBy(MemberDaysReportDetail::getSortingHearingDate));
+        int fullDaysTotal = 0;
+        for (String listingDate : groupedByDate.keySet().stream().sorted().toList()) {
+            for (MemberDaysReportDetail detail : groupedByDate.get(listingDate)) {
+                if (Integer.parseInt(detail.getHearingDuration()) / 60 >= 3) {
+                    fullDaysTotal += (detail.getEmployeeMember() == null ? 0 : 1)
+                        + (detail.getEmployerMember() == null ? 0 : 1);
+                }
+            }
+        }
+        return String.valueOf(fullDaysTotal);
+    }
+
+    private <R> R measure(String path, Supplier<R> report) {
+        for (int i = 0; i < WARM_UP; i++) {
+            report.get();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        R result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = report.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertNotNull(result);
+        log.info("{}: {} ms per report of {} cases, {} bytes allocated per case",
+            path, elapsedNanos / 1_000_000 / ITERATIONS, BENCHMARK_CASES, allocated / ITERATIONS / BENCHMARK_CASES);
+        return result;
+    }
+
+    private static ListingDetails listingDetails() {
+        ListingData listingData = new ListingData();
+        listingData.setHearingDateType(RANGE_HEARING_DATE_TYPE);
+        listingData.setListingDateFrom("2019-12-01");
+        listingData.setListingDateTo("2019-12-31");
+        listingData.setManagingOffice("Leeds");
+        ListingDetails listingDetails = new ListingDetails();
+        listingDetails.setCaseTypeId(ENGLANDWALES_LISTING_CASE_TYPE_ID);
+        listingDetails.setCaseData(listingData);
+        return listingDetails;
+    }
+
+    private static List<SubmitEvent> createSubmitEvents(int cases) {
+        List<SubmitEvent> submitEvents = new ArrayList<>(cases);
+        for (int i = 0; i < cases; i++) {
+            submitEvents.add(createSubmitEvent(i));
+        }
+        return submitEvents;
+    }
+
+    private static SubmitEvent createSubmitEvent(int caseNumber) {
+        List<DateListedTypeItem> hearingDates = new ArrayList<>();
+        int firstDay = 1 + caseNumber % 28;
+        for (int day = firstDay; day < firstDay + 3; day++) {
+            hearingDates.add(createHearingDate(day, caseNumber % 2 == 0 ? 4 : 2, day == firstDay + 2));
+        }
+
+        HearingType hearingType = new HearingType();
+        hearingType.setHearingNumber("1");
+        hearingType.setHearingType(HEARING_TYPE_PERLIMINARY_HEARING);
+        hearingType.setHearingSitAlone(FULL_PANEL);
+        hearingType.setHearingEEMember(new DynamicFixedListType("Employee Member " + caseNumber % 50));
+        hearingType.setHearingERMember(new DynamicFixedListType("Employer Member " + caseNumber % 50));
+        hearingType.setJudge(new DynamicFixedListType("Judge " + caseNumber % 20));
+        hearingType.setHearingDateCollection(hearingDates);
+        HearingTypeItem hearingTypeItem = new HearingTypeItem();
+        hearingTypeItem.setId("hearing-" + caseNumber);
+        hearingTypeItem.setValue(hearingType);
+
+        CaseData caseData = new CaseData();
+        caseData.setEthosCaseReference(String.format("%07d/2019", caseNumber));
+        caseData.setConciliationTrack(CONCILIATION_TRACKS[caseNumber % CONCILIATION_TRACKS.length]);
+        caseData.setHearingCollection(new ArrayList<>(List.of(hearingTypeItem)));
+        SubmitEvent submitEvent = new SubmitEvent();
+        submitEvent.setCaseId(caseNumber);
+        submitEvent.setState(CLOSED_STATE);
+        submitEvent.setCaseData(caseData);
+        return submitEvent;
+    }
+
+    private static DateListedTypeItem createHearingDate(int day, int hours, boolean disposed) {
+        String date = String.format("2019-12-%02d", day);
+        DateListedType dateListedType = new DateListedType();
+        dateListedType.setListedDate(date + "T10:00:00.000");
+        dateListedType.setHearingStatus(HEARING_STATUS_HEARD);
+        dateListedType.setHearingCaseDisposed(disposed ? YES : NO);
+        dateListedType.setHearingTimingStart(date + "T10:00:00.000");
+        dateListedType.setHearingTimingFinish(String.format("%sT%02d:00:00.000", date, 10 + hours));
+        dateListedType.setHearingClerk(new DynamicFixedListType("Clerk " + day));
+        DateListedTypeItem dateListedTypeItem = new DateListedTypeItem();
+        dateListedTypeItem.setId(date);
+        dateListedTypeItem.setValue(dateListedType);
+        return dateListedTypeItem;
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.EtCosPostgresqlContainer;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.SingleRefEnglandWalesRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.SingleRefScotlandRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
+
+/**
+ * Simulates several pods creating single case references at the same time, each with its own
+ * {@link SingleReferenceService}, checking that no reference is handed out twice. The benchmark run reports
+ * references/sec for the database function (block size 1) and for references handed out from reserved blocks.
+ */
+@Slf4j
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SingleReferenceAllocationThroughputTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final int POD_COUNT = 4;
+    private static final int THREADS_PER_POD = 4;
+    private static final int REFERENCES_PER_THREAD = 250;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    SingleRefEnglandWalesRepository singleRefEnglandWalesRepository;
+
+    @Autowired
+    SingleRefScotlandRepository singleRefScotlandRepository;
+
+    @BeforeEach
+    void setUp() {
+        // fn_EnglandWalesEthosCaseRefGen inserts the counter row for a new year without guarding against a
+        // concurrent insert, so make sure the row exists before the pods start
+        singleRefEnglandWalesRepository.reserveCaseRefBlock(LocalDate.now().getYear(), 1);
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 100})
+    void reportReferenceThroughputPerBlockSize(int blockSize) throws Exception {
+        List<SingleReferenceService> pods = new ArrayList<>();
+        for (int pod = 0; pod < POD_COUNT; pod++) {
+            pods.add(createPod(blockSize));
+        }
+        Set<String> references = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        long start = System.nanoTime();
+        createReferences(pods, references, duplicates);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        log.info("Block size {}: {} pod(s) created {} references in {} ms ({} references/sec)",
+            blockSize, POD_COUNT, references.size(), elapsedMillis, references.size() * 1000L / elapsedMillis);
+
+        assertEquals(0, duplicates.get());
+        assertEquals(POD_COUNT * THREADS_PER_POD * REFERENCES_PER_THREAD, references.size());
+    }
+
+    @Test
+    void shouldNotDuplicateReferencesWhenPodsMixFunctionAndBlocks() throws Exception {
+        List<SingleReferenceService> pods = List.of(createPod(1), createPod(20), createPod(1), createPod(50));
+        Set<String> references = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        createReferences(pods, references, duplicates);
+
+        assertEquals(0, duplicates.get());
+        assertEquals(pods.size() * THREADS_PER_POD * REFERENCES_PER_THREAD, references.size());
+    }
+
+    private SingleReferenceService createPod(int blockSize) {
+        SingleReferenceService pod = new SingleReferenceService(singleRefScotlandRepository,
+            singleRefEnglandWalesRepository);
+        ReflectionTestUtils.setField(pod, "blockSize", blockSize);
+        return pod;
+    }
+
+    private static void createReferences(List<SingleReferenceService> pods, Set<String> references,
+                                         AtomicInteger duplicates) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(pods.size() * THREADS_PER_POD);
+        List<Future<?>> futures = new ArrayList<>();
+        for (SingleReferenceService pod : pods) {
+            for (int thread = 0; thread < THREADS_PER_POD; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < REFERENCES_PER_THREAD; i++) {
+                        if (!references.add(pod.createReference(ENGLANDWALES_CASE_TYPE_ID))) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+}
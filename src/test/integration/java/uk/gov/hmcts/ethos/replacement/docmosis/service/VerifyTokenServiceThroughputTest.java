@@ -0,0 +1,158 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.ethos.replacement.docmosis.config.interceptors.RequestInterceptor;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * Runs callback requests through the request interceptor with the IDAM key set served locally, fetching the key
+ * set for every request as the token service used to, with the key set cached, and with the key set and verified
+ * tokens cached, and checks that each lets a signed token through and turns away a forged one. The benchmark run
+ * also reports the interceptor overhead per request for each. A real IDAM round trip adds its network latency on top
+ * of the first figure.
+ */
+@Slf4j
+class VerifyTokenServiceThroughputTest {
+
+    private static final String KEY_ID = "throughput-key";
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final int REQUESTS = 5;
+
+    private HttpServer jwksServer;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private URL jwksUrl;
+    private String bearerToken;
+    private String forgedBearerToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        byte[] jwks = new JWKSet(rsaKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/jwks", exchange -> {
+            jwksRequests.incrementAndGet();
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        jwksServer.start();
+        jwksUrl = new URI("http://localhost:" + jwksServer.getAddress().getPort() + "/jwks").toURL();
+
+        SignedJWT signedJwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(),
+            new JWTClaimsSet.Builder()
+                .subject("caseworker@example.com")
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .build());
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        bearerToken = "Bearer " + signedJwt.serialize();
+
+        SignedJWT forgedJwt = new SignedJWT(signedJwt.getHeader(), signedJwt.getJWTClaimsSet());
+        forgedJwt.sign(new RSASSASigner(new RSAKeyGenerator(2048).keyID(KEY_ID).generate()));
+        forgedBearerToken = "Bearer " + forgedJwt.serialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    @Test
+    void shouldAcceptSignedTokensAndRejectForgedTokensWithEachKeySource() throws Exception {
+        assertAcceptedAndFetched(new VerifyTokenService(fetchEveryTime(), 0), REQUESTS);
+        assertAcceptedAndFetched(new VerifyTokenService(JWKSourceBuilder.create(jwksUrl).build(), 0), 1);
+        assertAcceptedAndFetched(new VerifyTokenService(JWKSourceBuilder.create(jwksUrl).build(), 10_000), 1);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldMeasureInterceptorOverhead() throws Exception {
+        measure("Key set fetched for every request", new VerifyTokenService(fetchEveryTime(), 0));
+        measure("Key set cached", new VerifyTokenService(JWKSourceBuilder.create(jwksUrl).build(), 0));
+        measure("Key set and verified tokens cached",
+            new VerifyTokenService(JWKSourceBuilder.create(jwksUrl).build(), 10_000));
+    }
+
+    private JWKSource<SecurityContext> fetchEveryTime() {
+        return (jwkSelector, context) -> {
+            try {
+                return jwkSelector.select(JWKSet.load(jwksUrl));
+            } catch (Exception e) {
+                throw new KeySourceException("JWKS error", e);
+            }
+        };
+    }
+
+    private void assertAcceptedAndFetched(VerifyTokenService verifyTokenService, int expectedKeySetFetches)
+        throws Exception {
+        RequestInterceptor requestInterceptor = new RequestInterceptor(verifyTokenService, null);
+        jwksRequests.set(0);
+        for (int i = 0; i < REQUESTS; i++) {
+            assertTrue(requestInterceptor.preHandle(request(bearerToken), new MockHttpServletResponse(), null));
+        }
+        assertEquals(expectedKeySetFetches, jwksRequests.get());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(requestInterceptor.preHandle(request(forgedBearerToken), response, null));
+        assertEquals(403, response.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/about-to-submit");
+        request.addHeader(AUTHORIZATION, authorization);
+        return request;
+    }
+
+    private void measure(String path, VerifyTokenService verifyTokenService) throws Exception {
+        RequestInterceptor requestInterceptor = new RequestInterceptor(verifyTokenService, null);
+        MockHttpServletRequest request = request(bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        for (int i = 0; i < WARM_UP; i++) {
+            assertTrue(requestInterceptor.preHandle(request, response, null));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertTrue(requestInterceptor.preHandle(request, response, null));
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        log.info("{}: {} microseconds interceptor overhead per request",
+            path, elapsedNanos / 1_000 / ITERATIONS);
+    }
+}
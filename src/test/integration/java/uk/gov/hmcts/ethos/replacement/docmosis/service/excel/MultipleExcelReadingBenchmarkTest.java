@@ -0,0 +1,122 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.CONSTRAINT_KEY;
+import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.SHEET_NAME;
+
+/**
+ * Reads generated multiple spreadsheets with the {@link XSSFWorkbook} reader and with
+ * {@link StreamingExcelSheetReader}, checking that both find the same rows. The benchmark run reads spreadsheets of
+ * increasing size and reports the time taken and the bytes allocated by each reader.
+ */
+@Slf4j
+class MultipleExcelReadingBenchmarkTest {
+
+    private static final int COLUMN_COUNT = 6;
+
+    @Test
+    void bothReadersFindEveryRowOfProtectedSheet() throws IOException {
+        byte[] spreadsheet = createSpreadsheet(200);
+
+        assertEquals(200, readWithWorkbook(spreadsheet));
+        assertEquals(200, readWithStreaming(spreadsheet));
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    void compareWorkbookAndStreamingReaders(int rowCount) throws IOException {
+        byte[] spreadsheet = createSpreadsheet(rowCount);
+
+        long allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+        int workbookRows = readWithWorkbook(spreadsheet);
+        long workbookMillis = (System.nanoTime() - started) / 1_000_000;
+        long workbookBytes = allocatedBytes() - allocatedBefore;
+
+        allocatedBefore = allocatedBytes();
+        started = System.nanoTime();
+        int streamedRows = readWithStreaming(spreadsheet);
+        long streamingMillis = (System.nanoTime() - started) / 1_000_000;
+        long streamingBytes = allocatedBytes() - allocatedBefore;
+
+        log.info("{} rows: XSSFWorkbook {} ms, {} MB allocated; streaming {} ms, {} MB allocated", rowCount,
+                workbookMillis, workbookBytes / (1024 * 1024), streamingMillis, streamingBytes / (1024 * 1024));
+        assertEquals(rowCount, workbookRows);
+        assertEquals(rowCount, streamedRows);
+    }
+
+    private static int readWithWorkbook(byte[] spreadsheet) throws IOException {
+        ZipSecureFile.setMinInflateRatio(0);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(spreadsheet))) {
+            XSSFSheet sheet = workbook.getSheet(SHEET_NAME);
+            int rows = 0;
+            for (Row row : sheet) {
+                if (row.getRowNum() > 0 && row.getCell(0) != null) {
+                    rows++;
+                }
+            }
+            return sheet.validateSheetPassword(CONSTRAINT_KEY) ? rows : -1;
+        }
+    }
+
+    private static int readWithStreaming(byte[] spreadsheet) throws IOException {
+        AtomicInteger rows = new AtomicInteger();
+        try (InputStream inputStream = new ByteArrayInputStream(spreadsheet)) {
+            StreamingExcelSheetReader.SheetSummary sheet = StreamingExcelSheetReader.readSheet(inputStream,
+                    SHEET_NAME, COLUMN_COUNT, (rowNum, cells) -> {
+                        if (rowNum > 0 && !cells.get(0).isEmpty()) {
+                            rows.incrementAndGet();
+                        }
+                    });
+            return sheet.validateSheetPassword(CONSTRAINT_KEY) ? rows.get() : -1;
+        }
+    }
+
+    private static byte[] createSpreadsheet(int rowCount) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(); ByteArrayOutputStream outputStream =
+                new ByteArrayOutputStream()) {
+            SXSSFSheet sheet = workbook.createSheet(SHEET_NAME);
+            Row header = sheet.createRow(0);
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                header.createCell(column).setCellValue("Header " + column);
+            }
+            for (int i = 1; i <= rowCount; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(String.format("%07d/2024", i));
+                row.createCell(1).setCellValue(i % 10 == 0 ? "Sub" + i % 7 : "");
+                row.createCell(2).setCellValue(i % 3 == 0 ? "AA" : "");
+                row.createCell(3).setCellValue(i % 5);
+                row.createCell(4).setCellValue("");
+                row.createCell(5).setCellValue("");
+            }
+            sheet.protectSheet(CONSTRAINT_KEY);
+            workbook.write(outputStream);
+            workbook.dispose();
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
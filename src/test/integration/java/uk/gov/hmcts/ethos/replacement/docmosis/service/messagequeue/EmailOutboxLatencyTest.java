@@ -0,0 +1,168 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.ccd.sdk.config.DecentralisedDataConfiguration;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.EmailOutboxMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.EtCosPostgresqlContainer;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.EmailService;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.SendEmailResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs callbacks that each send an email to the claimant, the respondent and a representative, queueing them in the
+ * email outbox, and drains the outbox with the dispatcher against a stub Notify client, which must send every email
+ * exactly once. The benchmark run first sends the emails straight to a stub that takes
+ * {@value #NOTIFY_LATENCY_MILLIS} ms to answer, as the callbacks used to, and then queues them in the outbox, and logs
+ * the median and p99 callback latency for each.
+ */
+@Slf4j
+@DataJpaTest(properties = "core_case_data.api.url=localhost:4452")
+@ImportAutoConfiguration(DecentralisedDataConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxLatencyTest {
+
+    private static final PostgreSQLContainer postgreSQLContainer = EtCosPostgresqlContainer.getInstance();
+    private static final int NOTIFY_LATENCY_MILLIS = 50;
+    private static final int EMAILS_PER_CALLBACK = 3;
+    private static final int CALLBACKS = 50;
+    private static final int BATCH_SIZE = 50;
+
+    static {
+        postgreSQLContainer.start();
+    }
+
+    @Autowired
+    EmailOutboxRepository emailOutboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldSendEveryQueuedEmailExactlyOnce() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        StubNotificationClient notificationClient = new StubNotificationClient(0);
+        EmailService emailService = new EmailService(notificationClient,
+            new EmailOutboxSender(emailOutboxRepository, objectMapper));
+
+        for (int i = 0; i < CALLBACKS; i++) {
+            sendCallbackEmails(emailService, i);
+        }
+        assertTrue(notificationClient.sentReferences.isEmpty());
+
+        dispatchAll(new EmailOutboxDispatcher(emailOutboxRepository, notificationClient, objectMapper));
+
+        List<EmailOutboxMessage> emails = emailOutboxRepository.findAll();
+        assertEquals(CALLBACKS * EMAILS_PER_CALLBACK, emails.size());
+        for (EmailOutboxMessage email : emails) {
+            assertEquals(QueueMessageStatus.COMPLETED, email.getStatus());
+            assertEquals(1, notificationClient.sentReferences.get(email.getReference()).get());
+        }
+        assertEquals(emails.size(), notificationClient.sentReferences.size());
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldTakeNotifyOutOfCallbackLatency() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        StubNotificationClient notificationClient = new StubNotificationClient(NOTIFY_LATENCY_MILLIS);
+
+        measure("Emails sent in the callback", new EmailService(notificationClient));
+        measure("Emails queued in the email outbox", new EmailService(notificationClient,
+            new EmailOutboxSender(emailOutboxRepository, objectMapper)));
+
+        notificationClient.sentReferences.clear();
+        long start = System.nanoTime();
+        dispatchAll(new EmailOutboxDispatcher(emailOutboxRepository, notificationClient, objectMapper));
+        log.info("Dispatcher sent {} emails in {} ms", notificationClient.sentReferences.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static void dispatchAll(EmailOutboxDispatcher dispatcher) {
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "ratePerSecond", 0);
+        // One batch is sent per poll
+        for (int poll = 0; poll * BATCH_SIZE < CALLBACKS * EMAILS_PER_CALLBACK; poll++) {
+            dispatcher.dispatchPendingEmails();
+        }
+    }
+
+    private static void sendCallbackEmails(EmailService emailService, int callback) {
+        for (int email = 0; email < EMAILS_PER_CALLBACK; email++) {
+            emailService.sendEmail("template-" + email, "party" + email + "@example.com",
+                Map.of("caseNumber", String.format("%07d/2024", callback), "linkToCitizenHub", "link-" + callback));
+        }
+    }
+
+    private void measure(String path, EmailService emailService) {
+        long[] latencies = new long[CALLBACKS];
+        for (int i = 0; i < CALLBACKS; i++) {
+            long start = System.nanoTime();
+            sendCallbackEmails(emailService, i);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        log.info("{}: median {} ms, p99 {} ms per callback", path,
+            TimeUnit.NANOSECONDS.toMillis(percentile(latencies, 50)),
+            TimeUnit.NANOSECONDS.toMillis(percentile(latencies, 99)));
+    }
+
+    private static long percentile(long[] sortedLatencies, int percentile) {
+        return sortedLatencies[(int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1];
+    }
+
+    /**
+     * Stands in for GOV.UK Notify, taking the given time to answer and counting the emails sent with each reference.
+     */
+    private static class StubNotificationClient extends NotificationClient {
+
+        private final Map<String, AtomicInteger> sentReferences = new ConcurrentHashMap<>();
+        private final int latencyMillis;
+
+        StubNotificationClient(int latencyMillis) {
+            super("stub-" + UUID.randomUUID() + "-" + UUID.randomUUID());
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public SendEmailResponse sendEmail(String templateId, String emailAddress, Map<String, ?> personalisation,
+                                           String reference) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentReferences.computeIfAbsent(reference, key -> new AtomicInteger()).incrementAndGet();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Converts a citizen case between its map form and {@link CaseData} the way EmployeeObjectMapper used to, with a
+ * new mapper for every call, and through the shared mapper it uses now, checking that both give the same result.
+ * The benchmark run reports the conversions/sec and bytes allocated per conversion for each.
+ */
+@Slf4j
+class EmployeeObjectMapperThroughputTest {
+
+    private static final int WARM_UP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    private Map<String, Object> caseDataMap;
+
+    @BeforeEach
+    void setUp() {
+        caseDataMap = new CaseTestData().getCaseRequestCaseDataMap();
+    }
+
+    @Test
+    void sharedMapperConvertsLikeNewMapperPerCall() {
+        CaseData caseData = newMapper().convertValue(caseDataMap, CaseData.class);
+
+        assertEquals(caseData, EmployeeObjectMapper.convertCaseDataMapToCaseDataObject(caseDataMap));
+        assertEquals(newMapper().convertValue(caseData, Map.class),
+            EmployeeObjectMapper.mapCaseDataToLinkedHashMap(caseData));
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldConvertMapToCaseData() {
+        measure("Map to CaseData, new mapper per call",
+            map -> newMapper().convertValue(map, CaseData.class));
+        measure("Map to CaseData, shared mapper",
+            EmployeeObjectMapper::convertCaseDataMapToCaseDataObject);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void shouldConvertCaseDataToMap() {
+        CaseData caseData = EmployeeObjectMapper.convertCaseDataMapToCaseDataObject(caseDataMap);
+
+        measure("CaseData to Map, new mapper per call",
+            map -> newMapper().convertValue(caseData, Map.class));
+        measure("CaseData to Map, shared mapper",
+            map -> EmployeeObjectMapper.mapCaseDataToLinkedHashMap(caseData));
+    }
+
+    private void measure(String path, Function<Map<String, Object>, Object> conversion) {
+        for (int i = 0; i < WARM_UP; i++) {
+            conversion.apply(caseDataMap);
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        Object result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = conversion.apply(caseDataMap);
+        }
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertNotNull(result);
+        log.info("{}: {} conversions/sec, {} bytes allocated per conversion",
+            path, ITERATIONS * 1_000_000_000L / elapsedNanos, allocated / ITERATIONS);
+    }
+
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.ethos.replacement.docmosis.config.ConnectionUsageTrackingDataSource.QUEUE_WORKER_THREAD_PREFIX;
+
+class ConnectionUsageTrackingDataSourceTest {
+
+    private Connection connection;
+    private ConnectionUsageTrackingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = mock(Connection.class);
+        DataSource targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource = new ConnectionUsageTrackingDataSource(targetDataSource);
+    }
+
+    @Test
+    void getConnectionRecordsOtherCallers() throws Exception {
+        try (Connection tracked = dataSource.getConnection()) {
+            tracked.setAutoCommit(false);
+        }
+
+        verify(connection).setAutoCommit(false);
+        verify(connection).close();
+        assertEquals(1, dataSource.getOtherUsage().getAcquireCount());
+        assertEquals(1, dataSource.getOtherUsage().getHeldCount());
+        assertEquals(0, dataSource.getQueueWorkerUsage().getAcquireCount());
+    }
+
+    @Test
+    void getConnectionRecordsQueueWorkers() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name(QUEUE_WORKER_THREAD_PREFIX + "test-", 0).factory());
+        try {
+            executor.submit(() -> {
+                dataSource.getConnection().close();
+                return null;
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, dataSource.getQueueWorkerUsage().getAcquireCount());
+        assertEquals(1, dataSource.getQueueWorkerUsage().getHeldCount());
+        assertEquals(0, dataSource.getOtherUsage().getAcquireCount());
+    }
+
+    @Test
+    void closingConnectionTwiceRecordsHoldTimeOnce() throws Exception {
+        Connection tracked = dataSource.getConnection();
+
+        tracked.close();
+        tracked.close();
+
+        verify(connection, times(2)).close();
+        assertEquals(1, dataSource.getOtherUsage().getHeldCount());
+    }
+
+    @Test
+    void trackedConnectionIsOnlyEqualToItself() throws Exception {
+        Connection tracked = dataSource.getConnection();
+
+        assertEquals(tracked, tracked);
+        assertNotEquals(tracked, dataSource.getConnection());
+    }
+}
@@ -287,7 +287,7 @@ class RespondentRepresentativeControllerTest {
         ccdRequest.getCaseDetails().setCaseId(DUMMY_SUBMISSION_REFERENCE);
         when(nocRespondentRepresentativeService.validateRepresentativesOrganisationsAndEmails(
                 any(CaseData.class))).thenReturn(List.of());
-        when(nocRespondentRepresentativeService.prepopulateOrgAddress(any(CaseData.class), anyString())).thenThrow(
+        when(nocRespondentRepresentativeService.prepopulateOrgAddress(any(CaseData.class))).thenThrow(
                 new GenericRuntimeException(new GenericServiceException(DUMMY_EXCEPTION_MESSAGE,
                         new Exception(DUMMY_EXCEPTION_MESSAGE), DUMMY_EXCEPTION_MESSAGE, DUMMY_SUBMISSION_REFERENCE,
                         RespondentRepresentativeController.class.getSimpleName(),
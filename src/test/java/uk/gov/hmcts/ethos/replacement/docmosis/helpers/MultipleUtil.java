@@ -1,7 +1,5 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.helpers;
 
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -53,9 +51,12 @@ import uk.gov.hmcts.et.common.model.multiples.items.SubMultipleTypeItem;
 import uk.gov.hmcts.et.common.model.multiples.types.MultipleObjectType;
 import uk.gov.hmcts.et.common.model.multiples.types.SubMultipleActionType;
 import uk.gov.hmcts.et.common.model.multiples.types.SubMultipleType;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.SheetSummary;
 import uk.gov.hmcts.ethos.replacement.docmosis.utils.SendNotificationUtil;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -507,11 +508,11 @@ public final class MultipleUtil {
         return dynamicFixedListType;
     }
 
-    public static XSSFSheet getDataTypeSheet(String fileName) throws IOException {
+    public static SheetSummary getDataTypeSheet(String fileName) throws IOException {
 
         Resource body = new ClassPathResource(fileName);
-        try (XSSFWorkbook workbook = new XSSFWorkbook(body.getInputStream())) {
-            return workbook.getSheet(SHEET_NAME);
+        try (InputStream inputStream = body.getInputStream()) {
+            return StreamingExcelSheetReader.readSheet(inputStream, SHEET_NAME, 0, (rowNum, cells) -> { });
         }
     }
 
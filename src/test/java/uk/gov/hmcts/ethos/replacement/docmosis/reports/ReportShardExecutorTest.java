@@ -0,0 +1,88 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSubmitEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReportShardExecutorTest {
+
+    private static final String DATE_FROM = "2021-07-01T00:00:00.000";
+    private static final String DATE_TO = "2021-07-12T23:59:59.000";
+
+    private final ReportShardExecutor reportShardExecutor = new ReportShardExecutor(6, 4);
+
+    @Test
+    void shouldSplitReportPeriodIntoConsecutiveWindows() {
+        List<ReportShardExecutor.DateWindow> windows = reportShardExecutor.split(DATE_FROM, DATE_TO);
+
+        assertEquals(6, windows.size());
+        assertEquals(new ReportShardExecutor.DateWindow(DATE_FROM, "2021-07-02T23:59:59.000"), windows.getFirst());
+        assertEquals(new ReportShardExecutor.DateWindow("2021-07-03T00:00:00.000", "2021-07-04T23:59:59.000"),
+            windows.get(1));
+        assertEquals(new ReportShardExecutor.DateWindow("2021-07-11T00:00:00.000", DATE_TO), windows.getLast());
+    }
+
+    @Test
+    void shouldNotSplitReportPeriodIntoWindowsShorterThanADay() {
+        assertEquals(3, reportShardExecutor.split(DATE_FROM, "2021-07-03T23:59:59.000").size());
+        assertEquals(1, reportShardExecutor.split(DATE_FROM, "2021-07-01T23:59:59.000").size());
+    }
+
+    @Test
+    void shouldSearchWholePeriodWhenDatesCannotBeParsed() {
+        List<String> searches = new ArrayList<>();
+
+        reportShardExecutor.fetch("1-1-2022", "10-1-2022", (dateFrom, dateTo) -> {
+            searches.add(dateFrom + " " + dateTo);
+            return List.<SessionDaysSubmitEvent>of();
+        });
+
+        assertEquals(List.of("1-1-2022 10-1-2022"), searches);
+    }
+
+    @Test
+    void shouldMergeWindowsAndKeepEachCaseOnce() {
+        AtomicInteger nextCaseId = new AtomicInteger(100);
+
+        List<SessionDaysSubmitEvent> cases = reportShardExecutor.fetch(DATE_FROM, DATE_TO,
+            (dateFrom, dateTo) -> List.of(submitEvent(1), submitEvent(nextCaseId.getAndIncrement())));
+
+        assertEquals(7, cases.size());
+        assertEquals(1, cases.stream().filter(submitEvent -> submitEvent.getCaseId() == 1).count());
+    }
+
+    @Test
+    void shouldStreamEachCaseOnce() {
+        AtomicInteger nextCaseId = new AtomicInteger(100);
+        List<SessionDaysSubmitEvent> cases = new ArrayList<>();
+
+        reportShardExecutor.<SessionDaysSubmitEvent>stream(DATE_FROM, DATE_TO,
+            (dateFrom, dateTo, pageConsumer) -> {
+                pageConsumer.accept(List.of(submitEvent(1)));
+                pageConsumer.accept(List.of(submitEvent(nextCaseId.getAndIncrement())));
+            },
+            cases::addAll);
+
+        assertEquals(7, cases.size());
+    }
+
+    @Test
+    void shouldRethrowSearchFailure() {
+        assertThrows(ReportException.class, () -> reportShardExecutor.fetch(DATE_FROM, DATE_TO,
+            (dateFrom, dateTo) -> {
+                throw new ReportException("Search failed");
+            }));
+    }
+
+    private static SessionDaysSubmitEvent submitEvent(long caseId) {
+        SessionDaysSubmitEvent submitEvent = new SessionDaysSubmitEvent();
+        submitEvent.setCaseId(caseId);
+        return submitEvent;
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataRetrievalFailureException;
+import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSubmitEvent;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportQuery;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
+import static uk.gov.hmcts.ecm.common.model.helper.Constants.SCOTLAND_CASE_TYPE_ID;
+
+class CaseDataReportDataSourceTest {
+
+    @Test
+    void shouldReturnCasesFromCaseData() {
+        CaseDataReportRepository caseDataReportRepository = mock(CaseDataReportRepository.class);
+        CasesAwaitingJudgmentSubmitEvent submitEvent = new CasesAwaitingJudgmentSubmitEvent();
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<CasesAwaitingJudgmentSubmitEvent>>>getArgument(2).accept(List.of(submitEvent));
+            return null;
+        }).when(caseDataReportRepository).streamCases(any(), eq(CasesAwaitingJudgmentSubmitEvent.class), any());
+
+        CaseDataReportDataSource reportDataSource = new CaseDataReportDataSource(caseDataReportRepository);
+        List<CasesAwaitingJudgmentSubmitEvent> results = reportDataSource.getData(ENGLANDWALES_CASE_TYPE_ID,
+                TribunalOffice.LEEDS.getOfficeName());
+
+        assertEquals(List.of(submitEvent), results);
+        ArgumentCaptor<CaseDataReportQuery> query = ArgumentCaptor.forClass(CaseDataReportQuery.class);
+        verify(caseDataReportRepository).streamCases(query.capture(), eq(CasesAwaitingJudgmentSubmitEvent.class),
+                any());
+        assertEquals(ENGLANDWALES_CASE_TYPE_ID, query.getValue().getCaseTypeId());
+        assertEquals(TribunalOffice.LEEDS.getOfficeName(), query.getValue().getManagingOffice());
+        assertEquals(Set.copyOf(CasesAwaitingJudgmentReport.VALID_POSITION_TYPES),
+                query.getValue().getPositionTypes());
+        assertEquals(Set.of("Closed"), query.getValue().getExcludedStates());
+        assertEquals(Set.of("hearingCollection"), query.getValue().getPresentFields());
+        assertEquals(Set.of("judgementCollection"), query.getValue().getAbsentFields());
+    }
+
+    @Test
+    void shouldNotFilterScotlandCasesByOffice() {
+        CaseDataReportRepository caseDataReportRepository = mock(CaseDataReportRepository.class);
+
+        new CaseDataReportDataSource(caseDataReportRepository).getData(SCOTLAND_CASE_TYPE_ID,
+                TribunalOffice.GLASGOW.getOfficeName());
+
+        ArgumentCaptor<CaseDataReportQuery> query = ArgumentCaptor.forClass(CaseDataReportQuery.class);
+        verify(caseDataReportRepository).streamCases(query.capture(), eq(CasesAwaitingJudgmentSubmitEvent.class),
+                any());
+        assertNull(query.getValue().getManagingOffice());
+    }
+
+    @Test
+    void shouldThrowReportExceptionWhenReadFails() {
+        CaseDataReportRepository caseDataReportRepository = mock(CaseDataReportRepository.class);
+        doThrow(new DataRetrievalFailureException("Failed")).when(caseDataReportRepository)
+                .streamCases(any(), eq(CasesAwaitingJudgmentSubmitEvent.class), any());
+
+        CaseDataReportDataSource reportDataSource = new CaseDataReportDataSource(caseDataReportRepository);
+        assertThrows(ReportException.class, () -> reportDataSource.getData(ENGLANDWALES_CASE_TYPE_ID,
+                TribunalOffice.LEEDS.getOfficeName()));
+    }
+}
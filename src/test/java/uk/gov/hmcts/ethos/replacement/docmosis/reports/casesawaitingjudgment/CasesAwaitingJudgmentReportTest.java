@@ -17,6 +17,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ACCEPTED_STATE;
@@ -53,7 +54,7 @@ class CasesAwaitingJudgmentReportTest {
     void setup() {
         submitEvents.clear();
 
-        reportDataSource = mock(ReportDataSource.class);
+        reportDataSource = mock(ReportDataSource.class, CALLS_REAL_METHODS);
         when(reportDataSource.getData(ENGLANDWALES_CASE_TYPE_ID,
                 TribunalOffice.LEEDS.getOfficeName()))
                 .thenReturn(submitEvents);
@@ -3,17 +3,22 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.casesawaitingjudgment;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.casesawaitingjudgment.CasesAwaitingJudgmentSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class CcdReportDataSourceTest {
 
@@ -25,7 +30,11 @@ class CcdReportDataSourceTest {
         CcdClient ccdClient = mock(CcdClient.class);
         CasesAwaitingJudgmentSubmitEvent submitEvent = new CasesAwaitingJudgmentSubmitEvent();
         List<CasesAwaitingJudgmentSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.casesAwaitingJudgmentSearch(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<CasesAwaitingJudgmentSubmitEvent>>>getArgument(5).accept(submitEvents);
+            return null;
+        }).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(CasesAwaitingJudgmentSearchResult.class), any(), any());
 
         CcdReportDataSource ccdReportDataSource = new CcdReportDataSource(authToken, ccdClient);
 
@@ -40,7 +49,8 @@ class CcdReportDataSourceTest {
         String caseTypeId = "A test case type";
         String owningOffice = TribunalOffice.LEEDS.getOfficeName();
         CcdClient ccdClient = mock(CcdClient.class);
-        when(ccdClient.casesAwaitingJudgmentSearch(anyString(), anyString(), anyString())).thenThrow(new IOException());
+        doThrow(new IOException()).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(CasesAwaitingJudgmentSearchResult.class), any(), any());
 
         CcdReportDataSource ccdReportDataSource = new CcdReportDataSource(authToken, ccdClient);
         assertThrows(ReportException.class, () -> ccdReportDataSource.getData(caseTypeId, owningOffice));
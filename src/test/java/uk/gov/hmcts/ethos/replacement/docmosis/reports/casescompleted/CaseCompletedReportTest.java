@@ -717,6 +717,40 @@ class CaseCompletedReportTest {
         verifyReportDetails(reportListingData, 3);
     }
 
+    @Test
+    void testMergedAccumulatorsGiveSameReportAsSingleRun() {
+        // given valid cases for different conciliation tracks are accumulated in two halves
+        // when the halves are merged and we generate report data
+        // then the report is the same as one generated from all the cases at once
+
+        List<SubmitEvent> submitEvents = new ArrayList<>();
+        String[] tracks = {CONCILIATION_TRACK_NO_CONCILIATION, CONCILIATION_TRACK_FAST_TRACK,
+            CONCILIATION_TRACK_STANDARD_TRACK, CONCILIATION_TRACK_OPEN_TRACK, CONCILIATION_TRACK_FAST_TRACK};
+        for (String track : tracks) {
+            List<HearingTypeItem> hearings = createHearingCollection(createHearing(HEARING_TYPE_PERLIMINARY_HEARING,
+                    createHearingDateListed("1970-01-03T00:00:00", HEARING_STATUS_HEARD, NO),
+                    createHearingDateListed("1970-01-04T00:00:00", HEARING_STATUS_HEARD, YES)));
+            submitEvents.add(createSubmitEvent(CLOSED_STATE, JURISDICTION_OUTCOME_DISMISSED_AT_HEARING, hearings,
+                    track));
+        }
+
+        CasesCompletedReport casesCompletedReport = new CasesCompletedReport();
+        ListingData expected = casesCompletedReport.generateReportData(createListingDetails("1970-01-04"),
+                submitEvents);
+
+        ListingDetails listingDetails = createListingDetails("1970-01-04");
+        CasesCompletedAccumulator accumulator = new CasesCompletedAccumulator(listingDetails.getCaseData());
+        accumulator.addAll(submitEvents.subList(0, 2));
+        CasesCompletedAccumulator otherAccumulator = new CasesCompletedAccumulator(listingDetails.getCaseData());
+        otherAccumulator.addAll(submitEvents.subList(2, submitEvents.size()));
+        accumulator.merge(otherAccumulator);
+        ListingData merged = casesCompletedReport.generateReportData(listingDetails, accumulator);
+
+        assertEquals(expected.getLocalReportsDetailHdr(), merged.getLocalReportsDetailHdr());
+        assertEquals(expected.getLocalReportsDetail(), merged.getLocalReportsDetail());
+        verifyReportDetails(merged, 5);
+    }
+
     @Test
     void initReport_ReportOfficeName_Scotland() {
         // given case office in Scotland
@@ -752,6 +786,17 @@ class CaseCompletedReportTest {
         verifyReportDetails(reportListingData, 1);
     }
 
+    private ListingDetails createListingDetails(String searchDate) {
+        ListingDetails listingDetails = new ListingDetails();
+        listingDetails.setCaseTypeId(ENGLANDWALES_LISTING_CASE_TYPE_ID);
+        ListingData listingData = new ListingData();
+        listingData.setListingDate(searchDate);
+        listingData.setManagingOffice(TribunalOffice.LEEDS.getOfficeName());
+        listingData.setHearingDateType(SINGLE_HEARING_DATE_TYPE);
+        listingDetails.setCaseData(listingData);
+        return listingDetails;
+    }
+
     private SubmitEvent createSubmitEvent(String state) {
         return createSubmitEvent(state, null, null);
     }
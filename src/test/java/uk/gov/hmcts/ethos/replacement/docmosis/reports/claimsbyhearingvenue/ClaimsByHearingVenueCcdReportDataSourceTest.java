@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.reports.claimsbyhearingvenue.ClaimsByHearingVenueSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
 
 import java.io.IOException;
 import java.util.List;
@@ -12,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class ClaimsByHearingVenueCcdReportDataSourceTest {
@@ -19,37 +22,44 @@ class ClaimsByHearingVenueCcdReportDataSourceTest {
     void shouldReturnSearchResults() throws IOException {
         String authToken = "test token";
         String caseTypeId = "test caseTypeId";
-        String fromDate = "2021-12-13";
-        String toDate = "2021-12-27";
+        String fromDate = "2021-12-13T00:00:00.000";
+        String toDate = "2021-12-26T23:59:59.999";
         CcdClient ccdClient = mock(CcdClient.class);
-        ClaimsByHearingVenueSubmitEvent submitEventOne = new ClaimsByHearingVenueSubmitEvent();
-        ClaimsByHearingVenueSubmitEvent submitEventTwo = new ClaimsByHearingVenueSubmitEvent();
-
-        List<ClaimsByHearingVenueSubmitEvent> submitEvents = List.of(submitEventOne, submitEventTwo);
-        when(ccdClient.claimsByHearingVenueSearch(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        ClaimsByHearingVenueSubmitEvent submitEventOne = submitEvent(1);
+        ClaimsByHearingVenueSubmitEvent submitEventTwo = submitEvent(2);
+        ClaimsByHearingVenueSubmitEvent submitEventThree = submitEvent(3);
+        String firstWeekQuery = ClaimsByHearingVenueESQuery.create(fromDate, "2021-12-19T23:59:59.000", "Leeds");
+        String secondWeekQuery = ClaimsByHearingVenueESQuery.create("2021-12-20T00:00:00.000", toDate, "Leeds");
+        when(ccdClient.claimsByHearingVenueSearch(authToken, caseTypeId, firstWeekQuery))
+            .thenReturn(List.of(submitEventOne, submitEventTwo));
+        when(ccdClient.claimsByHearingVenueSearch(authToken, caseTypeId, secondWeekQuery))
+            .thenReturn(List.of(submitEventTwo, submitEventThree));
         ClaimsByHearingVenueCcdReportDataSource ccdReportDataSource = new ClaimsByHearingVenueCcdReportDataSource(
-            authToken, ccdClient);
+            authToken, ccdClient,
+            new ReportShardExecutor(2, 4));
         List<ClaimsByHearingVenueSubmitEvent> results = ccdReportDataSource.getData(
                 "Leeds",
                 caseTypeId,
                 fromDate,
                 toDate);
-        assertEquals(2, results.size());
-        assertEquals(submitEventOne, results.get(0));
-        assertEquals(submitEventTwo, results.get(1));
+        assertEquals(List.of(submitEventOne, submitEventTwo, submitEventThree), results);
+        verify(ccdClient).claimsByHearingVenueSearch(authToken, caseTypeId, firstWeekQuery);
+        verify(ccdClient).claimsByHearingVenueSearch(authToken, caseTypeId, secondWeekQuery);
+        verifyNoMoreInteractions(ccdClient);
     }
 
     @Test
     void shouldThrowReportExceptionWhenSearchFails() throws IOException {
         String authToken = "test token";
         String caseTypeId = "Test_caseTypeId";
-        String fromDate = "2021-12-13";
-        String toDate = "2021-12-27";
+        String fromDate = "2021-12-13T00:00:00.000";
+        String toDate = "2021-12-26T23:59:59.999";
         CcdClient ccdClient = mock(CcdClient.class);
         when(ccdClient.claimsByHearingVenueSearch(anyString(), anyString(), anyString()))
             .thenThrow(new IOException());
         ClaimsByHearingVenueCcdReportDataSource ccdReportDataSource = new ClaimsByHearingVenueCcdReportDataSource(
-            authToken, ccdClient);
+            authToken, ccdClient,
+            new ReportShardExecutor(6, 4));
         ReportException exception = assertThrows(ReportException.class, () -> {
             ccdReportDataSource.getData("Leeds", caseTypeId, fromDate, toDate);
         });
@@ -59,4 +69,10 @@ class ClaimsByHearingVenueCcdReportDataSourceTest {
         String actualMessage = exception.getMessage();
         assertEquals(expectedMessage, actualMessage);
     }
+
+    private static ClaimsByHearingVenueSubmitEvent submitEvent(long caseId) {
+        ClaimsByHearingVenueSubmitEvent submitEvent = new ClaimsByHearingVenueSubmitEvent();
+        submitEvent.setCaseId(caseId);
+        return submitEvent;
+    }
 }
@@ -3,19 +3,23 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.eccreport;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.model.reports.eccreport.EccReportSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.eccreport.EccReportSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.SCOTLAND_CASE_TYPE_ID;
 
@@ -31,7 +35,11 @@ class EccReportCcdReportDataSourceTest {
         CcdClient ccdClient = mock(CcdClient.class);
         EccReportSubmitEvent submitEvent = new EccReportSubmitEvent();
         List<EccReportSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.eccReportSearch(eq(authToken), eq(caseTypeId), anyString())).thenReturn(submitEvents);
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<EccReportSubmitEvent>>>getArgument(5).accept(submitEvents);
+            return null;
+        }).when(ccdClient).searchAfterElasticSearch(eq(authToken), eq(caseTypeId), anyString(),
+                eq(EccReportSearchResult.class), any(), any());
 
         EccReportCcdDataSource ccdReportDataSource = new EccReportCcdDataSource(authToken, ccdClient);
 
@@ -50,7 +58,11 @@ class EccReportCcdReportDataSourceTest {
         CcdClient ccdClient = mock(CcdClient.class);
         EccReportSubmitEvent submitEvent = new EccReportSubmitEvent();
         List<EccReportSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.eccReportSearch(eq(authToken), eq(caseTypeId), anyString())).thenReturn(submitEvents);
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<EccReportSubmitEvent>>>getArgument(5).accept(submitEvents);
+            return null;
+        }).when(ccdClient).searchAfterElasticSearch(eq(authToken), eq(caseTypeId), anyString(),
+                eq(EccReportSearchResult.class), any(), any());
 
         EccReportCcdDataSource ccdReportDataSource = new EccReportCcdDataSource(authToken, ccdClient);
 
@@ -68,7 +80,8 @@ class EccReportCcdReportDataSourceTest {
         String fromDate = "1-1-2022";
         String toDate = "10-1-2022";
         CcdClient ccdClient = mock(CcdClient.class);
-        when(ccdClient.eccReportSearch(anyString(), anyString(), anyString())).thenThrow(new IOException());
+        doThrow(new IOException()).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(EccReportSearchResult.class), any(), any());
 
         EccReportCcdDataSource ccdReportDataSource = new EccReportCcdDataSource(authToken, ccdClient);
         assertThrows(ReportException.class, () ->
@@ -10,6 +10,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
@@ -109,7 +110,7 @@ class EccReportTest {
 
     private EccReportDataSource mockDataSource(String caseTypeId, String managingOffice,
                                                List<EccReportSubmitEvent> submitEvents) {
-        EccReportDataSource reportDataSource = mock(EccReportDataSource.class);
+        EccReportDataSource reportDataSource = mock(EccReportDataSource.class, CALLS_REAL_METHODS);
 
         ReportParams reportParams = new ReportParams(caseTypeId, managingOffice, DATE_FROM, DATE_TO);
         when(reportDataSource.getData(reportParams)).thenReturn(submitEvents);
@@ -5,6 +5,7 @@ import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
 import uk.gov.hmcts.ecm.common.model.reports.hearingsbyhearingtype.HearingsByHearingTypeSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportParams;
 
 import java.io.IOException;
@@ -13,7 +14,10 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class HearingsByHearingTypeCcdReportDataSourceTest {
@@ -23,20 +27,31 @@ class HearingsByHearingTypeCcdReportDataSourceTest {
         String authToken = "token";
         String caseTypeId = "caseTypeId_Listings";
         String managingOffice = TribunalOffice.MANCHESTER.getOfficeName();
-        String fromDate = "1-1-2022";
-        String toDate = "10-1-2022";
+        String fromDate = "2022-01-01T00:00:00.000";
+        String toDate = "2022-01-10T23:59:59.999";
         CcdClient ccdClient = mock(CcdClient.class);
-        HearingsByHearingTypeSubmitEvent submitEvent = new HearingsByHearingTypeSubmitEvent();
-        List<HearingsByHearingTypeSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.hearingsByHearingTypeSearch(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        HearingsByHearingTypeSubmitEvent submitEventOne = submitEvent(1);
+        HearingsByHearingTypeSubmitEvent submitEventTwo = submitEvent(2);
+        HearingsByHearingTypeSubmitEvent submitEventThree = submitEvent(3);
+        String firstHalfQuery = HearingsByHearingTypeElasticSearchQuery.create(managingOffice, fromDate,
+            "2022-01-05T23:59:59.000");
+        String secondHalfQuery = HearingsByHearingTypeElasticSearchQuery.create(managingOffice,
+            "2022-01-06T00:00:00.000", toDate);
+        when(ccdClient.hearingsByHearingTypeSearch(eq(authToken), anyString(), eq(firstHalfQuery)))
+            .thenReturn(List.of(submitEventOne, submitEventTwo));
+        when(ccdClient.hearingsByHearingTypeSearch(eq(authToken), anyString(), eq(secondHalfQuery)))
+            .thenReturn(List.of(submitEventTwo, submitEventThree));
 
         HearingsByHearingTypeCcdReportDataSource ccdReportDataSource = new HearingsByHearingTypeCcdReportDataSource(
-            authToken, ccdClient);
+            authToken, ccdClient,
+            new ReportShardExecutor(2, 4));
 
         List<HearingsByHearingTypeSubmitEvent> results = ccdReportDataSource.getData(new ReportParams(caseTypeId,
             managingOffice, fromDate, toDate));
-        assertEquals(1, results.size());
-        assertEquals(submitEvent, results.get(0));
+        assertEquals(List.of(submitEventOne, submitEventTwo, submitEventThree), results);
+        verify(ccdClient).hearingsByHearingTypeSearch(eq(authToken), anyString(), eq(firstHalfQuery));
+        verify(ccdClient).hearingsByHearingTypeSearch(eq(authToken), anyString(), eq(secondHalfQuery));
+        verifyNoMoreInteractions(ccdClient);
     }
 
     @Test
@@ -44,16 +59,23 @@ class HearingsByHearingTypeCcdReportDataSourceTest {
         String authToken = "token";
         String caseTypeId = "caseTypeId_Listings";
         String managingOffice = TribunalOffice.MANCHESTER.getOfficeName();
-        String fromDate = "1-1-2022";
-        String toDate = "10-1-2022";
+        String fromDate = "2022-01-01T00:00:00.000";
+        String toDate = "2022-01-10T23:59:59.999";
         CcdClient ccdClient = mock(CcdClient.class);
         when(ccdClient.hearingsByHearingTypeSearch(anyString(), anyString(), anyString())).thenThrow(new IOException());
 
         HearingsByHearingTypeCcdReportDataSource ccdReportDataSource = new HearingsByHearingTypeCcdReportDataSource(
-            authToken, ccdClient);
+            authToken, ccdClient,
+            new ReportShardExecutor(6, 4));
 
         assertThrows(ReportException.class, () ->
                 ccdReportDataSource.getData(new ReportParams(caseTypeId, managingOffice, fromDate, toDate))
         );
     }
+
+    private static HearingsByHearingTypeSubmitEvent submitEvent(long caseId) {
+        HearingsByHearingTypeSubmitEvent submitEvent = new HearingsByHearingTypeSubmitEvent();
+        submitEvent.setCaseId(caseId);
+        return submitEvent;
+    }
 }
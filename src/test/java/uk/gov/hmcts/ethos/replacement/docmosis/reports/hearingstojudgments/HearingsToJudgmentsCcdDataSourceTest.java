@@ -3,17 +3,22 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.hearingstojudgments;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.model.reports.hearingstojudgments.HearingsToJudgmentsSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.hearingstojudgments.HearingsToJudgmentsSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class HearingsToJudgmentsCcdDataSourceTest {
 
@@ -26,7 +31,11 @@ class HearingsToJudgmentsCcdDataSourceTest {
         CcdClient ccdClient = mock(CcdClient.class);
         HearingsToJudgmentsSubmitEvent submitEvent = new HearingsToJudgmentsSubmitEvent();
         List<HearingsToJudgmentsSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.hearingsToJudgementsSearch(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<HearingsToJudgmentsSubmitEvent>>>getArgument(5).accept(submitEvents);
+            return null;
+        }).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(HearingsToJudgmentsSearchResult.class), any(), any());
 
         HearingsToJudgmentsCcdReportDataSource ccdReportDataSource = new HearingsToJudgmentsCcdReportDataSource(
             authToken, ccdClient);
@@ -44,7 +53,8 @@ class HearingsToJudgmentsCcdDataSourceTest {
         String fromDate = "10-10-2021";
         String toDate = "10-11-2021";
         CcdClient ccdClient = mock(CcdClient.class);
-        when(ccdClient.hearingsToJudgementsSearch(anyString(), anyString(), anyString())).thenThrow(new IOException());
+        doThrow(new IOException()).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(HearingsToJudgmentsSearchResult.class), any(), any());
 
         HearingsToJudgmentsCcdReportDataSource ccdReportDataSource = new HearingsToJudgmentsCcdReportDataSource(
             authToken, ccdClient);
@@ -16,6 +16,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ACCEPTED_STATE;
@@ -70,7 +71,7 @@ class HearingsToJudgmentsReportTest {
     void setup() {
         submitEvents.clear();
 
-        hearingsToJudgmentsReportDataSource = mock(HearingsToJudgmentsReportDataSource.class);
+        hearingsToJudgmentsReportDataSource = mock(HearingsToJudgmentsReportDataSource.class, CALLS_REAL_METHODS);
         when(hearingsToJudgmentsReportDataSource.getData(ENGLANDWALES_CASE_TYPE_ID,
                 TribunalOffice.NEWCASTLE.getOfficeName(), DATE_FROM, DATE_TO)).thenReturn(submitEvents);
 
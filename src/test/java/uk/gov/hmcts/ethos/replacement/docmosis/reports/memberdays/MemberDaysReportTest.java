@@ -427,6 +427,27 @@ class MemberDaysReportTest {
         assertEquals("120", reportDetails.get(0).getHearingDuration());
     }
 
+    @Test
+    void shouldReturnSameReportFromMergedAccumulators() {
+        MemberDaysReportData expected = memberDaysReport.runReport(listingDetails, submitEvents);
+
+        MemberDaysAccumulator accumulator = new MemberDaysAccumulator(listingDetails.getCaseData());
+        accumulator.addAll(submitEvents.subList(0, 1));
+        MemberDaysAccumulator otherAccumulator = new MemberDaysAccumulator(listingDetails.getCaseData());
+        otherAccumulator.addAll(submitEvents.subList(1, submitEvents.size()));
+        otherAccumulator.add(submitEvents.getFirst());
+        accumulator.merge(otherAccumulator);
+        MemberDaysReportData merged = memberDaysReport.runReport(listingDetails, accumulator);
+
+        assertEquals(expected.getFullDaysTotal(), merged.getFullDaysTotal());
+        assertEquals(expected.getHalfDaysTotal(), merged.getHalfDaysTotal());
+        assertEquals(expected.getTotalDays(), merged.getTotalDays());
+        assertEquals(summaryOf(expected), summaryOf(merged));
+        int firstCaseDetails = memberDaysReport.runReport(listingDetails, List.of(submitEvents.getFirst()))
+            .getReportDetails().size();
+        assertEquals(expected.getReportDetails().size() + firstCaseDetails, merged.getReportDetails().size());
+    }
+
     @Test
     void checkReportingOffice_EnglandWales() {
         listingDetails.getCaseData().setManagingOffice(TribunalOffice.LEEDS.getOfficeName());
@@ -476,4 +497,11 @@ class MemberDaysReportTest {
         return (hearingListedDate.isEqual(hearingDatesFrom) ||  hearingListedDate.isAfter(hearingDatesFrom))
             && (hearingListedDate.isEqual(hearingDatesTo) || hearingListedDate.isBefore(hearingDatesTo));
     }
-}
\ No newline at end of file
+
+    private static List<String> summaryOf(MemberDaysReportData reportData) {
+        return reportData.getMemberDaySummaryItems().stream()
+            .map(item -> String.join(",", item.getHearingDate(), item.getFullDays(), item.getHalfDays(),
+                item.getTotalDays()))
+            .toList();
+    }
+}
@@ -3,17 +3,22 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.respondentsreport;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.model.reports.respondentsreport.RespondentsReportSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.respondentsreport.RespondentsReportSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class RespondentsReportCcdReportDataSourceTest {
 
@@ -27,7 +32,11 @@ class RespondentsReportCcdReportDataSourceTest {
         CcdClient ccdClient = mock(CcdClient.class);
         RespondentsReportSubmitEvent submitEvent = new RespondentsReportSubmitEvent();
         List<RespondentsReportSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.respondentsReportSearch(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<RespondentsReportSubmitEvent>>>getArgument(5).accept(submitEvents);
+            return null;
+        }).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(RespondentsReportSearchResult.class), any(), any());
 
         RespondentsReportCcdDataSource ccdReportDataSource = new RespondentsReportCcdDataSource(authToken, ccdClient);
 
@@ -45,7 +54,8 @@ class RespondentsReportCcdReportDataSourceTest {
         String fromDate = "1-1-2022";
         String toDate = "10-1-2022";
         CcdClient ccdClient = mock(CcdClient.class);
-        when(ccdClient.respondentsReportSearch(anyString(), anyString(), anyString())).thenThrow(new IOException());
+        doThrow(new IOException()).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(RespondentsReportSearchResult.class), any(), any());
 
         RespondentsReportCcdDataSource ccdReportDataSource = new RespondentsReportCcdDataSource(authToken, ccdClient);
         assertThrows(ReportException.class, () -> ccdReportDataSource.getData(
@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
@@ -38,7 +39,7 @@ class RespondentsReportTest {
     void setup() {
         submitEvents.clear();
         caseDataBuilder = new RespondentsReportCaseDataBuilder();
-        reportDataSource = mock(RespondentsReportDataSource.class);
+        reportDataSource = mock(RespondentsReportDataSource.class, CALLS_REAL_METHODS);
         when(reportDataSource.getData(ENGLANDWALES_CASE_TYPE_ID, MANAGING_OFFICE, DATE_FROM, DATE_TO))
                 .thenReturn(submitEvents);
         params = new ReportParams(ENGLANDWALES_LISTING_CASE_TYPE_ID, MANAGING_OFFICE, DATE_FROM, DATE_TO);
@@ -3,17 +3,27 @@ package uk.gov.hmcts.ethos.replacement.docmosis.reports.sessiondays;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSearchResult;
 import uk.gov.hmcts.ecm.common.model.reports.sessiondays.SessionDaysSubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportException;
+import uk.gov.hmcts.ethos.replacement.docmosis.reports.ReportShardExecutor;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 class SessionDaysCcdReportDataSourceTest {
 
@@ -22,19 +32,29 @@ class SessionDaysCcdReportDataSourceTest {
         String authToken = "token";
         String caseTypeId = "caseTypeId";
         String managingOffice = TribunalOffice.MANCHESTER.getOfficeName();
-        String fromDate = "1-1-2022";
-        String toDate = "10-1-2022";
+        String fromDate = "2022-01-01T00:00:00.000";
+        String toDate = "2022-01-10T23:59:59.999";
         CcdClient ccdClient = mock(CcdClient.class);
-        SessionDaysSubmitEvent submitEvent = new SessionDaysSubmitEvent();
-        List<SessionDaysSubmitEvent> submitEvents = List.of(submitEvent);
-        when(ccdClient.sessionDaysSearch(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        String firstHalfQuery = SessionDaysElasticSearchQuery.create(fromDate, "2022-01-05T23:59:59.000",
+            managingOffice);
+        String secondHalfQuery = SessionDaysElasticSearchQuery.create("2022-01-06T00:00:00.000", toDate,
+            managingOffice);
+        returnPage(ccdClient, firstHalfQuery, List.of(submitEvent(1), submitEvent(2)));
+        returnPage(ccdClient, secondHalfQuery, List.of(submitEvent(2), submitEvent(3)));
 
-        SessionDaysCcdReportDataSource ccdReportDataSource = new SessionDaysCcdReportDataSource(authToken, ccdClient);
+        SessionDaysCcdReportDataSource ccdReportDataSource = new SessionDaysCcdReportDataSource(authToken, ccdClient,
+            new ReportShardExecutor(2, 4));
 
         List<SessionDaysSubmitEvent> results = ccdReportDataSource.getData(caseTypeId, managingOffice,
                 fromDate, toDate);
-        assertEquals(1, results.size());
-        assertEquals(submitEvent, results.get(0));
+        assertEquals(3, results.size());
+        assertEquals(Set.of(1L, 2L, 3L),
+            results.stream().map(SessionDaysSubmitEvent::getCaseId).collect(Collectors.toSet()));
+        verify(ccdClient).searchAfterElasticSearch(eq(authToken), eq(caseTypeId), eq(firstHalfQuery),
+                eq(SessionDaysSearchResult.class), any(), any());
+        verify(ccdClient).searchAfterElasticSearch(eq(authToken), eq(caseTypeId), eq(secondHalfQuery),
+                eq(SessionDaysSearchResult.class), any(), any());
+        verifyNoMoreInteractions(ccdClient);
     }
 
     @Test
@@ -42,15 +62,31 @@ class SessionDaysCcdReportDataSourceTest {
         String authToken = "token";
         String caseTypeId = "caseTypeId";
         String managingOffice = TribunalOffice.MANCHESTER.getOfficeName();
-        String fromDate = "1-1-2022";
-        String toDate = "10-1-2022";
+        String fromDate = "2022-01-01T00:00:00.000";
+        String toDate = "2022-01-10T23:59:59.999";
         CcdClient ccdClient = mock(CcdClient.class);
-        when(ccdClient.sessionDaysSearch(anyString(), anyString(), anyString())).thenThrow(new IOException());
+        doThrow(new IOException()).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), anyString(),
+                eq(SessionDaysSearchResult.class), any(), any());
 
-        SessionDaysCcdReportDataSource ccdReportDataSource = new SessionDaysCcdReportDataSource(authToken, ccdClient);
+        SessionDaysCcdReportDataSource ccdReportDataSource = new SessionDaysCcdReportDataSource(authToken, ccdClient,
+            new ReportShardExecutor(6, 4));
         assertThrows(ReportException.class, () ->
                 ccdReportDataSource.getData(caseTypeId, managingOffice, fromDate, toDate)
         );
     }
 
+    private static void returnPage(CcdClient ccdClient, String query, List<SessionDaysSubmitEvent> page)
+            throws IOException {
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<SessionDaysSubmitEvent>>>getArgument(5).accept(page);
+            return null;
+        }).when(ccdClient).searchAfterElasticSearch(anyString(), anyString(), eq(query),
+                eq(SessionDaysSearchResult.class), any(), any());
+    }
+
+    private static SessionDaysSubmitEvent submitEvent(long caseId) {
+        SessionDaysSubmitEvent submitEvent = new SessionDaysSubmitEvent();
+        submitEvent.setCaseId(caseId);
+        return submitEvent;
+    }
 }
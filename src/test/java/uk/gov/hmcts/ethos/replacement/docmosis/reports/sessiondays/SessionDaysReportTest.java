@@ -19,6 +19,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
@@ -52,7 +53,7 @@ class SessionDaysReportTest {
     void setup() {
         submitEvents.clear();
         caseDataBuilder = new SessionDaysCaseDataBuilder();
-        reportDataSource = mock(SessionDaysReportDataSource.class);
+        reportDataSource = mock(SessionDaysReportDataSource.class, CALLS_REAL_METHODS);
         judgeService = mock(JpaJudgeService.class);
         when(reportDataSource.getData(ENGLANDWALES_CASE_TYPE_ID, TribunalOffice.MANCHESTER.getOfficeName(),
                 DATE_FROM, DATE_TO)).thenReturn(submitEvents);
@@ -49,6 +49,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,6 +61,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
@@ -205,6 +208,30 @@ class DocumentManagementServiceTest {
         assertEquals("/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4", documentSelfPath.getPath());
     }
 
+    @Test
+    void uploadDocumentFromFileSecureDocStoreTrue() throws URISyntaxException, IOException {
+        ReflectionTestUtils.setField(documentManagementService, "secureDocStoreEnabled", true);
+        byte[] content = Files.readAllBytes(file.toPath());
+        when(caseDocumentClient.uploadDocuments(anyString(), anyString(), anyString(), anyString(),
+                argThat(files -> isFileContent(files, content)), any()))
+                .thenReturn(successfulDocStoreUpload());
+
+        URI documentSelfPath = documentManagementService.uploadDocument("authString", file.toPath(),
+                OUTPUT_FILE_NAME, APPLICATION_DOCX_VALUE, "LondonSouth");
+
+        assertEquals("/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4", documentSelfPath.getPath());
+    }
+
+    private static boolean isFileContent(List<MultipartFile> files, byte[] content) {
+        try {
+            MultipartFile multipartFile = files.get(0);
+            return OUTPUT_FILE_NAME.equals(multipartFile.getOriginalFilename())
+                    && Arrays.equals(content, multipartFile.getBytes());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     @Test
     void uploadDocumentWithMetadataSecureDocStoreTrueIncludesHash() throws IOException, URISyntaxException {
         ReflectionTestUtils.setField(documentManagementService, "secureDocStoreEnabled", true);
@@ -219,6 +246,22 @@ class DocumentManagementServiceTest {
         assertThat(uploadedDocument.hashToken()).isEqualTo("hash-token-1");
     }
 
+    @Test
+    void uploadDocumentWithMetadataFromFileIncludesHash() throws IOException, URISyntaxException {
+        ReflectionTestUtils.setField(documentManagementService, "secureDocStoreEnabled", true);
+        byte[] content = Files.readAllBytes(file.toPath());
+        when(caseDocumentClient.uploadDocuments(anyString(), anyString(), anyString(), anyString(),
+                argThat(files -> isFileContent(files, content)), any()))
+                .thenReturn(successfulDocStoreUpload());
+
+        DocumentManagementService.UploadedDocumentMetadata uploadedDocument =
+                documentManagementService.uploadDocumentWithMetadata("authString", file.toPath(),
+                        OUTPUT_FILE_NAME, APPLICATION_DOCX_VALUE, "LondonSouth");
+
+        assertThat(uploadedDocument.uri().getPath()).isEqualTo("/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4");
+        assertThat(uploadedDocument.hashToken()).isEqualTo("hash-token-1");
+    }
+
     @Test
     void addDocumentToDocumentField() {
         DocumentInfo documentInfo = new DocumentInfo();
@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue.EmailOutboxSender;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 import uk.gov.service.notify.SendEmailResponse;
@@ -18,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,6 +78,30 @@ class EmailServiceTest {
         assertDoesNotThrow(() -> emailService.sendEmail("templateId", "emailAddress", createPersonalisation()));
     }
 
+    @Test
+    void sendEmail_queuedInEmailOutbox() throws NotificationClientException {
+        EmailOutboxSender emailOutboxSender = mock(EmailOutboxSender.class);
+        EmailService outboxEmailService = new EmailService(emailClient, emailOutboxSender);
+        Map<String, String> personalisation = createPersonalisation();
+
+        outboxEmailService.sendEmail("templateId", "emailAddress", personalisation);
+
+        verify(emailOutboxSender, times(1)).queueEmail("templateId", "emailAddress", personalisation);
+        verify(emailClient, never()).sendEmail(anyString(), anyString(), anyMap(), anyString());
+    }
+
+    @Test
+    void sendEmail_sentNowWhenEmailOutboxFails() throws NotificationClientException {
+        EmailOutboxSender emailOutboxSender = mock(EmailOutboxSender.class);
+        when(emailOutboxSender.queueEmail(anyString(), anyString(), anyMap()))
+            .thenThrow(new IllegalStateException("Failed to queue email"));
+        EmailService outboxEmailService = new EmailService(emailClient, emailOutboxSender);
+
+        outboxEmailService.sendEmail("templateId", "emailAddress", createPersonalisation());
+
+        verify(emailClient, times(1)).sendEmail(anyString(), anyString(), anyMap(), anyString());
+    }
+
     private Map<String, String> createPersonalisation() {
         Map<String, String> personalisation = new ConcurrentHashMap<>();
         personalisation.put("caseNumber", "caseRef");
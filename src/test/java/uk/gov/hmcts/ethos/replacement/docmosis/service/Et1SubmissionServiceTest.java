@@ -45,9 +45,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -302,6 +304,36 @@ class Et1SubmissionServiceTest {
 
     }
 
+    @SneakyThrows
+    @Test
+    void shouldCountAccountCasesMadeInOtherClaimantNames() {
+        when(featureToggleService.isFeatureEnabled("vexationCheck")).thenReturn(true);
+        caseDetails = generateCaseDetails("citizenCaseData.json");
+        SubmitEvent otherClaimant = createSubmitEventList().getFirst();
+        otherClaimant.getCaseData().setClaimant("M Jackson");
+        when(ccdClient.buildAndGetElasticSearchRequest(anyString(), anyString(), anyString()))
+            .thenReturn(List.of(createSubmitEventList().getFirst(), otherClaimant));
+        et1SubmissionService.vexationCheck(caseDetails, "authToken");
+        // The claimant's name only ranks their own claims first
+        verify(ccdClient, times(2)).buildAndGetElasticSearchRequest(anyString(), anyString(),
+            contains("\"query\": \"michael jackson\""));
+        assertEquals(YES, caseDetails.getCaseData().getAdditionalCaseInfoType().getInterventionRequired());
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldSearchWithoutClaimantName() {
+        when(featureToggleService.isFeatureEnabled("vexationCheck")).thenReturn(true);
+        caseDetails = generateCaseDetails("citizenCaseData.json");
+        caseDetails.getCaseData().setClaimantIndType(null);
+        when(ccdClient.buildAndGetElasticSearchRequest(anyString(), anyString(), anyString()))
+            .thenReturn(createSubmitEventList());
+        et1SubmissionService.vexationCheck(caseDetails, "authToken");
+        verify(ccdClient, times(2)).buildAndGetElasticSearchRequest(anyString(), anyString(),
+            not(contains("data.claimant\": {")));
+        assertEquals(YES, caseDetails.getCaseData().getAdditionalCaseInfoType().getInterventionRequired());
+    }
+
     private List<SubmitEvent> createSubmitEventList() {
         SubmitEvent submitEvent = new SubmitEvent();
         submitEvent.setState(SUBMITTED_STATE);
@@ -1,16 +1,20 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.CollectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
 import uk.gov.hmcts.et.common.model.bulk.types.DynamicFixedListType;
@@ -41,6 +45,8 @@ import uk.gov.hmcts.et.common.model.listing.ListingDetails;
 import uk.gov.hmcts.et.common.model.listing.items.AdhocReportTypeItem;
 import uk.gov.hmcts.et.common.model.listing.items.ListingTypeItem;
 import uk.gov.hmcts.et.common.model.listing.types.AdhocReportType;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportQuery;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.CaseDataReportRepository;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.BFHelperTest;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.casescompleted.CasesCompletedReport;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.referencedata.VenueService;
@@ -62,6 +68,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ALL_VENUES;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.BROUGHT_FORWARD_REPORT;
@@ -109,6 +118,8 @@ class ListingServiceTest {
     private CcdClient ccdClient;
     @Mock
     private VenueService venueService;
+    @Mock
+    private CaseDataReportRepository caseDataReportRepository;
     @Spy
     private final CasesCompletedReport casesCompletedReport = new CasesCompletedReport();
     private CaseDetails caseDetails;
@@ -604,6 +615,65 @@ class ListingServiceTest {
         assertEquals(result, listingDataResult.toString());
     }
 
+    @Test
+    void processListingHearingsRequestOnlyFetchesCauseListFields() throws IOException {
+        listingDetails.getCaseData().setVenueAberdeen(null);
+        listingDetails.getCaseData().setListingVenue(new DynamicFixedListType("Leeds"));
+        listingDetails.getCaseData().setManagingOffice("Leeds");
+        when(ccdClient.buildAndGetElasticSearchRequest(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+
+        listingService.processListingHearingsRequest(listingDetails, "authToken");
+
+        ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+        verify(ccdClient).buildAndGetElasticSearchRequest(anyString(), anyString(), query.capture());
+        JsonNode searchRequest = new ObjectMapper().readTree(query.getValue());
+        assertNotNull(searchRequest.get("query"));
+        JsonNode sourceFields = searchRequest.get("_source");
+        assertTrue(sourceFields.isArray());
+        assertTrue(sourceFields.toString().contains("\"data.hearingCollection\""));
+        assertFalse(sourceFields.toString().contains("\"data.documentCollection\""));
+    }
+
+    @Test
+    void processListingHearingsRequestReadsCaseDataWhenReadModelEnabled() throws IOException {
+        listingDetails.getCaseData().setVenueAberdeen(null);
+        listingDetails.getCaseData().setListingVenue(new DynamicFixedListType("Leeds"));
+        listingDetails.getCaseData().setManagingOffice("Leeds");
+        when(ccdClient.buildAndGetElasticSearchRequest(anyString(), anyString(), anyString())).thenReturn(submitEvents);
+        String searchedListing = String.valueOf(
+                listingService.processListingHearingsRequest(listingDetails, "authToken").getListingCollection());
+
+        ReflectionTestUtils.setField(listingService, "readModelEnabled", true);
+        listingDetails.getCaseData().setListingCollection(new ArrayList<>());
+        when(caseDataReportRepository.findCases(any(), eq(SubmitEvent.class))).thenReturn(submitEvents);
+        ListingData listingDataResult = listingService.processListingHearingsRequest(listingDetails, "authToken");
+
+        assertEquals(searchedListing, String.valueOf(listingDataResult.getListingCollection()));
+        verify(ccdClient).buildAndGetElasticSearchRequest(anyString(), anyString(), anyString());
+        ArgumentCaptor<CaseDataReportQuery> query = ArgumentCaptor.forClass(CaseDataReportQuery.class);
+        verify(caseDataReportRepository).findCases(query.capture(), eq(SubmitEvent.class));
+        assertEquals(ENGLANDWALES_CASE_TYPE_ID, query.getValue().getCaseTypeId());
+        assertEquals("Leeds", query.getValue().getManagingOffice());
+        assertEquals("2019-12-12", query.getValue().getListedDateFrom());
+        assertEquals("2019-12-12", query.getValue().getListedDateTo());
+    }
+
+    @Test
+    void processListingHearingsRequestReadsEveryScotlandOfficeFromCaseData() {
+        ReflectionTestUtils.setField(listingService, "readModelEnabled", true);
+        listingDetails.setCaseTypeId(SCOTLAND_LISTING_CASE_TYPE_ID);
+        listingDetails.getCaseData().setManagingOffice(TribunalOffice.ABERDEEN.getOfficeName());
+        when(caseDataReportRepository.findCases(any(), eq(SubmitEvent.class))).thenReturn(submitEvents);
+
+        listingService.processListingHearingsRequest(listingDetails, "authToken");
+
+        ArgumentCaptor<CaseDataReportQuery> query = ArgumentCaptor.forClass(CaseDataReportQuery.class);
+        verify(caseDataReportRepository).findCases(query.capture(), eq(SubmitEvent.class));
+        assertEquals(SCOTLAND_CASE_TYPE_ID, query.getValue().getCaseTypeId());
+        assertNull(query.getValue().getManagingOffice());
+        verify(ccdClient, never()).buildAndGetElasticSearchRequest(anyString(), anyString(), anyString());
+    }
+
     @Test
     void processListingHearingsRequestAberdeenWithValidHearingType() throws IOException {
         final String result = "ListingData(tribunalCorrespondenceAddress=null, tribunalCorrespondenceTelephone=null, "
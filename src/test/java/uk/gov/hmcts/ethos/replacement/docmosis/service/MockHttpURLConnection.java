@@ -1,80 +0,0 @@
-package uk.gov.hmcts.ethos.replacement.docmosis.service;
-
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-
-class MockHttpURLConnection extends HttpURLConnection {
-    private int responseCode;
-    private URL url;
-    private InputStream inputStream;
-    private OutputStream outputStream;
-    private InputStream errorStream;
-
-    public MockHttpURLConnection(URL url) {
-        super(null);
-        this.url = url;
-    }
-
-    @Override
-    public int getResponseCode() {
-        return responseCode;
-    }
-
-    public void setResponseCode(int responseCode) {
-        this.responseCode = responseCode;
-    }
-
-    @Override
-    public URL getURL() {
-        return url;
-    }
-
-    public void setUrl(URL url) {
-        this.url = url;
-    }
-
-    @Override
-    public InputStream getInputStream() {
-        return inputStream;
-    }
-
-    public void setInputStream(InputStream inputStream) {
-        this.inputStream = inputStream;
-    }
-
-    @Override
-    public OutputStream getOutputStream() {
-        return outputStream;
-    }
-
-    public void setOutputStream(OutputStream outputStream) {
-        this.outputStream = outputStream;
-    }
-
-    @Override
-    public InputStream getErrorStream() {
-        return errorStream;
-    }
-
-    public void setErrorStream(InputStream errorStream) {
-        this.errorStream = errorStream;
-    }
-
-    @Override
-    public void disconnect() {
-
-    }
-
-    @Override
-    public boolean usingProxy() {
-        return false;
-    }
-
-    @Override
-    public void connect() throws IOException {
-
-    }
-}
@@ -16,6 +16,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
@@ -135,6 +136,21 @@ class MultipleReferenceServiceTest {
         );
     }
 
+    @Test
+    void createEnglandWalesReferenceFromReservedBlock() {
+        ReflectionTestUtils.setField(multipleReferenceService, "blockSize", 5);
+        when(multipleRefEnglandWalesRepository.reserveMultipleCaseRefBlock(5)).thenReturn(6_000_005, 6_000_012);
+
+        List<String> references = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            references.add(multipleReferenceService.createReference(ENGLANDWALES_BULK_CASE_TYPE_ID));
+        }
+
+        assertEquals(List.of("6000001", "6000002", "6000003", "6000004", "6000005", "6000008"), references);
+        verify(multipleRefEnglandWalesRepository, times(2)).reserveMultipleCaseRefBlock(5);
+        verify(multipleRefEnglandWalesRepository, never()).ethosMultipleCaseRefGen();
+    }
+
     @Test
     void validateSubcaseIsOfMultiple_NoErrors() {
         List<String> actual = multipleReferenceService.validateSubcaseIsOfMultiple(caseData);
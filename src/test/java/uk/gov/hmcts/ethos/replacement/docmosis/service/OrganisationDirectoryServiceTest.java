@@ -0,0 +1,207 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import feign.FeignException;
+import feign.Request;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.et.common.model.ccd.RetrieveOrgByIdResponse;
+import uk.gov.hmcts.et.common.model.ccd.types.OrganisationsResponse;
+import uk.gov.hmcts.ethos.replacement.docmosis.rdprofessional.OrganisationClient;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class OrganisationDirectoryServiceTest {
+
+    private static final String ADMIN_USER_TOKEN = "admin_user_token";
+    private static final String AUTHORISATION_TOKEN = "authorisation_token";
+    private static final String ORGANISATION_ID_1 = "ORG1";
+    private static final String ORGANISATION_ID_2 = "ORG2";
+
+    @Mock
+    private AdminUserService adminUserService;
+    @Mock
+    private AuthTokenGenerator authTokenGenerator;
+    @Mock
+    private OrganisationClient organisationClient;
+
+    @InjectMocks
+    private OrganisationDirectoryService organisationDirectoryService;
+
+    @BeforeEach
+    void setUp() {
+        when(adminUserService.getAdminUserToken()).thenReturn(ADMIN_USER_TOKEN);
+        when(authTokenGenerator.generate()).thenReturn(AUTHORISATION_TOKEN);
+        ReflectionTestUtils.setField(organisationDirectoryService, "fetchedOrganisationsMaxSize", 1);
+        ReflectionTestUtils.setField(organisationDirectoryService, "fetchedOrganisationsTtl", Duration.ofMinutes(10));
+    }
+
+    @Test
+    void getOrganisation_servedFromDirectoryAfterRefresh() {
+        OrganisationsResponse organisation = organisation(ORGANISATION_ID_1);
+        when(organisationClient.getOrganisations(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN))
+                .thenReturn(List.of(organisation, organisation(ORGANISATION_ID_2)));
+
+        organisationDirectoryService.refresh();
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).contains(organisation);
+        verify(organisationClient, never()).getOrganisationById(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void getOrganisation_fetchesSingleOrganisationOnMissAndRemembersIt() {
+        OrganisationsResponse organisation = organisation(ORGANISATION_ID_1);
+        when(organisationClient.getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1))
+                .thenReturn(ResponseEntity.ok(organisationById(ORGANISATION_ID_1)));
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).contains(organisation);
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).contains(organisation);
+
+        verify(organisationClient, times(1))
+                .getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1);
+    }
+
+    @Test
+    void getOrganisation_fetchesAgainOnceRememberedOrganisationExpires() {
+        ReflectionTestUtils.setField(organisationDirectoryService, "fetchedOrganisationsTtl", Duration.ZERO);
+        when(organisationClient.getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1))
+                .thenReturn(ResponseEntity.ok(organisationById(ORGANISATION_ID_1)));
+
+        organisationDirectoryService.getOrganisation(ORGANISATION_ID_1);
+        organisationDirectoryService.getOrganisation(ORGANISATION_ID_1);
+
+        verify(organisationClient, times(2))
+                .getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1);
+    }
+
+    @Test
+    void getOrganisation_remembersNoMoreThanMaxSizeFetchedOrganisations() {
+        when(organisationClient.getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1))
+                .thenReturn(ResponseEntity.ok(organisationById(ORGANISATION_ID_1)));
+        when(organisationClient.getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_2))
+                .thenReturn(ResponseEntity.ok(organisationById(ORGANISATION_ID_2)));
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1))
+                .contains(organisation(ORGANISATION_ID_1));
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_2))
+                .contains(organisation(ORGANISATION_ID_2));
+        organisationDirectoryService.getOrganisation(ORGANISATION_ID_2);
+
+        assertThat(organisationDirectoryService.getFetchedOrganisationsSize()).isEqualTo(1);
+        verify(organisationClient, times(2))
+                .getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_2);
+    }
+
+    @Test
+    void getOrganisation_returnsEmptyWhenOrganisationNotFound() {
+        FeignException.NotFound notFound = new FeignException.NotFound(
+                "status 404 reading OrganisationClient#getOrganisationById(String,String,String)",
+                getOrganisationByIdRequest(),
+                new byte[0],
+                Collections.emptyMap()
+        );
+        when(organisationClient.getOrganisationById(anyString(), anyString(), anyString())).thenThrow(notFound);
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).isEmpty();
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).isEmpty();
+        assertThat(organisationDirectoryService.getOrganisation(null)).isEmpty();
+
+        verify(organisationClient, times(1))
+                .getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1);
+    }
+
+    @Test
+    void getOrganisation_returnsEmptyForInactiveOrganisationAndRemembersIt() {
+        RetrieveOrgByIdResponse pending = organisationById(ORGANISATION_ID_1);
+        pending.setStatus("PENDING");
+        when(organisationClient.getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1))
+                .thenReturn(ResponseEntity.ok(pending));
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).isEmpty();
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).isEmpty();
+
+        verify(organisationClient, times(1))
+                .getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1);
+    }
+
+    @Test
+    void getOrganisation_doesNotRememberFailedLookup() {
+        FeignException.ServiceUnavailable unavailable = new FeignException.ServiceUnavailable(
+                "status 503 reading OrganisationClient#getOrganisationById(String,String,String)",
+                getOrganisationByIdRequest(),
+                new byte[0],
+                Collections.emptyMap()
+        );
+        when(organisationClient.getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1))
+                .thenThrow(unavailable)
+                .thenReturn(ResponseEntity.ok(organisationById(ORGANISATION_ID_1)));
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).isEmpty();
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1))
+                .contains(organisation(ORGANISATION_ID_1));
+
+        verify(organisationClient, times(2))
+                .getOrganisationById(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN, ORGANISATION_ID_1);
+    }
+
+    @Test
+    void refresh_keepsPreviousDirectoryOnFailure() {
+        OrganisationsResponse organisation = organisation(ORGANISATION_ID_1);
+        when(organisationClient.getOrganisations(ADMIN_USER_TOKEN, AUTHORISATION_TOKEN))
+                .thenReturn(List.of(organisation))
+                .thenThrow(new IllegalStateException("rd-professional unavailable"));
+
+        organisationDirectoryService.refresh();
+        organisationDirectoryService.refresh();
+
+        assertThat(organisationDirectoryService.getOrganisation(ORGANISATION_ID_1)).contains(organisation);
+        verify(organisationClient, never()).getOrganisationById(anyString(), anyString(), anyString());
+    }
+
+    private static Request getOrganisationByIdRequest() {
+        return Request.create(
+                Request.HttpMethod.GET,
+                "http://localhost:8765/refdata/internal/v1/organisations?id=" + ORGANISATION_ID_1,
+                Collections.emptyMap(),
+                new byte[0],
+                StandardCharsets.UTF_8,
+                new RequestTemplate()
+        );
+    }
+
+    private static RetrieveOrgByIdResponse organisationById(String organisationId) {
+        return RetrieveOrgByIdResponse.builder()
+                .organisationIdentifier(organisationId)
+                .name("Organisation " + organisationId)
+                .status("ACTIVE")
+                .build();
+    }
+
+    private static OrganisationsResponse organisation(String organisationId) {
+        return OrganisationsResponse.builder()
+                .organisationIdentifier(organisationId)
+                .name("Organisation " + organisationId)
+                .build();
+    }
+}
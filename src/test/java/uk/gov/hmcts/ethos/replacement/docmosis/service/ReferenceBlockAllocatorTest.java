@@ -0,0 +1,109 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReferenceBlockAllocatorTest {
+
+    private final List<String> reservations = new ArrayList<>();
+    private final AtomicInteger counter = new AtomicInteger(6_000_000);
+
+    private int reserve(int key, int blockSize) {
+        reservations.add(key + ":" + blockSize);
+        return counter.addAndGet(blockSize);
+    }
+
+    @Test
+    void nextReferenceHandsOutBlockInOrder() {
+        ReferenceBlockAllocator allocator = new ReferenceBlockAllocator(this::reserve);
+
+        assertEquals(6_000_001, allocator.nextReference(2026, 3));
+        assertEquals(6_000_002, allocator.nextReference(2026, 3));
+        assertEquals(6_000_003, allocator.nextReference(2026, 3));
+        assertEquals(List.of("2026:3"), reservations);
+    }
+
+    @Test
+    void nextReferenceReservesNewBlockWhenUsedUp() {
+        ReferenceBlockAllocator allocator = new ReferenceBlockAllocator(this::reserve);
+        allocator.nextReference(2026, 2);
+        allocator.nextReference(2026, 2);
+        counter.addAndGet(10);
+
+        assertEquals(6_000_013, allocator.nextReference(2026, 2));
+        assertEquals(6_000_014, allocator.nextReference(2026, 2));
+        assertEquals(List.of("2026:2", "2026:2"), reservations);
+    }
+
+    @Test
+    void nextReferenceReservesNewBlockWhenKeyChanges() {
+        ReferenceBlockAllocator allocator = new ReferenceBlockAllocator(this::reserve);
+        allocator.nextReference(2026, 10);
+
+        assertEquals(6_000_011, allocator.nextReference(2027, 10));
+        assertEquals(List.of("2026:10", "2027:10"), reservations);
+    }
+
+    @Test
+    void nextReferenceRetriesReservationAfterFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        ReferenceBlockAllocator allocator = new ReferenceBlockAllocator((key, blockSize) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            return reserve(key, blockSize);
+        });
+
+        assertThrows(IllegalStateException.class, () -> allocator.nextReference(2026, 5));
+
+        assertEquals(6_000_001, allocator.nextReference(2026, 5));
+        assertEquals(6_000_002, allocator.nextReference(2026, 5));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void nextReferenceNeverHandsOutSameNumberTwiceAcrossAllocators() throws Exception {
+        int allocatorCount = 4;
+        int threadsPerAllocator = 4;
+        int referencesPerThread = 500;
+        ReferenceBlockAllocator.BlockReserver sharedCounter = (key, blockSize) -> counter.addAndGet(blockSize);
+        List<ReferenceBlockAllocator> allocators = new ArrayList<>();
+        for (int i = 0; i < allocatorCount; i++) {
+            allocators.add(new ReferenceBlockAllocator(sharedCounter));
+        }
+        Set<Integer> references = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(allocatorCount * threadsPerAllocator);
+        List<Future<?>> futures = new ArrayList<>();
+        for (ReferenceBlockAllocator allocator : allocators) {
+            for (int thread = 0; thread < threadsPerAllocator; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < referencesPerThread; i++) {
+                        if (!references.add(allocator.nextReference(2026, 7))) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, duplicates.get());
+        assertEquals(allocatorCount * threadsPerAllocator * referencesPerThread, references.size());
+    }
+}
@@ -8,10 +8,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.SingleRefEnglandWalesRepository;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.SingleRefScotlandRepository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.ENGLANDWALES_CASE_TYPE_ID;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.SCOTLAND_CASE_TYPE_ID;
@@ -40,4 +46,33 @@ class SingleReferenceServiceTest {
         when(singleRefScotlandRepository.ethosCaseRefGen(LocalDateTime.now().getYear())).thenReturn(expectedRef);
         assertEquals(expectedRef, singleReferenceService.createReference(SCOTLAND_CASE_TYPE_ID));
     }
+
+    @Test
+    void createEnglandWalesReferenceFromReservedBlock() {
+        int year = LocalDateTime.now().getYear();
+        ReflectionTestUtils.setField(singleReferenceService, "blockSize", 20);
+        when(singleRefEnglandWalesRepository.reserveCaseRefBlock(year, 20)).thenReturn(6_000_040);
+
+        assertEquals("6000021/" + year, singleReferenceService.createReference(ENGLANDWALES_CASE_TYPE_ID));
+        assertEquals("6000022/" + year, singleReferenceService.createReference(ENGLANDWALES_CASE_TYPE_ID));
+        verify(singleRefEnglandWalesRepository, times(1)).reserveCaseRefBlock(year, 20);
+        verify(singleRefEnglandWalesRepository, never()).ethosCaseRefGen(anyInt());
+    }
+
+    @Test
+    void createScotlandReferenceFromReservedBlock() {
+        int year = LocalDateTime.now().getYear();
+        ReflectionTestUtils.setField(singleReferenceService, "blockSize", 20);
+        when(singleRefScotlandRepository.reserveCaseRefBlock(year, 20)).thenReturn(8_000_020);
+
+        assertEquals("8000001/" + year, singleReferenceService.createReference(SCOTLAND_CASE_TYPE_ID));
+        verify(singleRefEnglandWalesRepository, never()).reserveCaseRefBlock(anyInt(), anyInt());
+    }
+
+    @Test
+    void createReferenceFromReservedBlockRejectsUnexpectedCaseType() {
+        ReflectionTestUtils.setField(singleReferenceService, "blockSize", 20);
+
+        assertThrows(IllegalArgumentException.class, () -> singleReferenceService.createReference("Unknown"));
+    }
 }
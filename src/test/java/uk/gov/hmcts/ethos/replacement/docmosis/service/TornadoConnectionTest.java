@@ -1,30 +1,83 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.ethos.replacement.docmosis.config.TornadoConfiguration;
-import uk.gov.hmcts.ethos.replacement.docmosis.utils.MockHttpURLConnectionFactory;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TornadoConnectionTest {
 
-    @Test
-    void shouldCreateConnection() throws IOException {
-        String url = "http://tornadotest";
+    private MockWebServer mockWebServer;
+    private TornadoConnection tornadoConnection;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
         TornadoConfiguration tornadoConfiguration = new TornadoConfiguration();
-        tornadoConfiguration.setUrl(url);
-        HttpURLConnection mockConnection = MockHttpURLConnectionFactory.create(url);
+        tornadoConfiguration.setUrl(mockWebServer.url("/api/render").toString());
+        tornadoConfiguration.setMaxConnections(2);
+        tornadoConnection = new TornadoConnection(tornadoConfiguration);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        tornadoConnection.close();
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void shouldPostInstructionAndReadRenderedDocument() throws IOException, InterruptedException {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("rendered document"));
+
+        byte[] document = tornadoConnection.render("{\"accessKey\":\"key\"}", InputStream::readAllBytes);
+
+        assertEquals("rendered document", new String(document, StandardCharsets.UTF_8));
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("POST", request.getMethod());
+        assertEquals("/api/render", request.getPath());
+        assertEquals("{\"accessKey\":\"key\"}", request.getBody().readUtf8());
+        assertTrue(request.getHeader("Content-Type").startsWith("application/json"));
+    }
+
+    @Test
+    void shouldReuseConnectionForConsecutiveRenders() throws IOException, InterruptedException {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("first"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("second"));
+
+        tornadoConnection.render("{}", InputStream::readAllBytes);
+        tornadoConnection.render("{}", InputStream::readAllBytes);
+
+        assertEquals(0, mockWebServer.takeRequest().getSequenceNumber());
+        assertEquals(1, mockWebServer.takeRequest().getSequenceNumber());
+        assertEquals(0, tornadoConnection.getPoolStats().getLeased());
+        assertEquals(1, tornadoConnection.getPoolStats().getAvailable());
+        assertEquals(2, tornadoConnection.getPoolStats().getMax());
+        assertEquals(2, tornadoConnection.getRenderCount());
+        assertEquals(0, tornadoConnection.getFailedRenderCount());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTornadoReturnsErrorResponse() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500).setBody("error"));
 
-        TornadoConnection tornadoConnection = new TornadoConnection(tornadoConfiguration);
-        HttpURLConnection connection = tornadoConnection.createConnection();
+        IOException exception = assertThrows(IOException.class,
+            () -> tornadoConnection.render("{}", InputStream::readAllBytes));
 
-        assertEquals(mockConnection, connection);
-        verify(mockConnection, times(1)).connect();
+        assertTrue(exception.getMessage().startsWith("Invalid response code 500 received from Tornado"));
+        assertEquals(1, tornadoConnection.getRenderCount());
+        assertEquals(1, tornadoConnection.getFailedRenderCount());
     }
 
     @Test
@@ -33,8 +86,9 @@ class TornadoConnectionTest {
         TornadoConfiguration tornadoConfiguration = new TornadoConfiguration();
         tornadoConfiguration.setAccessKey(accessKey);
 
-        TornadoConnection tornadoConnection = new TornadoConnection(tornadoConfiguration);
-        String actualAccessKey = tornadoConnection.getAccessKey();
+        TornadoConnection connection = new TornadoConnection(tornadoConfiguration);
+        String actualAccessKey = connection.getAccessKey();
+        connection.close();
 
         assertEquals(actualAccessKey, accessKey);
     }
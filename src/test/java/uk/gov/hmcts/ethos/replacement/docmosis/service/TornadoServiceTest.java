@@ -29,23 +29,27 @@ import uk.gov.hmcts.ethos.replacement.docmosis.idam.IdamApi;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.applications.TseService;
 import uk.gov.hmcts.ethos.utils.TseApplicationBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
-import static java.net.HttpURLConnection.HTTP_OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLAIMANT_TITLE;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLAIMS_ACCEPTED_REPORT;
@@ -68,7 +72,6 @@ class TornadoServiceTest {
     private UserIdamService userIdamService;
     private DefaultValuesReaderService defaultValuesReaderService;
     private VenueAddressReaderService venueAddressReaderService;
-    private MockHttpURLConnection mockConnection;
     private OAuth2Configuration oauth2Configuration;
 
     private static final String AUTH_TOKEN = "a-test-auth-token";
@@ -93,7 +96,7 @@ class TornadoServiceTest {
     @Test
     void documentGenerationNoTornadoConnectionShouldThrowException() throws IOException {
         CaseData caseData = new CaseData();
-        when(tornadoConnection.createConnection()).thenThrow(IOException.class);
+        when(tornadoConnection.render(anyString(), any())).thenThrow(IOException.class);
 
         assertThrows(IOException.class, () ->
                 tornadoService.documentGeneration(AUTH_TOKEN, caseData, ENGLANDWALES_CASE_TYPE_ID,
@@ -103,7 +106,7 @@ class TornadoServiceTest {
 
     @Test
     void listingGenerationNoTornadoConnectionShouldThrowException() throws IOException {
-        when(tornadoConnection.createConnection()).thenThrow(IOException.class);
+        when(tornadoConnection.render(anyString(), any())).thenThrow(IOException.class);
 
         assertThrows(IOException.class, () ->
                 tornadoService.listingGeneration(AUTH_TOKEN, createListingData(), ENGLANDWALES_LISTING_CASE_TYPE_ID)
@@ -245,11 +248,11 @@ class TornadoServiceTest {
 
     @Test
     void generateDocument_exception() throws IOException {
-        when(tornadoConnection.createConnection()).thenThrow(IOException.class);
+        when(tornadoConnection.render(anyString(), any())).thenThrow(IOException.class);
 
         assertThrows(IOException.class, () ->
                 tornadoService.generateEventDocument(new CaseData(), AUTH_TOKEN, ENGLANDWALES_CASE_TYPE_ID,
-                        "random-string")
+                        INITIAL_CONSIDERATION_PDF)
         );
     }
 
@@ -333,6 +336,32 @@ class TornadoServiceTest {
         assertEquals(INITIAL_CONSIDERATION_PDF, documentInfo.getDescription());
     }
 
+    @Test
+    void generateDocument_uploadsRenderedDocumentFromTemporaryFile() throws IOException {
+        byte[] renderedDocument = "rendered document".getBytes(StandardCharsets.UTF_8);
+        mockRenderedDocument(renderedDocument);
+        List<Path> uploadedFiles = new ArrayList<>();
+        List<byte[]> uploadedContent = new ArrayList<>();
+        URI uri = URI.create("http://testdocumentserver/testdocument");
+        when(documentManagementService.uploadDocumentWithMetadata(anyString(), any(Path.class),
+                anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+                    Path documentFile = invocation.getArgument(1);
+                    uploadedFiles.add(documentFile);
+                    uploadedContent.add(Files.readAllBytes(documentFile));
+                    return new DocumentManagementService.UploadedDocumentMetadata(uri, "hash-token");
+                });
+
+        DocumentInfo documentInfo = tornadoService.generateEventDocument(new CaseData(), AUTH_TOKEN,
+                ENGLANDWALES_CASE_TYPE_ID, INITIAL_CONSIDERATION_PDF);
+
+        verifyDocumentInfo(documentInfo);
+        assertEquals(1, uploadedFiles.size());
+        assertArrayEquals(renderedDocument, uploadedContent.get(0));
+        assertFalse(Files.exists(uploadedFiles.get(0)));
+        verify(documentManagementService, never()).uploadDocumentWithMetadata(anyString(), any(byte[].class),
+                anyString(), anyString(), eq(ENGLANDWALES_CASE_TYPE_ID));
+    }
+
     @Test
     void getDmStoreDocumentName_shouldReturnEt3ProcessingOutputName_withValidRespondent() {
         CaseData caseData = new CaseData();
@@ -394,10 +423,8 @@ class TornadoServiceTest {
         userIdamService = new UserIdamService(idamApi, oauth2Configuration);
     }
 
-    private void mockTornadoConnection() throws IOException {
-        mockConnection = new MockHttpURLConnection(URI.create("http://testdocmosis").toURL());
+    private void mockTornadoConnection() {
         tornadoConnection = mock(TornadoConnection.class);
-        when(tornadoConnection.createConnection()).thenReturn(mockConnection);
     }
 
     private void mockDocumentManagement() {
@@ -409,6 +436,9 @@ class TornadoServiceTest {
         when(documentManagementService.uploadDocumentWithMetadata(anyString(), any(byte[].class),
                 anyString(), anyString(), anyString()))
                 .thenReturn(new DocumentManagementService.UploadedDocumentMetadata(uri, "hash-token"));
+        when(documentManagementService.uploadDocumentWithMetadata(anyString(), any(Path.class),
+                anyString(), anyString(), anyString()))
+                .thenReturn(new DocumentManagementService.UploadedDocumentMetadata(uri, "hash-token"));
         when(documentManagementService.generateDownloadableURL(uri)).thenReturn(documentUrl);
         when(documentManagementService.generateMarkupDocument(anyString())).thenReturn(DOCUMENT_INFO_MARKUP);
     }
@@ -422,26 +452,19 @@ class TornadoServiceTest {
     }
 
     private void mockConnectionSuccess() throws IOException {
-        try (InputStream inputStream = mock(InputStream.class);
-             OutputStream outputStream = mock(OutputStream.class)) {
-            when(inputStream.read(any(byte[].class))).thenReturn(-1);
-            mockConnection.setInputStream(inputStream);
-            mockConnection.setOutputStream(outputStream);
-            mockConnection.setResponseCode(HTTP_OK);
-        }
+        mockRenderedDocument(new byte[0]);
     }
 
-    private void mockConnectionError() throws IOException {
-        try (InputStream mockInputStream = mock(InputStream.class);
-             OutputStream mockOutputStream = mock(OutputStream.class)) {
-
-            when(mockInputStream.read(any(byte[].class))).thenReturn(-1);
-            when(mockInputStream.read(any(byte[].class), anyInt(), anyInt())).thenReturn(-1);
+    private void mockRenderedDocument(byte[] document) throws IOException {
+        when(tornadoConnection.render(anyString(), any())).thenAnswer(invocation -> {
+            TornadoConnection.RenderedDocumentHandler<?> documentHandler = invocation.getArgument(1);
+            return documentHandler.handle(new ByteArrayInputStream(document));
+        });
+    }
 
-            mockConnection.setErrorStream(mockInputStream);
-            mockConnection.setOutputStream(mockOutputStream);
-            mockConnection.setResponseCode(HTTP_INTERNAL_ERROR);
-        }
+    private void mockConnectionError() throws IOException {
+        when(tornadoConnection.render(anyString(), any())).thenThrow(
+                new IOException("Invalid response code 500 received from Tornado: Internal Server Error"));
     }
 
     private ListingData createListingData() {
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.ecm.common.idam.models.UserDetails;
+import uk.gov.hmcts.ethos.replacement.docmosis.helpers.HelperTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserDetailsCacheTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final Function<String, UserDetails> lookup = authorisation -> {
+        lookups.incrementAndGet();
+        return HelperTest.getUserDetails();
+    };
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldLookUpUserDetailsOncePerRequest() {
+        UserDetailsCache userDetailsCache = new UserDetailsCache(0, Duration.ZERO);
+        startRequest();
+
+        UserDetails userDetails = userDetailsCache.get("Bearer not-a-jwt", lookup);
+
+        assertSame(userDetails, userDetailsCache.get("Bearer not-a-jwt", lookup));
+        assertEquals(1, lookups.get());
+        assertEquals(1, userDetailsCache.getRequestHits());
+        assertEquals(1, userDetailsCache.getMisses());
+
+        startRequest();
+        userDetailsCache.get("Bearer not-a-jwt", lookup);
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void shouldShareUserDetailsBetweenRequestsUntilTokenExpires() {
+        UserDetailsCache userDetailsCache = new UserDetailsCache(10, Duration.ofMinutes(1));
+        String token = "Bearer " + jwt(Instant.now().plus(1, ChronoUnit.HOURS));
+        String expiredToken = "Bearer " + jwt(Instant.now().minus(1, ChronoUnit.HOURS));
+
+        userDetailsCache.get(token, lookup);
+        userDetailsCache.get(token, lookup);
+        assertEquals(1, lookups.get());
+        assertEquals(1, userDetailsCache.getSharedHits());
+
+        userDetailsCache.get(expiredToken, lookup);
+        userDetailsCache.get(expiredToken, lookup);
+        assertEquals(3, lookups.get());
+        assertEquals(1, userDetailsCache.getSize());
+    }
+
+    @Test
+    void shouldNotShareUserDetailsForTokensWithoutExpiry() {
+        UserDetailsCache userDetailsCache = new UserDetailsCache(10, Duration.ofMinutes(1));
+
+        userDetailsCache.get("Bearer not-a-jwt", lookup);
+        userDetailsCache.get("Bearer not-a-jwt", lookup);
+
+        assertEquals(2, lookups.get());
+        assertEquals(0, userDetailsCache.getSize());
+    }
+
+    @Test
+    void shouldNotShareMoreTokensThanMaxSize() {
+        UserDetailsCache userDetailsCache = new UserDetailsCache(1, Duration.ofMinutes(1));
+        String token = "Bearer " + jwt(Instant.now().plus(1, ChronoUnit.HOURS));
+        String otherToken = "Bearer " + jwt(Instant.now().plus(2, ChronoUnit.HOURS));
+
+        userDetailsCache.get(token, lookup);
+        userDetailsCache.get(otherToken, lookup);
+        userDetailsCache.get(otherToken, lookup);
+        userDetailsCache.get(token, lookup);
+
+        assertEquals(3, lookups.get());
+        assertEquals(1, userDetailsCache.getSize());
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static String jwt(Instant expiry) {
+        return new PlainJWT(new JWTClaimsSet.Builder()
+            .subject("caseworker@example.com")
+            .expirationTime(Date.from(expiry))
+            .build()).serialize();
+    }
+}
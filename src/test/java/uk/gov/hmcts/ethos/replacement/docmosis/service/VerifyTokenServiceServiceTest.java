@@ -1,7 +1,19 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service;
 
 import ch.qos.logback.classic.Level;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.JWSVerifierFactory;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +24,11 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.ethos.replacement.docmosis.test.utils.LoggerTestUtils;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(SpringExtension.class)
@@ -66,4 +83,67 @@ class VerifyTokenServiceServiceTest {
         assertThat(verifyTokenService.isTokenSignatureValid(INVALID_USER_TOKEN)).isFalse();
         LoggerTestUtils.checkLog(Level.ERROR, LoggerTestUtils.INTEGER_TWO, EXPECTED_ERROR_INVALID_TOKEN);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SneakyThrows
+    void verifyTokenSignedWithKnownKey() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("known-key").generate();
+        VerifyTokenService service = new VerifyTokenService(new ImmutableJWKSet<>(new JWKSet(rsaKey)), 10);
+
+        assertThat(service.verifyTokenSignature("Bearer " + signToken(rsaKey, "known-key", 1))).isTrue();
+        assertThat(service.verifyTokenSignature("Bearer " + signToken(rsaKey, "unknown-key", 1))).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void verifiedTokenIsNotVerifiedAgainUntilItExpires() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("known-key").generate();
+        AtomicInteger keyLookups = new AtomicInteger();
+        JWKSource<SecurityContext> jwkSource = countingSource(new JWKSet(rsaKey), keyLookups);
+        VerifyTokenService service = new VerifyTokenService(jwkSource, 10);
+        String token = "Bearer " + signToken(rsaKey, "known-key", 1);
+        String expiredToken = "Bearer " + signToken(rsaKey, "known-key", -1);
+
+        assertThat(service.verifyTokenSignature(token)).isTrue();
+        assertThat(service.verifyTokenSignature(token)).isTrue();
+        assertThat(keyLookups).hasValue(1);
+
+        assertThat(service.verifyTokenSignature(expiredToken)).isTrue();
+        assertThat(service.verifyTokenSignature(expiredToken)).isTrue();
+        assertThat(keyLookups).hasValue(3);
+    }
+
+    @Test
+    @SneakyThrows
+    void verifiedTokenCacheIsBounded() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("known-key").generate();
+        AtomicInteger keyLookups = new AtomicInteger();
+        VerifyTokenService service = new VerifyTokenService(countingSource(new JWKSet(rsaKey), keyLookups), 1);
+        String token = "Bearer " + signToken(rsaKey, "known-key", 1);
+        String otherToken = "Bearer " + signToken(rsaKey, "known-key", 2);
+
+        assertThat(service.verifyTokenSignature(token)).isTrue();
+        assertThat(service.verifyTokenSignature(otherToken)).isTrue();
+        assertThat(service.verifyTokenSignature(otherToken)).isTrue();
+        assertThat(service.verifyTokenSignature(token)).isTrue();
+        assertThat(keyLookups).hasValue(3);
+    }
+
+    private static JWKSource<SecurityContext> countingSource(JWKSet jwkSet, AtomicInteger keyLookups) {
+        return (jwkSelector, context) -> {
+            keyLookups.incrementAndGet();
+            return jwkSelector.select(jwkSet);
+        };
+    }
+
+    private static String signToken(RSAKey rsaKey, String keyId, int expiresInHours) throws JOSEException {
+        SignedJWT signedJwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyId).build(),
+            new JWTClaimsSet.Builder()
+                .subject("caseworker@example.com")
+                .expirationTime(Date.from(Instant.now().plus(expiresInHours, ChronoUnit.HOURS)))
+                .build());
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        return signedJwt.serialize();
+    }
+}
@@ -11,10 +11,11 @@ import uk.gov.hmcts.et.common.model.listing.items.BFDateTypeItem;
 import uk.gov.hmcts.et.common.model.listing.types.BFDateType;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.bfaction.BfActionReportData;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MockitoSettings(strictness = Strictness.LENIENT)
 @ExtendWith(MockitoExtension.class)
@@ -46,13 +47,17 @@ class BfExcelReportServiceTest {
     }
 
     @Test
-    void shouldReturnReportExcelFileDocumentInfo() {
-        assertNotNull(service.getReportExcelFile(reportData));
+    void shouldReturnReportExcelFileDocumentInfo() throws IOException {
+        try (SpreadsheetFile excelFile = service.getReportExcelFile(reportData)) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void shouldReturnReportExcelFileEmptyByteArray() {
-        assertNotNull(service.getReportExcelFile(
-                new BfActionReportData()));
+    void shouldReturnReportExcelFileEmptyByteArray() throws IOException {
+        try (SpreadsheetFile excelFile = service.getReportExcelFile(
+                new BfActionReportData())) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 }
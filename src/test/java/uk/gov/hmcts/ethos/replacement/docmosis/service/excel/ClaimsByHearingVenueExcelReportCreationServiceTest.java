@@ -10,7 +10,9 @@ import org.mockito.quality.Strictness;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportData;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportDetail;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MockitoSettings(strictness = Strictness.LENIENT)
 @ExtendWith(MockitoExtension.class)
@@ -30,13 +32,17 @@ class ClaimsByHearingVenueExcelReportCreationServiceTest {
     }
 
     @Test
-    void shouldReturnReportExcelFileDocumentInfo() {
-        assertNotNull(service.getReportExcelFile(reportData));
+    void shouldReturnReportExcelFileDocumentInfo() throws IOException {
+        try (SpreadsheetFile excelFile = service.getReportExcelFile(reportData)) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void shouldReturnReportExcelFileEmptyByteArray() {
-        assertNotNull(service.getReportExcelFile(
-                new ClaimsByHearingVenueReportData()));
+    void shouldReturnReportExcelFileEmptyByteArray() throws IOException {
+        try (SpreadsheetFile excelFile = service.getReportExcelFile(
+                new ClaimsByHearingVenueReportData())) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 }
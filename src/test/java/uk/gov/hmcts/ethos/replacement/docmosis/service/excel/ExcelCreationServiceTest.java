@@ -1,5 +1,7 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
 
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,13 +12,20 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultipleUtil;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.SortedMap;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.CONSTRAINT_KEY;
+import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.SHEET_NAME;
 
 @MockitoSettings(strictness = Strictness.LENIENT)
 @ExtendWith(MockitoExtension.class)
@@ -40,34 +49,60 @@ class ExcelCreationServiceTest {
     }
 
     @Test
-    void writeExcelObjects() {
-        assertNotNull(excelCreationService.writeExcel(
+    void writeExcelObjects() throws IOException {
+        try (SpreadsheetFile excelFile = excelCreationService.writeExcel(
                 new ArrayList<>(multipleObjects.values()),
                 new ArrayList<>(Arrays.asList("245000/1", "245000/1")),
-                leadLink, "userToken", "caseTypeId"));
+                leadLink, "userToken", "caseTypeId")) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void writeExcelObjectsEmptySubMultiples() {
-        assertNotNull(excelCreationService.writeExcel(
+    void writeExcelObjectsEmptySubMultiples() throws IOException {
+        try (SpreadsheetFile excelFile = excelCreationService.writeExcel(
                 new ArrayList<>(multipleObjects.values()),
                 new ArrayList<>(),
-                leadLink, "userToken", "caseTypeId"));
+                leadLink, "userToken", "caseTypeId")) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void writeExcelString() {
-        assertNotNull(excelCreationService.writeExcel(
+    void writeExcelString() throws IOException {
+        try (SpreadsheetFile excelFile = excelCreationService.writeExcel(
                 new ArrayList<>(Arrays.asList("245000/2020", "245001/2020", "245002/2020")),
                 new ArrayList<>(),
-                leadLink, "userToken", "caseTypeId"));
+                leadLink, "userToken", "caseTypeId")) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void writeExcelStringEmpty() {
-        assertNotNull(excelCreationService.writeExcel(
+    void writeExcelStringEmpty() throws IOException {
+        try (SpreadsheetFile excelFile = excelCreationService.writeExcel(
                 new ArrayList<>(),
                 new ArrayList<>(),
-                leadLink, "userToken", "caseTypeId"));
+                leadLink, "userToken", "caseTypeId")) {
+            assertTrue(excelFile.getSize() > 0);
+        }
+    }
+
+    @Test
+    void writeExcelKeepsSheetProtectionAndSubMultipleValidation() throws IOException {
+        try (SpreadsheetFile excelFile = excelCreationService.writeExcel(
+                new ArrayList<>(multipleObjects.values()),
+                new ArrayList<>(Arrays.asList("245000/1", "245000/2")),
+                leadLink, "userToken", "caseTypeId");
+             InputStream inputStream = Files.newInputStream(excelFile.getPath());
+             XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
+            XSSFSheet sheet = workbook.getSheet(SHEET_NAME);
+            assertTrue(sheet.validateSheetPassword(CONSTRAINT_KEY));
+            assertTrue(workbook.isSheetHidden(1));
+            assertEquals(1, sheet.getDataValidations().size());
+            assertEquals(multipleObjects.size(), sheet.getLastRowNum());
+            assertTrue(sheet.getRow(1).getCell(0).getCellStyle().getLocked());
+            assertFalse(sheet.getRow(1).getCell(2).getCellStyle().getLocked());
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,41 +46,50 @@ class ExcelDocManagementServiceTest {
     private UserIdamService userIdamService;
     @Mock
     private ScheduleCreationService scheduleCreationService;
+    @Mock
+    private MultipleExcelCache multipleExcelCache;
     @InjectMocks
     private ExcelDocManagementService excelDocManagementService;
 
     private MultipleDetails multipleDetails;
     private String userToken;
     private String caseTypeId;
-    private byte[] bytes;
+    private SpreadsheetFile excelFile;
 
     @BeforeEach
-    public void setUp() {
+    public void setUp() throws IOException {
         multipleDetails = new MultipleDetails();
         multipleDetails.setCaseData(MultipleUtil.getMultipleData());
         UserDetails userDetails = HelperTest.getUserDetails();
         when(userIdamService.getUserDetails(anyString())).thenReturn(userDetails);
         userToken = "authString";
-        bytes = "Bytes to return".getBytes();
+        excelFile = SpreadsheetFile.empty();
         caseTypeId = multipleDetails.getCaseTypeId();
     }
 
     @Test
     void uploadExcelDocument() {
+        String previousBinaryUrl = MultiplesHelper.getExcelBinaryUrl(multipleDetails.getCaseData());
         URI uri = URI.create("http://google.com");
         when(documentManagementService.uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId()))
                 .thenReturn(uri);
         excelDocManagementService.uploadExcelDocument(userToken,
                 multipleDetails,
-                bytes);
+                excelFile);
         verify(documentManagementService, times(1)).uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId());
         verifyNoMoreInteractions(documentManagementService);
+        verify(multipleExcelCache, times(1)).evict(previousBinaryUrl);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        excelFile.close();
     }
 
     @Test
@@ -99,18 +109,18 @@ class ExcelDocManagementServiceTest {
         List<String> subMultipleCollection = MultiplesHelper
                 .generateSubMultipleStringCollection(multipleDetails.getCaseData());
         when(documentManagementService.uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(multipleDetails.getCaseData()),
                 APPLICATION_EXCEL_VALUE, multipleDetails.getCaseTypeId()))
                 .thenReturn(uri);
         when(excelCreationService.writeExcel(multipleCollection,
                 subMultipleCollection,
                 multipleDetails.getCaseData().getLeadCase(), userToken, caseTypeId))
-                .thenReturn(bytes);
+                .thenReturn(excelFile);
         excelDocManagementService.generateAndUploadExcel(multipleCollection,
                 userToken, multipleDetails);
         verify(documentManagementService, times(1)).uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId());
         verifyNoMoreInteractions(documentManagementService);
@@ -128,7 +138,7 @@ class ExcelDocManagementServiceTest {
                 Arrays.asList("245000/2020", "245001/2020", "245002/2020"));
         multipleDetails.getCaseData().setSubMultipleCollection(null);
         when(documentManagementService.uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(
                         multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId()))
@@ -136,11 +146,11 @@ class ExcelDocManagementServiceTest {
         when(excelCreationService.writeExcel(multipleCollection,
                 new ArrayList<>(),
                 multipleDetails.getCaseData().getLeadCase(), userToken, caseTypeId))
-                .thenReturn(bytes);
+                .thenReturn(excelFile);
         excelDocManagementService.generateAndUploadExcel(multipleCollection,
                 userToken, multipleDetails);
         verify(documentManagementService, times(1)).uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesHelper.generateExcelDocumentName(
                         multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId());
@@ -158,9 +168,9 @@ class ExcelDocManagementServiceTest {
         when(scheduleCreationService.writeSchedule(multipleDetails.getCaseData(),
                 new ArrayList<>(),
                 new TreeMap<>()))
-                .thenReturn(bytes);
+                .thenReturn(excelFile);
         when(documentManagementService.uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesScheduleHelper.generateScheduleDocumentName(
                         multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId()))
@@ -168,7 +178,7 @@ class ExcelDocManagementServiceTest {
         excelDocManagementService.writeAndUploadScheduleDocument(userToken, new TreeMap<>(),
                 multipleDetails, new ArrayList<>());
         verify(documentManagementService, times(1)).uploadDocument(userToken,
-                bytes,
+                excelFile.getPath(),
                 MultiplesScheduleHelper.generateScheduleDocumentName(
                         multipleDetails.getCaseData()), APPLICATION_EXCEL_VALUE,
                 multipleDetails.getCaseTypeId());
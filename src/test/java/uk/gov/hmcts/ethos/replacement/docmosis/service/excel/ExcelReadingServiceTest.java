@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -20,6 +21,7 @@ import uk.gov.hmcts.ethos.replacement.docmosis.helpers.FilterExcelType;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultipleUtil;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +35,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.HEADER_3;
 import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.HEADER_5;
@@ -47,6 +51,8 @@ class ExcelReadingServiceTest {
     private ExcelDocManagementService excelDocManagementService;
     @Mock
     private CcdClient ccdClient;
+    @Spy
+    private MultipleExcelCache multipleExcelCache = new MultipleExcelCache(1000, Duration.ofMinutes(10));
     @InjectMocks
     private ExcelReadingService excelReadingService;
 
@@ -155,6 +161,24 @@ class ExcelReadingServiceTest {
         assertFalse(flags3.contains("BB"));
     }
 
+    @Test
+    void readExcelTwiceDownloadsOnce() throws IOException {
+
+        body = new ClassPathResource(TESTING_FILE_NAME);
+        when(excelDocManagementService.downloadExcelDocument(userToken, documentBinaryUrl))
+                .thenReturn(body.getInputStream());
+        excelReadingService.checkExcelErrors(userToken, documentBinaryUrl, errors);
+        SortedMap<String, Object> all = excelReadingService.readExcel(userToken, documentBinaryUrl,
+                errors, multipleData, FilterExcelType.ALL);
+        SortedMap<String, Object> flags = excelReadingService.readExcel(userToken, documentBinaryUrl,
+                errors, multipleData, FilterExcelType.FLAGS);
+
+        verify(excelDocManagementService, times(1)).downloadExcelDocument(userToken, documentBinaryUrl);
+        assertEquals(6, all.size());
+        assertEquals(3, flags.size());
+        assertEquals(0, errors.size());
+    }
+
     @Test
     void readExcelError() throws IOException {
 
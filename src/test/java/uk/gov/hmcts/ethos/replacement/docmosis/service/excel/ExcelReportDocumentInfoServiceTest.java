@@ -1,5 +1,7 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -13,6 +15,7 @@ import uk.gov.hmcts.ethos.replacement.docmosis.reports.bfaction.BfActionReportDa
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportData;
 import uk.gov.hmcts.ethos.replacement.docmosis.reports.claimsbyhearingvenue.ClaimsByHearingVenueReportDetail;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -37,6 +40,17 @@ class ExcelReportDocumentInfoServiceTest {
     ClaimsByHearingVenueReportData claimsByHearingVenueReportData;
     BfActionReportData bfActionReportData;
     private DocumentInfo docInfo;
+    private SpreadsheetFile excelFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        excelFile = SpreadsheetFile.empty();
+    }
+
+    @AfterEach
+    void tearDown() {
+        excelFile.close();
+    }
 
     private void setUpClaimsReport() {
         claimsByHearingVenueReportData = new ClaimsByHearingVenueReportData();
@@ -70,11 +84,11 @@ class ExcelReportDocumentInfoServiceTest {
     void shouldReturnNonNullExcelReportDocumentInfo() {
         setUpClaimsReport();
         when(claimsByHearingVenueExcelReportCreationService.getReportExcelFile(claimsByHearingVenueReportData))
-                .thenReturn(new byte[0]);
+                .thenReturn(excelFile);
         when(excelDocManagementService
                 .uploadExcelReportDocument("dummyToken",
                         "ET_EnglandWales_Hearings_By_Venue_Report.xlsx",
-                        new byte[0]))
+                        excelFile))
                 .thenReturn(docInfo);
 
         DocumentInfo resultDocInfo = excelReportDocInfService.generateClaimsByHearingVenueExcelReportDocumentInfo(
@@ -86,11 +100,11 @@ class ExcelReportDocumentInfoServiceTest {
     void shouldReturnCorrectCountOfDependenciesInvocation() {
         setUpClaimsReport();
         when(claimsByHearingVenueExcelReportCreationService.getReportExcelFile(claimsByHearingVenueReportData))
-                .thenReturn(new byte[0]);
+                .thenReturn(excelFile);
         when(excelDocManagementService
                 .uploadExcelReportDocument("dummyToken",
                         "ET_EnglandWales_Hearings_By_Venue_Report.xlsx",
-                        new byte[0]))
+                        excelFile))
                 .thenReturn(docInfo);
 
         excelReportDocInfService.generateClaimsByHearingVenueExcelReportDocumentInfo(claimsByHearingVenueReportData,
@@ -101,7 +115,7 @@ class ExcelReportDocumentInfoServiceTest {
         verifyNoMoreInteractions(claimsByHearingVenueExcelReportCreationService);
         verify(excelDocManagementService, times(1))
                 .uploadExcelReportDocument("dummyToken",
-                        "ET_EnglandWales_Hearings_By_Venue_Report.xlsx", new byte[0]);
+                        "ET_EnglandWales_Hearings_By_Venue_Report.xlsx", excelFile);
         verifyNoMoreInteractions(excelDocManagementService);
     }
 
@@ -109,11 +123,11 @@ class ExcelReportDocumentInfoServiceTest {
     void shouldReturnCorrectCountOfDependenciesInvocationBfReport() {
         setUpBfReport();
         when(bfExcelReportService.getReportExcelFile(bfActionReportData))
-                .thenReturn(new byte[0]);
+                .thenReturn(excelFile);
         when(excelDocManagementService
                 .uploadExcelReportDocument("dummyToken",
                         "ET_EnglandWales_Brought_Forward_Report.xlsx",
-                        new byte[0]))
+                        excelFile))
                 .thenReturn(docInfo);
 
         excelReportDocInfService.generateBfExcelReportDocumentInfo(bfActionReportData,
@@ -123,7 +137,7 @@ class ExcelReportDocumentInfoServiceTest {
         verifyNoMoreInteractions(bfExcelReportService);
         verify(excelDocManagementService, times(1))
                 .uploadExcelReportDocument("dummyToken",
-                        "ET_EnglandWales_Brought_Forward_Report.xlsx", new byte[0]);
+                        "ET_EnglandWales_Brought_Forward_Report.xlsx", excelFile);
         verifyNoMoreInteractions(excelDocManagementService);
     }
 
@@ -131,11 +145,11 @@ class ExcelReportDocumentInfoServiceTest {
     void shouldReturnNonNullExcelBfReportDocumentInfo() {
         setUpBfReport();
         when(bfExcelReportService.getReportExcelFile(bfActionReportData))
-                .thenReturn(new byte[0]);
+                .thenReturn(excelFile);
         when(excelDocManagementService
                 .uploadExcelReportDocument("dummyToken",
                         "ET_EnglandWales_Brought_Forward_Report.xlsx",
-                        new byte[0]))
+                        excelFile))
                 .thenReturn(docInfo);
 
         DocumentInfo resultDocInfo = excelReportDocInfService.generateBfExcelReportDocumentInfo(
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.MultipleExcelCache.MultipleSheet;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.MultipleExcelCache.SheetLoader;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.SheetSummary;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MultipleExcelCacheTest {
+
+    private static final String USER_TOKEN = "authString";
+    private static final String BINARY_URL = "http://dm-store/documents/1/binary";
+    private static final String OTHER_BINARY_URL = "http://dm-store/documents/2/binary";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldReadSheetOncePerUrlAndToken() throws IOException {
+        MultipleExcelCache cache = new MultipleExcelCache(100, Duration.ofMinutes(10));
+
+        MultipleSheet sheet = cache.get(USER_TOKEN, BINARY_URL, loader(2));
+        assertSame(sheet, cache.get(USER_TOKEN, BINARY_URL, loader(2)));
+        assertEquals(1, loads.get());
+
+        assertEquals(2, sheet.getRows().size());
+        assertArrayEquals(new String[] {"1800001/2024", "Sub", "", "", "", ""}, sheet.getRows().get(0));
+        assertSame(sheet.getRows().get(0)[1], sheet.getRows().get(1)[1]);
+
+        cache.get("otherToken", BINARY_URL, loader(2));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldReadSheetAgainOnceEvicted() throws IOException {
+        MultipleExcelCache cache = new MultipleExcelCache(100, Duration.ofMinutes(10));
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+        cache.get("otherToken", BINARY_URL, loader(2));
+        cache.get(USER_TOKEN, OTHER_BINARY_URL, loader(2));
+
+        cache.evict(BINARY_URL);
+
+        assertEquals(1, cache.getSize());
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedSheetsToStayWithinCells() throws IOException {
+        MultipleExcelCache cache = new MultipleExcelCache(30, Duration.ofMinutes(10));
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+        cache.get(USER_TOKEN, OTHER_BINARY_URL, loader(2));
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+
+        cache.get(USER_TOKEN, "http://dm-store/documents/3/binary", loader(2));
+
+        assertEquals(2, cache.getSize());
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+        assertEquals(3, loads.get());
+        cache.get(USER_TOKEN, OTHER_BINARY_URL, loader(2));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void shouldNotHoldSheetLargerThanCache() throws IOException {
+        MultipleExcelCache cache = new MultipleExcelCache(10, Duration.ofMinutes(10));
+
+        assertEquals(5, cache.get(USER_TOKEN, BINARY_URL, loader(5)).getRows().size());
+
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void shouldReadSheetAgainOnceExpired() throws IOException {
+        MultipleExcelCache cache = new MultipleExcelCache(100, Duration.ZERO);
+
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+        cache.get(USER_TOKEN, BINARY_URL, loader(2));
+
+        assertEquals(2, loads.get());
+    }
+
+    private SheetLoader loader(int rows) {
+        return rowHandler -> {
+            loads.incrementAndGet();
+            rowHandler.handleRow(0, List.of("Header", "Sub Multiple", "Flag 1", "Flag 2", "Flag 3", "Flag 4"));
+            for (int i = 1; i <= rows; i++) {
+                rowHandler.handleRow(i, List.of(String.format("18%05d/2024", i), new String("Sub"), "", "", "", ""));
+            }
+            return SheetSummary.NOT_FOUND;
+        };
+    }
+}
@@ -11,13 +11,14 @@ import uk.gov.hmcts.ecm.common.model.helper.SchedulePayload;
 import uk.gov.hmcts.et.common.model.multiples.MultipleDetails;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultipleUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.SortedMap;
 
-import static org.junit.Assert.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.LIST_CASES_CONFIG;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.MULTIPLE_SCHEDULE_CONFIG;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.MULTIPLE_SCHEDULE_DETAILED_CONFIG;
@@ -45,31 +46,37 @@ class ScheduleCreationServiceTest {
     }
 
     @Test
-    void writeSchedule() {
+    void writeSchedule() throws IOException {
         multipleDetails.getCaseData().setScheduleDocName(MULTIPLE_SCHEDULE_CONFIG);
-        assertNotNull(scheduleCreationService.writeSchedule(
+        try (SpreadsheetFile excelFile = scheduleCreationService.writeSchedule(
                 multipleDetails.getCaseData(),
                 schedulePayloads,
-                multipleObjectsFlags));
+                multipleObjectsFlags)) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void writeScheduleDetailed() {
+    void writeScheduleDetailed() throws IOException {
         multipleDetails.getCaseData().setScheduleDocName(MULTIPLE_SCHEDULE_DETAILED_CONFIG);
-        assertNotNull(scheduleCreationService.writeSchedule(
+        try (SpreadsheetFile excelFile = scheduleCreationService.writeSchedule(
                 multipleDetails.getCaseData(),
                 schedulePayloads,
-                multipleObjectsFlags));
+                multipleObjectsFlags)) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     @Test
-    void writeScheduleSubMultiplesNoAllocated() {
+    void writeScheduleSubMultiplesNoAllocated() throws IOException {
         multipleObjectsSubMultiple.put(NOT_ALLOCATED, new ArrayList<>(Collections.singletonList("245002/2020")));
         multipleDetails.getCaseData().setScheduleDocName(LIST_CASES_CONFIG);
-        assertNotNull(scheduleCreationService.writeSchedule(
+        try (SpreadsheetFile excelFile = scheduleCreationService.writeSchedule(
                 multipleDetails.getCaseData(),
                 schedulePayloads,
-                multipleObjectsSubMultiple));
+                multipleObjectsSubMultiple)) {
+            assertTrue(excelFile.getSize() > 0);
+        }
     }
 
     private List<SchedulePayload> getSchedulePayload() {
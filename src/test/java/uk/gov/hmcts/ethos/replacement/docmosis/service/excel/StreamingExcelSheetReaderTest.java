@@ -0,0 +1,116 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.excel;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.SheetSummary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.CONSTRAINT_KEY;
+import static uk.gov.hmcts.et.common.model.multiples.MultipleConstants.SHEET_NAME;
+import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultipleUtil.TESTING_FILE_NAME;
+import static uk.gov.hmcts.ethos.replacement.docmosis.helpers.MultipleUtil.TESTING_FILE_NAME_ERROR;
+
+class StreamingExcelSheetReaderTest {
+
+    @Test
+    void readSheetConvertsCellsLikeTheWorkbookReader() throws IOException {
+        Map<Integer, List<String>> rows = new TreeMap<>();
+
+        SheetSummary sheet;
+        try (InputStream inputStream = workbook(false)) {
+            sheet = StreamingExcelSheetReader.readSheet(inputStream, SHEET_NAME, 4, rows::put);
+        }
+
+        assertTrue(sheet.isFound());
+        assertEquals(3, sheet.getLastRowNum());
+        assertEquals(2, sheet.getHeaderCellCount());
+        assertEquals(List.of("Case", "Flag", "", ""), rows.get(0));
+        assertEquals(List.of("1800001/2022", "12", "", ""), rows.get(1));
+        assertEquals(List.of("1800002/2022", "", "", "2.5"), rows.get(3));
+        assertFalse(rows.containsKey(2));
+    }
+
+    @Test
+    void readSheetValidatesSheetProtection() throws IOException {
+        SheetSummary protectedSheet;
+        try (InputStream inputStream = workbook(true)) {
+            protectedSheet = StreamingExcelSheetReader.readSheet(inputStream, SHEET_NAME, 0, (rowNum, cells) -> { });
+        }
+        SheetSummary unprotectedSheet;
+        try (InputStream inputStream = workbook(false)) {
+            unprotectedSheet = StreamingExcelSheetReader.readSheet(inputStream, SHEET_NAME, 0, (rowNum, cells) -> { });
+        }
+
+        assertTrue(protectedSheet.validateSheetPassword(CONSTRAINT_KEY));
+        assertFalse(protectedSheet.validateSheetPassword("wrong"));
+        assertFalse(unprotectedSheet.validateSheetPassword(CONSTRAINT_KEY));
+    }
+
+    @Test
+    void readSheetReadsMultipleSpreadsheet() throws IOException {
+        List<String> caseReferences = new ArrayList<>();
+
+        SheetSummary sheet;
+        try (InputStream inputStream = new ClassPathResource(TESTING_FILE_NAME).getInputStream()) {
+            sheet = StreamingExcelSheetReader.readSheet(inputStream, SHEET_NAME, 1,
+                    (rowNum, cells) -> caseReferences.add(cells.get(0)));
+        }
+
+        assertTrue(sheet.validateSheetPassword(CONSTRAINT_KEY));
+        assertEquals(7, caseReferences.size());
+        assertEquals("1820000/2019", caseReferences.get(1));
+    }
+
+    @Test
+    void readSheetReportsMissingSheet() throws IOException {
+        List<String> rows = new ArrayList<>();
+
+        SheetSummary sheet;
+        try (InputStream inputStream = new ClassPathResource(TESTING_FILE_NAME_ERROR).getInputStream()) {
+            sheet = StreamingExcelSheetReader.readSheet(inputStream, SHEET_NAME, 1,
+                    (rowNum, cells) -> rows.add(cells.get(0)));
+        }
+
+        assertFalse(sheet.isFound());
+        assertFalse(sheet.hasHeaderRow());
+        assertTrue(rows.isEmpty());
+    }
+
+    private static InputStream workbook(boolean protect) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream outputStream =
+                new ByteArrayOutputStream()) {
+            XSSFSheet sheet = workbook.createSheet(SHEET_NAME);
+            XSSFRow header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Case");
+            header.createCell(1).setCellValue("Flag");
+            XSSFRow first = sheet.createRow(1);
+            first.createCell(0).setCellValue("1800001/2022");
+            first.createCell(1).setCellValue(12);
+            first.createCell(2).setCellFormula("B2*2");
+            first.createCell(4).setCellValue("Ignored");
+            XSSFRow second = sheet.createRow(3);
+            second.createCell(0).setCellValue("1800002/2022");
+            second.createCell(1).setCellValue(true);
+            second.createCell(3).setCellValue(2.5);
+            if (protect) {
+                sheet.protectSheet(CONSTRAINT_KEY);
+            }
+            workbook.write(outputStream);
+            return new ByteArrayInputStream(outputStream.toByteArray());
+        }
+    }
+}
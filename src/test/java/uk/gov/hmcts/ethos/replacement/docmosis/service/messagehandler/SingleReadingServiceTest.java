@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import uk.gov.hmcts.ecm.common.client.CcdClient;
+import uk.gov.hmcts.ecm.common.helpers.UtilHelper;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.SubmitEvent;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.MessageHandlerTestHelper;
@@ -17,8 +18,11 @@ import uk.gov.hmcts.ethos.replacement.docmosis.service.AdminUserService;
 import java.io.IOException;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -61,7 +65,8 @@ class SingleReadingServiceTest {
 
         singleReadingService.sendUpdateToSingleLogic(updateCaseMsg);
 
-        verify(singleUpdateService, times(1)).sendUpdate(submitEvents.get(0), USER_TOKEN, updateCaseMsg);
+        verify(singleUpdateService, times(1))
+            .sendUpdate(submitEvents.get(0), USER_TOKEN, updateCaseMsg, UpdateCaseBatch.empty());
         verifyNoInteractions(singleTransferService);
     }
 
@@ -88,4 +93,59 @@ class SingleReadingServiceTest {
         verifyNoInteractions(singleTransferService);
         verifyNoInteractions(singleUpdateService);
     }
+
+    @Test
+    void prefetchCasesWithOneSearchPerCaseType() throws IOException {
+        var firstMsg = MessageHandlerTestHelper.generateUpdateCaseMsg();
+        var secondMsg = MessageHandlerTestHelper.generateUpdateCaseMsg();
+        secondMsg.setEthosCaseReference("4150003/2020");
+        SubmitEvent secondCase = createSubmitEvent("4150003/2020");
+        String caseType = UtilHelper.getCaseTypeId(firstMsg.getCaseTypeId());
+        when(userService.getAdminUserToken()).thenReturn(USER_TOKEN);
+        when(ccdClient.retrieveCasesElasticSearch(anyString(), anyString(), anyList()))
+            .thenReturn(List.of(submitEvents.getFirst(), secondCase));
+
+        UpdateCaseBatch batch = singleReadingService.prefetchCases(List.of(firstMsg, secondMsg));
+        singleReadingService.sendUpdateToSingleLogic(secondMsg, batch);
+
+        verify(ccdClient, times(1)).retrieveCasesElasticSearch(eq(USER_TOKEN), eq(caseType), anyList());
+        assertSame(submitEvents.getFirst(), batch.getCase(caseType, "4150002/2020").orElseThrow());
+        verify(singleUpdateService).sendUpdate(secondCase, USER_TOKEN, secondMsg, batch);
+    }
+
+    @Test
+    void prefetchCasesLeavesOutCasesUpdatedTwice() throws IOException {
+        var firstMsg = MessageHandlerTestHelper.generateUpdateCaseMsg();
+        var secondMsg = MessageHandlerTestHelper.generateUpdateCaseMsg();
+        when(userService.getAdminUserToken()).thenReturn(USER_TOKEN);
+
+        UpdateCaseBatch batch = singleReadingService.prefetchCases(List.of(firstMsg, secondMsg));
+
+        assertEquals(0, batch.size());
+        verifyNoInteractions(ccdClient);
+    }
+
+    @Test
+    void prefetchCasesFailureLeavesCasesToBeLookedUpPerMessage() throws IOException {
+        var updateCaseMsg = MessageHandlerTestHelper.generateUpdateCaseMsg();
+        when(userService.getAdminUserToken()).thenReturn(USER_TOKEN);
+        when(ccdClient.retrieveCasesElasticSearch(anyString(), anyString(), anyList()))
+            .thenThrow(new IOException("Search failed"))
+            .thenReturn(submitEvents);
+
+        UpdateCaseBatch batch = singleReadingService.prefetchCases(List.of(updateCaseMsg));
+        singleReadingService.sendUpdateToSingleLogic(updateCaseMsg, batch);
+
+        assertSame(UpdateCaseBatch.empty(), batch);
+        verify(singleUpdateService).sendUpdate(submitEvents.getFirst(), USER_TOKEN, updateCaseMsg, batch);
+    }
+
+    private static SubmitEvent createSubmitEvent(String ethosCaseReference) {
+        SubmitEvent submitEvent = new SubmitEvent();
+        CaseData caseData = new CaseData();
+        caseData.setEthosCaseReference(ethosCaseReference);
+        submitEvent.setCaseData(caseData);
+        submitEvent.setState(ACCEPTED_STATE);
+        return submitEvent;
+    }
 }
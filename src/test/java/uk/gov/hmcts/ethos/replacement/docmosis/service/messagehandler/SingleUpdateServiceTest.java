@@ -24,10 +24,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -187,6 +189,25 @@ class SingleUpdateServiceTest {
         verifyNoMoreInteractions(ccdClient);
     }
 
+    @Test
+    void updateMultipleReferenceLinkMarkUpLooksUpMultipleOncePerBatch() throws IOException {
+        when(ccdClient.startEventForCaseAPIRole(anyString(), anyString(), anyString(), any()))
+            .thenReturn(returnedRequest);
+        when(ccdClient.retrieveMultipleCasesElasticSearchWithRetries(anyString(), anyString(), anyString()))
+            .thenReturn(submitMultipleEvents);
+        UpdateCaseBatch batch = new UpdateCaseBatch(Map.of());
+
+        submitEvent.getCaseData().setMultipleReferenceLinkMarkUp(null);
+        singleUpdateService.sendUpdate(submitEvent, userToken, updateCaseMsg, batch);
+        submitEvent.getCaseData().setMultipleReferenceLinkMarkUp(null);
+        singleUpdateService.sendUpdate(submitEvent, userToken, updateCaseMsg, batch);
+
+        verify(ccdClient, times(1)).retrieveMultipleCasesElasticSearchWithRetries(
+            userToken, updateCaseMsg.getCaseTypeId(), updateCaseMsg.getMultipleRef());
+        verify(ccdClient, times(2)).submitEventForCase(anyString(), any(), anyString(), anyString(), any(),
+            anyString());
+    }
+
     @Test
     void sendUpdateForSendNotification() throws IOException {
         when(ccdClient.startEventForCase(anyString(), anyString(), anyString(), any(), anyString()))
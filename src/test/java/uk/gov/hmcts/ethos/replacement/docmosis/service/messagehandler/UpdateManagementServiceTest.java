@@ -19,13 +19,16 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.MultipleErrorsR
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import javax.naming.NameNotFoundException;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.YES;
@@ -62,7 +65,7 @@ class UpdateManagementServiceTest {
 
         updateManagementService.updateLogic(updateCaseMsg);
 
-        verify(singleReadingService).sendUpdateToSingleLogic(updateCaseMsg);
+        verify(singleReadingService).sendUpdateToSingleLogic(updateCaseMsg, UpdateCaseBatch.empty());
         verifyNoMoreInteractions(singleReadingService);
         verify(multipleUpdateService).sendUpdateToMultipleLogic(eq(updateCaseMsg), any());
         verifyNoMoreInteractions(multipleUpdateService);
@@ -88,7 +91,7 @@ class UpdateManagementServiceTest {
 
         updateManagementService.updateLogic(updateCaseMsg);
 
-        verify(singleReadingService).sendUpdateToSingleLogic(updateCaseMsg);
+        verify(singleReadingService).sendUpdateToSingleLogic(updateCaseMsg, UpdateCaseBatch.empty());
         verifyNoMoreInteractions(singleReadingService);
         verify(multipleUpdateService).sendUpdateToMultipleLogic(eq(updateCaseMsg), any());
         verifyNoMoreInteractions(multipleUpdateService);
@@ -104,6 +107,26 @@ class UpdateManagementServiceTest {
         verifyNoMoreInteractions(multipleCounterRepository);
     }
 
+    @Test
+    void prepareBatchOnlyPrefetchesCaseUpdates() {
+        UpdateCaseMsg legalRepMsg = generateUpdateCaseMsg();
+        legalRepMsg.setDataModelParent(LegalRepDataModel.builder().build());
+        UpdateCaseMsg resetStateMsg = generateUpdateCaseMsg();
+        resetStateMsg.setDataModelParent(ResetStateDataModel.builder().build());
+        UpdateCaseBatch batch = UpdateCaseBatch.empty();
+        when(singleReadingService.prefetchCases(List.of(updateCaseMsg))).thenReturn(batch);
+
+        assertSame(batch, updateManagementService.prepareBatch(List.of(legalRepMsg, updateCaseMsg, resetStateMsg)));
+    }
+
+    @Test
+    void prepareBatchWithNoCaseUpdates() {
+        updateCaseMsg.setDataModelParent(ResetStateDataModel.builder().build());
+
+        assertSame(UpdateCaseBatch.empty(), updateManagementService.prepareBatch(List.of(updateCaseMsg)));
+        verifyNoInteractions(singleReadingService);
+    }
+
     @Test
     void addUnrecoverableErrorToDatabase() {
         updateManagementService.addUnrecoverableErrorToDatabase(updateCaseMsg);
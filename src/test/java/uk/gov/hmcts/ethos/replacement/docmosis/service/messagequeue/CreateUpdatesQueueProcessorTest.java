@@ -4,13 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import uk.gov.hmcts.ecm.common.model.servicebus.CreateUpdatesMsg;
 import uk.gov.hmcts.ecm.common.model.servicebus.UpdateCaseMsg;
@@ -26,15 +27,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,12 +57,13 @@ class CreateUpdatesQueueProcessorTest {
     private ObjectMapper objectMapper;
 
     @Mock
-    private ObjectProvider<CreateUpdatesQueueProcessor> selfProvider;
+    private uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.TransferToEcmService transferToEcmService;
 
     @Mock
-    private uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.TransferToEcmService transferToEcmService;
+    private PlatformTransactionManager transactionManager;
 
     private CreateUpdatesQueueProcessor processor;
+    private String processorId;
 
     @BeforeEach
     void setUp() {
@@ -63,13 +71,13 @@ class CreateUpdatesQueueProcessorTest {
                 createUpdatesQueueRepository,
                 updateCaseQueueSender,
                 objectMapper,
-                selfProvider,
-                transferToEcmService
+                transferToEcmService,
+                new TransactionTemplate(transactionManager)
         );
-        lenient().when(selfProvider.getObject()).thenReturn(processor);
         ReflectionTestUtils.setField(processor, "threadCount", 5);
         ReflectionTestUtils.setField(processor, "batchSize", 10);
         processor.init(); // Initialize processor ID and executor
+        processorId = (String) ReflectionTestUtils.getField(processor, "processorId");
     }
 
     @Test
@@ -79,32 +87,40 @@ class CreateUpdatesQueueProcessorTest {
         CreateUpdatesQueueMessage queueMessage = createQueueMessage(msg);
         
         when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class))).thenReturn(msg);
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(createUpdatesQueueRepository.markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any()))
+                .thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
 
         // Then
-        verify(createUpdatesQueueRepository).lockMessage(anyString(), anyString(), any(), any());
-        verify(updateCaseQueueSender, times(2)).sendMessage(any(UpdateCaseMsg.class)); // 2 cases in the collection
-        verify(createUpdatesQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), any());
+        ArgumentCaptor<UpdateCaseMsg> captor = ArgumentCaptor.forClass(UpdateCaseMsg.class);
+        verify(updateCaseQueueSender).sendMessages(captor.capture(), eq(msg.getEthosCaseRefCollection()));
+        assertEquals(msg.getMultipleRef(), captor.getValue().getMultipleRef());
+        assertEquals(msg.getTotalCases(), captor.getValue().getTotalCases());
+        assertEquals(msg.getDataModelParent(), captor.getValue().getDataModelParent());
+        verify(createUpdatesQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any());
+        verify(transactionManager).commit(any());
+        verify(transactionManager, never()).rollback(any());
     }
 
     @Test
-    void processMessage_alreadyLocked() {
-        // Given
+    void processMessage_leaseLostBeforeCompletion() throws Exception {
+        // Given - another processor claimed the message after this processor's lease ran out
         CreateUpdatesMsg msg = generateCreateUpdatesMsg();
         CreateUpdatesQueueMessage queueMessage = createQueueMessage(msg);
-        
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(0);
+
+        when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class))).thenReturn(msg);
+        when(createUpdatesQueueRepository.markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any()))
+                .thenReturn(0);
 
         // When
         processor.processMessage(queueMessage);
 
-        // Then
-        verify(createUpdatesQueueRepository).lockMessage(anyString(), anyString(), any(), any());
-        verify(updateCaseQueueSender, never()).sendMessage(any());
-        verify(createUpdatesQueueRepository, never()).markAsCompleted(anyString(), any());
+        // Then - the update-case messages are rolled back with the completion, so the fan-out is only queued once
+        verify(updateCaseQueueSender).sendMessages(any(), eq(msg.getEthosCaseRefCollection()));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
     }
 
     @Test
@@ -115,15 +131,15 @@ class CreateUpdatesQueueProcessorTest {
         CreateUpdatesQueueMessage queueMessage = createQueueMessage(msg);
         
         when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class))).thenReturn(msg);
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(createUpdatesQueueRepository.markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any()))
+                .thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
 
         // Then
-        verify(createUpdatesQueueRepository).lockMessage(anyString(), anyString(), any(), any());
-        verify(updateCaseQueueSender, never()).sendMessage(any());
-        verify(createUpdatesQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), any());
+        verify(updateCaseQueueSender, never()).sendMessages(any(), any());
+        verify(createUpdatesQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any());
     }
 
     @Test
@@ -134,7 +150,6 @@ class CreateUpdatesQueueProcessorTest {
         
         when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class)))
                 .thenThrow(new com.fasterxml.jackson.databind.JsonMappingException(null, "Failed to parse"));
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
@@ -142,6 +157,7 @@ class CreateUpdatesQueueProcessorTest {
         // Then
         verify(createUpdatesQueueRepository).incrementRetryAndMarkFailureIfMax(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(10),
                 isNull()
@@ -156,7 +172,6 @@ class CreateUpdatesQueueProcessorTest {
         
         when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class)))
                 .thenThrow(new RuntimeException("Failed"));
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
@@ -164,6 +179,7 @@ class CreateUpdatesQueueProcessorTest {
         // Then
         verify(createUpdatesQueueRepository).incrementRetryAndMarkFailureIfMax(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(10),
                 isNull()
@@ -191,16 +207,16 @@ class CreateUpdatesQueueProcessorTest {
         CreateUpdatesQueueMessage queueMessage = createQueueMessage(msg);
         
         when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class))).thenReturn(msg);
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(createUpdatesQueueRepository.markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any()))
+                .thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
 
         // Then
-        verify(createUpdatesQueueRepository).lockMessage(anyString(), anyString(), any(), any());
         verify(transferToEcmService).transferToEcm(msg);
-        verify(updateCaseQueueSender, never()).sendMessage(any(UpdateCaseMsg.class));
-        verify(createUpdatesQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), any());
+        verify(updateCaseQueueSender, never()).sendMessages(any(UpdateCaseMsg.class), any());
+        verify(createUpdatesQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any());
     }
 
     @Test
@@ -218,7 +234,6 @@ class CreateUpdatesQueueProcessorTest {
         
         when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class)))
                 .thenThrow(exception);
-        when(createUpdatesQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
@@ -226,44 +241,128 @@ class CreateUpdatesQueueProcessorTest {
         // Then
         verify(createUpdatesQueueRepository).markAsFailedNoRetry(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 any()
         );
         verify(createUpdatesQueueRepository, never()).incrementRetryAndMarkFailureIfMax(anyString(), anyString(),
-                any(Integer.class), any());
+                anyString(), any(Integer.class), any());
     }
 
     @Test
     void processPendingMessages_emptyQueue() {
         // Given
-        when(createUpdatesQueueRepository.findPendingMessages(any(LocalDateTime.class), any(PageRequest.class)))
+        when(createUpdatesQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
                 .thenReturn(Collections.emptyList());
 
         // When
         processor.processPendingMessages();
 
         // Then
-        verify(createUpdatesQueueRepository).findPendingMessages(any(LocalDateTime.class), any(PageRequest.class));
-        verify(selfProvider, never()).getObject();
+        verify(createUpdatesQueueRepository).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt());
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    void processPendingMessages_claimsNoMoreThanIdleWorkers() {
+        // Given - 5 worker threads and a batch size of 10
+        when(createUpdatesQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        processor.processPendingMessages();
+
+        // Then
+        verify(createUpdatesQueueRepository).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(5));
+    }
+
+    @Test
+    void processPendingMessages_onlyOneCallerClaimsAtATime() throws Exception {
+        // Given - a claim that is held up until released
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(createUpdatesQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    claiming.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Collections.emptyList();
+                })
+                .thenReturn(Collections.emptyList());
+        Thread poller = new Thread(processor::processPendingMessages);
+        poller.start();
+        assertTrue(claiming.await(5, TimeUnit.SECONDS));
+
+        // When - a notification wakes the processor while it is claiming
+        processor.processPendingMessages();
+
+        // Then - the second call does not claim alongside the first, which claims once more when it has finished
+        verify(createUpdatesQueueRepository, times(1)).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt());
+        release.countDown();
+        poller.join(5000);
+        verify(createUpdatesQueueRepository, times(2)).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt());
     }
 
     @Test
-    void processPendingMessages_withMessages() {
+    void processPendingMessages_withMessages() throws Exception {
         // Given
         CreateUpdatesMsg msg = generateCreateUpdatesMsg();
         CreateUpdatesQueueMessage queueMessage = createQueueMessage(msg);
         List<CreateUpdatesQueueMessage> messages = Collections.singletonList(queueMessage);
         
-        when(createUpdatesQueueRepository.findPendingMessages(any(LocalDateTime.class), any(PageRequest.class)))
+        when(createUpdatesQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
                 .thenReturn(messages);
 
         // When
         processor.processPendingMessages();
 
+        // Then - the message is processed on a worker thread
+        verify(objectMapper, timeout(5000)).readValue(queueMessage.getMessageBody(), CreateUpdatesMsg.class);
+    }
+
+    @Test
+    void renewLeases_noMessagesInFlight() {
+        // When
+        processor.renewLeases();
+
+        // Then
+        verify(createUpdatesQueueRepository, never()).renewLeases(any(), anyString(), any());
+    }
+
+    @Test
+    void renewLeases_renewsMessagesStillBeingProcessed() throws Exception {
+        // Given - a message whose processing is held up until released
+        CreateUpdatesMsg msg = generateCreateUpdatesMsg();
+        CreateUpdatesQueueMessage queueMessage = createQueueMessage(msg);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(createUpdatesQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(queueMessage));
+        when(objectMapper.readValue(anyString(), eq(CreateUpdatesMsg.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return msg;
+        });
+        processor.processPendingMessages();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        processor.renewLeases();
+        release.countDown();
+
         // Then
-        verify(createUpdatesQueueRepository).findPendingMessages(any(LocalDateTime.class), any(PageRequest.class));
-        verify(selfProvider).getObject();
-        // Note: actual message processing happens in the executor thread, so we can't verify it directly
+        verify(createUpdatesQueueRepository).renewLeases(eq(List.of(queueMessage.getMessageId())), anyString(),
+                any(LocalDateTime.class));
+        verify(createUpdatesQueueRepository, timeout(5000)).markAsCompleted(eq(queueMessage.getMessageId()),
+                eq(processorId), any());
     }
 
     private CreateUpdatesQueueMessage createQueueMessage(CreateUpdatesMsg msg) {
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.EmailOutboxMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private NotificationClient notificationClient;
+
+    private EmailOutboxDispatcher dispatcher;
+    private String dispatcherId;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, notificationClient, new ObjectMapper());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "ratePerSecond", 0);
+        ReflectionTestUtils.setField(dispatcher, "retryDelayMillis", 30_000L);
+        dispatcherId = (String) ReflectionTestUtils.getField(dispatcher, "dispatcherId");
+    }
+
+    @Test
+    void sendEmail_success() throws Exception {
+        EmailOutboxMessage email = createEmail(0);
+
+        dispatcher.sendEmail(email);
+
+        verify(notificationClient).sendEmail("templateId", "test@example.com",
+            Map.of("caseNumber", "6000001/2024"), email.getReference());
+        verify(emailOutboxRepository).markAsSent(eq(email.getReference()), eq(dispatcherId), any(LocalDateTime.class));
+    }
+
+    @Test
+    void sendEmail_rateLimited_retriedLater() throws Exception {
+        EmailOutboxMessage email = createEmail(1);
+        NotificationClientException exception = notifyError(429);
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString())).thenThrow(exception);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.sendEmail(email);
+
+        ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).markAsFailed(eq(email.getReference()), eq(dispatcherId), any(), eq(2),
+            eq(QueueMessageStatus.PENDING), isNull(), retryAt.capture());
+        assertTrue(retryAt.getValue().isAfter(before.plusSeconds(59)));
+        verify(emailOutboxRepository, never()).markAsSent(anyString(), anyString(), any());
+    }
+
+    @Test
+    void sendEmail_badRequest_failedWithoutRetry() throws Exception {
+        EmailOutboxMessage email = createEmail(0);
+        NotificationClientException exception = notifyError(400);
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString())).thenThrow(exception);
+
+        dispatcher.sendEmail(email);
+
+        verify(emailOutboxRepository).markAsFailed(eq(email.getReference()), eq(dispatcherId), any(), eq(1),
+            eq(QueueMessageStatus.FAILED), any(LocalDateTime.class), isNull());
+    }
+
+    @Test
+    void sendEmail_serverError_failedAfterMaxRetries() throws Exception {
+        EmailOutboxMessage email = createEmail(9);
+        NotificationClientException exception = notifyError(500);
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString())).thenThrow(exception);
+
+        dispatcher.sendEmail(email);
+
+        verify(emailOutboxRepository).markAsFailed(eq(email.getReference()), eq(dispatcherId), any(), eq(10),
+            eq(QueueMessageStatus.FAILED), any(LocalDateTime.class), isNull());
+    }
+
+    @Test
+    void dispatchPendingEmails_claimsOneBatchPerPoll() throws Exception {
+        when(emailOutboxRepository.claimPendingEmails(anyString(), any(), any(), anyInt()))
+            .thenReturn(List.of(createEmail(0), createEmail(0)));
+        when(emailOutboxRepository.renewLease(anyString(), eq(dispatcherId), any())).thenReturn(1);
+
+        dispatcher.dispatchPendingEmails();
+
+        verify(emailOutboxRepository).claimPendingEmails(eq(dispatcherId), any(), any(), eq(2));
+        verify(notificationClient, times(2)).sendEmail(anyString(), anyString(), anyMap(), anyString());
+        verify(emailOutboxRepository, times(2)).markAsSent(anyString(), eq(dispatcherId), any(LocalDateTime.class));
+    }
+
+    @Test
+    void dispatchPendingEmails_skipsEmailWhoseLeaseWasLost() throws Exception {
+        EmailOutboxMessage lost = createEmail(0);
+        EmailOutboxMessage held = createEmail(0);
+        when(emailOutboxRepository.claimPendingEmails(anyString(), any(), any(), anyInt()))
+            .thenReturn(List.of(lost, held));
+        when(emailOutboxRepository.renewLease(eq(lost.getReference()), eq(dispatcherId), any())).thenReturn(0);
+        when(emailOutboxRepository.renewLease(eq(held.getReference()), eq(dispatcherId), any())).thenReturn(1);
+
+        dispatcher.dispatchPendingEmails();
+
+        verify(notificationClient, never()).sendEmail(anyString(), anyString(), anyMap(), eq(lost.getReference()));
+        verify(notificationClient).sendEmail(anyString(), anyString(), anyMap(), eq(held.getReference()));
+        verify(emailOutboxRepository, never()).markAsSent(eq(lost.getReference()), anyString(), any());
+    }
+
+    @Test
+    void dispatchPendingEmails_sendsNoFasterThanRateLimit() throws Exception {
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "ratePerSecond", 20);
+        when(emailOutboxRepository.claimPendingEmails(anyString(), any(), any(), anyInt()))
+            .thenReturn(List.of(createEmail(0), createEmail(0), createEmail(0), createEmail(0), createEmail(0)));
+        when(emailOutboxRepository.renewLease(anyString(), eq(dispatcherId), any())).thenReturn(1);
+
+        long start = System.nanoTime();
+        dispatcher.dispatchPendingEmails();
+
+        // Five emails at 20 a second leave at least four 50 ms gaps
+        assertTrue(System.nanoTime() - start >= 200_000_000L);
+        verify(notificationClient, times(5)).sendEmail(anyString(), anyString(), anyMap(), anyString());
+    }
+
+    private static NotificationClientException notifyError(int httpResult) {
+        NotificationClientException exception = spy(new NotificationClientException("Notify error"));
+        doReturn(httpResult).when(exception).getHttpResult();
+        return exception;
+    }
+
+    private static EmailOutboxMessage createEmail(int retryCount) {
+        return EmailOutboxMessage.builder()
+            .reference(UUID.randomUUID().toString())
+            .templateId("templateId")
+            .emailAddress("test@example.com")
+            .personalisation("{\"caseNumber\":\"6000001/2024\"}")
+            .status(QueueMessageStatus.PROCESSING)
+            .createdAt(LocalDateTime.now())
+            .retryCount(retryCount)
+            .build();
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.EmailOutboxMessage;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxSenderTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmailOutboxSender sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = new EmailOutboxSender(emailOutboxRepository, objectMapper);
+    }
+
+    @Test
+    void queueEmail_success() throws Exception {
+        Map<String, Object> personalisation = new LinkedHashMap<>();
+        personalisation.put("caseNumber", "6000001/2024");
+        personalisation.put("linkToDocument", new JSONObject(Map.of("file", "ZmlsZQ==", "is_csv", false)));
+
+        String reference = sender.queueEmail("templateId", "test@example.com", personalisation);
+
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutboxMessage email = captor.getValue();
+        assertEquals(reference, email.getReference());
+        assertEquals("templateId", email.getTemplateId());
+        assertEquals("test@example.com", email.getEmailAddress());
+        assertEquals(QueueMessageStatus.PENDING, email.getStatus());
+        assertEquals(0, email.getRetryCount());
+        assertEquals(Map.of("caseNumber", "6000001/2024",
+                "linkToDocument", Map.of("file", "ZmlsZQ==", "is_csv", false)),
+            objectMapper.readValue(email.getPersonalisation(), Map.class));
+    }
+
+    @Test
+    void queueEmail_databaseError_throwsException() {
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class)))
+            .thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+
+        assertThrows(IllegalStateException.class,
+            () -> sender.queueEmail("templateId", "test@example.com", Map.of("caseNumber", "6000001/2024")));
+    }
+}
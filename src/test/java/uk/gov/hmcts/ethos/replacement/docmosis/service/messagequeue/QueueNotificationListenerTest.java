@@ -0,0 +1,100 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.service.messagequeue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueueNotificationListenerTest {
+
+    @Mock
+    private CreateUpdatesQueueProcessor createUpdatesQueueProcessor;
+
+    @Mock
+    private UpdateCaseQueueProcessor updateCaseQueueProcessor;
+
+    private QueueNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new QueueNotificationListener(
+                new DataSourceProperties(),
+                createUpdatesQueueProcessor,
+                updateCaseQueueProcessor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void dispatch_wakesEachNotifiedProcessorOnce() {
+        listener.dispatch(
+                notification(QueueNotificationListener.UPDATE_CASE_CHANNEL),
+                notification(QueueNotificationListener.UPDATE_CASE_CHANNEL),
+                notification(QueueNotificationListener.CREATE_UPDATES_CHANNEL)
+        );
+
+        verify(updateCaseQueueProcessor, timeout(5000)).processPendingMessages();
+        verify(createUpdatesQueueProcessor, timeout(5000)).processPendingMessages();
+    }
+
+    @Test
+    void dispatch_doesNotWaitForProcessor() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(updateCaseQueueProcessor).processPendingMessages();
+
+        listener.dispatch(notification(QueueNotificationListener.UPDATE_CASE_CHANNEL));
+        listener.dispatch(notification(QueueNotificationListener.CREATE_UPDATES_CHANNEL));
+
+        // The create-updates processor is woken while the update-case processor is still claiming
+        verify(createUpdatesQueueProcessor, timeout(5000)).processPendingMessages();
+        release.countDown();
+    }
+
+    @Test
+    void dispatch_ignoresUnknownChannel() {
+        listener.dispatch(notification("some_other_channel"));
+
+        verify(updateCaseQueueProcessor, never()).processPendingMessages();
+        verify(createUpdatesQueueProcessor, never()).processPendingMessages();
+    }
+
+    @Test
+    void dispatch_continuesWhenProcessorFails() {
+        doThrow(new IllegalStateException("Database unavailable"))
+                .when(createUpdatesQueueProcessor).processPendingMessages();
+
+        listener.dispatch(
+                notification(QueueNotificationListener.CREATE_UPDATES_CHANNEL),
+                notification(QueueNotificationListener.UPDATE_CASE_CHANNEL)
+        );
+
+        verify(updateCaseQueueProcessor, timeout(5000)).processPendingMessages();
+    }
+
+    private PGNotification notification(String channel) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getName()).thenReturn(channel);
+        return notification;
+    }
+}
@@ -6,8 +6,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -17,6 +15,7 @@ import uk.gov.hmcts.ecm.common.model.servicebus.datamodel.CloseDataModel;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageStatus;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.UpdateCaseQueueRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.UpdateCaseBatch;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.messagehandler.UpdateManagementService;
 
 import java.io.IOException;
@@ -26,15 +25,22 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,23 +55,20 @@ class UpdateCaseQueueProcessorTest {
     @Mock
     private ObjectMapper objectMapper;
 
-    @Mock
-    private ObjectProvider<UpdateCaseQueueProcessor> selfProvider;
-
     private UpdateCaseQueueProcessor processor;
+    private String processorId;
 
     @BeforeEach
     void setUp() {
         processor = new UpdateCaseQueueProcessor(
                 updateCaseQueueRepository,
                 objectMapper,
-                updateManagementService,
-                selfProvider
+                updateManagementService
         );
-        lenient().when(selfProvider.getObject()).thenReturn(processor);
         ReflectionTestUtils.setField(processor, "threadCount", 5);
         ReflectionTestUtils.setField(processor, "batchSize", 10);
         processor.init(); // Initialize processor ID and executor
+        processorId = (String) ReflectionTestUtils.getField(processor, "processorId");
     }
 
     @Test
@@ -75,32 +78,32 @@ class UpdateCaseQueueProcessorTest {
         UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
         
         when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
 
         // Then
-        verify(updateCaseQueueRepository).lockMessage(anyString(), anyString(), any(), any());
-        verify(updateManagementService).updateLogic(msg);
-        verify(updateCaseQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), any());
+        verify(updateManagementService).updateLogic(msg, UpdateCaseBatch.empty());
+        verify(updateCaseQueueRepository).markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any());
     }
 
     @Test
-    void processMessage_alreadyLocked() throws Exception {
-        // Given
+    void processMessage_leaseLostBeforeCompletion() throws Exception {
+        // Given - another processor claimed the message after this processor's lease ran out
         UpdateCaseMsg msg = generateUpdateCaseMsg();
         UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
-        
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(0);
+
+        when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
+        when(updateCaseQueueRepository.markAsCompleted(eq(queueMessage.getMessageId()), eq(processorId), any()))
+                .thenReturn(0);
 
         // When
         processor.processMessage(queueMessage);
 
-        // Then
-        verify(updateCaseQueueRepository).lockMessage(anyString(), anyString(), any(), any());
-        verify(updateManagementService, never()).updateLogic(any());
-        verify(updateCaseQueueRepository, never()).markAsCompleted(anyString(), any());
+        // Then - the message is left to the processor that holds it now
+        verify(updateCaseQueueRepository, never()).markAsFailed(anyString(), anyString(), anyString(),
+            any(Integer.class), any(), any());
+        verify(updateManagementService, never()).addUnrecoverableErrorToDatabase(any());
     }
 
     @Test
@@ -109,9 +112,8 @@ class UpdateCaseQueueProcessorTest {
         UpdateCaseMsg msg = generateUpdateCaseMsg();
 
         when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
         doThrow(new IOException("Connection failed")).when(updateManagementService)
-                .updateLogic(any());
+                .updateLogic(any(), any());
         UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
 
         // When
@@ -120,6 +122,7 @@ class UpdateCaseQueueProcessorTest {
         // Then
         verify(updateCaseQueueRepository).markAsFailed(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(1),
                 eq(QueueMessageStatus.FAILED),
@@ -148,6 +151,7 @@ class UpdateCaseQueueProcessorTest {
         // Then - marked as FAILED immediately with no retry logic
         verify(updateCaseQueueRepository).markAsFailed(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(1),
                 eq(QueueMessageStatus.FAILED),
@@ -177,6 +181,7 @@ class UpdateCaseQueueProcessorTest {
         // Then - marked as FAILED immediately with no retry logic
         verify(updateCaseQueueRepository).markAsFailed(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(1),
                 eq(QueueMessageStatus.FAILED),
@@ -192,9 +197,8 @@ class UpdateCaseQueueProcessorTest {
         UpdateCaseMsg msg = generateUpdateCaseMsg();
 
         when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
         doThrow(new RuntimeException("Temporary failure")).when(updateManagementService)
-                .updateLogic(any());
+                .updateLogic(any(), any());
         UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
 
         // When
@@ -203,6 +207,7 @@ class UpdateCaseQueueProcessorTest {
         // Then
         verify(updateCaseQueueRepository).markAsFailed(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(1),
                 eq(QueueMessageStatus.PENDING),
@@ -219,9 +224,8 @@ class UpdateCaseQueueProcessorTest {
         queueMessage.setRetryCount(9); // MAX_RETRIES = 10, so this is the last retry
         
         when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
         doThrow(new RuntimeException("Temporary failure")).when(updateManagementService)
-                .updateLogic(any());
+                .updateLogic(any(), any());
 
         // When
         processor.processMessage(queueMessage);
@@ -229,6 +233,7 @@ class UpdateCaseQueueProcessorTest {
         // Then
         verify(updateCaseQueueRepository).markAsFailed(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(10),
                 eq(QueueMessageStatus.FAILED),
@@ -246,7 +251,6 @@ class UpdateCaseQueueProcessorTest {
         
         when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class)))
                 .thenThrow(new com.fasterxml.jackson.databind.JsonMappingException(null, "Failed to parse"));
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
 
         // When
         processor.processMessage(queueMessage);
@@ -254,6 +258,7 @@ class UpdateCaseQueueProcessorTest {
         // Then
         verify(updateCaseQueueRepository).markAsFailed(
                 eq(queueMessage.getMessageId()),
+                eq(processorId),
                 anyString(),
                 eq(1),
                 eq(QueueMessageStatus.PENDING),
@@ -280,9 +285,8 @@ class UpdateCaseQueueProcessorTest {
         UpdateCaseMsg msg = generateUpdateCaseMsg();
 
         when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
-        when(updateCaseQueueRepository.lockMessage(anyString(), anyString(), any(), any())).thenReturn(1);
         doThrow(new InterruptedException("Thread interrupted")).when(updateManagementService)
-                .updateLogic(any());
+                .updateLogic(any(), any());
         UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
 
         // When
@@ -290,44 +294,152 @@ class UpdateCaseQueueProcessorTest {
 
         // Then
         // InterruptedException should be caught and handled, completing without error
-        verify(updateManagementService).updateLogic(msg);
+        verify(updateManagementService).updateLogic(msg, UpdateCaseBatch.empty());
         // Thread interruption should not trigger any failure marking
-        verify(updateCaseQueueRepository, never()).markAsCompleted(anyString(), any());
-        verify(updateCaseQueueRepository, never()).markAsFailed(anyString(), anyString(), any(Integer.class),
-            any(), any());
+        verify(updateCaseQueueRepository, never()).markAsCompleted(anyString(), anyString(), any());
+        verify(updateCaseQueueRepository, never()).markAsFailed(anyString(), anyString(), anyString(),
+            any(Integer.class), any(), any());
     }
 
     @Test
     void processPendingMessages_emptyQueue() {
         // Given
-        when(updateCaseQueueRepository.findPendingMessages(any(LocalDateTime.class), any(PageRequest.class)))
+        when(updateCaseQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
                 .thenReturn(Collections.emptyList());
 
         // When
         processor.processPendingMessages();
 
         // Then
-        verify(updateCaseQueueRepository).findPendingMessages(any(LocalDateTime.class), any(PageRequest.class));
-        verify(selfProvider, never()).getObject();
+        verify(updateCaseQueueRepository).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt());
+        verifyNoInteractions(objectMapper);
     }
 
     @Test
-    void processPendingMessages_withMessages() {
+    void processPendingMessages_claimsNoMoreThanIdleWorkers() {
+        // Given - 5 worker threads and a batch size of 10
+        when(updateCaseQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        processor.processPendingMessages();
+
+        // Then
+        verify(updateCaseQueueRepository).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(5));
+    }
+
+    @Test
+    void processPendingMessages_onlyOneCallerClaimsAtATime() throws Exception {
+        // Given - a claim that is held up until released
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(updateCaseQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    claiming.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Collections.emptyList();
+                })
+                .thenReturn(Collections.emptyList());
+        Thread poller = new Thread(processor::processPendingMessages);
+        poller.start();
+        assertTrue(claiming.await(5, TimeUnit.SECONDS));
+
+        // When - a notification wakes the processor while it is claiming
+        processor.processPendingMessages();
+
+        // Then - the second call does not claim alongside the first, which claims once more when it has finished
+        verify(updateCaseQueueRepository, times(1)).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt());
+        release.countDown();
+        poller.join(5000);
+        verify(updateCaseQueueRepository, times(2)).claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void processPendingMessages_withMessages() throws Exception {
         // Given
         UpdateCaseMsg msg = generateUpdateCaseMsg();
         UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
         List<UpdateCaseQueueMessage> messages = Arrays.asList(queueMessage);
         
-        when(updateCaseQueueRepository.findPendingMessages(any(LocalDateTime.class), any(PageRequest.class)))
+        when(updateCaseQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
                 .thenReturn(messages);
 
+        when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
+        UpdateCaseBatch batch = UpdateCaseBatch.empty();
+        when(updateManagementService.prepareBatch(List.of(msg))).thenReturn(batch);
+
         // When
         processor.processPendingMessages();
 
+        // Then - the message is processed on a worker thread with the cases looked up for the whole claim
+        verify(updateManagementService, timeout(5000)).updateLogic(msg, batch);
+        verify(updateCaseQueueRepository, timeout(5000)).markAsCompleted(eq(queueMessage.getMessageId()),
+                eq(processorId), any());
+    }
+
+    @Test
+    void processPendingMessages_batchPreparationFails() throws Exception {
+        // Given
+        UpdateCaseMsg msg = generateUpdateCaseMsg();
+        UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
+        when(updateCaseQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(queueMessage));
+        when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
+        when(updateManagementService.prepareBatch(any())).thenThrow(new IllegalStateException("Search failed"));
+
+        // When
+        processor.processPendingMessages();
+
+        // Then - the message is still processed, looking up its own case
+        verify(updateManagementService, timeout(5000)).updateLogic(msg, UpdateCaseBatch.empty());
+    }
+
+    @Test
+    void renewLeases_noMessagesInFlight() {
+        // When
+        processor.renewLeases();
+
+        // Then
+        verify(updateCaseQueueRepository, never()).renewLeases(any(), anyString(), any());
+    }
+
+    @Test
+    void renewLeases_renewsMessagesStillBeingProcessed() throws Exception {
+        // Given - a message whose CCD update is held up until released
+        UpdateCaseMsg msg = generateUpdateCaseMsg();
+        UpdateCaseQueueMessage queueMessage = createQueueMessage(msg);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(updateCaseQueueRepository.claimPendingMessages(anyString(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(queueMessage));
+        when(objectMapper.readValue(anyString(), eq(UpdateCaseMsg.class))).thenReturn(msg);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(updateManagementService).updateLogic(eq(msg), any());
+        processor.processPendingMessages();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        processor.renewLeases();
+        release.countDown();
+
         // Then
-        verify(updateCaseQueueRepository).findPendingMessages(any(LocalDateTime.class), any(PageRequest.class));
-        verify(selfProvider).getObject();
-        // Note: actual message processing happens in executor thread, so we can't verify it directly
+        verify(updateCaseQueueRepository).renewLeases(eq(List.of(queueMessage.getMessageId())), anyString(),
+                any(LocalDateTime.class));
+        verify(updateCaseQueueRepository, timeout(5000)).markAsCompleted(eq(queueMessage.getMessageId()),
+                eq(processorId), any());
     }
 
     private UpdateCaseQueueMessage createQueueMessage(UpdateCaseMsg msg) {
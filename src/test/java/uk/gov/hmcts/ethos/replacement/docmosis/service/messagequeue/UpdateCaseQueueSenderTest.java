@@ -15,13 +15,19 @@ import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.QueueMessageS
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.messagequeue.UpdateCaseQueueMessage;
 import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.UpdateCaseQueueRepository;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -115,6 +121,66 @@ class UpdateCaseQueueSenderTest {
         verify(updateCaseQueueRepository).save(any(UpdateCaseQueueMessage.class));
     }
 
+    @Test
+    void sendMessages_insertsOneMessagePerCase() throws Exception {
+        // Given - a real ObjectMapper, so the shared message is serialised as it would be in the queue
+        ObjectMapper realObjectMapper = new ObjectMapper();
+        UpdateCaseQueueSender bulkSender = new UpdateCaseQueueSender(updateCaseQueueRepository, realObjectMapper,
+                selfProvider);
+        UpdateCaseMsg msg = generateUpdateCaseMsg();
+
+        // When
+        bulkSender.sendMessages(msg, List.of("240001/2024", "240002/2024", "240003/2024"));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateCaseQueueMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateCaseQueueRepository).insertAll(captor.capture());
+        List<UpdateCaseQueueMessage> queueMessages = captor.getValue();
+        assertEquals(3, queueMessages.size());
+        assertEquals(3, queueMessages.stream().map(UpdateCaseQueueMessage::getMessageId).distinct().count());
+
+        List<UpdateCaseMsg> updateCaseMsgs = new ArrayList<>();
+        for (UpdateCaseQueueMessage queueMessage : queueMessages) {
+            assertEquals(QueueMessageStatus.PENDING, queueMessage.getStatus());
+            assertEquals(0, queueMessage.getRetryCount());
+            updateCaseMsgs.add(realObjectMapper.readValue(queueMessage.getMessageBody(), UpdateCaseMsg.class));
+        }
+        assertEquals(List.of("240001/2024", "240002/2024", "240003/2024"),
+                updateCaseMsgs.stream().map(UpdateCaseMsg::getEthosCaseReference).toList());
+        assertEquals(3, updateCaseMsgs.stream().map(UpdateCaseMsg::getMsgId).distinct().count());
+        updateCaseMsgs.forEach(updateCaseMsg -> {
+            assertNotNull(updateCaseMsg.getMsgId());
+            assertNotEquals(msg.getMsgId(), updateCaseMsg.getMsgId());
+            assertEquals(msg.getMultipleRef(), updateCaseMsg.getMultipleRef());
+            assertEquals(msg.getTotalCases(), updateCaseMsg.getTotalCases());
+            assertInstanceOf(CloseDataModel.class, updateCaseMsg.getDataModelParent());
+        });
+    }
+
+    @Test
+    void sendMessages_noCases() {
+        // When
+        sender.sendMessages(generateUpdateCaseMsg(), List.of());
+
+        // Then
+        verify(updateCaseQueueRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void sendMessages_repositoryException() {
+        // Given
+        UpdateCaseQueueSender bulkSender = new UpdateCaseQueueSender(updateCaseQueueRepository, new ObjectMapper(),
+                selfProvider);
+        doThrow(new DataAccessResourceFailureException("Database error"))
+                .when(updateCaseQueueRepository).insertAll(any());
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> bulkSender.sendMessages(generateUpdateCaseMsg(), List.of("240001/2024")));
+        assertEquals("Failed to queue update case messages", exception.getMessage());
+    }
+
     private UpdateCaseMsg generateUpdateCaseMsg() {
         UpdateCaseMsg msg = new UpdateCaseMsg();
         msg.setMsgId(UUID.randomUUID().toString());
@@ -1,18 +1,21 @@
 package uk.gov.hmcts.ethos.replacement.docmosis.service.multiples.bulkaddsingles;
 
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.et.common.model.ccd.types.UploadedDocumentType;
 import uk.gov.hmcts.et.common.model.multiples.CaseImporterFile;
 import uk.gov.hmcts.et.common.model.multiples.MultipleData;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.ExcelReadingService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.excel.StreamingExcelSheetReader.RowHandler;
 
 import java.io.IOException;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -24,17 +27,21 @@ class ExcelFileSingleCasesImporterTest {
         MultipleData multipleData = createMultipleData(downloadUrl);
         String authToken = "some-token";
         List<String> ethosCaseReferences = List.of("header", "case1", "case2", "", "case3");
-        try (XSSFWorkbook workbook = createWorkbook(ethosCaseReferences)) {
-            ExcelReadingService excelReadingService = mock(ExcelReadingService.class);
-            when(excelReadingService.readWorkbook(authToken, downloadUrl)).thenReturn(workbook);
-            ExcelFileSingleCasesImporter excelFileSingleCasesImporter = new ExcelFileSingleCasesImporter(
-                    excelReadingService);
-            List<String> cases = excelFileSingleCasesImporter.importCases(multipleData, authToken);
-            assertEquals(3, cases.size());
-            assertEquals("case1", cases.get(0));
-            assertEquals("case2", cases.get(1));
-            assertEquals("case3", cases.get(2));
-        }
+        ExcelReadingService excelReadingService = mock(ExcelReadingService.class);
+        doAnswer(invocation -> {
+            RowHandler rowHandler = invocation.getArgument(4);
+            for (int i = 0; i < ethosCaseReferences.size(); i++) {
+                rowHandler.handleRow(i, List.of(ethosCaseReferences.get(i)));
+            }
+            return null;
+        }).when(excelReadingService).streamSheet(eq(authToken), eq(downloadUrl), isNull(), eq(1), any());
+        ExcelFileSingleCasesImporter excelFileSingleCasesImporter = new ExcelFileSingleCasesImporter(
+                excelReadingService);
+        List<String> cases = excelFileSingleCasesImporter.importCases(multipleData, authToken);
+        assertEquals(3, cases.size());
+        assertEquals("case1", cases.get(0));
+        assertEquals("case2", cases.get(1));
+        assertEquals("case3", cases.get(2));
     }
 
     @Test
@@ -43,7 +50,8 @@ class ExcelFileSingleCasesImporterTest {
         MultipleData multipleData = createMultipleData(downloadUrl);
         String authToken = "some-token";
         ExcelReadingService excelReadingService = mock(ExcelReadingService.class);
-        when(excelReadingService.readWorkbook(authToken, downloadUrl)).thenThrow(IOException.class);
+        when(excelReadingService.streamSheet(eq(authToken), eq(downloadUrl), isNull(), eq(1), any()))
+                .thenThrow(IOException.class);
 
         ExcelFileSingleCasesImporter excelFileSingleCasesImporter = new ExcelFileSingleCasesImporter(
                 excelReadingService);
@@ -64,14 +72,4 @@ class ExcelFileSingleCasesImporterTest {
         return multipleData;
     }
 
-    private XSSFWorkbook createWorkbook(List<String> ethosCaseReferences) {
-        XSSFWorkbook workbook = new XSSFWorkbook();
-        XSSFSheet sheet = workbook.createSheet();
-        for (int i = 0; i < ethosCaseReferences.size(); i++) {
-            String ethosCaseReference = ethosCaseReferences.get(i);
-            sheet.createRow(i).createCell(0).setCellValue(ethosCaseReference);
-        }
-        return workbook;
-    }
-
 }
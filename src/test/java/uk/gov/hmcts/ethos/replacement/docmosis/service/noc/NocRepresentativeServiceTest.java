@@ -108,7 +108,7 @@ class NocRepresentativeServiceTest {
 
         when(nocRespondentRepresentativeService.updateRespondentRepresentation(any(CaseDetails.class)))
                 .thenReturn(caseData);
-        when(nocRespondentRepresentativeService.prepopulateOrgAddress(any(CaseData.class), anyString()))
+        when(nocRespondentRepresentativeService.prepopulateOrgAddress(any(CaseData.class)))
                 .thenReturn(caseData);
         when(nocRespondentRepresentativeService.removeConflictingClaimantRepresentation(any(CaseDetails.class)))
                 .thenReturn(caseData);
@@ -116,7 +116,7 @@ class NocRepresentativeServiceTest {
 
         assertThat(result).isSameAs(caseData);
         verify(nocRespondentRepresentativeService).updateRespondentRepresentation(caseDetails);
-        verify(nocRespondentRepresentativeService).prepopulateOrgAddress(caseData, USER_TOKEN);
+        verify(nocRespondentRepresentativeService).prepopulateOrgAddress(caseData);
         verifyNoInteractions(nocClaimantRepresentativeService);
     }
 
@@ -48,6 +48,7 @@ import uk.gov.hmcts.ethos.replacement.docmosis.helpers.NocRespondentHelper;
 import uk.gov.hmcts.ethos.replacement.docmosis.helpers.NoticeOfChangeFieldPopulator;
 import uk.gov.hmcts.ethos.replacement.docmosis.rdprofessional.OrganisationClient;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.AdminUserService;
+import uk.gov.hmcts.ethos.replacement.docmosis.service.OrganisationDirectoryService;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.OrganisationService;
 import uk.gov.hmcts.ethos.replacement.docmosis.service.UserIdamService;
 import uk.gov.hmcts.ethos.replacement.docmosis.test.utils.LoggerTestUtils;
@@ -199,6 +200,8 @@ class NocRespondentRepresentativeServiceTest {
     private OrganisationService organisationService;
     @MockitoBean
     private uk.gov.hmcts.ethos.replacement.docmosis.service.MyHmctsService myHmctsService;
+    @MockitoBean
+    private OrganisationDirectoryService organisationDirectoryService;
 
     @InjectMocks
     private NocRespondentRepresentativeService nocRespondentRepresentativeService;
@@ -216,7 +219,8 @@ class NocRespondentRepresentativeServiceTest {
         nocRespondentRepresentativeService =
                 new NocRespondentRepresentativeService(noticeOfChangeFieldPopulator, converter, nocCcdService,
                         adminUserService, nocRespondentHelper, nocNotificationService, ccdClient, organisationClient,
-                        authTokenGenerator, nocService, userIdamService, organisationService, myHmctsService);
+                        authTokenGenerator, nocService, userIdamService, organisationService, myHmctsService,
+                        organisationDirectoryService);
 
         // Respondent
         caseData.setRespondentCollection(new ArrayList<>());
@@ -408,19 +412,13 @@ class NocRespondentRepresentativeServiceTest {
     @Test
     void prepopulateOrgAddressAndName() {
         OrganisationsResponse resOrg1 = createOrganisationsResponse(ORGANISATION_ID_ONE, ET_ORG_1);
-        OrganisationsResponse resOrg2 = createOrganisationsResponse(ORGANISATION_ID_TWO, ET_ORG_2);
         OrganisationsResponse resOrg3 = createOrganisationsResponse(ORGANISATION_ID_THREE, ET_ORG_3);
+        mockOrganisationDirectory(resOrg1, createOrganisationsResponse(ORGANISATION_ID_TWO, ET_ORG_2), resOrg3);
 
-        List<OrganisationsResponse> orgDetails = new ArrayList<>();
-        orgDetails.add(resOrg1);
-        orgDetails.add(resOrg2);
-        orgDetails.add(resOrg3);
-
-        when(organisationClient.getOrganisations(anyString(), anyString())).thenReturn(orgDetails);
         caseData.getRepCollection().getFirst().getValue().setRepresentativeAddress(null);
-        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
+        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
 
-        verify(organisationClient, times(1)).getOrganisations(anyString(), anyString());
+        verify(organisationClient, never()).getOrganisations(anyString(), anyString());
 
         List<RepresentedTypeRItem> repCollection = returned.getRepCollection();
 
@@ -442,15 +440,15 @@ class NocRespondentRepresentativeServiceTest {
     @Test
     void prepopulateOrgAddress_RepCollection_Null() {
         caseData.setRepCollection(null);
-        nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
-        verify(organisationClient, never()).getOrganisations(anyString(), anyString());
+        nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
+        verify(organisationDirectoryService, never()).getOrganisation(anyString());
     }
 
     @Test
     void prepopulateOrgAddress_RepCollection_Empty() {
         caseData.setRepCollection(new ArrayList<>());
-        nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
-        verify(organisationClient, never()).getOrganisations(anyString(), anyString());
+        nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
+        verify(organisationDirectoryService, never()).getOrganisation(anyString());
     }
 
     @Test
@@ -458,37 +456,15 @@ class NocRespondentRepresentativeServiceTest {
         for (RepresentedTypeRItem representative : caseData.getRepCollection()) {
             representative.getValue().setMyHmctsYesNo(NO);
         }
-        nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
-        verify(organisationClient, never()).getOrganisations(anyString(), anyString());
-    }
-
-    @Test
-    void prepopulateOrgAddress_NoActiveOrganisations() {
-        when(organisationClient.getOrganisations(anyString(), anyString())).thenReturn(new ArrayList<>());
-
-        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
-
-        verify(organisationClient, times(1)).getOrganisations(anyString(), anyString());
-
-        List<RepresentedTypeRItem> repCollection = returned.getRepCollection();
-
-        assertNull(repCollection.get(0).getValue().getRepresentativeAddress());
-        assertNull(repCollection.get(1).getValue().getRepresentativeAddress());
-        assertNull(repCollection.get(2).getValue().getRepresentativeAddress());
+        nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
+        verify(organisationDirectoryService, never()).getOrganisation(anyString());
     }
 
     @Test
     void prepopulateOrgAddress_OrgNotFound() {
-        OrganisationsResponse resOrg1 = createOrganisationsResponse("SomeOrgId", ET_ORG_1);
-
-        List<OrganisationsResponse> orgDetails = new ArrayList<>();
-        orgDetails.add(resOrg1);
-
-        when(organisationClient.getOrganisations(anyString(), anyString())).thenReturn(orgDetails);
+        when(organisationDirectoryService.getOrganisation(anyString())).thenReturn(Optional.empty());
 
-        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
-
-        verify(organisationClient, times(1)).getOrganisations(anyString(), anyString());
+        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
 
         List<RepresentedTypeRItem> repCollection = returned.getRepCollection();
 
@@ -507,17 +483,10 @@ class NocRespondentRepresentativeServiceTest {
         resOrg3.getContactInformation().getFirst().setAddressLine1(null);
         resOrg3.getContactInformation().getFirst().setTownCity(null);
         resOrg3.getContactInformation().getFirst().setCountry(null);
+        mockOrganisationDirectory(resOrg1, resOrg2, resOrg3);
 
-        List<OrganisationsResponse> orgDetails = new ArrayList<>();
-        orgDetails.add(resOrg1);
-        orgDetails.add(resOrg2);
-        orgDetails.add(resOrg3);
-
-        when(organisationClient.getOrganisations(anyString(), anyString())).thenReturn(orgDetails);
         caseData.getRepCollection().getFirst().getValue().setRepresentativeAddress(null);
-        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData, "someToken");
-
-        verify(organisationClient, times(1)).getOrganisations(anyString(), anyString());
+        CaseData returned = nocRespondentRepresentativeService.prepopulateOrgAddress(caseData);
 
         List<RepresentedTypeRItem> repCollection = returned.getRepCollection();
 
@@ -526,6 +495,14 @@ class NocRespondentRepresentativeServiceTest {
         assertNull(repCollection.get(2).getValue().getRepresentativeAddress().getAddressLine1());
     }
 
+    private void mockOrganisationDirectory(OrganisationsResponse... organisations) {
+        when(organisationDirectoryService.getOrganisation(anyString())).thenReturn(Optional.empty());
+        for (OrganisationsResponse organisation : organisations) {
+            when(organisationDirectoryService.getOrganisation(organisation.getOrganisationIdentifier()))
+                    .thenReturn(Optional.of(organisation));
+        }
+    }
+
     private OrganisationsResponse createOrganisationsResponse(String orgId, String orgName) {
         OrganisationAddress orgAddress =
                 OrganisationAddress.builder()
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.ethos.replacement.docmosis.tasks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.CreateUpdatesQueueRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.EmailOutboxRepository;
+import uk.gov.hmcts.ethos.replacement.docmosis.domain.repository.messagequeue.UpdateCaseQueueRepository;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueueRetentionTaskTest {
+
+    @Mock
+    private UpdateCaseQueueRepository updateCaseQueueRepository;
+    @Mock
+    private CreateUpdatesQueueRepository createUpdatesQueueRepository;
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @InjectMocks
+    private QueueRetentionTask queueRetentionTask;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queueRetentionTask, "completedRetentionDays", 7);
+        ReflectionTestUtils.setField(queueRetentionTask, "failedRetentionDays", 90);
+        ReflectionTestUtils.setField(queueRetentionTask, "batchSize", 100);
+    }
+
+    @Test
+    void purgeProcessedMessages_deletesInBatchesUntilBatchIsNotFull() {
+        when(updateCaseQueueRepository.deleteProcessedBefore(eq("COMPLETED"), any(), eq(100)))
+            .thenReturn(100, 100, 42);
+        when(emailOutboxRepository.deleteProcessedBefore(eq("COMPLETED"), any(), eq(100)))
+            .thenReturn(100, 7);
+
+        queueRetentionTask.purgeProcessedMessages();
+
+        verify(updateCaseQueueRepository, times(3)).deleteProcessedBefore(eq("COMPLETED"), any(), eq(100));
+        verify(updateCaseQueueRepository).deleteProcessedBefore(eq("FAILED"), any(), eq(100));
+        verify(createUpdatesQueueRepository).deleteProcessedBefore(eq("COMPLETED"), any(), eq(100));
+        verify(createUpdatesQueueRepository).deleteProcessedBefore(eq("FAILED"), any(), eq(100));
+        verify(emailOutboxRepository, times(2)).deleteProcessedBefore(eq("COMPLETED"), any(), eq(100));
+        verify(emailOutboxRepository).deleteProcessedBefore(eq("FAILED"), any(), eq(100));
+    }
+
+    @Test
+    void purgeProcessedMessages_keepsFailedMessagesLongerThanCompleted() {
+        queueRetentionTask.purgeProcessedMessages();
+
+        ArgumentCaptor<LocalDateTime> completedCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> failedCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(updateCaseQueueRepository).deleteProcessedBefore(eq("COMPLETED"), completedCutoff.capture(), anyInt());
+        verify(updateCaseQueueRepository).deleteProcessedBefore(eq("FAILED"), failedCutoff.capture(), anyInt());
+        assertTrue(completedCutoff.getValue().isBefore(LocalDateTime.now().minusDays(6)));
+        assertTrue(completedCutoff.getValue().isAfter(LocalDateTime.now().minusDays(8)));
+        assertTrue(failedCutoff.getValue().isBefore(LocalDateTime.now().minusDays(89)));
+        assertTrue(failedCutoff.getValue().isAfter(LocalDateTime.now().minusDays(91)));
+
+        ArgumentCaptor<LocalDateTime> emailCompletedCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> emailFailedCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).deleteProcessedBefore(eq("COMPLETED"), emailCompletedCutoff.capture(), anyInt());
+        verify(emailOutboxRepository).deleteProcessedBefore(eq("FAILED"), emailFailedCutoff.capture(), anyInt());
+        assertTrue(emailCompletedCutoff.getValue().isBefore(LocalDateTime.now().minusDays(6)));
+        assertTrue(emailCompletedCutoff.getValue().isAfter(LocalDateTime.now().minusDays(8)));
+        assertTrue(emailFailedCutoff.getValue().isBefore(LocalDateTime.now().minusDays(89)));
+        assertTrue(emailFailedCutoff.getValue().isAfter(LocalDateTime.now().minusDays(91)));
+    }
+
+    @Test
+    void purgeProcessedMessages_keepsFailedMessagesWhenRetentionDisabled() {
+        ReflectionTestUtils.setField(queueRetentionTask, "failedRetentionDays", 0);
+
+        queueRetentionTask.purgeProcessedMessages();
+
+        verify(updateCaseQueueRepository, never()).deleteProcessedBefore(eq("FAILED"), any(), anyInt());
+        verify(createUpdatesQueueRepository, never()).deleteProcessedBefore(eq("FAILED"), any(), anyInt());
+        verify(emailOutboxRepository, never()).deleteProcessedBefore(eq("FAILED"), any(), anyInt());
+        verify(updateCaseQueueRepository).deleteProcessedBefore(eq("COMPLETED"), any(), anyInt());
+        verify(emailOutboxRepository).deleteProcessedBefore(eq("COMPLETED"), any(), anyInt());
+    }
+
+    @Test
+    void purgeProcessedMessages_carriesOnAfterFailure() {
+        when(updateCaseQueueRepository.deleteProcessedBefore(anyString(), any(), anyInt()))
+            .thenThrow(new QueryTimeoutException("Timed out"));
+
+        queueRetentionTask.purgeProcessedMessages();
+
+        verify(createUpdatesQueueRepository).deleteProcessedBefore(eq("COMPLETED"), any(), anyInt());
+        verify(createUpdatesQueueRepository).deleteProcessedBefore(eq("FAILED"), any(), anyInt());
+        verify(emailOutboxRepository).deleteProcessedBefore(eq("COMPLETED"), any(), anyInt());
+        verify(emailOutboxRepository).deleteProcessedBefore(eq("FAILED"), any(), anyInt());
+    }
+}
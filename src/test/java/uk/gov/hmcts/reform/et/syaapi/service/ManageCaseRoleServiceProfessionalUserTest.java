@@ -1,10 +1,12 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -83,7 +85,9 @@ class ManageCaseRoleServiceProfessionalUserTest {
             et3Service,
             caseService,
             caseDetailsConverter,
-            featureToggleService
+            featureToggleService,
+            new SyncTaskExecutor(),
+            new SimpleMeterRegistry()
         );
         ReflectionTestUtils.setField(manageCaseRoleService, "ccdApiUrl", CCD_API_URL);
 
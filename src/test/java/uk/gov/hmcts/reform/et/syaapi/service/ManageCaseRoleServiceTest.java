@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
 import org.apache.commons.collections4.CollectionUtils;
@@ -15,6 +16,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -109,6 +111,7 @@ class ManageCaseRoleServiceTest {
     FeatureToggleService featureToggleService;
 
     private ManageCaseRoleService manageCaseRoleService;
+    private SimpleMeterRegistry meterRegistry;
     private UserInfo userInfo;
     private CaseAssignmentUserRole caseAssignmentUserRole1;
     private CaseAssignmentUserRole caseAssignmentUserRole2;
@@ -140,6 +143,7 @@ class ManageCaseRoleServiceTest {
     private static final String DUMMY_USER_ID = "123456789012345678901234567890";
     private static final String USER_CASE_ROLE_DEFENDANT = "[DEFENDANT]";
     private static final String SCOTLAND_CASE_TYPE = "ET_Scotland";
+    private static final String ENGLAND_CASE_TYPE = "ET_EnglandWales";
     private static final String AAC_URL_PARAMETER_NAME = "aacUrl";
     private static final String AAC_URL_PARAMETER_TEST_VALUE = "https://test.url.com";
     private static final String CCD_API_URL_PARAMETER_NAME = "ccdApiUrl";
@@ -151,6 +155,7 @@ class ManageCaseRoleServiceTest {
     @BeforeEach
     void setup() {
         caseTestData = new CaseTestData();
+        meterRegistry = new SimpleMeterRegistry();
         manageCaseRoleService = new ManageCaseRoleService(adminUserService,
                                                           authTokenGenerator,
                                                           idamClient,
@@ -159,7 +164,9 @@ class ManageCaseRoleServiceTest {
                                                           et3Service,
                                                           caseService,
                                                           caseDetailsConverter,
-                                                          featureToggleService);
+                                                          featureToggleService,
+                                                          new SyncTaskExecutor(),
+                                                          meterRegistry);
         // Mock feature flag to be enabled for these tests (new behavior)
         // Using lenient() because not all tests call modifyUserCaseRoles
         lenient().when(featureToggleService.isEt3SelfAssignmentEnabled()).thenReturn(true);
@@ -835,9 +842,10 @@ class ManageCaseRoleServiceTest {
                                      CCD_API_URL_PARAMETER_NAME,
                                      CCD_API_URL_PARAMETER_TEST_VALUE);
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        List<CaseDetails> allCaseDetails = caseTestData.getSearchResultRequestCaseDataListScotland().getCases();
-        allCaseDetails.addAll(caseTestData.getSearchResultRequestCaseDataListEngland().getCases());
-        when(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN)).thenReturn(allCaseDetails);
+        when(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN, SCOTLAND_CASE_TYPE))
+            .thenReturn(caseTestData.getSearchResultRequestCaseDataListScotland().getCases());
+        when(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN, ENGLAND_CASE_TYPE))
+            .thenReturn(caseTestData.getSearchResultRequestCaseDataListEngland().getCases());
         when(idamClient.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
         List<CaseDetails> expectedCaseDetails = caseTestData.getExpectedCaseDataListCombined();
 
@@ -862,6 +870,21 @@ class ManageCaseRoleServiceTest {
             manageCaseRoleService.getUserCasesByCaseUserRole(TEST_SERVICE_AUTH_TOKEN, CASE_USER_ROLE_DEFENDANT);
         assertThat(caseDetailsForDefendant)
             .hasSize(expectedCaseDetails.size()).hasSameElementsAs(expectedCaseDetails);
+        assertThat(meterRegistry.get("citizen.case.listing").tag("stage", "search").tag("caseType", SCOTLAND_CASE_TYPE)
+                       .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("citizen.case.listing").tag("stage", "roles").tag("caseType", ENGLAND_CASE_TYPE)
+                       .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("citizen.case.listing").tag("stage", "total").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotWrapExceptionsWhenListingUserCases() {
+        when(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN, SCOTLAND_CASE_TYPE))
+            .thenThrow(new ManageCaseRoleException(new Exception("Search failed")));
+        when(idamClient.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
+
+        assertThrows(ManageCaseRoleException.class, () ->
+            manageCaseRoleService.getUserCasesByCaseUserRole(TEST_SERVICE_AUTH_TOKEN, CASE_USER_ROLE_CREATOR));
     }
 
     @Test